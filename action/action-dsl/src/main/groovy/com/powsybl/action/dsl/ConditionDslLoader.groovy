@@ -192,9 +192,7 @@ class ConditionDslLoader extends DslLoader {
             binding.setVariable("network", network)
             prepareClosures(binding)
 
-            def shell = createShell(binding)
-
-            def value = shell.evaluate(dslSrc)
+            def value = evaluate(binding)
             if (value instanceof Identifiable) {
                 value
             } else {
@@ -6,6 +6,7 @@
  */
 package com.powsybl.action.dsl;
 
+import com.powsybl.action.dsl.ast.ActionExpressionCompiler;
 import com.powsybl.contingency.Contingency;
 
 import java.util.*;
@@ -22,6 +23,8 @@ public class ActionDb {
 
     private final Map<String, Action> actions = new LinkedHashMap<>();
 
+    private final ActionExpressionCompiler expressionCompiler = new ActionExpressionCompiler();
+
     public void addContingency(Contingency contingency) {
         Objects.requireNonNull(contingency);
         contingencies.put(contingency.getId(), contingency);
@@ -71,6 +74,13 @@ public class ActionDb {
         return action;
     }
 
+    /**
+     * Get the compiler of rule conditions, shared so that each condition is compiled once per action database.
+     */
+    public ActionExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
+    }
+
     /**
      * Checks that actions referenced in rules are indeed defined.
      */
@@ -0,0 +1,363 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.dsl.ast;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.dsl.GroovyUtil;
+import com.powsybl.dsl.ast.*;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkListener;
+import groovy.lang.GroovyObject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Compile expression trees into {@link CompiledExpression}, so that a condition evaluated for each contingency and
+ * each action simulation loop does not walk the tree and does not go through Groovy dynamic dispatch again.
+ * <p>
+ * Network components are resolved once per network and kept until an identifiable is created or removed, property
+ * getters and methods are bound as method handles the first time they are called on a given class. Anything that
+ * cannot be bound statically (Groovy objects, maps, ambiguous overloads...) falls back to {@link GroovyUtil}, so
+ * that compiled expressions always evaluate to the same value as {@link ActionExpressionEvaluator}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ActionExpressionCompiler implements ActionExpressionVisitor<CompiledExpression, Void> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType METHOD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    /**
+     * Identifiables of a network, cleared each time an identifiable is created or removed.
+     */
+    private static final class NetworkIdentifiables implements NetworkListener {
+
+        private final Network network;
+
+        private final ConcurrentMap<String, Identifiable> identifiables = new ConcurrentHashMap<>();
+
+        private NetworkIdentifiables(Network network) {
+            this.network = network;
+        }
+
+        private Identifiable getIdentifiable(String id) {
+            Identifiable identifiable = identifiables.get(id);
+            if (identifiable == null) {
+                identifiable = network.getIdentifiable(id);
+                if (identifiable != null) {
+                    identifiables.put(id, identifiable);
+                }
+            }
+            return identifiable;
+        }
+
+        @Override
+        public void onCreation(Identifiable identifiable) {
+            identifiables.clear();
+        }
+
+        @Override
+        public void onRemoval(Identifiable identifiable) {
+            identifiables.clear();
+        }
+
+        @Override
+        public void onUpdate(Identifiable identifiable, String attribute, Object oldValue, Object newValue) {
+            // attribute changes do not change identifiable instances
+        }
+    }
+
+    private final ConcurrentMap<ExpressionNode, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * Identifiables of each evaluated network, weakly referenced so that the copies of the network created for each
+     * contingency are not retained.
+     */
+    private final Cache<Network, NetworkIdentifiables> networkIdentifiables = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    public CompiledExpression compile(ExpressionNode node) {
+        Objects.requireNonNull(node);
+        CompiledExpression compiledExpression = compiledExpressions.get(node);
+        if (compiledExpression == null) {
+            // children are compiled recursively, so the tree cannot be compiled inside computeIfAbsent, an expression
+            // compiled concurrently by two threads is just compiled twice
+            compiledExpression = node.accept(this, null);
+            CompiledExpression otherCompiledExpression = compiledExpressions.putIfAbsent(node, compiledExpression);
+            if (otherCompiledExpression != null) {
+                compiledExpression = otherCompiledExpression;
+            }
+        }
+        return compiledExpression;
+    }
+
+    public Object evaluate(ExpressionNode node, EvaluationContext context) {
+        return compile(node).evaluate(context);
+    }
+
+    private NetworkIdentifiables getNetworkIdentifiables(Network network) {
+        try {
+            return networkIdentifiables.get(network, () -> {
+                NetworkIdentifiables identifiables = new NetworkIdentifiables(network);
+                network.addListener(identifiables);
+                return identifiables;
+            });
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Stop listening to the evaluated networks.
+     */
+    public void release() {
+        for (NetworkIdentifiables identifiables : networkIdentifiables.asMap().values()) {
+            identifiables.network.removeListener(identifiables);
+        }
+        networkIdentifiables.invalidateAll();
+    }
+
+    @Override
+    public CompiledExpression visitLiteral(AbstractLiteralNode node, Void arg) {
+        Object value = node.getValue();
+        return context -> value;
+    }
+
+    @Override
+    public CompiledExpression visitComparisonOperator(ComparisonOperatorNode node, Void arg) {
+        ComparisonOperator operator = node.getOperator();
+        CompiledExpression left = compile(node.getLeft());
+        CompiledExpression right = compile(node.getRight());
+        return context -> ExpressionEvaluator.evaluateComparison(operator, left.evaluate(context), right.evaluate(context));
+    }
+
+    @Override
+    public CompiledExpression visitLogicalOperator(LogicalBinaryOperatorNode node, Void arg) {
+        LogicalBinaryOperator operator = node.getOperator();
+        CompiledExpression left = compile(node.getLeft());
+        CompiledExpression right = compile(node.getRight());
+        return context -> ExpressionEvaluator.evaluateLogical(operator, left.evaluate(context), right.evaluate(context));
+    }
+
+    @Override
+    public CompiledExpression visitArithmeticOperator(ArithmeticBinaryOperatorNode node, Void arg) {
+        ArithmeticBinaryOperator operator = node.getOperator();
+        CompiledExpression left = compile(node.getLeft());
+        CompiledExpression right = compile(node.getRight());
+        return context -> ExpressionEvaluator.evaluateArithmetic(operator, left.evaluate(context), right.evaluate(context));
+    }
+
+    @Override
+    public CompiledExpression visitNotOperator(LogicalNotOperator node, Void arg) {
+        CompiledExpression child = compile(node.getChild());
+        return context -> ExpressionEvaluator.evaluateNot(child.evaluate(context));
+    }
+
+    @Override
+    public CompiledExpression visitNetworkComponent(NetworkComponentNode node, Void arg) {
+        String componentId = node.getComponentId();
+        return context -> {
+            Identifiable identifiable = getNetworkIdentifiables(context.getNetwork()).getIdentifiable(componentId);
+            if (identifiable == null) {
+                throw new PowsyblException("Network component '" + componentId + "' not found");
+            }
+            return identifiable;
+        };
+    }
+
+    @Override
+    public CompiledExpression visitNetworkProperty(NetworkPropertyNode node, Void arg) {
+        CompiledExpression parent = compile(node.getParent());
+        String propertyName = node.getPropertyName();
+        ConcurrentMap<Class<?>, Optional<MethodHandle>> getters = new ConcurrentHashMap<>();
+        return context -> {
+            Object parentValue = parent.evaluate(context);
+            if (parentValue == null) {
+                throw new PowsyblException("Cannot call a property '" + propertyName + "' on a null object");
+            }
+            MethodHandle getter = getters.computeIfAbsent(parentValue.getClass(), type -> findGetter(type, propertyName)).orElse(null);
+            if (getter == null) {
+                return GroovyUtil.callProperty(parentValue, propertyName);
+            }
+            try {
+                return (Object) getter.invokeExact(parentValue);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new PowsyblException(t);
+            }
+        };
+    }
+
+    @Override
+    public CompiledExpression visitNetworkMethod(NetworkMethodNode node, Void arg) {
+        CompiledExpression parent = compile(node.getParent());
+        String methodName = node.getMethodName();
+        Object[] args = node.getArgs();
+        ConcurrentMap<Class<?>, Optional<MethodHandle>> methods = new ConcurrentHashMap<>();
+        return context -> {
+            Object parentValue = parent.evaluate(context);
+            if (parentValue == null) {
+                throw new PowsyblException("Cannot call a method '" + methodName + "' on a null object");
+            }
+            MethodHandle method = methods.computeIfAbsent(parentValue.getClass(), type -> findMethod(type, methodName, args)).orElse(null);
+            if (method == null) {
+                return GroovyUtil.callMethod(parentValue, methodName, args);
+            }
+            try {
+                return (Object) method.invokeExact(parentValue, args.clone());
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new PowsyblException(t);
+            }
+        };
+    }
+
+    @Override
+    public CompiledExpression visitActionTaken(ActionTakenNode node, Void arg) {
+        String actionId = node.getActionId();
+        return context -> context.isActionTaken(actionId);
+    }
+
+    @Override
+    public CompiledExpression visitContingencyOccurred(ContingencyOccurredNode node, Void arg) {
+        String contingencyId = node.getContingencyId();
+        return context -> context.getContingency() != null &&
+                (contingencyId == null || context.getContingency().getId().equals(contingencyId));
+    }
+
+    @Override
+    public CompiledExpression visitLoadingRank(LoadingRankNode node, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(node, context);
+    }
+
+    @Override
+    public CompiledExpression visitMostLoaded(MostLoadedNode node, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(node, context);
+    }
+
+    @Override
+    public CompiledExpression visitIsOverloaded(IsOverloadedNode node, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(node, context);
+    }
+
+    @Override
+    public CompiledExpression visitAllOverloaded(AllOverloadedNode node, Void arg) {
+        return context -> ActionExpressionEvaluator.evaluate(node, context);
+    }
+
+    private static boolean isDynamic(Class<?> type) {
+        // Groovy objects and maps may resolve properties and methods differently than Java
+        return GroovyObject.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private static Optional<MethodHandle> findGetter(Class<?> type, String propertyName) {
+        if (isDynamic(type) || propertyName.isEmpty()) {
+            return Optional.empty();
+        }
+        String suffix = Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+        Method getter = findPublicMethod(type, "get" + suffix, new Class<?>[0]);
+        if (getter == null) {
+            getter = findPublicMethod(type, "is" + suffix, new Class<?>[0]);
+            if (getter != null && getter.getReturnType() != boolean.class) {
+                getter = null;
+            }
+        }
+        if (getter == null || getter.getReturnType() == void.class) {
+            return Optional.empty();
+        }
+        return unreflect(getter).map(handle -> handle.asType(GETTER_TYPE));
+    }
+
+    private static boolean isCompatible(Class<?> parameterType, Object arg) {
+        if (arg == null) {
+            return !parameterType.isPrimitive();
+        }
+        Class<?> boxedType = parameterType.isPrimitive() ? MethodType.methodType(parameterType).wrap().returnType() : parameterType;
+        return boxedType.isInstance(arg);
+    }
+
+    private static Optional<MethodHandle> findMethod(Class<?> type, String methodName, Object[] args) {
+        if (isDynamic(type)) {
+            return Optional.empty();
+        }
+        Method candidate = null;
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(methodName) && !method.isVarArgs() && method.getParameterCount() == args.length
+                    && method.getReturnType() != void.class) {
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                boolean compatible = true;
+                for (int i = 0; i < args.length && compatible; i++) {
+                    compatible = isCompatible(parameterTypes[i], args[i]);
+                }
+                if (compatible) {
+                    if (candidate != null && !Arrays.equals(candidate.getParameterTypes(), parameterTypes)) {
+                        // overloads are resolved by Groovy
+                        return Optional.empty();
+                    }
+                    candidate = method;
+                }
+            }
+        }
+        if (candidate == null) {
+            return Optional.empty();
+        }
+        Method method = findPublicMethod(type, methodName, candidate.getParameterTypes());
+        if (method == null) {
+            return Optional.empty();
+        }
+        return unreflect(method).map(handle -> handle.asSpreader(Object[].class, args.length).asType(METHOD_TYPE));
+    }
+
+    /**
+     * Find a method declared by a public class or interface, so that it can be called on non public implementations.
+     */
+    private static Method findPublicMethod(Class<?> type, String methodName, Class<?>[] parameterTypes) {
+        try {
+            Method method = type.getMethod(methodName, parameterTypes);
+            if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                return method;
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        List<Class<?>> superTypes = new ArrayList<>(Arrays.asList(type.getInterfaces()));
+        if (type.getSuperclass() != null) {
+            superTypes.add(type.getSuperclass());
+        }
+        for (Class<?> superType : superTypes) {
+            Method method = findPublicMethod(superType, methodName, parameterTypes);
+            if (method != null) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Optional<MethodHandle> unreflect(Method method) {
+        try {
+            return Optional.of(MethodHandles.publicLookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.dsl.ast;
+
+/**
+ * An expression tree compiled by {@link ActionExpressionCompiler}, evaluating to the same value as
+ * {@link ActionExpressionEvaluator} without walking the tree again.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+    Object evaluate(EvaluationContext context);
+}
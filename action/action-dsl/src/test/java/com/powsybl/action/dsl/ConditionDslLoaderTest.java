@@ -48,10 +48,8 @@ public class ConditionDslLoaderTest {
         assertEquals(expected, ActionExpressionPrinter.toString(node));
     }
 
-    private void evalAndAssert(Object expected, String script) throws IOException {
-        ExpressionNode node = (ExpressionNode) new ConditionDslLoader(script).load(network);
-        assertNotNull(node);
-        assertEquals(expected, ActionExpressionEvaluator.evaluate(node, new EvaluationContext() {
+    private EvaluationContext createEvaluationContext() {
+        return new EvaluationContext() {
             @Override
             public Network getNetwork() {
                 return network;
@@ -66,7 +64,20 @@ public class ConditionDslLoaderTest {
             public boolean isActionTaken(String actionId) {
                 return actionId.equals("action");
             }
-        }));
+        };
+    }
+
+    private void evalAndAssert(Object expected, String script) throws IOException {
+        ExpressionNode node = (ExpressionNode) new ConditionDslLoader(script).load(network);
+        assertNotNull(node);
+        EvaluationContext context = createEvaluationContext();
+        assertEquals(expected, ActionExpressionEvaluator.evaluate(node, context));
+
+        // compiled expression has to give the same result, twice to also go through the caches
+        ActionExpressionCompiler compiler = new ActionExpressionCompiler();
+        assertEquals(expected, compiler.evaluate(node, context));
+        assertEquals(expected, compiler.evaluate(node, context));
+        compiler.release();
     }
 
     @Test
@@ -239,6 +250,42 @@ public class ConditionDslLoaderTest {
                 .add();
     }
 
+    @Test
+    public void testCompiledExpression() throws IOException {
+        ExpressionNode node = (ExpressionNode) new ConditionDslLoader("load('LOAD').p0 + 1").load(network);
+        EvaluationContext context = createEvaluationContext();
+        ActionExpressionCompiler compiler = new ActionExpressionCompiler();
+        CompiledExpression compiledExpression = compiler.compile(node);
+        assertSame(compiledExpression, compiler.compile(node));
+        assertEquals(601.0, compiledExpression.evaluate(context));
+
+        // attribute updates are seen through the cached identifiable
+        network.getLoad("LOAD").setP0(700);
+        assertEquals(701.0, compiledExpression.evaluate(context));
+
+        // identifiable cache is invalidated when the topology changes
+        network.getLoad("LOAD").remove();
+        try {
+            compiledExpression.evaluate(context);
+            fail();
+        } catch (PowsyblException e) {
+            assertEquals("Network component 'LOAD' not found", e.getMessage());
+        }
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD")
+                .setBus("NLOAD")
+                .setConnectableBus("NLOAD")
+                .setP0(100)
+                .setQ0(0)
+                .add();
+        assertEquals(101.0, compiledExpression.evaluate(context));
+
+        // and when evaluated on another network
+        network = EurostagTutorialExample1Factory.create();
+        assertEquals(601.0, compiledExpression.evaluate(createEvaluationContext()));
+        compiler.release();
+    }
+
     @Test
     public void testNetworkAccess() throws IOException {
         // add temporary limits
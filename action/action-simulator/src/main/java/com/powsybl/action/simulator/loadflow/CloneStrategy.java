@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+
+/**
+ * Same as {@link DeepCopyStrategy} but the network is copied in memory instead of being serialized to XML, so all
+ * its extensions need a copier (see {@link com.powsybl.iidm.network.ExtensionCopiers#isCopySupported}).
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class CloneStrategy implements NetworkCopyStrategy {
+
+    private final Network snapshot;
+
+    CloneStrategy(Network network) {
+        this.snapshot = Objects.requireNonNull(network).copy(true);
+    }
+
+    @Override
+    public Network createState(String id) {
+        return snapshot.copy();
+    }
+
+    @Override
+    public void removeState() {
+        // Nothing to do
+    }
+}
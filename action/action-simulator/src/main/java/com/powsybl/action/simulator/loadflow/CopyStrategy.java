@@ -12,5 +12,6 @@ package com.powsybl.action.simulator.loadflow;
  */
 public enum CopyStrategy {
     STATE,
-    DEEP
+    DEEP,
+    CLONE
 }
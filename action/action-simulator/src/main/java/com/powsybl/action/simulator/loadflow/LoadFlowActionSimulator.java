@@ -16,6 +16,7 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.dsl.ast.ExpressionNode;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
@@ -28,6 +29,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -102,34 +108,117 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
         LOGGER.info("Starting pre-contingency analysis");
         RunningContext runningContext = new RunningContext(network);
-        observers.forEach(o -> o.beforePreContingencyAnalysis(runningContext));
+        notifyObservers(o -> o.beforePreContingencyAnalysis(runningContext));
 
-        boolean preContingencyAnalysisOk = next(actionDb, runningContext);
+        try {
+            boolean preContingencyAnalysisOk = next(actionDb, runningContext);
 
-        observers.forEach(LoadFlowActionSimulatorObserver::afterPreContingencyAnalysis);
+            notifyObservers(LoadFlowActionSimulatorObserver::afterPreContingencyAnalysis);
 
-        NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), runningContext.getNetwork());
+            if (preContingencyAnalysisOk || config.isIgnorePreContingencyViolations()) {
+                if (config.getThreadCount() > 1 && contingencyIds.size() > 1) {
+                    runPostContingencyAnalysesInParallel(actionDb, contingencyIds);
+                } else {
+                    NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), runningContext.getNetwork());
+                    for (String contingencyId : contingencyIds) {
+                        Contingency contingency = actionDb.getContingency(contingencyId);
+                        Network network2 = strategy.createState(contingencyId);
+                        runPostContingencyAnalysis(actionDb, new RunningContext(network2, contingency));
+                        strategy.removeState();
+                    }
+                }
+            }
+        } finally {
+            // stop listening to the networks for identifiables resolved by compiled conditions, even if a load flow
+            // or a condition failed
+            actionDb.getExpressionCompiler().release();
+        }
 
-        if (preContingencyAnalysisOk || config.isIgnorePreContingencyViolations()) {
-            for (String contingencyId : contingencyIds) {
-                Contingency contingency = actionDb.getContingency(contingencyId);
-                Network network2 = strategy.createState(contingencyId);
-                RunningContext runningContext2 = new RunningContext(network2, contingency);
+        notifyObservers(LoadFlowActionSimulatorObserver::afterPostContingencyAnalysis);
+    }
 
-                observers.forEach(o -> o.beforePostContingencyAnalysis(runningContext2));
+    private void runPostContingencyAnalysis(ActionDb actionDb, RunningContext runningContext) {
+        Contingency contingency = runningContext.getContingency();
 
-                LOGGER.info("Starting post-contingency analysis '{}'", contingency.getId());
-                contingency.toTask().modify(network2, computationManager);
+        notifyObservers(o -> o.beforePostContingencyAnalysis(runningContext));
 
-                observers.forEach(o -> o.postContingencyAnalysisNetworkLoaded(runningContext2));
+        LOGGER.info("Starting post-contingency analysis '{}'", contingency.getId());
+        contingency.toTask().modify(runningContext.getNetwork(), computationManager);
 
-                next(actionDb, runningContext2);
+        notifyObservers(o -> o.postContingencyAnalysisNetworkLoaded(runningContext));
 
-                strategy.removeState();
+        next(actionDb, runningContext);
+    }
+
+    /**
+     * Run post-contingency analyses concurrently on the network itself instead of on copies: each thread works on its
+     * own pre-allocated variant, reset to the pre-contingency state before each contingency, and on a second one to
+     * try test actions. The copy strategy of the configuration is not used in that case.
+     */
+    private void runPostContingencyAnalysesInParallel(ActionDb actionDb, List<String> contingencyIds) {
+        VariantManager variantManager = network.getVariantManager();
+        String preContingencyVariantId = variantManager.getWorkingVariantId();
+        int threadCount = Math.min(config.getThreadCount(), contingencyIds.size());
+
+        LOGGER.info("Running {} post-contingency analyses on {} threads", contingencyIds.size(), threadCount);
+
+        String hash = UUID.randomUUID().toString();
+        List<String> variantIds = new ArrayList<>(2 * threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            variantIds.add(hash + "_" + i);
+            variantIds.add(hash + "_" + i + "_test");
+        }
+        variantManager.cloneVariant(preContingencyVariantId, variantIds);
+        boolean multiThreadAccessAllowed = variantManager.isVariantMultiThreadAccessAllowed();
+        variantManager.allowVariantMultiThreadAccess(true);
+        try {
+            AtomicInteger nextContingencyNum = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean(false);
+            // variant overwriting is not thread safe
+            Object variantLock = new Object();
+            CompletableFuture<?>[] futures = new CompletableFuture[threadCount];
+            for (int i = 0; i < threadCount; i++) {
+                String variantId = variantIds.get(2 * i);
+                NetworkCopyStrategy testStrategy = new PreAllocatedVariantStrategy(network, variantIds.get(2 * i + 1), variantLock);
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    try {
+                        int contingencyNum;
+                        while (!failed.get() && (contingencyNum = nextContingencyNum.getAndIncrement()) < contingencyIds.size()) {
+                            Contingency contingency = actionDb.getContingency(contingencyIds.get(contingencyNum));
+                            synchronized (variantLock) {
+                                variantManager.cloneVariant(preContingencyVariantId, variantId, true);
+                            }
+                            variantManager.setWorkingVariant(variantId);
+                            RunningContext runningContext = new RunningContext(network, contingency);
+                            runningContext.setTestCopyStrategy(testStrategy);
+                            runPostContingencyAnalysis(actionDb, runningContext);
+                        }
+                    } catch (RuntimeException e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }, computationManager.getExecutor());
             }
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        } finally {
+            variantManager.allowVariantMultiThreadAccess(multiThreadAccessAllowed);
+            variantManager.setWorkingVariant(preContingencyVariantId);
+            variantIds.forEach(variantManager::removeVariant);
         }
+    }
 
-        observers.forEach(LoadFlowActionSimulatorObserver::afterPostContingencyAnalysis);
+    /**
+     * Observers are notified from several threads in parallel mode, so notifications are serialized.
+     */
+    private void notifyObservers(Consumer<LoadFlowActionSimulatorObserver> notification) {
+        synchronized (observers) {
+            observers.forEach(notification);
+        }
     }
 
     protected LoadFlowFactory newLoadFlowFactory() {
@@ -167,7 +256,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
         }
     }
 
-    private RuleContext evaluateRule(Rule rule, RunningContext context) {
+    private RuleContext evaluateRule(ActionDb actionDb, Rule rule, RunningContext context) {
         if (rule.getCondition().getType() != ConditionType.EXPRESSION) {
             throw new AssertionError("TODO");
         }
@@ -188,7 +277,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                 return context.getTimeLine().actionTaken(actionId);
             }
         };
-        boolean ok = ActionExpressionEvaluator.evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
+        boolean ok = actionDb.getExpressionCompiler().evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Evaluating {} to {}", ActionExpressionPrinter.toString(conditionExpr), Boolean.toString(ok));
@@ -196,7 +285,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
         Map<String, Object> variables = ExpressionVariableLister.list(conditionExpr).stream()
                 .collect(Collectors.toMap(ActionExpressionPrinter::toString,
-                    n -> ActionExpressionEvaluator.evaluate(n, evalContext),
+                    n -> actionDb.getExpressionCompiler().evaluate(n, evalContext),
                     (v1, v2) -> v1,
                     TreeMap::new));
 
@@ -225,22 +314,22 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
             // apply action
             LOGGER.info("Apply action '{}'", action.getId());
-            observers.forEach(o -> o.beforeAction(context, actionId));
+            notifyObservers(o -> o.beforeAction(context, actionId));
 
             action.run(context.getNetwork(), computationManager);
 
-            observers.forEach(o -> o.afterAction(context, actionId));
+            notifyObservers(o -> o.afterAction(context, actionId));
             actionsTaken.add(actionId);
         }
     }
 
     private boolean checkViolations(ActionDb actionDb, RunningContext context) {
         List<LimitViolation> violations = LIMIT_VIOLATION_FILTER.apply(Security.checkLimits(context.getNetwork(), 1), context.getNetwork());
-        observers.forEach(o -> o.loadFlowConverged(context, violations));
+        notifyObservers(o -> o.loadFlowConverged(context, violations));
         // no more violations => work complete
         if (violations.isEmpty()) {
             LOGGER.info("No more violation");
-            observers.forEach(o -> o.noMoreViolations(context));
+            notifyObservers(o -> o.noMoreViolations(context));
             return true;
         }
 
@@ -250,7 +339,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
 
         if (context.getRound() + 1 == config.getMaxIterations()) {
             LOGGER.info("Max number of iterations reached");
-            observers.forEach(o -> o.maxIterationsReached(context));
+            notifyObservers(o -> o.maxIterationsReached(context));
             return false;
         }
 
@@ -268,10 +357,10 @@ public class LoadFlowActionSimulator implements ActionSimulator {
             if (context.getRuleMatchCount(rule.getId()) >= rule.getLife()) {
                 ruleContext = new RuleContext(RuleEvaluationStatus.DEAD, Collections.emptyMap(), Collections.emptyMap());
             } else {
-                ruleContext = evaluateRule(rule, context);
+                ruleContext = evaluateRule(actionDb, rule, context);
             }
 
-            observers.forEach(o -> o.ruleChecked(context, rule, ruleContext.getStatus(), ruleContext.getVariables(), ruleContext.getActions()));
+            notifyObservers(o -> o.ruleChecked(context, rule, ruleContext.getStatus(), ruleContext.getVariables(), ruleContext.getActions()));
 
             if (ruleContext.getStatus() == RuleEvaluationStatus.TRUE) {
                 applyActions(actionDb, context, rule, actionsTaken);
@@ -281,20 +370,20 @@ public class LoadFlowActionSimulator implements ActionSimulator {
         // record the action in the time line
         context.getTimeLine().getActions().addAll(actionsTaken);
 
-        observers.forEach(o -> o.roundEnd(context));
+        notifyObservers(o -> o.roundEnd(context));
 
         if (!actionsTaken.isEmpty()) {
             context.setRound(context.getRound() + 1);
             return next(actionDb, context);
         } else {
             LOGGER.info("Still some violations and no rule match");
-            observers.forEach(o -> o.violationsAnymoreAndNoRulesMatch(context));
+            notifyObservers(o -> o.violationsAnymoreAndNoRulesMatch(context));
             return false;
         }
     }
 
     private boolean next(ActionDb actionDb, RunningContext context) {
-        observers.forEach(o -> o.roundBegin(context));
+        notifyObservers(o -> o.roundBegin(context));
 
         LoadFlowFactory loadFlowFactory = newLoadFlowFactory();
         LoadFlow loadFlow = loadFlowFactory.create(context.getNetwork(), computationManager, 0);
@@ -310,7 +399,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
             return checkViolations(actionDb, context);
         } else {
             LOGGER.warn("Loadflow diverged: {}", result.getMetrics());
-            observers.forEach(o -> o.loadFlowDiverged(context));
+            notifyObservers(o -> o.loadFlowDiverged(context));
             return false;
         }
     }
@@ -338,7 +427,7 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                 .filter(rule -> rule.getType().equals(RuleType.TEST))
                 .filter(rule -> {
                     ExpressionNode conditionExpr = ((ExpressionCondition) rule.getCondition()).getNode();
-                    return ActionExpressionEvaluator.evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
+                    return actionDb.getExpressionCompiler().evaluate(conditionExpr, evalContext).equals(Boolean.TRUE);
                 })
                 .collect(Collectors.toList());
         List<String> testActionIds = activedRules.stream()
@@ -351,7 +440,9 @@ public class LoadFlowActionSimulator implements ActionSimulator {
             return;
         }
 
-        NetworkCopyStrategy strategy = NetworkCopyStrategy.getInstance(config.getCopyStrategy(), context.getNetwork());
+        NetworkCopyStrategy strategy = context.getTestCopyStrategy() != null
+                ? context.getTestCopyStrategy()
+                : NetworkCopyStrategy.getInstance(config.getCopyStrategy(), context.getNetwork());
 
         for (String actionId : testActionIds) {
             Action action = actionDb.getAction(actionId);
@@ -366,26 +457,28 @@ public class LoadFlowActionSimulator implements ActionSimulator {
                 if (violationsInTest.isEmpty()) {
                     context.addWorkedTest(action.getId());
                     if (applyIfSolvedViolations) {
+                        // back to the network of the context before applying the action
+                        strategy.removeState();
                         LOGGER.info("Loadflow with test '{}' works already and exits simulation", action.getId());
-                        observers.forEach(o -> o.noMoreViolationsAfterTest(context, action.getId()));
-                        observers.forEach(o -> o.beforeApplyTest(context, action.getId()));
+                        notifyObservers(o -> o.noMoreViolationsAfterTest(context, action.getId()));
+                        notifyObservers(o -> o.beforeApplyTest(context, action.getId()));
                         action.run(context.getNetwork(), computationManager);
                         context.getTimeLine().getActions().add(actionId);
-                        observers.forEach(o -> o.loadFlowConverged(context, violationsInTest));
-                        observers.forEach(o -> o.noMoreViolations(context));
-                        observers.forEach(o -> o.afterApplyTest(context, action.getId()));
+                        notifyObservers(o -> o.loadFlowConverged(context, violationsInTest));
+                        notifyObservers(o -> o.noMoreViolations(context));
+                        notifyObservers(o -> o.afterApplyTest(context, action.getId()));
                         return;
                     } else {
                         LOGGER.info("Loadflow with test '{}' works already and continues simulation", action.getId());
-                        observers.forEach(o -> o.noMoreViolationsAfterTest(context, action.getId()));
+                        notifyObservers(o -> o.noMoreViolationsAfterTest(context, action.getId()));
                     }
                 } else {
                     LOGGER.info("Loadflow with test '{}' exits with violations", action.getId());
-                    observers.forEach(o -> o.violationsAfterTest(action.getId(), violationsInTest));
+                    notifyObservers(o -> o.violationsAfterTest(action.getId(), violationsInTest));
                 }
             } else {
                 LOGGER.info("Loadflow with test '{}' diverged", action.getId());
-                observers.forEach(o -> o.divergedAfterTest(action.getId()));
+                notifyObservers(o -> o.divergedAfterTest(action.getId()));
             }
             strategy.removeState();
         }
@@ -398,9 +491,9 @@ public class LoadFlowActionSimulator implements ActionSimulator {
         LoadFlowFactory loadFlowFactory = newLoadFlowFactory();
         LoadFlow testLoadFlow = loadFlowFactory.create(networkForTry, computationManager, 0);
         try {
-            observers.forEach(o -> o.beforeTest(context, actionId));
+            notifyObservers(o -> o.beforeTest(context, actionId));
             LoadFlowResult testResult = testLoadFlow.run(networkForTry.getVariantManager().getWorkingVariantId(), LoadFlowParameters.load()).join();
-            observers.forEach(o -> o.afterTest(context, actionId));
+            notifyObservers(o -> o.afterTest(context, actionId));
             return testResult;
         } catch (Exception e) {
             throw new PowsyblException(e);
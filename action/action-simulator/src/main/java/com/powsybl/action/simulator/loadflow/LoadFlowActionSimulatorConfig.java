@@ -18,6 +18,10 @@ import java.util.Objects;
  */
 public class LoadFlowActionSimulatorConfig {
 
+    private static final String DEFAULT_NETWORK_FORMAT = "XIIDM";
+
+    private static final int DEFAULT_THREAD_COUNT = 1;
+
     public static LoadFlowActionSimulatorConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -31,7 +35,12 @@ public class LoadFlowActionSimulatorConfig {
         boolean ignorePreContingencyViolations = config.getBooleanProperty("ignore-pre-contingency-violations", false);
         boolean debug = config.getBooleanProperty("debug", false);
         CopyStrategy copyStrategy = config.getEnumProperty("copy-strategy", CopyStrategy.class, CopyStrategy.DEEP);
-        return new LoadFlowActionSimulatorConfig(loadFlowFactoryClass, maxIterations, ignorePreContingencyViolations, debug, copyStrategy);
+        String networkFormat = config.getStringProperty("network-format", DEFAULT_NETWORK_FORMAT);
+        int threadCount = config.getIntProperty("thread-count", DEFAULT_THREAD_COUNT);
+        LoadFlowActionSimulatorConfig simulatorConfig = new LoadFlowActionSimulatorConfig(loadFlowFactoryClass, maxIterations, ignorePreContingencyViolations, debug, copyStrategy);
+        simulatorConfig.setNetworkFormat(networkFormat);
+        simulatorConfig.setThreadCount(threadCount);
+        return simulatorConfig;
     }
 
     private Class<? extends LoadFlowFactory> loadFlowFactoryClass;
@@ -44,6 +53,10 @@ public class LoadFlowActionSimulatorConfig {
 
     private CopyStrategy copyStrategy;
 
+    private String networkFormat = DEFAULT_NETWORK_FORMAT;
+
+    private int threadCount = DEFAULT_THREAD_COUNT;
+
     public LoadFlowActionSimulatorConfig(Class<? extends LoadFlowFactory> loadFlowFactoryClass, int maxIterations, boolean ignorePreContingencyViolations,
                                          boolean debug) {
         this(loadFlowFactoryClass, maxIterations, ignorePreContingencyViolations, debug, CopyStrategy.DEEP);
@@ -97,4 +110,29 @@ public class LoadFlowActionSimulatorConfig {
     public void setCopyStrategy(CopyStrategy copyStrategy) {
         this.copyStrategy = Objects.requireNonNull(copyStrategy);
     }
+
+    /**
+     * Format used to send the network to the sub-tasks of the parallel simulator, XIIDM by default.
+     */
+    public String getNetworkFormat() {
+        return networkFormat;
+    }
+
+    public void setNetworkFormat(String networkFormat) {
+        this.networkFormat = Objects.requireNonNull(networkFormat);
+    }
+
+    /**
+     * Number of threads used to run post-contingency analyses, on variants of the network, 1 by default.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Bad thread count " + threadCount);
+        }
+        this.threadCount = threadCount;
+    }
 }
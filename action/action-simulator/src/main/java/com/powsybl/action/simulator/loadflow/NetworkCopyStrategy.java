@@ -6,6 +6,7 @@
  */
 package com.powsybl.action.simulator.loadflow;
 
+import com.powsybl.iidm.network.ExtensionCopiers;
 import com.powsybl.iidm.network.Network;
 
 import java.util.Objects;
@@ -22,6 +23,14 @@ public interface NetworkCopyStrategy {
     static NetworkCopyStrategy getInstance(CopyStrategy strategy, Network network) {
         Objects.requireNonNull(strategy);
 
-        return (strategy == CopyStrategy.DEEP) ? new DeepCopyStrategy(network) : new CopyStateStrategy(network);
+        switch (strategy) {
+            case DEEP:
+                return new DeepCopyStrategy(network);
+            case CLONE:
+                // in memory copy would lose extensions without copier
+                return ExtensionCopiers.isCopySupported(network) ? new CloneStrategy(network) : new DeepCopyStrategy(network);
+            default:
+                return new CopyStateStrategy(network);
+        }
     }
 }
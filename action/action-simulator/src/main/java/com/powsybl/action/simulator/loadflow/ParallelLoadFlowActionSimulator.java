@@ -9,6 +9,7 @@ package com.powsybl.action.simulator.loadflow;
 import com.google.common.collect.ImmutableList;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.computation.*;
+import com.powsybl.iidm.export.Exporters;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.xml.NetworkXml;
 import com.powsybl.security.SecurityAnalysisResult;
@@ -143,9 +144,15 @@ public class ParallelLoadFlowActionSimulator {
             SimpleCommandBuilder builder = new SimpleCommandBuilder();
 
             // copy input files to slave workingDir
-            Path networkDest = workingDir.resolve("network.xiidm");
-            LOGGER.debug("Copying network to file {}", networkDest);
-            NetworkXml.write(network, networkDest);
+            Path networkDest;
+            if ("XIIDM".equals(config.getNetworkFormat())) {
+                networkDest = workingDir.resolve("network.xiidm");
+                LOGGER.debug("Copying network to file {}", networkDest);
+                NetworkXml.write(network, networkDest);
+            } else {
+                networkDest = Exporters.exportToDirectory(config.getNetworkFormat(), network, null, workingDir, "network");
+                LOGGER.debug("Network copied to file {}", networkDest);
+            }
 
             Path dslFileDest = workingDir.resolve("strategy.groovy");
             LOGGER.debug("Copying strategy file to {}", dslFileDest);
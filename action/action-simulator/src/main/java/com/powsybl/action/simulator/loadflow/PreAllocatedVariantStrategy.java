@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.iidm.network.Network;
+
+import java.util.Objects;
+
+/**
+ * Copy the working variant into an already existing variant, so that, contrary to {@link CopyStateStrategy}, the
+ * variant array is not resized and other threads can keep on working on other variants.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class PreAllocatedVariantStrategy implements NetworkCopyStrategy {
+
+    private final Network network;
+
+    private final String variantId;
+
+    private final Object variantLock;
+
+    private String sourceVariantId;
+
+    PreAllocatedVariantStrategy(Network network, String variantId, Object variantLock) {
+        this.network = Objects.requireNonNull(network);
+        this.variantId = Objects.requireNonNull(variantId);
+        this.variantLock = Objects.requireNonNull(variantLock);
+    }
+
+    @Override
+    public Network createState(String id) {
+        sourceVariantId = network.getVariantManager().getWorkingVariantId();
+        synchronized (variantLock) {
+            network.getVariantManager().cloneVariant(sourceVariantId, variantId, true);
+        }
+        network.getVariantManager().setWorkingVariant(variantId);
+        return network;
+    }
+
+    @Override
+    public void removeState() {
+        network.getVariantManager().setWorkingVariant(sourceVariantId);
+    }
+}
@@ -31,6 +31,8 @@ public class RunningContext {
 
     private final List<String> workedTests = new ArrayList<>();
 
+    private NetworkCopyStrategy testCopyStrategy;
+
     public RunningContext(Network network, Contingency contingency) {
         this.network = network;
         this.contingency = contingency;
@@ -92,4 +94,15 @@ public class RunningContext {
     public void addTested(String actionId) {
         testedActionsIds.add(actionId);
     }
+
+    /**
+     * Strategy used to try test actions, the one of the simulator configuration if null.
+     */
+    NetworkCopyStrategy getTestCopyStrategy() {
+        return testCopyStrategy;
+    }
+
+    void setTestCopyStrategy(NetworkCopyStrategy testCopyStrategy) {
+        this.testCopyStrategy = testCopyStrategy;
+    }
 }
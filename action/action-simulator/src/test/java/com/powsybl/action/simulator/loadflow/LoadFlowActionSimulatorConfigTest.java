@@ -45,6 +45,7 @@ public class LoadFlowActionSimulatorConfigTest {
             moduleConfig.setStringProperty("max-iterations", "15");
             moduleConfig.setStringProperty("ignore-pre-contingency-violations", "true");
             moduleConfig.setStringProperty("copy-strategy", CopyStrategy.DEEP.name());
+            moduleConfig.setStringProperty("thread-count", "4");
 
             LoadFlowActionSimulatorConfig config = LoadFlowActionSimulatorConfig.load(platformConfig);
 
@@ -65,6 +66,17 @@ public class LoadFlowActionSimulatorConfigTest {
             assertFalse(config.isDebug());
             config.setDebug(true);
             assertTrue(config.isDebug());
+            assertEquals("XIIDM", config.getNetworkFormat());
+            config.setNetworkFormat("BIIDM");
+            assertEquals("BIIDM", config.getNetworkFormat());
+            assertEquals(4, config.getThreadCount());
+            config.setThreadCount(1);
+            assertEquals(1, config.getThreadCount());
+            try {
+                config.setThreadCount(0);
+                fail();
+            } catch (IllegalArgumentException ignored) {
+            }
         }
     }
 }
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.simulator.loadflow;
+
+import com.powsybl.action.dsl.ActionDb;
+import com.powsybl.action.dsl.ActionDslLoader;
+import com.powsybl.action.simulator.EurostagTutorialExample1WithTemporaryLimitFactory;
+import com.powsybl.action.simulator.tools.AbstractSecurityAnalysisResultBuilder;
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowFactory;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.security.LimitViolation;
+import com.powsybl.security.PostContingencyResult;
+import com.powsybl.security.SecurityAnalysisResult;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovyShell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.InputStreamReader;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class MultiThreadLoadFlowActionSimulatorTest {
+
+    private static final List<String> CONTINGENCY_IDS = Arrays.asList("contingency1", "contingency2", "contingency3", "contingency4");
+
+    private ExecutorService executor;
+
+    private ComputationManager computationManager;
+
+    private LoadFlowFactory loadFlowFactory;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+        LoadFlow loadFlow = Mockito.mock(LoadFlow.class);
+        loadFlowFactory = Mockito.mock(LoadFlowFactory.class);
+        Mockito.when(loadFlowFactory.create(Mockito.any(Network.class), Mockito.any(ComputationManager.class), Mockito.anyInt()))
+                .thenReturn(loadFlow);
+        LoadFlowResult loadFlowResult = Mockito.mock(LoadFlowResult.class);
+        Mockito.when(loadFlowResult.isOk()).thenReturn(true);
+        Mockito.when(loadFlow.getName()).thenReturn("load flow mock");
+        Mockito.when(loadFlow.run(Mockito.anyString(), Mockito.any()))
+                .thenReturn(CompletableFuture.completedFuture(loadFlowResult));
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    private static Network createNetwork() {
+        Network network = EurostagTutorialExample1WithTemporaryLimitFactory.create();
+        network.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").setV(380).setAngle(0);
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(300).setQ(100);
+        network.getLine("NHV1_NHV2_2").getTerminal1().setP(300).setQ(100);
+        return network;
+    }
+
+    /**
+     * Post-contingency results as a comparable string per contingency.
+     */
+    private Map<String, String> run(Network network, int threadCount) {
+        GroovyCodeSource src = new GroovyCodeSource(new InputStreamReader(getClass().getResourceAsStream("/multi-contingencies.groovy")),
+                                                    "test", GroovyShell.DEFAULT_CODE_BASE);
+        ActionDb actionDb = new ActionDslLoader(src).load(network);
+        LoadFlowActionSimulatorConfig config = new LoadFlowActionSimulatorConfig(LoadFlowFactory.class, 3, true, false, CopyStrategy.STATE);
+        config.setThreadCount(threadCount);
+        List<SecurityAnalysisResult> results = new ArrayList<>();
+        LoadFlowActionSimulator simulator = new LoadFlowActionSimulator(network, computationManager, config, false,
+                                                                        new AbstractSecurityAnalysisResultBuilder() {
+                                                                            @Override
+                                                                            public void onFinalStateResult(SecurityAnalysisResult result) {
+                                                                                results.add(result);
+                                                                            }
+                                                                        }) {
+            @Override
+            protected LoadFlowFactory newLoadFlowFactory() {
+                return loadFlowFactory;
+            }
+        };
+        simulator.start(actionDb, CONTINGENCY_IDS);
+        assertEquals(1, results.size());
+        return results.get(0).getPostContingencyResults().stream()
+                .collect(Collectors.toMap(result -> result.getContingency().getId(), MultiThreadLoadFlowActionSimulatorTest::toString));
+    }
+
+    private static String toString(PostContingencyResult result) {
+        return result.getLimitViolationsResult().isComputationOk() + " "
+                + result.getLimitViolationsResult().getLimitViolations().stream()
+                    .map(LimitViolation::getSubjectId)
+                    .sorted()
+                    .collect(Collectors.toList())
+                + " " + result.getLimitViolationsResult().getActionsTaken();
+    }
+
+    @Test
+    public void test() {
+        Map<String, String> sequentialResults = run(createNetwork(), 1);
+        assertEquals(new HashSet<>(CONTINGENCY_IDS), sequentialResults.keySet());
+        assertEquals("[action1, action1]", sequentialResults.get("contingency1").replaceAll(".* (\\[.*])$", "$1"));
+
+        Network network = createNetwork();
+        double loadP0 = network.getLoad("LOAD").getP0();
+        double targetP = network.getGenerator("GEN").getTargetP();
+        assertEquals(sequentialResults, run(network, 3));
+
+        // working variant is back to the pre-contingency one and the other variants have been removed
+        assertEquals(Collections.singletonList(VariantManagerConstants.INITIAL_VARIANT_ID), new ArrayList<>(network.getVariantManager().getVariantIds()));
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        assertEquals(loadP0, network.getLoad("LOAD").getP0(), 0d);
+        assertEquals(targetP, network.getGenerator("GEN").getTargetP(), 0d);
+        assertTrue(network.getLine("NHV1_NHV2_1").getTerminal1().isConnected());
+    }
+}
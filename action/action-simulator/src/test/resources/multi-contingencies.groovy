@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+contingency('contingency1') {
+    equipments 'NHV1_NHV2_1'
+}
+
+contingency('contingency2') {
+    equipments 'NHV1_NHV2_2'
+}
+
+contingency('contingency3') {
+    equipments 'NGEN_NHV1'
+}
+
+contingency('contingency4') {
+    equipments 'NHV2_NLOAD'
+}
+
+rule('rule1') {
+    when contingencyOccurred('contingency1') || contingencyOccurred('contingency3')
+    life 2
+    apply 'action1'
+}
+
+rule('rule2') {
+    when contingencyOccurred('contingency4')
+    apply 'action2'
+}
+
+action('action1') {
+    tasks {
+        script {
+            load('LOAD').p0 += 1
+        }
+    }
+}
+
+action('action2') {
+    tasks {
+        script {
+            generator('GEN').targetP += 1
+        }
+    }
+}
@@ -11,7 +11,9 @@ import com.powsybl.commons.exceptions.UncheckedIllegalAccessException;
 import com.powsybl.commons.exceptions.UncheckedInstantiationException;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.PhaseTapChanger;
 import com.powsybl.iidm.network.TwoWindingsTransformer;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
@@ -19,8 +21,13 @@ import com.powsybl.loadflow.LoadFlowResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -33,6 +40,15 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
 
     private final LoadFlowBasedPhaseShifterOptimizerConfig config;
 
+    private LoadFlowParameters parameters;
+
+    public LoadFlowBasedPhaseShifterOptimizer(ComputationManager computationManager, LoadFlowBasedPhaseShifterOptimizerConfig config,
+                                              LoadFlowParameters parameters) {
+        this.computationManager = Objects.requireNonNull(computationManager);
+        this.config = Objects.requireNonNull(config);
+        this.parameters = Objects.requireNonNull(parameters);
+    }
+
     public LoadFlowBasedPhaseShifterOptimizer(ComputationManager computationManager, LoadFlowBasedPhaseShifterOptimizerConfig config) {
         this.computationManager = Objects.requireNonNull(computationManager);
         this.config = Objects.requireNonNull(config);
@@ -42,9 +58,18 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
         this(computationManager, LoadFlowBasedPhaseShifterOptimizerConfig.load());
     }
 
-    private void runLoadFlow(LoadFlow loadFlow, String workingStateId) {
+    private synchronized LoadFlowParameters getParameters() {
+        // loaded once, and not for each load flow
+        if (parameters == null) {
+            parameters = LoadFlowParameters.load();
+        }
+        return parameters;
+    }
+
+    private void runLoadFlow(LoadFlow loadFlow, String workingStateId, AtomicInteger loadFlowCount) {
+        loadFlowCount.incrementAndGet();
         try {
-            LoadFlowResult result = loadFlow.run(workingStateId, LoadFlowParameters.load()).join();
+            LoadFlowResult result = loadFlow.run(workingStateId, getParameters()).join();
             if (!result.isOk()) {
                 throw new PowsyblException("Load flow diverged during phase shifter optimization");
             }
@@ -61,6 +86,165 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
         return phaseShifter.getCurrentLimits1().getPermanentLimit();
     }
 
+    private int findMaximalFlowTapSequentially(TwoWindingsTransformer phaseShifter, LoadFlow loadFlow, String tmpStateId,
+                                               AtomicInteger loadFlowCount) {
+        int optimalTap;
+        int tapPosInc = 1; // start by incrementing tap +1
+        double i;
+        double limit = getLimit(phaseShifter);
+        int tapPos = phaseShifter.getPhaseTapChanger().getTapPosition();
+        int maxTap = phaseShifter.getPhaseTapChanger().getHighTapPosition();
+
+        // increment tap until going above permanent limit
+        while ((i = getI(phaseShifter)) < limit && tapPos < maxTap) {
+            // increment tap
+            tapPos += tapPosInc;
+            phaseShifter.getPhaseTapChanger().setTapPosition(tapPos);
+
+            // run load flow
+            runLoadFlow(loadFlow, tmpStateId, loadFlowCount);
+
+            // wrong direction, negate the increment
+            if (getI(phaseShifter) < i) {
+                // we don't go in the right direction
+                tapPosInc *= -1;
+            }
+        }
+
+        if (i < limit) {
+            // we reached the maximal (ou minimal) tap and phase shifter is not overloaded
+            optimalTap = phaseShifter.getPhaseTapChanger().getTapPosition();
+        } else {
+            // with the last tap, phase shifter is overloaded, in that case we take the previous tap as the optimmal one
+            optimalTap = phaseShifter.getPhaseTapChanger().getTapPosition() - tapPosInc;
+            phaseShifter.getPhaseTapChanger().setTapPosition(optimalTap);
+
+            // just to be sure, check that with the previous tap, phase shifter is not overloaded...
+            runLoadFlow(loadFlow, tmpStateId, loadFlowCount);
+            // check there phase shifter is not overloaded
+            if (getI(phaseShifter) >= limit) {
+                throw new AssertionError("Phase shifter should not be overload");
+            }
+        }
+        return optimalTap;
+    }
+
+    /**
+     * Evaluate the phase shifter current for several tap positions, on the temporary variant when there is only one,
+     * otherwise concurrently, each one on its own variant cloned from the temporary one.
+     */
+    private double[] probeTaps(Network network, TwoWindingsTransformer phaseShifter, int[] taps, LoadFlow loadFlow, String tmpStateId,
+                               List<LoadFlow> probeLoadFlows, List<String> probeVariantIds, AtomicInteger loadFlowCount) {
+        double[] currents = new double[taps.length];
+        if (taps.length == 1) {
+            phaseShifter.getPhaseTapChanger().setTapPosition(taps[0]);
+            runLoadFlow(loadFlow, tmpStateId, loadFlowCount);
+            currents[0] = getI(phaseShifter);
+            return currents;
+        }
+        VariantManager variantManager = network.getVariantManager();
+        // variant cloning is not thread safe, so it is done before starting the load flows
+        for (int i = 0; i < taps.length; i++) {
+            variantManager.cloneVariant(tmpStateId, probeVariantIds.get(i), true);
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture[taps.length];
+        for (int i = 0; i < taps.length; i++) {
+            int probeNum = i;
+            futures[i] = CompletableFuture.runAsync(() -> {
+                String probeVariantId = probeVariantIds.get(probeNum);
+                variantManager.setWorkingVariant(probeVariantId);
+                phaseShifter.getPhaseTapChanger().setTapPosition(taps[probeNum]);
+                runLoadFlow(probeLoadFlows.get(probeNum), probeVariantId, loadFlowCount);
+                currents[probeNum] = getI(phaseShifter);
+            }, computationManager.getExecutor());
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+        return currents;
+    }
+
+    /**
+     * Bisection over tap positions: the direction in which the current increases is found by probing the next tap,
+     * then the current is assumed to increase monotonically in that direction, so that the maximal tap that does not
+     * overload the phase shifter is found with a logarithmic number of load flows. With a probe count greater than
+     * one, the search interval is split at several taps evaluated concurrently.
+     */
+    private int findMaximalFlowTapByBisection(Network network, TwoWindingsTransformer phaseShifter, LoadFlowFactory loadFlowFactory,
+                                              LoadFlow loadFlow, String tmpStateId, AtomicInteger loadFlowCount) {
+        PhaseTapChanger tapChanger = phaseShifter.getPhaseTapChanger();
+        int lowTap = tapChanger.getLowTapPosition();
+        int highTap = tapChanger.getHighTapPosition();
+        int initialTap = tapChanger.getTapPosition();
+        if (lowTap == highTap) {
+            return initialTap;
+        }
+        double limit = getLimit(phaseShifter);
+        double initialI = getI(phaseShifter);
+
+        // find the direction in which the current increases
+        int firstTap = initialTap < highTap ? initialTap + 1 : initialTap - 1;
+        double firstI = probeTaps(network, phaseShifter, new int[] {firstTap}, loadFlow, tmpStateId, null, null, loadFlowCount)[0];
+        int direction = (firstI >= initialI ? 1 : -1) * (firstTap - initialTap);
+
+        // maximal tap known to be below the limit, and minimal tap known (or assumed after the last tap) to be above
+        int okTap = initialTap;
+        int overloadedTap = direction > 0 ? highTap + 1 : lowTap - 1;
+        if (firstTap - initialTap == direction) {
+            if (firstI < limit) {
+                okTap = firstTap;
+            } else {
+                overloadedTap = firstTap;
+            }
+        }
+
+        VariantManager variantManager = network.getVariantManager();
+        // running several probes in parallel is not done when the caller itself already works concurrently on the
+        // network variants, as it would share the same executor
+        int probeCount = variantManager.isVariantMultiThreadAccessAllowed() ? 1 : config.getProbeCount();
+        List<LoadFlow> probeLoadFlows = new ArrayList<>(probeCount);
+        List<String> probeVariantIds = new ArrayList<>(probeCount);
+        if (probeCount > 1) {
+            for (int i = 0; i < probeCount; i++) {
+                probeLoadFlows.add(loadFlowFactory.create(network, computationManager, 0));
+                probeVariantIds.add(tmpStateId + "-probe-" + i);
+            }
+            variantManager.allowVariantMultiThreadAccess(true);
+        }
+        try {
+            while (Math.abs(overloadedTap - okTap) > 1) {
+                int distance = Math.abs(overloadedTap - okTap);
+                int[] taps = new int[Math.min(probeCount, distance - 1)];
+                for (int i = 0; i < taps.length; i++) {
+                    taps[i] = okTap + direction * (int) Math.round((double) (i + 1) * distance / (taps.length + 1));
+                }
+                double[] currents = probeTaps(network, phaseShifter, taps, loadFlow, tmpStateId, probeLoadFlows, probeVariantIds, loadFlowCount);
+                for (int i = 0; i < taps.length; i++) {
+                    if (currents[i] < limit) {
+                        okTap = taps[i];
+                    } else {
+                        overloadedTap = taps[i];
+                        break;
+                    }
+                }
+            }
+        } finally {
+            if (probeCount > 1) {
+                variantManager.allowVariantMultiThreadAccess(false);
+                variantManager.setWorkingVariant(tmpStateId);
+                probeVariantIds.stream()
+                        .filter(variantManager.getVariantIds()::contains)
+                        .forEach(variantManager::removeVariant);
+            }
+        }
+        return okTap;
+    }
+
     @Override
     public void findMaximalFlowTap(Network network, String phaseShifterId) {
         TwoWindingsTransformer phaseShifter = network.getTwoWindingsTransformer(phaseShifterId);
@@ -72,6 +256,8 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
         }
 
         int optimalTap;
+        long startTime = System.currentTimeMillis();
+        AtomicInteger loadFlowCount = new AtomicInteger();
 
         // fromNode a temporary state that will be used to move the phase shifter tap without changing the current state
         String stateId = network.getVariantManager().getWorkingVariantId();
@@ -81,46 +267,14 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
             network.getVariantManager().setWorkingVariant(tmpStateId);
             LoadFlowFactory loadFlowFactory = config.getLoadFlowFactoryClass().newInstance();
             LoadFlow loadFlow = loadFlowFactory.create(network, computationManager, 0);
-            runLoadFlow(loadFlow, tmpStateId);
+            runLoadFlow(loadFlow, tmpStateId, loadFlowCount);
             if (phaseShifter.getTerminal1().getI() >= phaseShifter.getCurrentLimits1().getPermanentLimit()) {
                 throw new PowsyblException("Phase shifter already overloaded");
             }
-            int tapPosInc = 1; // start by incrementing tap +1
-            double i;
-            double limit = getLimit(phaseShifter);
-            int tapPos = phaseShifter.getPhaseTapChanger().getTapPosition();
-            int maxTap = phaseShifter.getPhaseTapChanger().getHighTapPosition();
-
-            // increment tap until going above permanent limit
-            while ((i = getI(phaseShifter)) < limit && tapPos < maxTap) {
-                // increment tap
-                tapPos += tapPosInc;
-                phaseShifter.getPhaseTapChanger().setTapPosition(tapPos);
-
-                // run load flow
-                runLoadFlow(loadFlow, tmpStateId);
-
-                // wrong direction, negate the increment
-                if (getI(phaseShifter) < i) {
-                    // we don't go in the right direction
-                    tapPosInc *= -1;
-                }
-            }
-
-            if (i < limit) {
-                // we reached the maximal (ou minimal) tap and phase shifter is not overloaded
-                optimalTap = phaseShifter.getPhaseTapChanger().getTapPosition();
+            if (config.getSearchMode() == LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION) {
+                optimalTap = findMaximalFlowTapByBisection(network, phaseShifter, loadFlowFactory, loadFlow, tmpStateId, loadFlowCount);
             } else {
-                // with the last tap, phase shifter is overloaded, in that case we take the previous tap as the optimmal one
-                optimalTap = phaseShifter.getPhaseTapChanger().getTapPosition() - tapPosInc;
-                phaseShifter.getPhaseTapChanger().setTapPosition(optimalTap);
-
-                // just to be sure, check that with the previous tap, phase shifter is not overloaded...
-                runLoadFlow(loadFlow, tmpStateId);
-                // check there phase shifter is not overloaded
-                if (getI(phaseShifter) >= limit) {
-                    throw new AssertionError("Phase shifter should not be overload");
-                }
+                optimalTap = findMaximalFlowTapSequentially(phaseShifter, loadFlow, tmpStateId, loadFlowCount);
             }
         } catch (IllegalAccessException e) {
             throw new UncheckedIllegalAccessException(e);
@@ -134,6 +288,8 @@ public class LoadFlowBasedPhaseShifterOptimizer implements PhaseShifterOptimizer
 
         LOGGER.debug("Optimal phase shifter '{}' tap is {} (from {})",
                 phaseShifter, optimalTap, phaseShifter.getPhaseTapChanger().getTapPosition());
+        LOGGER.debug("Phase shifter '{}' optimization: {} load flows in {} ms", phaseShifterId, loadFlowCount.get(),
+                System.currentTimeMillis() - startTime);
 
         // set the best optimal tap on the current state
         phaseShifter.getPhaseTapChanger().setTapPosition(optimalTap);
@@ -17,6 +17,22 @@ import java.util.Objects;
  */
 public class LoadFlowBasedPhaseShifterOptimizerConfig {
 
+    public enum SearchMode {
+        /**
+         * Move the tap one position at a time, with one load flow per position.
+         */
+        SEQUENTIAL,
+
+        /**
+         * Bisection over tap positions, the current being assumed to increase monotonically in the search direction.
+         */
+        BISECTION
+    }
+
+    private static final SearchMode DEFAULT_SEARCH_MODE = SearchMode.SEQUENTIAL;
+
+    private static final int DEFAULT_PROBE_COUNT = 1;
+
     public static LoadFlowBasedPhaseShifterOptimizerConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -25,14 +41,34 @@ public class LoadFlowBasedPhaseShifterOptimizerConfig {
         Objects.requireNonNull(platformConfig);
         ModuleConfig config = platformConfig.getModuleConfig("load-flow-based-phase-shifter-optimizer");
         Class<? extends LoadFlowFactory> loadFlowFactoryClass = config.getClassProperty("load-flow-factory", LoadFlowFactory.class);
-        return new LoadFlowBasedPhaseShifterOptimizerConfig(loadFlowFactoryClass);
+        SearchMode searchMode = config.getEnumProperty("search-mode", SearchMode.class, DEFAULT_SEARCH_MODE);
+        int probeCount = config.getIntProperty("probe-count", DEFAULT_PROBE_COUNT);
+        return new LoadFlowBasedPhaseShifterOptimizerConfig(loadFlowFactoryClass, searchMode, probeCount);
 
     }
 
+    private static int checkProbeCount(int probeCount) {
+        if (probeCount < 1) {
+            throw new IllegalArgumentException("Invalid probe count " + probeCount);
+        }
+        return probeCount;
+    }
+
     private Class<? extends LoadFlowFactory> loadFlowFactoryClass;
 
+    private SearchMode searchMode;
+
+    private int probeCount;
+
     public LoadFlowBasedPhaseShifterOptimizerConfig(Class<? extends LoadFlowFactory> loadFlowFactoryClass) {
+        this(loadFlowFactoryClass, DEFAULT_SEARCH_MODE, DEFAULT_PROBE_COUNT);
+    }
+
+    public LoadFlowBasedPhaseShifterOptimizerConfig(Class<? extends LoadFlowFactory> loadFlowFactoryClass, SearchMode searchMode,
+                                                    int probeCount) {
         this.loadFlowFactoryClass = Objects.requireNonNull(loadFlowFactoryClass);
+        this.searchMode = Objects.requireNonNull(searchMode);
+        this.probeCount = checkProbeCount(probeCount);
     }
 
     public Class<? extends LoadFlowFactory> getLoadFlowFactoryClass() {
@@ -42,4 +78,23 @@ public class LoadFlowBasedPhaseShifterOptimizerConfig {
     public void setLoadFlowFactoryClass(Class<? extends LoadFlowFactory> loadFlowFactoryClass) {
         this.loadFlowFactoryClass = Objects.requireNonNull(loadFlowFactoryClass);
     }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public void setSearchMode(SearchMode searchMode) {
+        this.searchMode = Objects.requireNonNull(searchMode);
+    }
+
+    /**
+     * Number of tap positions evaluated at once in bisection mode, each one with its own load flow on a cloned variant.
+     */
+    public int getProbeCount() {
+        return probeCount;
+    }
+
+    public void setProbeCount(int probeCount) {
+        this.probeCount = checkProbeCount(probeCount);
+    }
 }
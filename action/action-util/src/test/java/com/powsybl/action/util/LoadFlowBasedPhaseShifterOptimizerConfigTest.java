@@ -44,9 +44,26 @@ public class LoadFlowBasedPhaseShifterOptimizerConfigTest {
 
             LoadFlowBasedPhaseShifterOptimizerConfig config = LoadFlowBasedPhaseShifterOptimizerConfig.load(platformConfig);
             assertEquals(LoadFlowFactoryMock.class, config.getLoadFlowFactoryClass());
+            assertEquals(LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.SEQUENTIAL, config.getSearchMode());
+            assertEquals(1, config.getProbeCount());
             config.setLoadFlowFactoryClass(AnotherLoadFlowFactoryMock.class);
             assertEquals(AnotherLoadFlowFactoryMock.class, config.getLoadFlowFactoryClass());
+            config.setSearchMode(LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION);
+            assertEquals(LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, config.getSearchMode());
+            config.setProbeCount(4);
+            assertEquals(4, config.getProbeCount());
+
+            moduleConfig.setStringProperty("search-mode", "BISECTION");
+            moduleConfig.setStringProperty("probe-count", "3");
+            config = LoadFlowBasedPhaseShifterOptimizerConfig.load(platformConfig);
+            assertEquals(LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, config.getSearchMode());
+            assertEquals(3, config.getProbeCount());
         }
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidProbeCount() {
+        new LoadFlowBasedPhaseShifterOptimizerConfig(LoadFlowFactoryMock.class, LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, 0);
+    }
+
 }
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.action.util;
+
+import com.powsybl.computation.ComputationManager;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.PhaseShifterTestCaseFactory;
+import com.powsybl.loadflow.LoadFlow;
+import com.powsybl.loadflow.LoadFlowFactory;
+import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.LoadFlowResult;
+import com.powsybl.loadflow.LoadFlowResultImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class LoadFlowBasedPhaseShifterOptimizerTest {
+
+    private static final AtomicInteger LOAD_FLOW_COUNT = new AtomicInteger();
+
+    /**
+     * Fake load flow: the phase shifter active flow is 50 MW per tap away from tap 10.
+     */
+    public static class PhaseShifterLoadFlowFactory implements LoadFlowFactory {
+
+        @Override
+        public LoadFlow create(Network network, ComputationManager computationManager, int priority) {
+            return new LoadFlow() {
+                @Override
+                public CompletableFuture<LoadFlowResult> run(String workingStateId, LoadFlowParameters parameters) {
+                    LOAD_FLOW_COUNT.incrementAndGet();
+                    network.getVariantManager().setWorkingVariant(workingStateId);
+                    TwoWindingsTransformer phaseShifter = network.getTwoWindingsTransformer("PS1");
+                    int tap = phaseShifter.getPhaseTapChanger().getTapPosition();
+                    phaseShifter.getTerminal1().setP(50.0 * Math.abs(tap - 10)).setQ(0);
+                    return CompletableFuture.completedFuture(new LoadFlowResultImpl(true, Collections.emptyMap(), null));
+                }
+
+                @Override
+                public String getName() {
+                    return "phase shifter load flow";
+                }
+
+                @Override
+                public String getVersion() {
+                    return "1.0";
+                }
+            };
+        }
+    }
+
+    private ExecutorService executor;
+
+    private ComputationManager computationManager;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+        LOAD_FLOW_COUNT.set(0);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Phase shifter with 61 taps, and a 1000 A permanent limit reached between 13 and 14 taps away from tap 10.
+     */
+    private static Network createNetwork(int tapPosition) {
+        Network network = PhaseShifterTestCaseFactory.create();
+        network.getVoltageLevel("VL1").getBusBreakerView().getBus("B1").setV(400);
+        TwoWindingsTransformer phaseShifter = network.getTwoWindingsTransformer("PS1");
+        phaseShifter.newCurrentLimits1()
+                .setPermanentLimit(1000)
+                .add();
+        PhaseTapChangerAdder adder = phaseShifter.newPhaseTapChanger()
+                .setLowTapPosition(0)
+                .setTapPosition(tapPosition)
+                .setRegulationTerminal(phaseShifter.getTerminal2())
+                .setRegulationMode(PhaseTapChanger.RegulationMode.FIXED_TAP)
+                .setRegulationValue(200);
+        for (int i = 0; i <= 60; i++) {
+            adder.beginStep()
+                    .setAlpha(i - 30.0)
+                    .setRho(1.0)
+                    .setR(0.0)
+                    .setX(0.0)
+                    .setG(0.0)
+                    .setB(0.0)
+                .endStep();
+        }
+        adder.add();
+        return network;
+    }
+
+    private int optimize(Network network, LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode searchMode, int probeCount) {
+        LoadFlowBasedPhaseShifterOptimizerConfig config = new LoadFlowBasedPhaseShifterOptimizerConfig(PhaseShifterLoadFlowFactory.class,
+                                                                                                       searchMode, probeCount);
+        new LoadFlowBasedPhaseShifterOptimizer(computationManager, config, new LoadFlowParameters())
+                .findMaximalFlowTap(network, "PS1");
+        // temporary variants have been removed
+        assertEquals(Collections.singletonList(VariantManagerConstants.INITIAL_VARIANT_ID), new ArrayList<>(network.getVariantManager().getVariantIds()));
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+        assertFalse(network.getVariantManager().isVariantMultiThreadAccessAllowed());
+        return network.getTwoWindingsTransformer("PS1").getPhaseTapChanger().getTapPosition();
+    }
+
+    @Test
+    public void sequentialTest() {
+        assertEquals(23, optimize(createNetwork(12), LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.SEQUENTIAL, 1));
+        assertEquals(14, LOAD_FLOW_COUNT.get());
+    }
+
+    @Test
+    public void bisectionTest() {
+        assertEquals(23, optimize(createNetwork(12), LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, 1));
+        assertEquals(8, LOAD_FLOW_COUNT.get());
+
+        // current increases while decreasing the tap, and the lowest tap is not overloaded
+        LOAD_FLOW_COUNT.set(0);
+        assertEquals(0, optimize(createNetwork(8), LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, 1));
+        assertEquals(5, LOAD_FLOW_COUNT.get());
+    }
+
+    @Test
+    public void parallelBisectionTest() {
+        assertEquals(23, optimize(createNetwork(12), LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, 4));
+        assertEquals(0, optimize(createNetwork(8), LoadFlowBasedPhaseShifterOptimizerConfig.SearchMode.BISECTION, 4));
+    }
+}
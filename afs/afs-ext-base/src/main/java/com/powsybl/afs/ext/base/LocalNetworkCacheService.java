@@ -6,16 +6,23 @@
  */
 package com.powsybl.afs.ext.base;
 
+import com.google.common.cache.CacheStats;
 import com.powsybl.afs.AfsException;
 import com.powsybl.afs.ProjectFile;
+import com.powsybl.commons.config.ModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.iidm.import_.Importer;
+import com.powsybl.iidm.network.ExtensionCopiers;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.xml.NetworkXml;
 import groovy.json.JsonOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.UUID;
 
@@ -26,10 +33,51 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LocalNetworkCacheService.class);
 
+    private static final String CONFIG_MODULE_NAME = "local-network-cache-service";
+
+    /**
+     * Default estimation of the memory used by an equipment of a network, including its state.
+     */
+    public static final long DEFAULT_IDENTIFIABLE_SIZE = 2048;
+
+    private final long identifiableSize;
+
+    /**
+     * Networks as loaded by the importer or modified by the script, never handed to the callers so that they can be
+     * copied safely to build the networks of the virtual cases.
+     */
+    private final ScriptCache<ProjectFile, Network, ProjectCaseListener> snapshots;
+
+    /**
+     * Copies of the snapshots handed to the callers.
+     */
     private final ScriptCache<ProjectFile, Network, ProjectCaseListener> cache;
 
     public LocalNetworkCacheService() {
-        cache = new ScriptCache<>(50, 1, projectFile -> {
+        this(Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * @param maximumMemory the maximum memory in bytes used by the cached networks
+     */
+    public LocalNetworkCacheService(long maximumMemory) {
+        this(maximumMemory, DEFAULT_IDENTIFIABLE_SIZE);
+    }
+
+    /**
+     * @param maximumMemory the maximum memory in bytes used by the cached networks, shared between the snapshots and
+     *                      their copies
+     * @param identifiableSize the estimated memory in bytes used by an equipment of a network, including its state
+     */
+    public LocalNetworkCacheService(long maximumMemory, long identifiableSize) {
+        if (maximumMemory <= 0) {
+            throw new IllegalArgumentException("Invalid maximum memory " + maximumMemory);
+        }
+        if (identifiableSize <= 0) {
+            throw new IllegalArgumentException("Invalid identifiable size " + identifiableSize);
+        }
+        this.identifiableSize = identifiableSize;
+        snapshots = new ScriptCache<>(maximumMemory / 2, this::estimateSize, 1, projectFile -> {
             UUID taskId = projectFile.startTask();
             try {
                 projectFile.createLogger(taskId).log("Loading network...");
@@ -37,6 +85,14 @@ public class LocalNetworkCacheService implements NetworkCacheService {
             } finally {
                 projectFile.stopTask(taskId);
             }
+        }, (result, listeners) -> {
+        });
+        cache = new ScriptCache<>(maximumMemory / 2, this::estimateSize, 1, projectFile -> {
+            ScriptResult<Network> snapshot = snapshots.get(projectFile);
+            if (snapshot.getError() != null) {
+                return snapshot;
+            }
+            return new ScriptResult<>(copy(snapshot.getValue()), snapshot.getOutput(), null);
         }, (result, listeners) -> {
             for (ProjectCaseListener listener : listeners) {
                 listener.networkUpdated();
@@ -44,6 +100,26 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         });
     }
 
+    /**
+     * Create the service from the optional <code>local-network-cache-service</code> module of the platform
+     * configuration, with <code>maximum-memory</code> and <code>identifiable-size</code> properties in bytes.
+     */
+    public static LocalNetworkCacheService load(PlatformConfig platformConfig) {
+        Objects.requireNonNull(platformConfig);
+        long maximumMemory = Runtime.getRuntime().maxMemory() / 2;
+        long identifiableSize = DEFAULT_IDENTIFIABLE_SIZE;
+        Optional<ModuleConfig> moduleConfig = platformConfig.getOptionalModuleConfig(CONFIG_MODULE_NAME);
+        if (moduleConfig.isPresent()) {
+            maximumMemory = moduleConfig.get().getLongProperty("maximum-memory", maximumMemory);
+            identifiableSize = moduleConfig.get().getLongProperty("identifiable-size", identifiableSize);
+        }
+        return new LocalNetworkCacheService(maximumMemory, identifiableSize);
+    }
+
+    private long estimateSize(Network network) {
+        return network.getIdentifiables().size() * identifiableSize;
+    }
+
     private static ScriptResult<Network> loadNetworkFromImportedCase(ImportedCase importedCase) {
         LOGGER.info("Loading network of project case {}", importedCase.getId());
 
@@ -64,11 +140,21 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         }
     }
 
-    private static ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase) {
-        ProjectCase baseCase = (ProjectCase) virtualCase.getCase()
-                                                        .orElseThrow(() -> new AfsException("Case link is dead"));
+    /**
+     * Copy the working variant of a snapshot, which is always the initial one as it is only set by the loader.
+     */
+    private static Network copy(Network network) {
+        // a variant of the base network cannot be used as the script may also modify the structure of the network
+        // in memory copy is much faster but only possible if all extensions have a copier
+        return ExtensionCopiers.isCopySupported(network) ? network.copy(true) : NetworkXml.copy(network);
+    }
+
+    private ScriptResult<Network> loadNetworkFromVirtualCase(VirtualCase virtualCase) {
+        ProjectFile baseCase = virtualCase.getCase()
+                                          .orElseThrow(() -> new AfsException("Case link is dead"));
 
-        ScriptResult<Network> network = loadNetworkFromProjectCase(baseCase);
+        // base network is loaded only once and shared by all the virtual cases built on it
+        ScriptResult<Network> network = snapshots.get(baseCase);
 
         if (network.getError() != null) {
             return network;
@@ -79,10 +165,15 @@ public class LocalNetworkCacheService implements NetworkCacheService {
 
         LOGGER.info("Applying script to network of project case {}", virtualCase.getId());
 
-        return applyScript(network.getValue(), network.getOutput(), script);
+        ScriptResult<Network> result = applyScript(copy(network.getValue()), network.getOutput(), script);
+        if (result.getError() == null) {
+            // the script may have switched the working variant, snapshots are always copied from the initial one
+            result.getValue().getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        }
+        return result;
     }
 
-    private static ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase) {
+    private ScriptResult<Network> loadNetworkFromProjectCase(ProjectCase projectCase) {
         if (projectCase instanceof ImportedCase) {
             return loadNetworkFromImportedCase((ImportedCase) projectCase);
         } else if (projectCase instanceof VirtualCase) {
@@ -112,8 +203,16 @@ public class LocalNetworkCacheService implements NetworkCacheService {
         return cache.get(projectCase).getValueOrThrowIfError(projectCase);
     }
 
+    /**
+     * Get hit, miss and load time statistics of the network cache.
+     */
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+
     @Override
     public <T extends ProjectFile & ProjectCase> void invalidateCache(T projectCase) {
+        snapshots.invalidate(projectCase);
         cache.invalidate(projectCase);
     }
 
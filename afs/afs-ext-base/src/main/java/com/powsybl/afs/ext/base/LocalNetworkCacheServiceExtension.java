@@ -9,6 +9,7 @@ package com.powsybl.afs.ext.base;
 import com.google.auto.service.AutoService;
 import com.powsybl.afs.ServiceCreationContext;
 import com.powsybl.afs.ServiceExtension;
+import com.powsybl.commons.config.PlatformConfig;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -23,6 +24,6 @@ public class LocalNetworkCacheServiceExtension implements ServiceExtension<Netwo
 
     @Override
     public NetworkCacheService createService(ServiceCreationContext context) {
-        return new LocalNetworkCacheService();
+        return LocalNetworkCacheService.load(PlatformConfig.defaultConfig());
     }
 }
@@ -8,6 +8,7 @@ package com.powsybl.afs.ext.base;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.powsybl.afs.ProjectFile;
 import com.powsybl.commons.util.WeakListenerList;
@@ -22,6 +23,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  *
@@ -39,11 +41,30 @@ public class ScriptCache<F extends ProjectFile, V, L> {
 
     public ScriptCache(int maximumSize, int hoursExpiration, Function<F, ScriptResult<V>> loader,
                        BiConsumer<ScriptResult<V>, List<L>> notifier) {
+        this(CacheBuilder.newBuilder().maximumSize(maximumSize), hoursExpiration, loader, notifier);
+    }
+
+    /**
+     * Create a cache bounded by the memory used by its values rather than by their count.
+     *
+     * @param maximumMemory the maximum memory in bytes of the cached values
+     * @param sizeEstimator give the estimated size in bytes of a value
+     */
+    public ScriptCache(long maximumMemory, ToLongFunction<V> sizeEstimator, int hoursExpiration,
+                       Function<F, ScriptResult<V>> loader, BiConsumer<ScriptResult<V>, List<L>> notifier) {
+        this(CacheBuilder.newBuilder()
+                        .maximumWeight(maximumMemory / 1024)
+                        .weigher((Object projectFileId, Object result) -> getWeight((ScriptResult<V>) result, sizeEstimator)),
+                hoursExpiration, loader, notifier);
+    }
+
+    private ScriptCache(CacheBuilder<Object, Object> builder, int hoursExpiration, Function<F, ScriptResult<V>> loader,
+                        BiConsumer<ScriptResult<V>, List<L>> notifier) {
         this.loader = Objects.requireNonNull(loader);
         Objects.requireNonNull(notifier);
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(maximumSize)
+        cache = builder
                 .expireAfterAccess(hoursExpiration, TimeUnit.HOURS)
+                .recordStats()
                 .removalListener(notification -> {
                     String projectFileId = (String) notification.getKey();
 
@@ -55,6 +76,14 @@ public class ScriptCache<F extends ProjectFile, V, L> {
                 .build();
     }
 
+    private static <V> int getWeight(ScriptResult<V> result, ToLongFunction<V> sizeEstimator) {
+        if (result.getValue() == null) {
+            return 1;
+        }
+        // weight is in kilobytes so that big values do not overflow
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, sizeEstimator.applyAsLong(result.getValue()) / 1024));
+    }
+
     public ScriptResult<V> get(F projectFile) {
         Objects.requireNonNull(projectFile);
         try {
@@ -69,6 +98,13 @@ public class ScriptCache<F extends ProjectFile, V, L> {
         cache.invalidate(projectFile.getId());
     }
 
+    /**
+     * Get hit, miss and load time statistics of the cache.
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
     private WeakListenerList<L> getListeners(String projectFileId) {
         return listeners.computeIfAbsent(projectFileId, s -> new WeakListenerList<>());
     }
@@ -20,10 +20,12 @@ import com.powsybl.iidm.import_.ImportersLoader;
 import com.powsybl.iidm.import_.ImportersLoaderList;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.NetworkFactory;
+import com.powsybl.iidm.network.Substation;
 import com.powsybl.iidm.xml.XMLImporter;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
@@ -69,6 +71,11 @@ public class ImportedCaseTest extends AbstractProjectFileTest {
     @Before
     public void setup() throws IOException {
         super.setup();
+        // the network cache only hands copies of the imported network
+        Iterable<Substation> substations = network.getSubstations();
+        Network networkCopy = Mockito.mock(Network.class);
+        Mockito.when(networkCopy.getSubstations()).thenReturn(substations);
+        Mockito.when(network.copy(true)).thenReturn(networkCopy);
         NodeInfo rootFolderInfo = storage.createRootNodeIfNotExists("root", Folder.PSEUDO_CLASS);
         storage.createNode(rootFolderInfo.getId(), "network", Case.PSEUDO_CLASS, "Test format", Case.VERSION,
                 new NodeGenericMetadata().setString("format", TestImporter.FORMAT));
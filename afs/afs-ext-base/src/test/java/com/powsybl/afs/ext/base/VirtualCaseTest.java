@@ -15,8 +15,11 @@ import com.powsybl.afs.storage.NodeInfo;
 import com.powsybl.iidm.import_.ImportConfig;
 import com.powsybl.iidm.import_.ImportersLoader;
 import com.powsybl.iidm.import_.ImportersLoaderList;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.util.Collections;
@@ -55,9 +58,18 @@ public class VirtualCaseTest extends AbstractProjectFileTest {
         return ImmutableList.of(new LocalNetworkCacheServiceExtension());
     }
 
+    private Network networkCopy;
+
+    private Network virtualNetworkCopy;
+
     @Before
     public void setup() throws IOException {
         super.setup();
+        networkCopy = Mockito.mock(Network.class);
+        virtualNetworkCopy = Mockito.mock(Network.class);
+        Mockito.when(network.copy(true)).thenReturn(networkCopy);
+        Mockito.when(networkCopy.copy(true)).thenReturn(virtualNetworkCopy);
+        Mockito.when(networkCopy.getVariantManager()).thenReturn(Mockito.mock(VariantManager.class));
         NodeInfo rootFolderInfo = storage.createRootNodeIfNotExists("root", Folder.PSEUDO_CLASS);
         storage.createNode(rootFolderInfo.getId(), "network", Case.PSEUDO_CLASS, "", Case.VERSION,
                 new NodeGenericMetadata().setString(Case.FORMAT, TestImporter.FORMAT));
@@ -126,7 +138,10 @@ public class VirtualCaseTest extends AbstractProjectFileTest {
         assertEquals(2, virtualCase.getDependencies().size());
         assertEquals(1, importedCase.getBackwardDependencies().size());
         assertEquals(1, script.getBackwardDependencies().size());
-        assertNotNull(virtualCase.getNetwork());
+        // script is applied to a copy of the base network, and cached networks are never handed to the callers
+        assertSame(virtualNetworkCopy, virtualCase.getNetwork());
+        assertSame(networkCopy, importedCase.getNetwork());
+        Mockito.verify(network, Mockito.never()).getVariantManager();
 
         // test cache invalidation
         script.writeScript("print 'bye'");
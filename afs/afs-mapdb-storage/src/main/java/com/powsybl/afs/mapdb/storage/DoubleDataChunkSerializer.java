@@ -17,12 +17,19 @@ import java.io.IOException;
 import java.io.Serializable;
 
 /**
+ * Chunks are written using {@link DoubleXorEncoding}, the initial "uncompressed" and "compressed" formats with fixed
+ * size values are still readable.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public final class DoubleDataChunkSerializer implements Serializer<DoubleDataChunk>, Serializable {
 
     public static final DoubleDataChunkSerializer INSTANCE = new DoubleDataChunkSerializer();
 
+    private static final String UNCOMPRESSED_XOR = "uncompressed-xor";
+
+    private static final String COMPRESSED_XOR = "compressed-xor";
+
     private DoubleDataChunkSerializer() {
     }
 
@@ -30,25 +37,16 @@ public final class DoubleDataChunkSerializer implements Serializer<DoubleDataChu
     public void serialize(DataOutput2 out, DoubleDataChunk chunk) throws IOException {
         if (chunk instanceof UncompressedDoubleDataChunk) {
             UncompressedDoubleDataChunk uncompressedChunk = (UncompressedDoubleDataChunk) chunk;
-            out.writeUTF("uncompressed");
-            out.writeInt(uncompressedChunk.getOffset());
-            out.writeInt(uncompressedChunk.getLength());
-            for (double value : uncompressedChunk.getValues()) {
-                out.writeDouble(value);
-            }
+            out.writeUTF(UNCOMPRESSED_XOR);
+            DoubleXorEncoding.writeVarInt(out, uncompressedChunk.getOffset());
+            DoubleXorEncoding.writeDoubles(out, uncompressedChunk.getValues());
         } else if (chunk instanceof CompressedDoubleDataChunk) {
             CompressedDoubleDataChunk compressedChunk = (CompressedDoubleDataChunk) chunk;
-            out.writeUTF("compressed");
-            out.writeInt(compressedChunk.getOffset());
-            out.writeInt(compressedChunk.getUncompressedLength());
-            out.writeInt(compressedChunk.getStepLengths().length);
-            for (int value : compressedChunk.getStepLengths()) {
-                out.writeInt(value);
-            }
-            out.writeInt(compressedChunk.getStepValues().length);
-            for (double value : compressedChunk.getStepValues()) {
-                out.writeDouble(value);
-            }
+            out.writeUTF(COMPRESSED_XOR);
+            DoubleXorEncoding.writeVarInt(out, compressedChunk.getOffset());
+            DoubleXorEncoding.writeVarInt(out, compressedChunk.getUncompressedLength());
+            DoubleXorEncoding.writeInts(out, compressedChunk.getStepLengths());
+            DoubleXorEncoding.writeDoubles(out, compressedChunk.getStepValues());
         } else {
             throw new AssertionError();
         }
@@ -79,6 +77,15 @@ public final class DoubleDataChunkSerializer implements Serializer<DoubleDataChu
                 stepValues[i] = input.readDouble();
             }
             return new CompressedDoubleDataChunk(offset, uncompressedLength, stepValues, stepLengths);
+        } else if (UNCOMPRESSED_XOR.equals(type)) {
+            int offset = DoubleXorEncoding.readVarInt(input);
+            return new UncompressedDoubleDataChunk(offset, DoubleXorEncoding.readDoubles(input));
+        } else if (COMPRESSED_XOR.equals(type)) {
+            int offset = DoubleXorEncoding.readVarInt(input);
+            int uncompressedLength = DoubleXorEncoding.readVarInt(input);
+            int[] stepLengths = DoubleXorEncoding.readInts(input);
+            double[] stepValues = DoubleXorEncoding.readDoubles(input);
+            return new CompressedDoubleDataChunk(offset, uncompressedLength, stepValues, stepLengths);
         } else {
             throw new AssertionError();
         }
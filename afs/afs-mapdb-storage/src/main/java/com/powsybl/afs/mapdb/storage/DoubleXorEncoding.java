@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.mapdb.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Compact encoding of a column of doubles and of non negative integers.
+ * <p>
+ * Each double is XORed with the previous one, as consecutive values of a time series are often equal or close, the
+ * result has many leading and trailing zero bits. Only the significant bytes are written, preceded by a header byte
+ * giving the significant and trailing zero byte counts, so that an unchanged value takes 1 byte instead of 8.
+ * Integers are written as variable length integers (7 bits per byte).
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class DoubleXorEncoding {
+
+    private DoubleXorEncoding() {
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    static void writeInts(DataOutput out, int[] values) throws IOException {
+        writeVarInt(out, values.length);
+        for (int value : values) {
+            writeVarInt(out, value);
+        }
+    }
+
+    static int[] readInts(DataInput in) throws IOException {
+        int[] values = new int[readVarInt(in)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readVarInt(in);
+        }
+        return values;
+    }
+
+    static void writeDoubles(DataOutput out, double[] values) throws IOException {
+        writeVarInt(out, values.length);
+        long previousBits = 0;
+        for (double value : values) {
+            // raw bits so that NaN payloads are kept
+            long bits = Double.doubleToRawLongBits(value);
+            long xor = bits ^ previousBits;
+            previousBits = bits;
+            if (xor == 0) {
+                out.writeByte(0);
+            } else {
+                int trailingBytes = Long.numberOfTrailingZeros(xor) / 8;
+                int significantBytes = 8 - Long.numberOfLeadingZeros(xor) / 8 - trailingBytes;
+                out.writeByte((significantBytes << 4) | trailingBytes);
+                long significantBits = xor >>> (8 * trailingBytes);
+                for (int i = significantBytes - 1; i >= 0; i--) {
+                    out.writeByte((int) (significantBits >>> (8 * i)));
+                }
+            }
+        }
+    }
+
+    static double[] readDoubles(DataInput in) throws IOException {
+        double[] values = new double[readVarInt(in)];
+        long previousBits = 0;
+        for (int i = 0; i < values.length; i++) {
+            int header = in.readUnsignedByte();
+            int significantBytes = header >>> 4;
+            int trailingBytes = header & 0xF;
+            if (significantBytes + trailingBytes > 8) {
+                throw new IOException("Malformed XOR encoded double");
+            }
+            long significantBits = 0;
+            for (int j = 0; j < significantBytes; j++) {
+                significantBits = (significantBits << 8) | in.readUnsignedByte();
+            }
+            previousBits ^= significantBits << (8 * trailingBytes);
+            values[i] = Double.longBitsToDouble(previousBits);
+        }
+        return values;
+    }
+}
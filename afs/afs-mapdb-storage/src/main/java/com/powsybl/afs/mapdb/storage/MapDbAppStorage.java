@@ -13,9 +13,11 @@ import com.powsybl.afs.storage.*;
 import com.powsybl.timeseries.*;
 import org.apache.commons.lang3.SystemUtils;
 import org.mapdb.Atomic;
+import org.mapdb.BTreeMap;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.mapdb.Serializer;
+import org.mapdb.serializer.SerializerArrayTuple;
 
 import java.io.*;
 import java.time.ZonedDateTime;
@@ -77,6 +79,12 @@ public class MapDbAppStorage implements AppStorage {
 
     private final ConcurrentMap<TimeSeriesKey, Integer> timeSeriesLastChunkMap;
 
+    /**
+     * Length of each chunk, sorted by (time series key, chunk offset, chunk number), so that chunks overlapping a
+     * point range are found with a floor lookup and chunks out of the range are not deserialized.
+     */
+    private final BTreeMap<Object[], Integer> timeSeriesChunkRangesMap;
+
     private final ConcurrentMap<TimeSeriesChunkKey, DoubleDataChunk> doubleTimeSeriesChunksMap;
 
     private final ConcurrentMap<TimeSeriesChunkKey, StringDataChunk> stringTimeSeriesChunksMap;
@@ -130,6 +138,10 @@ public class MapDbAppStorage implements AppStorage {
                 .hashMap("timeSeriesLastChunkMap", TimeSeriesKeySerializer.INSTANCE, Serializer.INTEGER)
                 .createOrOpen();
 
+        timeSeriesChunkRangesMap = this.db
+                .treeMap("timeSeriesChunkRangesMap", new SerializerArrayTuple(TimeSeriesKeySerializer.INSTANCE, Serializer.INTEGER, Serializer.INTEGER), Serializer.INTEGER)
+                .createOrOpen();
+
         doubleTimeSeriesChunksMap = this.db
                 .hashMap("doubleTimeSeriesChunksMap", TimeSeriesChunkKeySerializer.INSTANCE, DoubleDataChunkSerializer.INSTANCE)
                 .createOrOpen();
@@ -564,6 +576,19 @@ public class MapDbAppStorage implements AppStorage {
                 .collect(Collectors.toSet());
     }
 
+    private static <P extends AbstractPoint, C extends DataChunk<P, C>> C getChunk(TimeSeriesKey key, int chunkNum,
+                                                                                    TimeSeriesMetadata metadata,
+                                                                                    ConcurrentMap<TimeSeriesChunkKey, C> map) {
+        C chunk = map.get(new TimeSeriesChunkKey(key, chunkNum));
+        if (chunk == null) {
+            throw new AssertionError("chunk is null");
+        }
+        if (chunk.getDataType() != metadata.getDataType()) {
+            throw new IllegalStateException("Bad chunk data type");
+        }
+        return chunk;
+    }
+
     private <P extends AbstractPoint, C extends DataChunk<P, C>> List<C> getChunks(UUID nodeId, int version, String timeSeriesName,
                                                                                    TimeSeriesMetadata metadata,
                                                                                    ConcurrentMap<TimeSeriesChunkKey, C> map) {
@@ -574,18 +599,52 @@ public class MapDbAppStorage implements AppStorage {
         }
         List<C> chunks = new ArrayList<>(lastChunkNum + 1);
         for (int chunkNum = 0; chunkNum <= lastChunkNum; chunkNum++) {
-            C chunk = map.get(new TimeSeriesChunkKey(key, chunkNum));
-            if (chunk == null) {
-                throw new AssertionError("chunk is null");
-            }
-            if (chunk.getDataType() != metadata.getDataType()) {
-                throw new IllegalStateException("Bad chunk data type");
+            chunks.add(getChunk(key, chunkNum, metadata, map));
+        }
+        return chunks;
+    }
+
+    private <P extends AbstractPoint, C extends DataChunk<P, C>> List<C> getChunks(UUID nodeId, int version, String timeSeriesName,
+                                                                                   TimeSeriesMetadata metadata,
+                                                                                   ConcurrentMap<TimeSeriesChunkKey, C> map,
+                                                                                   int firstPoint, int lastPoint) {
+        TimeSeriesKey key = new TimeSeriesKey(nodeId, version, timeSeriesName);
+        if (!hasChunkRanges(key)) {
+            // chunks written before range indexing
+            return getChunks(nodeId, version, timeSeriesName, metadata, map).stream()
+                    .filter(chunk -> chunk.overlaps(firstPoint, lastPoint))
+                    .collect(Collectors.toList());
+        }
+        // chunks of a time series do not overlap, so only the last chunk starting before the first point may contain
+        // it, the other chunks of the range start between the first and the last point
+        Object[] fromRange = timeSeriesChunkRangesMap.floorKey(new Object[] {key, firstPoint, Integer.MAX_VALUE});
+        if (fromRange == null || !key.equals(fromRange[0])) {
+            fromRange = new Object[] {key, firstPoint, Integer.MIN_VALUE};
+        }
+        Object[] toRange = new Object[] {key, lastPoint, Integer.MAX_VALUE};
+        List<C> chunks = new ArrayList<>();
+        for (Map.Entry<Object[], Integer> e : timeSeriesChunkRangesMap.subMap(fromRange, true, toRange, true).entrySet()) {
+            int offset = (Integer) e.getKey()[1];
+            int chunkNum = (Integer) e.getKey()[2];
+            int length = e.getValue();
+            if (offset + length > firstPoint) {
+                chunks.add(getChunk(key, chunkNum, metadata, map));
             }
-            chunks.add(chunk);
         }
         return chunks;
     }
 
+    private boolean hasChunkRanges(TimeSeriesKey key) {
+        Object[] firstRange = timeSeriesChunkRangesMap.ceilingKey(new Object[] {key, Integer.MIN_VALUE, Integer.MIN_VALUE});
+        return firstRange != null && key.equals(firstRange[0]);
+    }
+
+    private boolean isDataTypeOf(TimeSeriesMetadata metadata, ConcurrentMap<TimeSeriesChunkKey, ?> map) {
+        return metadata != null &&
+                ((metadata.getDataType() == TimeSeriesDataType.DOUBLE && map == doubleTimeSeriesChunksMap)
+                    || (metadata.getDataType() == TimeSeriesDataType.STRING && map == stringTimeSeriesChunksMap));
+    }
+
     private <P extends AbstractPoint, C extends DataChunk<P, C>>
         Map<String, List<C>> getTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, ConcurrentMap<TimeSeriesChunkKey, C> map) {
         UUID nodeUuid = checkNodeId(nodeId);
@@ -595,9 +654,7 @@ public class MapDbAppStorage implements AppStorage {
         Map<String, List<C>> timeSeriesData = new HashMap<>();
         for (String timeSeriesName : timeSeriesNames) {
             TimeSeriesMetadata metadata = timeSeriesMetadataMap.get(new NamedLink(nodeUuid, timeSeriesName));
-            if (metadata != null &&
-                    ((metadata.getDataType() == TimeSeriesDataType.DOUBLE && map == doubleTimeSeriesChunksMap)
-                        || (metadata.getDataType() == TimeSeriesDataType.STRING && map == stringTimeSeriesChunksMap))) {
+            if (isDataTypeOf(metadata, map)) {
                 List<C> chunks = getChunks(nodeUuid, version, timeSeriesName, metadata, map);
                 timeSeriesData.put(timeSeriesName, chunks);
             }
@@ -605,6 +662,25 @@ public class MapDbAppStorage implements AppStorage {
         return timeSeriesData;
     }
 
+    private <P extends AbstractPoint, C extends DataChunk<P, C>>
+        Map<String, List<C>> getTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version, ConcurrentMap<TimeSeriesChunkKey, C> map,
+                                               int firstPoint, int lastPoint) {
+        UUID nodeUuid = checkNodeId(nodeId);
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        Objects.requireNonNull(map);
+        DataChunk.checkPointRange(firstPoint, lastPoint);
+        Map<String, List<C>> timeSeriesData = new HashMap<>();
+        for (String timeSeriesName : timeSeriesNames) {
+            TimeSeriesMetadata metadata = timeSeriesMetadataMap.get(new NamedLink(nodeUuid, timeSeriesName));
+            if (isDataTypeOf(metadata, map)) {
+                List<C> chunks = getChunks(nodeUuid, version, timeSeriesName, metadata, map, firstPoint, lastPoint);
+                timeSeriesData.put(timeSeriesName, chunks);
+            }
+        }
+        return timeSeriesData;
+    }
+
     private <P extends AbstractPoint, C extends DataChunk<P, C>> void addTimeSeriesData(String nodeId,
                                                                                         int version,
                                                                                         String timeSeriesName,
@@ -626,7 +702,16 @@ public class MapDbAppStorage implements AppStorage {
             }
             timeSeriesLastChunkMap.put(key, num);
             map.put(new TimeSeriesChunkKey(key, num), chunk);
+            addChunkRange(key, num, chunk);
+        }
+    }
+
+    private void addChunkRange(TimeSeriesKey key, int num, DataChunk<?, ?> chunk) {
+        if (num > 0 && !hasChunkRanges(key)) {
+            // chunks written before range indexing, keep on reading all the chunks for this time series
+            return;
         }
+        timeSeriesChunkRangesMap.put(new Object[] {key, chunk.getOffset(), num}, chunk.getLength());
     }
 
     @Override
@@ -634,6 +719,12 @@ public class MapDbAppStorage implements AppStorage {
         return getTimeSeriesData(nodeId, timeSeriesNames, version, doubleTimeSeriesChunksMap);
     }
 
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        return getTimeSeriesData(nodeId, timeSeriesNames, version, doubleTimeSeriesChunksMap, firstPoint, lastPoint);
+    }
+
     @Override
     public void addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
         addTimeSeriesData(nodeId, version, timeSeriesName, chunks, doubleTimeSeriesChunksMap);
@@ -644,6 +735,12 @@ public class MapDbAppStorage implements AppStorage {
         return getTimeSeriesData(nodeId, timeSeriesNames, version, stringTimeSeriesChunksMap);
     }
 
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        return getTimeSeriesData(nodeId, timeSeriesNames, version, stringTimeSeriesChunksMap, firstPoint, lastPoint);
+    }
+
     @Override
     public void addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
         addTimeSeriesData(nodeId, version, timeSeriesName, chunks, stringTimeSeriesChunksMap);
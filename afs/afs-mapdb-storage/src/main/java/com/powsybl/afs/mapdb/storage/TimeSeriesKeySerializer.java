@@ -34,5 +34,18 @@ public class TimeSeriesKeySerializer implements Serializer<TimeSeriesKey>, Seria
         String timeSeriesName = input.readUTF();
         return new TimeSeriesKey(nodeUuid, version, timeSeriesName);
     }
+
+    @Override
+    public int compare(TimeSeriesKey key1, TimeSeriesKey key2) {
+        int c = key1.getNodeUuid().compareTo(key2.getNodeUuid());
+        if (c != 0) {
+            return c;
+        }
+        c = Integer.compare(key1.getVersion(), key2.getVersion());
+        if (c != 0) {
+            return c;
+        }
+        return key1.getTimeSeriesName().compareTo(key2.getTimeSeriesName());
+    }
 }
 
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.mapdb.storage;
+
+import org.junit.Test;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DoubleXorEncodingTest {
+
+    private static byte[] writeDoubles(double[] values) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DoubleXorEncoding.writeDoubles(new DataOutputStream(bos), values);
+        return bos.toByteArray();
+    }
+
+    private static double[] readDoubles(byte[] bytes) throws IOException {
+        return DoubleXorEncoding.readDoubles(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    public void doublesTest() throws IOException {
+        Random random = new Random(0);
+        double[] values = new double[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+        values[10] = Double.NaN;
+        values[11] = Double.NaN;
+        values[12] = Double.POSITIVE_INFINITY;
+        values[13] = -0d;
+        values[14] = 0d;
+        values[15] = Double.MIN_VALUE;
+        double[] values2 = readDoubles(writeDoubles(values));
+        assertEquals(values.length, values2.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.doubleToRawLongBits(values[i]), Double.doubleToRawLongBits(values2[i]));
+        }
+        assertEquals(0, readDoubles(writeDoubles(new double[0])).length);
+    }
+
+    @Test
+    public void sizeTest() throws IOException {
+        // 15 minutes load curve with 2 digits, as stored in practice: much smaller than 8 bytes per value
+        int pointCount = 4 * 24 * 365;
+        double[] values = new double[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            values[i] = Math.round(100 * (1000 + 200 * Math.sin(2 * Math.PI * i / 96))) / 100d;
+        }
+        byte[] bytes = writeDoubles(values);
+        assertArrayEquals(values, readDoubles(bytes), 0d);
+        assertTrue(bytes.length < pointCount * 8);
+
+        // constant values take one byte
+        double[] constantValues = new double[pointCount];
+        Arrays.fill(constantValues, 1.5);
+        assertTrue(writeDoubles(constantValues).length < pointCount + 16);
+    }
+
+    @Test
+    public void intsTest() throws IOException {
+        int[] values = {0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE};
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DoubleXorEncoding.writeInts(new DataOutputStream(bos), values);
+        assertArrayEquals(values, DoubleXorEncoding.readInts(new DataInputStream(new ByteArrayInputStream(bos.toByteArray()))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIntTest() throws IOException {
+        DoubleXorEncoding.writeVarInt(new DataOutputStream(new ByteArrayOutputStream()), -1);
+    }
+}
@@ -10,10 +10,8 @@ import com.powsybl.timeseries.*;
 
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  *
@@ -59,6 +57,24 @@ public interface AppStorage extends AutoCloseable {
      */
     List<NodeInfo> getChildNodes(String nodeId);
 
+    /**
+     * Gets {@code NodeInfo} for child nodes of the node with ID {@code nodeId} and of all its descendants, indexed by
+     * parent node ID. Remote storages should override it to get the whole subtree in one request.
+     */
+    default Map<String, List<NodeInfo>> getChildNodesRecursively(String nodeId) {
+        Objects.requireNonNull(nodeId);
+        Map<String, List<NodeInfo>> childNodesByParent = new HashMap<>();
+        Deque<String> nodeIds = new ArrayDeque<>();
+        nodeIds.push(nodeId);
+        while (!nodeIds.isEmpty()) {
+            String parentNodeId = nodeIds.pop();
+            List<NodeInfo> childNodes = getChildNodes(parentNodeId);
+            childNodesByParent.put(parentNodeId, childNodes);
+            childNodes.forEach(childNode -> nodeIds.push(childNode.getId()));
+        }
+        return childNodesByParent;
+    }
+
     /**
      * Gets {@code NodeInfo} for child node with name {@code name} of the node with ID {@code nodeId}, empty if such a node does not exist.
      */
@@ -148,6 +164,22 @@ public interface AppStorage extends AutoCloseable {
      */
     Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
 
+    /**
+     * Gets data (double) for the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId},
+     * restricted to the chunks overlapping the point range [{@code firstPoint}, {@code lastPoint}]. Chunks are not split,
+     * so they may contain points outside of the range. A time interval can be converted to a point range using the
+     * index of the time series metadata.
+     */
+    default Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                       int firstPoint, int lastPoint) {
+        DataChunk.checkPointRange(firstPoint, lastPoint);
+        Map<String, List<DoubleDataChunk>> timeSeriesData = new HashMap<>(getDoubleTimeSeriesData(nodeId, timeSeriesNames, version));
+        timeSeriesData.replaceAll((timeSeriesName, chunks) -> chunks.stream()
+                .filter(chunk -> chunk.overlaps(firstPoint, lastPoint))
+                .collect(Collectors.toList()));
+        return timeSeriesData;
+    }
+
     /**
      * Adds data (double) to the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId}.
      */
@@ -158,6 +190,20 @@ public interface AppStorage extends AutoCloseable {
      */
     Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version);
 
+    /**
+     * Gets data (string) for the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId},
+     * restricted to the chunks overlapping the point range [{@code firstPoint}, {@code lastPoint}].
+     */
+    default Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                       int firstPoint, int lastPoint) {
+        DataChunk.checkPointRange(firstPoint, lastPoint);
+        Map<String, List<StringDataChunk>> timeSeriesData = new HashMap<>(getStringTimeSeriesData(nodeId, timeSeriesNames, version));
+        timeSeriesData.replaceAll((timeSeriesName, chunks) -> chunks.stream()
+                .filter(chunk -> chunk.overlaps(firstPoint, lastPoint))
+                .collect(Collectors.toList()));
+        return timeSeriesData;
+    }
+
     /**
      * Adds data (string) to the time series with names {@code timeSeriesNames} associated with node with ID {@code nodeId}.
      */
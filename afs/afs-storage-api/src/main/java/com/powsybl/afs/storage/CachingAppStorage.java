@@ -0,0 +1,388 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.afs.storage.events.*;
+import com.powsybl.timeseries.DoubleDataChunk;
+import com.powsybl.timeseries.StringDataChunk;
+import com.powsybl.timeseries.TimeSeriesMetadata;
+
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A storage implementation which caches node infos, child nodes, parent nodes and dependencies of another underlying,
+ * wrapped, storage, typically a remote one, so that walking through the node tree does not need a request for each
+ * node.
+ * <p>
+ * Caches are LRU bounded and kept up to date using the events of the underlying storage, so that changes made by
+ * other clients are taken into account, and also directly on changes made through this storage. A value loaded
+ * while the caches are invalidated may be stale, it is returned but not kept.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class CachingAppStorage extends ForwardingAppStorage implements ListenableAppStorage {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final ListenableAppStorage storage;
+
+    private final Cache<String, NodeInfo> nodeInfos;
+
+    private final Cache<String, List<NodeInfo>> childNodes;
+
+    private final Cache<String, Optional<NodeInfo>> parentNodes;
+
+    private final Cache<String, Set<NodeDependency>> dependencies;
+
+    private final Cache<String, Set<NodeInfo>> backwardDependencies;
+
+    /**
+     * Incremented before each invalidation, so that loads running concurrently can detect it.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Listeners of the underlying storage are weakly referenced, so the listener has to be kept here.
+     */
+    private final AppStorageListener invalidator = this::onEvents;
+
+    public CachingAppStorage(ListenableAppStorage storage) {
+        this(storage, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize maximum number of entries of each cache
+     */
+    public CachingAppStorage(ListenableAppStorage storage, int maximumSize) {
+        super(storage);
+        this.storage = storage;
+        nodeInfos = createCache(maximumSize);
+        childNodes = createCache(maximumSize);
+        parentNodes = createCache(maximumSize);
+        dependencies = createCache(maximumSize);
+        backwardDependencies = createCache(maximumSize);
+        storage.addListener(invalidator);
+    }
+
+    private static <V> Cache<String, V> createCache(int maximumSize) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    private <V> V get(Cache<String, V> cache, String nodeId, Callable<V> loader) {
+        Objects.requireNonNull(nodeId);
+        long loadGeneration = generation.get();
+        V value;
+        try {
+            value = cache.get(nodeId, loader);
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            // do not wrap exceptions of the underlying storage
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        removeIfInvalidated(cache, nodeId, value, loadGeneration);
+        return value;
+    }
+
+    /**
+     * An invalidation during a load may have been missed by the loaded value, which is then removed.
+     */
+    private <V> void removeIfInvalidated(Cache<String, V> cache, String nodeId, V value, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            cache.asMap().remove(nodeId, value);
+        }
+    }
+
+    private <V> void invalidate(Cache<String, V> cache, String nodeId) {
+        generation.incrementAndGet();
+        cache.invalidate(nodeId);
+    }
+
+    private <V> void removeIf(Cache<String, V> cache, Predicate<V> predicate) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(predicate);
+    }
+
+    private static boolean isNode(NodeInfo nodeInfo, String nodeId) {
+        return nodeInfo.getId().equals(nodeId);
+    }
+
+    /**
+     * Node info is duplicated in child node lists, parent nodes and dependencies, all copies have to be invalidated.
+     */
+    private void invalidateNodeInfo(String nodeId) {
+        invalidate(nodeInfos, nodeId);
+        removeIf(childNodes, nodes -> nodes.stream().anyMatch(nodeInfo -> isNode(nodeInfo, nodeId)));
+        removeIf(parentNodes, parentNode -> parentNode.map(nodeInfo -> isNode(nodeInfo, nodeId)).orElse(false));
+        removeIf(dependencies, nodes -> nodes.stream().anyMatch(dependency -> isNode(dependency.getNodeInfo(), nodeId)));
+        removeIf(backwardDependencies, nodes -> nodes.stream().anyMatch(nodeInfo -> isNode(nodeInfo, nodeId)));
+    }
+
+    private void invalidateRemovedNode(String nodeId, String parentNodeId) {
+        invalidateNodeInfo(nodeId);
+        invalidate(childNodes, nodeId);
+        invalidate(parentNodes, nodeId);
+        invalidate(dependencies, nodeId);
+        invalidate(backwardDependencies, nodeId);
+        if (parentNodeId != null) {
+            invalidate(childNodes, parentNodeId);
+        }
+    }
+
+    private void invalidateParentChange(String nodeId) {
+        invalidateNodeInfo(nodeId);
+        invalidate(parentNodes, nodeId);
+        // new parent is not known
+        generation.incrementAndGet();
+        childNodes.invalidateAll();
+    }
+
+    private void onEvent(NodeEvent event) {
+        String nodeId = event.getId();
+        switch (event.getType()) {
+            case NODE_CREATED:
+                String parentNodeId = ((NodeCreated) event).getParentId();
+                if (parentNodeId != null) {
+                    invalidate(childNodes, parentNodeId);
+                }
+                break;
+            case NODE_REMOVED:
+                invalidateRemovedNode(nodeId, ((NodeRemoved) event).getParentId());
+                break;
+            case PARENT_CHANGED:
+                invalidateParentChange(nodeId);
+                break;
+            case DEPENDENCY_ADDED:
+            case DEPENDENCY_REMOVED:
+                invalidate(dependencies, nodeId);
+                break;
+            case BACKWARD_DEPENDENCY_ADDED:
+            case BACKWARD_DEPENDENCY_REMOVED:
+                invalidate(backwardDependencies, nodeId);
+                break;
+            default:
+                // name, description or modification time may have changed
+                invalidateNodeInfo(nodeId);
+                break;
+        }
+    }
+
+    private void onEvents(NodeEventList eventList) {
+        eventList.getEvents().forEach(this::onEvent);
+    }
+
+    /**
+     * Get hit and miss statistics summed over all the caches.
+     */
+    public CacheStats getStats() {
+        return nodeInfos.stats()
+                .plus(childNodes.stats())
+                .plus(parentNodes.stats())
+                .plus(dependencies.stats())
+                .plus(backwardDependencies.stats());
+    }
+
+    /**
+     * Clear all the caches.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        nodeInfos.invalidateAll();
+        childNodes.invalidateAll();
+        parentNodes.invalidateAll();
+        dependencies.invalidateAll();
+        backwardDependencies.invalidateAll();
+    }
+
+    @Override
+    public NodeInfo getNodeInfo(String nodeId) {
+        return get(nodeInfos, nodeId, () -> super.getNodeInfo(nodeId));
+    }
+
+    @Override
+    public List<NodeInfo> getChildNodes(String nodeId) {
+        return get(childNodes, nodeId, () -> ImmutableList.copyOf(super.getChildNodes(nodeId)));
+    }
+
+    @Override
+    public Map<String, List<NodeInfo>> getChildNodesRecursively(String nodeId) {
+        long loadGeneration = generation.get();
+        Map<String, List<NodeInfo>> childNodesByParent = super.getChildNodesRecursively(nodeId);
+        childNodesByParent.forEach((parentNodeId, nodes) -> {
+            List<NodeInfo> value = ImmutableList.copyOf(nodes);
+            childNodes.put(parentNodeId, value);
+            removeIfInvalidated(childNodes, parentNodeId, value, loadGeneration);
+        });
+        return childNodesByParent;
+    }
+
+    @Override
+    public Optional<NodeInfo> getChildNode(String nodeId, String name) {
+        Objects.requireNonNull(name);
+        return getChildNodes(nodeId).stream()
+                .filter(nodeInfo -> nodeInfo.getName().equals(name))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<NodeInfo> getParentNode(String nodeId) {
+        return get(parentNodes, nodeId, () -> super.getParentNode(nodeId));
+    }
+
+    @Override
+    public Set<NodeDependency> getDependencies(String nodeId) {
+        return get(dependencies, nodeId, () -> ImmutableSet.copyOf(super.getDependencies(nodeId)));
+    }
+
+    @Override
+    public Set<NodeInfo> getDependencies(String nodeId, String name) {
+        Objects.requireNonNull(name);
+        return getDependencies(nodeId).stream()
+                .filter(dependency -> dependency.getName().equals(name))
+                .map(NodeDependency::getNodeInfo)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Set<NodeInfo> getBackwardDependencies(String nodeId) {
+        return get(backwardDependencies, nodeId, () -> ImmutableSet.copyOf(super.getBackwardDependencies(nodeId)));
+    }
+
+    @Override
+    public NodeInfo createNode(String parentNodeId, String name, String nodePseudoClass, String description, int version, NodeGenericMetadata genericMetadata) {
+        NodeInfo nodeInfo = super.createNode(parentNodeId, name, nodePseudoClass, description, version, genericMetadata);
+        invalidate(childNodes, parentNodeId);
+        return nodeInfo;
+    }
+
+    @Override
+    public void setDescription(String nodeId, String description) {
+        super.setDescription(nodeId, description);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void updateModificationTime(String nodeId) {
+        super.updateModificationTime(nodeId);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void renameNode(String nodeId, String name) {
+        super.renameNode(nodeId, name);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void setParentNode(String nodeId, String newParentNodeId) {
+        super.setParentNode(nodeId, newParentNodeId);
+        invalidateNodeInfo(nodeId);
+        invalidate(parentNodes, nodeId);
+        invalidate(childNodes, newParentNodeId);
+    }
+
+    @Override
+    public String deleteNode(String nodeId) {
+        String parentNodeId = super.deleteNode(nodeId);
+        invalidateRemovedNode(nodeId, parentNodeId);
+        return parentNodeId;
+    }
+
+    @Override
+    public OutputStream writeBinaryData(String nodeId, String name) {
+        OutputStream os = super.writeBinaryData(nodeId, name);
+        invalidateNodeInfo(nodeId);
+        return os;
+    }
+
+    @Override
+    public boolean removeData(String nodeId, String name) {
+        boolean removed = super.removeData(nodeId, name);
+        invalidateNodeInfo(nodeId);
+        return removed;
+    }
+
+    @Override
+    public void createTimeSeries(String nodeId, TimeSeriesMetadata metadata) {
+        super.createTimeSeries(nodeId, metadata);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
+        super.addDoubleTimeSeriesData(nodeId, version, timeSeriesName, chunks);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
+        super.addStringTimeSeriesData(nodeId, version, timeSeriesName, chunks);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void clearTimeSeries(String nodeId) {
+        super.clearTimeSeries(nodeId);
+        invalidateNodeInfo(nodeId);
+    }
+
+    @Override
+    public void addDependency(String nodeId, String name, String toNodeId) {
+        super.addDependency(nodeId, name, toNodeId);
+        invalidate(dependencies, nodeId);
+        invalidate(backwardDependencies, toNodeId);
+    }
+
+    @Override
+    public void removeDependency(String nodeId, String name, String toNodeId) {
+        super.removeDependency(nodeId, name, toNodeId);
+        invalidate(dependencies, nodeId);
+        invalidate(backwardDependencies, toNodeId);
+    }
+
+    @Override
+    public void addListener(AppStorageListener l) {
+        storage.addListener(l);
+    }
+
+    @Override
+    public void removeListener(AppStorageListener l) {
+        storage.removeListener(l);
+    }
+
+    @Override
+    public void removeListeners() {
+        storage.removeListeners();
+        // cache has to be kept up to date
+        storage.addListener(invalidator);
+    }
+
+    @Override
+    public void close() {
+        storage.removeListener(invalidator);
+        invalidateAll();
+        super.close();
+    }
+}
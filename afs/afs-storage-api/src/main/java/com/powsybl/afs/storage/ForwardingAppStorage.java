@@ -72,6 +72,11 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getChildNodes(nodeId);
     }
 
+    @Override
+    public Map<String, List<NodeInfo>> getChildNodesRecursively(String nodeId) {
+        return storage.getChildNodesRecursively(nodeId);
+    }
+
     @Override
     public Optional<NodeInfo> getChildNode(String nodeId, String name) {
         return storage.getChildNode(nodeId, name);
@@ -157,6 +162,12 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
     }
 
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        return storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, firstPoint, lastPoint);
+    }
+
     @Override
     public void addDoubleTimeSeriesData(String nodeId, int version, String timeSeriesName, List<DoubleDataChunk> chunks) {
         storage.addDoubleTimeSeriesData(nodeId, version, timeSeriesName, chunks);
@@ -167,6 +178,12 @@ public class ForwardingAppStorage implements AppStorage {
         return storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
     }
 
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        return storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version, firstPoint, lastPoint);
+    }
+
     @Override
     public void addStringTimeSeriesData(String nodeId, int version, String timeSeriesName, List<StringDataChunk> chunks) {
         storage.addStringTimeSeriesData(nodeId, version, timeSeriesName, chunks);
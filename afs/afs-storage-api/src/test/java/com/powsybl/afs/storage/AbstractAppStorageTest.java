@@ -178,6 +178,12 @@ public abstract class AbstractAppStorageTest {
         // check test folder has 3 children
         assertEquals(3, storage.getChildNodes(testFolderInfo.getId()).size());
 
+        // check child nodes of the whole test folder subtree
+        Map<String, List<NodeInfo>> childNodesRecursively = storage.getChildNodesRecursively(testFolderInfo.getId());
+        assertEquals(4, childNodesRecursively.size());
+        assertEquals(storage.getChildNodes(testFolderInfo.getId()), childNodesRecursively.get(testFolderInfo.getId()));
+        assertTrue(childNodesRecursively.get(testData2Info.getId()).isEmpty());
+
         // check data nodes initial dependency state
         assertTrue(storage.getDependencies(testDataInfo.getId()).isEmpty());
         assertTrue(storage.getDependencies(testData2Info.getId()).isEmpty());
@@ -387,6 +393,13 @@ public abstract class AbstractAppStorageTest {
                      doubleTimeSeriesData.get("ts1"));
         assertTrue(storage.getDoubleTimeSeriesData(testData3Info.getId(), Sets.newHashSet("ts1"), 0).isEmpty());
 
+        // check double time series data range query
+        assertEquals(Collections.singletonList(new UncompressedDoubleDataChunk(5, new double[] {3d})),
+                     storage.getDoubleTimeSeriesData(testData2Info.getId(), Sets.newHashSet("ts1"), 0, 4, 10).get("ts1"));
+        assertEquals(Collections.singletonList(new UncompressedDoubleDataChunk(2, new double[] {1d, 2d})),
+                     storage.getDoubleTimeSeriesData(testData2Info.getId(), Sets.newHashSet("ts1"), 0, 0, 3).get("ts1"));
+        assertTrue(storage.getDoubleTimeSeriesData(testData2Info.getId(), Sets.newHashSet("ts1"), 0, 6, 10).get("ts1").isEmpty());
+
         // 15) create a second string time series
         TimeSeriesMetadata metadata2 = new TimeSeriesMetadata("ts2",
                                                               TimeSeriesDataType.STRING,
@@ -419,6 +432,10 @@ public abstract class AbstractAppStorageTest {
                                    new UncompressedStringDataChunk(5, new String[] {"c"})),
                      stringTimeSeriesData.get("ts2"));
 
+        // check string time series data range query
+        assertEquals(Collections.singletonList(new UncompressedStringDataChunk(5, new String[] {"c"})),
+                     storage.getStringTimeSeriesData(testData2Info.getId(), Sets.newHashSet("ts2"), 0, 5, 5).get("ts2"));
+
         // 17) clear time series
         storage.clearTimeSeries(testData2Info.getId());
         storage.flush();
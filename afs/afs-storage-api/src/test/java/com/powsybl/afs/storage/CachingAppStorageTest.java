@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.storage;
+
+import com.powsybl.afs.storage.events.AppStorageListener;
+import com.powsybl.afs.storage.events.NodeCreated;
+import com.powsybl.afs.storage.events.NodeDescriptionUpdated;
+import com.powsybl.afs.storage.events.NodeEventList;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class CachingAppStorageTest {
+
+    private ListenableAppStorage storage;
+
+    private AppStorageListener invalidator;
+
+    private CachingAppStorage cachingStorage;
+
+    private final NodeInfo rootInfo = new NodeInfo("root", "root", "folder", "", 0, 0, 0, new NodeGenericMetadata());
+
+    private final NodeInfo nodeInfo = new NodeInfo("node", "node", "folder", "", 0, 0, 0, new NodeGenericMetadata());
+
+    @Before
+    public void setUp() {
+        storage = Mockito.mock(ListenableAppStorage.class);
+        Mockito.when(storage.getNodeInfo("node")).thenReturn(nodeInfo);
+        Mockito.when(storage.getChildNodes("root")).thenReturn(Collections.singletonList(nodeInfo));
+        Mockito.when(storage.getParentNode("node")).thenReturn(Optional.of(rootInfo));
+        Mockito.when(storage.getDependencies("node")).thenReturn(Collections.emptySet());
+
+        cachingStorage = new CachingAppStorage(storage);
+
+        ArgumentCaptor<AppStorageListener> listenerCaptor = ArgumentCaptor.forClass(AppStorageListener.class);
+        Mockito.verify(storage).addListener(listenerCaptor.capture());
+        invalidator = listenerCaptor.getValue();
+    }
+
+    @Test
+    public void test() {
+        assertSame(nodeInfo, cachingStorage.getNodeInfo("node"));
+        assertSame(nodeInfo, cachingStorage.getNodeInfo("node"));
+        assertEquals(Collections.singletonList(nodeInfo), cachingStorage.getChildNodes("root"));
+        assertEquals(Optional.of(nodeInfo), cachingStorage.getChildNode("root", "node"));
+        assertFalse(cachingStorage.getChildNode("root", "other").isPresent());
+        assertEquals(Optional.of(rootInfo), cachingStorage.getParentNode("node"));
+        assertTrue(cachingStorage.getDependencies("node", "a").isEmpty());
+        assertTrue(cachingStorage.getDependencies("node").isEmpty());
+        Mockito.verify(storage, Mockito.times(1)).getNodeInfo("node");
+        Mockito.verify(storage, Mockito.times(1)).getChildNodes("root");
+        Mockito.verify(storage, Mockito.never()).getChildNode(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(storage, Mockito.times(1)).getDependencies("node");
+        assertEquals(4, cachingStorage.getStats().hitCount());
+        assertEquals(4, cachingStorage.getStats().missCount());
+
+        // a change of the node invalidates its info and the child list of its parent
+        invalidator.onEvents(new NodeEventList(new NodeDescriptionUpdated("node", "hello")));
+        cachingStorage.getNodeInfo("node");
+        cachingStorage.getChildNodes("root");
+        assertEquals(Optional.of(rootInfo), cachingStorage.getParentNode("node"));
+        Mockito.verify(storage, Mockito.times(2)).getNodeInfo("node");
+        Mockito.verify(storage, Mockito.times(2)).getChildNodes("root");
+        Mockito.verify(storage, Mockito.times(1)).getParentNode("node");
+
+        // a node creation invalidates the child list of its parent
+        invalidator.onEvents(new NodeEventList(new NodeCreated("node2", "root")));
+        cachingStorage.getChildNodes("root");
+        cachingStorage.getNodeInfo("node");
+        Mockito.verify(storage, Mockito.times(3)).getChildNodes("root");
+        Mockito.verify(storage, Mockito.times(2)).getNodeInfo("node");
+
+        // changes made through the cache are taken into account without waiting for events
+        cachingStorage.deleteNode("node");
+        cachingStorage.getNodeInfo("node");
+        cachingStorage.getParentNode("node");
+        Mockito.verify(storage, Mockito.times(3)).getNodeInfo("node");
+        Mockito.verify(storage, Mockito.times(2)).getParentNode("node");
+
+        cachingStorage.invalidateAll();
+        cachingStorage.getChildNodes("root");
+        Mockito.verify(storage, Mockito.times(4)).getChildNodes("root");
+    }
+
+    @Test
+    public void eventDuringLoadTest() {
+        NodeInfo updatedNodeInfo = new NodeInfo("node", "node", "folder", "hello", 0, 0, 0, new NodeGenericMetadata());
+        Mockito.when(storage.getNodeInfo("node"))
+                .thenAnswer(invocation -> {
+                    // the node is updated by another client while its info is being loaded
+                    invalidator.onEvents(new NodeEventList(new NodeDescriptionUpdated("node", "hello")));
+                    return nodeInfo;
+                })
+                .thenReturn(updatedNodeInfo);
+
+        // the value loaded during the event is returned but not cached
+        assertSame(nodeInfo, cachingStorage.getNodeInfo("node"));
+        assertSame(updatedNodeInfo, cachingStorage.getNodeInfo("node"));
+        assertSame(updatedNodeInfo, cachingStorage.getNodeInfo("node"));
+        Mockito.verify(storage, Mockito.times(2)).getNodeInfo("node");
+    }
+
+    @Test
+    public void listenerTest() {
+        AppStorageListener l = eventList -> { };
+        cachingStorage.addListener(l);
+        Mockito.verify(storage).addListener(l);
+        cachingStorage.removeListener(l);
+        Mockito.verify(storage).removeListener(l);
+
+        // cache invalidation listener is kept
+        cachingStorage.removeListeners();
+        Mockito.verify(storage).removeListeners();
+        Mockito.verify(storage, Mockito.times(2)).addListener(invalidator);
+    }
+}
@@ -27,6 +27,10 @@ public class RemoteServiceConfig {
 
     private boolean secure;
 
+    private boolean pipelined = false;
+
+    private int nodeCacheSize = 0;
+
     public RemoteServiceConfig(String hostName, String appName, int port, boolean secure) {
         this.hostName = Objects.requireNonNull(hostName);
         this.appName = Objects.requireNonNull(appName);
@@ -45,7 +49,11 @@ public class RemoteServiceConfig {
             String appName = moduleConfig.getStringProperty("app-name");
             boolean secure = moduleConfig.getBooleanProperty("secure", true);
             int port = moduleConfig.getIntProperty("port", secure ? 443 : 80);
-            return new RemoteServiceConfig(hostName, appName, port, secure);
+            boolean pipelined = moduleConfig.getBooleanProperty("pipelined", false);
+            int nodeCacheSize = moduleConfig.getIntProperty("node-cache-size", 0);
+            return new RemoteServiceConfig(hostName, appName, port, secure)
+                    .setPipelined(pipelined)
+                    .setNodeCacheSize(nodeCacheSize);
         });
     }
 
@@ -92,6 +100,30 @@ public class RemoteServiceConfig {
         return this;
     }
 
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    public RemoteServiceConfig setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+        return this;
+    }
+
+    /**
+     * Maximum number of node infos, child node lists... cached on client side, 0 to disable the cache.
+     */
+    public int getNodeCacheSize() {
+        return nodeCacheSize;
+    }
+
+    public RemoteServiceConfig setNodeCacheSize(int nodeCacheSize) {
+        if (nodeCacheSize < 0) {
+            throw new IllegalArgumentException("Invalid node cache size: " + nodeCacheSize);
+        }
+        this.nodeCacheSize = nodeCacheSize;
+        return this;
+    }
+
     public URI getRestUri() {
         try {
             return new URI(secure ? "https" : "http", null, hostName, port, "/" + appName, null, null);
@@ -110,6 +142,7 @@ public class RemoteServiceConfig {
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + "(hostName=" + hostName + ", appName=" + appName + ", port=" + port + ", secure=" + secure + ")";
+        return getClass().getSimpleName() + "(hostName=" + hostName + ", appName=" + appName + ", port=" + port + ", secure=" + secure + ", pipelined=" + pipelined
+                + ", nodeCacheSize=" + nodeCacheSize + ")";
     }
 }
@@ -24,5 +24,11 @@ public class RemoteServiceConfigTest {
         RemoteServiceConfig config2 = new RemoteServiceConfig("host", "test", 80, false);
         assertEquals("http://host:80/test", config2.getRestUri().toString());
         assertEquals("ws://host:80/test", config2.getWsUri().toString());
+
+        assertFalse(config2.isPipelined());
+        assertTrue(config2.setPipelined(true).isPipelined());
+
+        assertEquals(0, config2.getNodeCacheSize());
+        assertEquals(1000, config2.setNodeCacheSize(1000).getNodeCacheSize());
     }
 }
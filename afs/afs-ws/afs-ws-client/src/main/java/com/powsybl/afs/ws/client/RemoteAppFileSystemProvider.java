@@ -11,6 +11,8 @@ import com.google.common.base.Supplier;
 import com.powsybl.afs.AppFileSystem;
 import com.powsybl.afs.AppFileSystemProvider;
 import com.powsybl.afs.AppFileSystemProviderContext;
+import com.powsybl.afs.storage.CachingAppStorage;
+import com.powsybl.afs.storage.ListenableAppStorage;
 import com.powsybl.afs.ws.client.utils.RemoteServiceConfig;
 import com.powsybl.afs.ws.storage.RemoteAppStorage;
 import com.powsybl.afs.ws.storage.RemoteListenableAppStorage;
@@ -51,11 +53,16 @@ public class RemoteAppFileSystemProvider implements AppFileSystemProvider {
         Optional<RemoteServiceConfig> config = configSupplier.get();
         if (config.isPresent()) {
             URI uri = config.get().getRestUri();
+            boolean pipelined = config.get().isPipelined();
+            int nodeCacheSize = config.get().getNodeCacheSize();
             try {
                 return RemoteAppStorage.getFileSystemNames(uri, context.getToken()).stream()
                         .map(fileSystemName -> {
-                            RemoteAppStorage storage = new RemoteAppStorage(fileSystemName, uri, context.getToken());
-                            RemoteListenableAppStorage listenableStorage = new RemoteListenableAppStorage(storage, uri);
+                            RemoteAppStorage storage = new RemoteAppStorage(fileSystemName, uri, context.getToken(), pipelined);
+                            ListenableAppStorage listenableStorage = new RemoteListenableAppStorage(storage, uri);
+                            if (nodeCacheSize > 0) {
+                                listenableStorage = new CachingAppStorage(listenableStorage, nodeCacheSize);
+                            }
                             RemoteTaskMonitor taskMonitor = new RemoteTaskMonitor(fileSystemName, uri, context.getToken());
                             return new AppFileSystem(fileSystemName, true, listenableStorage, taskMonitor);
                         })
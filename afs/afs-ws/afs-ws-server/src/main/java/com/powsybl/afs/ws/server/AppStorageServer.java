@@ -87,6 +87,19 @@ public class AppStorageServer {
         return Response.ok().entity(childNodes).build();
     }
 
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Path("fileSystems/{fileSystemName}/nodes/{nodeId}/descendants")
+    @Compress
+    @ApiOperation (value = "Get child nodes of all the nodes of a subtree", response = Map.class)
+    @ApiResponses (value = {@ApiResponse(code = 200, message = "The child nodes indexed by parent node ID"), @ApiResponse(code = 500, message = "Error")})
+    public Response getChildNodesRecursively(@ApiParam(value = "File system name") @PathParam("fileSystemName") String fileSystemName,
+                                             @ApiParam(value = "Subtree root node ID") @PathParam("nodeId") String nodeId) {
+        AppStorage storage = appDataBean.getStorage(fileSystemName);
+        Map<String, List<NodeInfo>> childNodes = storage.getChildNodesRecursively(nodeId);
+        return Response.ok().header(HttpHeaders.CONTENT_ENCODING, "gzip").entity(childNodes).build();
+    }
+
     @POST
     @Consumes(MediaType.APPLICATION_JSON)
     @Produces(MediaType.APPLICATION_JSON)
@@ -490,9 +503,13 @@ public class AppStorageServer {
     public Response getDoubleTimeSeriesData(@ApiParam(value = "File system name") @PathParam("fileSystemName") String fileSystemName,
                                             @ApiParam(value = "Node ID") @PathParam("nodeId") String nodeId,
                                             @ApiParam(value = "Version") @PathParam("version") int version,
+                                            @ApiParam(value = "First point of the range") @QueryParam("firstPoint") Integer firstPoint,
+                                            @ApiParam(value = "Last point of the range") @QueryParam("lastPoint") Integer lastPoint,
                                             @ApiParam(value = "Set time series names") Set<String> timeSeriesNames) {
         AppStorage storage = appDataBean.getStorage(fileSystemName);
-        Map<String, List<DoubleDataChunk>> timeSeriesData = storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
+        Map<String, List<DoubleDataChunk>> timeSeriesData = firstPoint != null && lastPoint != null
+                ? storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version, firstPoint, lastPoint)
+                : storage.getDoubleTimeSeriesData(nodeId, timeSeriesNames, version);
         return Response.ok()
                 .header(HttpHeaders.CONTENT_ENCODING, "gzip")
                 .entity(timeSeriesData)
@@ -524,9 +541,13 @@ public class AppStorageServer {
     public Response getStringTimeSeriesData(@ApiParam(value = "File system name") @PathParam("fileSystemName") String fileSystemName,
                                             @ApiParam(value = "Node ID") @PathParam("nodeId") String nodeId,
                                             @ApiParam(value = "Version") @PathParam("version") int version,
+                                            @ApiParam(value = "First point of the range") @QueryParam("firstPoint") Integer firstPoint,
+                                            @ApiParam(value = "Last point of the range") @QueryParam("lastPoint") Integer lastPoint,
                                             @ApiParam(value = "Set time series names") Set<String> timeSeriesNames) {
         AppStorage storage = appDataBean.getStorage(fileSystemName);
-        Map<String, List<StringDataChunk>> timeSeriesData = storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
+        Map<String, List<StringDataChunk>> timeSeriesData = firstPoint != null && lastPoint != null
+                ? storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version, firstPoint, lastPoint)
+                : storage.getStringTimeSeriesData(nodeId, timeSeriesNames, version);
         return Response.ok()
                 .header(HttpHeaders.CONTENT_ENCODING, "gzip")
                 .entity(timeSeriesData)
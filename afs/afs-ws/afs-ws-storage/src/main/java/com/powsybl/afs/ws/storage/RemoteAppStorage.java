@@ -13,6 +13,7 @@ import com.powsybl.afs.storage.NodeDependency;
 import com.powsybl.afs.storage.NodeGenericMetadata;
 import com.powsybl.afs.storage.NodeInfo;
 import com.powsybl.afs.storage.buffer.StorageChangeBuffer;
+import com.powsybl.afs.storage.buffer.StorageChangeSet;
 import com.powsybl.afs.ws.client.utils.ClientUtils;
 import com.powsybl.afs.ws.utils.AfsRestApi;
 import com.powsybl.afs.ws.utils.JsonProvider;
@@ -21,6 +22,7 @@ import com.powsybl.afs.ws.utils.gzip.WriterInterceptorGzipCli;
 import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.io.ForwardingInputStream;
 import com.powsybl.commons.io.ForwardingOutputStream;
+import com.powsybl.timeseries.DataChunk;
 import com.powsybl.timeseries.DoubleDataChunk;
 import com.powsybl.timeseries.StringDataChunk;
 import com.powsybl.timeseries.TimeSeriesMetadata;
@@ -51,9 +53,12 @@ public class RemoteAppStorage implements AppStorage {
 
     private static final int BUFFER_MAXIMUM_CHANGE = 1000;
     private static final long BUFFER_MAXIMUM_SIZE = Math.round(Math.pow(2, 20)); // 1Mo
+    private static final int PIPELINE_MAXIMUM_PENDING_REQUESTS = 100;
     private static final String FILE_SYSTEM_NAME = "fileSystemName";
     private static final String NODE_ID = "nodeId";
     private static final String VERSION = "version";
+    private static final String FIRST_POINT = "firstPoint";
+    private static final String LAST_POINT = "lastPoint";
     private static final String NODE_DATA_PATH = "fileSystems/{fileSystemName}/nodes/{nodeId}/data/{name}";
 
     private final Client client;
@@ -64,6 +69,11 @@ public class RemoteAppStorage implements AppStorage {
 
     private final StorageChangeBuffer changeBuffer;
 
+    /**
+     * Null if changes are sent synchronously.
+     */
+    private final RequestPipeline pipeline;
+
     private String token;
 
     private boolean closed = false;
@@ -73,8 +83,18 @@ public class RemoteAppStorage implements AppStorage {
     }
 
     public RemoteAppStorage(String fileSystemName, URI baseUri, String token) {
+        this(fileSystemName, baseUri, token, false);
+    }
+
+    /**
+     * @param pipelined if true, changes which do not return anything are sent asynchronously in order, without
+     *                  waiting for the server response before sending the next ones. Failures are then reported by
+     *                  the next synchronous call, {@link #flush()} for instance.
+     */
+    public RemoteAppStorage(String fileSystemName, URI baseUri, String token, boolean pipelined) {
         this.fileSystemName = Objects.requireNonNull(fileSystemName);
         this.token = token;
+        pipeline = pipelined ? new RequestPipeline("remote-app-storage-" + fileSystemName, PIPELINE_MAXIMUM_PENDING_REQUESTS) : null;
 
         client = createClient();
 
@@ -83,23 +103,52 @@ public class RemoteAppStorage implements AppStorage {
                           .register(ReaderInterceptorGzip.class);
 
         changeBuffer = new StorageChangeBuffer(changeSet -> {
-            LOGGER.debug("flush(fileSystemName={}, size={})", fileSystemName, changeSet.getChanges().size());
-
-            Response response = webTarget.path("fileSystems/{fileSystemName}/flush")
-                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                    .request()
-                    .header(HttpHeaders.AUTHORIZATION, token)
-                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                    .acceptEncoding("gzip")
-                    .post(Entity.json(changeSet));
-            try {
-                checkOk(response);
-            } finally {
-                response.close();
-            }
+            // the change set is cleared by the buffer once flushed, so a copy has to be sent
+            StorageChangeSet changeSetCopy = new StorageChangeSet(new ArrayList<>(changeSet.getChanges()));
+            send(() -> sendChangeSet(changeSetCopy));
         }, BUFFER_MAXIMUM_CHANGE, BUFFER_MAXIMUM_SIZE);
     }
 
+    private void sendChangeSet(StorageChangeSet changeSet) {
+        LOGGER.debug("flush(fileSystemName={}, size={})", fileSystemName, changeSet.getChanges().size());
+
+        Response response = webTarget.path("fileSystems/{fileSystemName}/flush")
+                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                .request()
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .acceptEncoding("gzip")
+                .post(Entity.json(changeSet));
+        try {
+            checkOk(response);
+        } finally {
+            response.close();
+        }
+    }
+
+    private void send(Runnable request) {
+        if (pipeline != null) {
+            pipeline.send(request);
+        } else {
+            request.run();
+        }
+    }
+
+    private void waitForPendingRequests() {
+        if (pipeline != null) {
+            pipeline.await();
+        }
+    }
+
+    /**
+     * Send buffered changes, if any, before another change to keep change order.
+     */
+    private void flushChanges() {
+        if (!changeBuffer.isEmpty()) {
+            changeBuffer.flush();
+        }
+    }
+
     static Client createClient() {
         return ClientUtils.createClient()
                 .register(new JsonProvider());
@@ -147,6 +196,9 @@ public class RemoteAppStorage implements AppStorage {
     public NodeInfo createRootNodeIfNotExists(String name, String nodePseudoClass) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(nodePseudoClass);
+
+        waitForPendingRequests();
+
         LOGGER.debug("createRootNodeIfNotExists(fileSystemName={}, name={}, nodePseudoClass={})",
                 fileSystemName, name, nodePseudoClass);
 
@@ -168,6 +220,8 @@ public class RemoteAppStorage implements AppStorage {
     public boolean isWritable(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("isWritable(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/writable")
@@ -188,24 +242,26 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(description);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("setDescription(fileSystemName={}, nodeId={}, description={})", fileSystemName, nodeId, description);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/description")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                .acceptEncoding("gzip")
-                .put(Entity.text(description));
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/description")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .acceptEncoding("gzip")
+                    .put(Entity.text(description));
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
@@ -213,48 +269,52 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("renameNode(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/name")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                .acceptEncoding("gzip")
-                .put(Entity.text(name));
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/name")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .acceptEncoding("gzip")
+                    .put(Entity.text(name));
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
     public void updateModificationTime(String nodeId) {
         Objects.requireNonNull(nodeId);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("updateModificationTime(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/modificationTime")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                .acceptEncoding("gzip")
-                .put(Entity.text(""));
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/modificationTime")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .acceptEncoding("gzip")
+                    .put(Entity.text(""));
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
@@ -267,7 +327,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(genericMetadata);
 
         // flush buffer to keep change order
-        changeBuffer.flush();
+        flushChanges();
+        waitForPendingRequests();
 
         LOGGER.debug("createNode(fileSystemName={}, parentNodeId={}, name={}, nodePseudoClass={}, description={}, version={}, genericMetadata={})",
                 fileSystemName, parentNodeId, name, nodePseudoClass, description, version, genericMetadata);
@@ -295,6 +356,8 @@ public class RemoteAppStorage implements AppStorage {
     public List<NodeInfo> getChildNodes(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getChildNodes(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/children")
@@ -311,11 +374,35 @@ public class RemoteAppStorage implements AppStorage {
         }
     }
 
+    @Override
+    public Map<String, List<NodeInfo>> getChildNodesRecursively(String nodeId) {
+        Objects.requireNonNull(nodeId);
+
+        waitForPendingRequests();
+
+        LOGGER.debug("getChildNodesRecursively(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
+
+        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/descendants")
+                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                .resolveTemplate(NODE_ID, nodeId)
+                .request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .get();
+        try {
+            return readEntityIfOk(response, new GenericType<Map<String, List<NodeInfo>>>() {
+            });
+        } finally {
+            response.close();
+        }
+    }
+
     @Override
     public Optional<NodeInfo> getChildNode(String nodeId, String name) {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getChildNode(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/children/{childName}")
@@ -336,6 +423,8 @@ public class RemoteAppStorage implements AppStorage {
     public Optional<NodeInfo> getParentNode(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getParentNode(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/parent")
@@ -356,24 +445,26 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(newParentNodeId);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("setParentNode(fileSystemName={}, nodeId={}, newParentNodeId={})", fileSystemName, nodeId, newParentNodeId);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/parent")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                .acceptEncoding("gzip")
-                .put(Entity.text(newParentNodeId));
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/parent")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .acceptEncoding("gzip")
+                    .put(Entity.text(newParentNodeId));
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
@@ -381,7 +472,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
 
         // flush buffer to keep change order
-        changeBuffer.flush();
+        flushChanges();
+        waitForPendingRequests();
 
         LOGGER.debug("deleteNode(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
@@ -439,6 +531,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
+        waitForPendingRequests();
+
         LOGGER.debug("readBinaryData(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
         Response response = webTarget.path(NODE_DATA_PATH)
@@ -465,7 +559,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(name);
 
         // flush buffer to keep change order
-        changeBuffer.flush();
+        flushChanges();
+        waitForPendingRequests();
 
         LOGGER.debug("writeBinaryData(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
@@ -487,6 +582,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
+        waitForPendingRequests();
+
         LOGGER.debug("dataExists(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
         Response response = webTarget.path(NODE_DATA_PATH)
@@ -507,6 +604,8 @@ public class RemoteAppStorage implements AppStorage {
     public Set<String> getDataNames(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getDataNames(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/data")
@@ -528,6 +627,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
+        waitForPendingRequests();
+
         LOGGER.debug("removeData(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
         Response response = webTarget.path(NODE_DATA_PATH)
@@ -550,26 +651,28 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(name);
         Objects.requireNonNull(toNodeId);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("addDependency(fileSystemName={}, nodeId={}, name={}, toNodeId={})", fileSystemName, nodeId, name, toNodeId);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .resolveTemplate("name", name)
-                .resolveTemplate("toNodeId", toNodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
-                .acceptEncoding("gzip")
-                .put(Entity.text(""));
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .resolveTemplate("name", name)
+                    .resolveTemplate("toNodeId", toNodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .acceptEncoding("gzip")
+                    .put(Entity.text(""));
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
@@ -577,6 +680,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(name);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getDependencies(fileSystemName={}, nodeId={}, name={})", fileSystemName, nodeId, name);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}")
@@ -598,6 +703,8 @@ public class RemoteAppStorage implements AppStorage {
     public Set<NodeDependency> getDependencies(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getDependencies(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies")
@@ -618,6 +725,8 @@ public class RemoteAppStorage implements AppStorage {
     public Set<NodeInfo> getBackwardDependencies(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getBackwardDependencies(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/backwardDependencies")
@@ -640,24 +749,26 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(name);
         Objects.requireNonNull(toNodeId);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("removeDependency(fileSystemName={}, nodeId={}, name={}, toNodeId={})", fileSystemName, nodeId, name, toNodeId);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .resolveTemplate("name", name)
-                .resolveTemplate("toNodeId", toNodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .delete();
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/dependencies/{name}/{toNodeId}")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .resolveTemplate("name", name)
+                    .resolveTemplate("toNodeId", toNodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .delete();
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
@@ -674,6 +785,8 @@ public class RemoteAppStorage implements AppStorage {
     public Set<String> getTimeSeriesNames(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getTimeSeriesNames(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/name")
@@ -695,6 +808,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesName);
 
+        waitForPendingRequests();
+
         LOGGER.debug("timeSeriesExists(fileSystemName={}, nodeId={}, timeSeriesName={})", fileSystemName, nodeId, timeSeriesName);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}")
@@ -716,6 +831,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesNames);
 
+        waitForPendingRequests();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getTimeSeriesMetadata(fileSystemName={}, nodeId={}, timeSeriesNames={})", fileSystemName, nodeId, timeSeriesNames);
         }
@@ -738,6 +855,8 @@ public class RemoteAppStorage implements AppStorage {
     public Set<Integer> getTimeSeriesDataVersions(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getTimeSeriesDataVersions(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/versions")
@@ -759,6 +878,8 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesName);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getTimeSeriesDataVersions(fileSystemName={}, nodeId={}, timeSeriesNames={})", fileSystemName, nodeId, timeSeriesName);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/{timeSeriesName}/versions")
@@ -791,22 +912,52 @@ public class RemoteAppStorage implements AppStorage {
         changeBuffer.addDoubleTimeSeriesData(nodeId, version, timeSeriesName, chunks);
     }
 
+    private WebTarget timeSeriesDataTarget(String dataType, String nodeId, int version) {
+        return webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/" + dataType + "/{version}")
+                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                .resolveTemplate(NODE_ID, nodeId)
+                .resolveTemplate(VERSION, version);
+    }
+
     @Override
     public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version) {
         Objects.requireNonNull(nodeId);
         Objects.requireNonNull(timeSeriesNames);
         TimeSeriesVersions.check(version);
 
+        waitForPendingRequests();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getDoubleTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={})",
                     fileSystemName, nodeId, timeSeriesNames, version);
         }
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/double/{version}")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .resolveTemplate(VERSION, version)
-                .request()
+        return readDoubleTimeSeriesData(timeSeriesNames, timeSeriesDataTarget("double", nodeId, version));
+    }
+
+    @Override
+    public Map<String, List<DoubleDataChunk>> getDoubleTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        DataChunk.checkPointRange(firstPoint, lastPoint);
+
+        waitForPendingRequests();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("getDoubleTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={}, firstPoint={}, lastPoint={})",
+                    fileSystemName, nodeId, timeSeriesNames, version, firstPoint, lastPoint);
+        }
+
+        WebTarget target = timeSeriesDataTarget("double", nodeId, version)
+                .queryParam(FIRST_POINT, firstPoint)
+                .queryParam(LAST_POINT, lastPoint);
+        return readDoubleTimeSeriesData(timeSeriesNames, target);
+    }
+
+    private Map<String, List<DoubleDataChunk>> readDoubleTimeSeriesData(Set<String> timeSeriesNames, WebTarget target) {
+        Response response = target.request()
                 .header(HttpHeaders.AUTHORIZATION, token)
                 .post(Entity.json(timeSeriesNames));
         try {
@@ -838,16 +989,39 @@ public class RemoteAppStorage implements AppStorage {
         Objects.requireNonNull(timeSeriesNames);
         TimeSeriesVersions.check(version);
 
+        waitForPendingRequests();
+
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("getStringTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={})",
                     fileSystemName, nodeId, timeSeriesNames, version);
         }
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries/string/{version}")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .resolveTemplate(VERSION, version)
-                .request()
+        return readStringTimeSeriesData(timeSeriesNames, timeSeriesDataTarget("string", nodeId, version));
+    }
+
+    @Override
+    public Map<String, List<StringDataChunk>> getStringTimeSeriesData(String nodeId, Set<String> timeSeriesNames, int version,
+                                                                      int firstPoint, int lastPoint) {
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(timeSeriesNames);
+        TimeSeriesVersions.check(version);
+        DataChunk.checkPointRange(firstPoint, lastPoint);
+
+        waitForPendingRequests();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("getStringTimeSeriesData(fileSystemName={}, nodeId={}, timeSeriesNames={}, version={}, firstPoint={}, lastPoint={})",
+                    fileSystemName, nodeId, timeSeriesNames, version, firstPoint, lastPoint);
+        }
+
+        WebTarget target = timeSeriesDataTarget("string", nodeId, version)
+                .queryParam(FIRST_POINT, firstPoint)
+                .queryParam(LAST_POINT, lastPoint);
+        return readStringTimeSeriesData(timeSeriesNames, target);
+    }
+
+    private Map<String, List<StringDataChunk>> readStringTimeSeriesData(Set<String> timeSeriesNames, WebTarget target) {
+        Response response = target.request()
                 .header(HttpHeaders.AUTHORIZATION, token)
                 .post(Entity.json(timeSeriesNames));
         try {
@@ -862,28 +1036,32 @@ public class RemoteAppStorage implements AppStorage {
     public void clearTimeSeries(String nodeId) {
         Objects.requireNonNull(nodeId);
 
-        // flush buffer to keep change order
-        changeBuffer.flush();
-
         LOGGER.debug("clearTimeSeries(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
-        Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries")
-                .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
-                .resolveTemplate(NODE_ID, nodeId)
-                .request()
-                .header(HttpHeaders.AUTHORIZATION, token)
-                .delete();
-        try {
-            checkOk(response);
-        } finally {
-            response.close();
-        }
+        // flush buffer to keep change order
+        flushChanges();
+
+        send(() -> {
+            Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}/timeSeries")
+                    .resolveTemplate(FILE_SYSTEM_NAME, fileSystemName)
+                    .resolveTemplate(NODE_ID, nodeId)
+                    .request()
+                    .header(HttpHeaders.AUTHORIZATION, token)
+                    .delete();
+            try {
+                checkOk(response);
+            } finally {
+                response.close();
+            }
+        });
     }
 
     @Override
     public NodeInfo getNodeInfo(String nodeId) {
         Objects.requireNonNull(nodeId);
 
+        waitForPendingRequests();
+
         LOGGER.debug("getNodeInfo(fileSystemName={}, nodeId={})", fileSystemName, nodeId);
 
         Response response = webTarget.path("fileSystems/{fileSystemName}/nodes/{nodeId}")
@@ -902,6 +1080,7 @@ public class RemoteAppStorage implements AppStorage {
     @Override
     public void flush() {
         changeBuffer.flush();
+        waitForPendingRequests();
     }
 
     @Override
@@ -911,8 +1090,14 @@ public class RemoteAppStorage implements AppStorage {
 
     @Override
     public void close() {
-        flush();
-        closed = true;
-        client.close();
+        try {
+            flush();
+        } finally {
+            if (pipeline != null) {
+                pipeline.close();
+            }
+            closed = true;
+            client.close();
+        }
     }
 }
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Send requests asynchronously, one after the other in submission order, so that the caller does not have to wait
+ * for the server response of a request before sending the next one.
+ * <p>
+ * The number of requests waiting to be sent is bounded: the caller is blocked when the window is full. The first
+ * failure of an asynchronous request is thrown to the caller by the next call, and the requests queued before this
+ * call are discarded, as they may depend on the failed one.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class RequestPipeline implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    private final Semaphore window;
+
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    /**
+     * Incremented each time a failure is thrown to the caller: requests sent before, and still queued, belong to an
+     * older generation and are discarded.
+     */
+    private final AtomicInteger generation = new AtomicInteger();
+
+    RequestPipeline(String name, int maximumPendingRequests) {
+        this(Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat(Objects.requireNonNull(name) + "-pipeline")
+                        .setDaemon(true)
+                        .build()),
+                maximumPendingRequests);
+    }
+
+    /**
+     * The executor has to run tasks one after the other in submission order.
+     */
+    RequestPipeline(ExecutorService executor, int maximumPendingRequests) {
+        if (maximumPendingRequests <= 0) {
+            throw new IllegalArgumentException("Bad maximum pending request count " + maximumPendingRequests);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        window = new Semaphore(maximumPendingRequests);
+    }
+
+    private void throwFailureIfAny() {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            // queued requests are discarded by the generation check once the failure is cleared
+            generation.incrementAndGet();
+            failure.set(null);
+            throw e;
+        }
+    }
+
+    /**
+     * Send a request without waiting for its response.
+     */
+    void send(Runnable request) {
+        Objects.requireNonNull(request);
+        throwFailureIfAny();
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        }
+        int requestGeneration = generation.get();
+        try {
+            executor.execute(() -> {
+                try {
+                    if (failure.get() == null && requestGeneration == generation.get()) {
+                        request.run();
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    window.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            window.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for all the requests sent to be processed, and throw the first failure if any.
+     */
+    void await() {
+        Future<?> future = executor.submit(this::throwFailureIfAny);
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UncheckedExecutionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            await();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.afs.ws.storage;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class RequestPipelineTest {
+
+    @Test
+    public void orderTest() {
+        List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        try (RequestPipeline pipeline = new RequestPipeline("test", 3)) {
+            for (int i = 0; i < 100; i++) {
+                int request = i;
+                pipeline.send(() -> sent.add(request));
+            }
+            pipeline.await();
+            assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), sent);
+        }
+    }
+
+    @Test
+    public void failureTest() {
+        List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allSent = new CountDownLatch(1);
+        try (RequestPipeline pipeline = new RequestPipeline("test", 10)) {
+            pipeline.send(() -> {
+                try {
+                    allSent.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                sent.add(0);
+            });
+            pipeline.send(() -> {
+                throw new IllegalStateException("request 1 failed");
+            });
+            // discarded because of the previous failure
+            pipeline.send(() -> sent.add(2));
+            allSent.countDown();
+            try {
+                pipeline.await();
+                fail();
+            } catch (IllegalStateException e) {
+                assertEquals("request 1 failed", e.getMessage());
+            }
+            assertEquals(Collections.singletonList(0), sent);
+
+            // failure is reported only once
+            pipeline.send(() -> sent.add(3));
+            pipeline.await();
+            assertEquals(Arrays.asList(0, 3), sent);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void failureReportedBeforeQueuedRequestsTest() throws InterruptedException {
+        List<Integer> sent = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch allSent = new CountDownLatch(1);
+        CountDownLatch failed = new CountDownLatch(1);
+        CountDownLatch reported = new CountDownLatch(1);
+        try (RequestPipeline pipeline = new RequestPipeline(executor, 10)) {
+            executor.execute(() -> awaitUninterruptibly(allSent));
+            pipeline.send(() -> {
+                throw new IllegalStateException("request 0 failed");
+            });
+            // hold the queue after the failure until it has been thrown to the caller
+            executor.execute(() -> {
+                failed.countDown();
+                awaitUninterruptibly(reported);
+            });
+            pipeline.send(() -> sent.add(1));
+            allSent.countDown();
+            failed.await();
+            try {
+                pipeline.send(() -> sent.add(2));
+                fail();
+            } catch (IllegalStateException e) {
+                assertEquals("request 0 failed", e.getMessage());
+            } finally {
+                reported.countDown();
+            }
+
+            // request 1, queued before the failure has been reported, is discarded
+            pipeline.await();
+            assertTrue(sent.isEmpty());
+
+            pipeline.send(() -> sent.add(3));
+            pipeline.await();
+            assertEquals(Collections.singletonList(3), sent);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badWindowTest() {
+        new RequestPipeline("test", 0);
+    }
+}
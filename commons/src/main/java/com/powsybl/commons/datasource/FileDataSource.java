@@ -12,6 +12,7 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -97,6 +98,15 @@ public class FileDataSource implements DataSource {
         return observer != null ? new ObservableInputStream(is, path.toString(), observer) : is;
     }
 
+    @Override
+    public Optional<Path> getUncompressedFile(String suffix, String ext) throws IOException {
+        if (!getCompressionExt().isEmpty() || observer != null) {
+            return Optional.empty();
+        }
+        Path path = getPath(DataSourceUtil.getFileName(baseName, suffix, ext));
+        return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+    }
+
     @Override
     public Set<String> listNames(String regex) throws IOException {
         // Consider only files in the given folder, do not go into folders
@@ -10,6 +10,7 @@ package com.powsybl.commons.datasource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -77,6 +78,16 @@ public class GenericReadOnlyDataSource implements ReadOnlyDataSource {
         throw new IOException(fileName + " not found");
     }
 
+    @Override
+    public Optional<Path> getUncompressedFile(String suffix, String ext) throws IOException {
+        for (ReadOnlyDataSource dataSource : dataSources) {
+            if (dataSource.exists(suffix, ext)) {
+                return dataSource.getUncompressedFile(suffix, ext);
+            }
+        }
+        return Optional.empty();
+    }
+
     @Override
     public Set<String> listNames(String regex) throws IOException {
         throw new UnsupportedOperationException("Not implemented");
@@ -8,6 +8,8 @@ package com.powsybl.commons.datasource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -26,4 +28,12 @@ public interface ReadOnlyDataSource {
     InputStream newInputStream(String fileName) throws IOException;
 
     Set<String> listNames(String regex) throws IOException;
+
+    /**
+     * Get the file storing the data of the data source, if it is a local file read as is, i.e. without decompression
+     * and without observation, so that it can be read directly (through a memory mapping for instance).
+     */
+    default Optional<Path> getUncompressedFile(String suffix, String ext) throws IOException {
+        return Optional.empty();
+    }
 }
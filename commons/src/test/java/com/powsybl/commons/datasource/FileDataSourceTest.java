@@ -6,6 +6,16 @@
  */
 package com.powsybl.commons.datasource;
 
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -15,4 +25,18 @@ public class FileDataSourceTest extends AbstractDataSourceTest {
     protected DataSource createDataSource() {
         return new FileDataSource(testDir, getBaseName());
     }
+
+    @Test
+    public void getUncompressedFileTest() throws IOException {
+        DataSource dataSource = createDataSource();
+        assertFalse(dataSource.getUncompressedFile(null, "txt").isPresent());
+        try (OutputStream os = dataSource.newOutputStream(null, "txt", false)) {
+            os.write("line1".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(Optional.of(testDir.resolve("foo.txt")), dataSource.getUncompressedFile(null, "txt"));
+
+        // compressed or observed data cannot be read directly from the file
+        assertFalse(new GzFileDataSource(testDir, getBaseName()).getUncompressedFile(null, "txt").isPresent());
+        assertFalse(new FileDataSource(testDir, getBaseName(), new DefaultDataSourceObserver()).getUncompressedFile(null, "txt").isPresent());
+    }
 }
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency.json;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A provider of an already evaluated contingency list, serialized as JSON.
+ * <p>
+ * Contingencies coming from a script based provider can be evaluated once and wrapped in this provider, so that
+ * distributed computations, configured with {@link JsonContingenciesProviderFactory}, read the JSON list instead of
+ * evaluating the script again on each worker.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JsonContingenciesProvider implements ContingenciesProvider {
+
+    private static final TypeReference<List<Contingency>> CONTINGENCY_LIST_TYPE = new TypeReference<List<Contingency>>() {
+    };
+
+    private final List<Contingency> contingencies;
+
+    public JsonContingenciesProvider(List<Contingency> contingencies) {
+        this.contingencies = new ArrayList<>(Objects.requireNonNull(contingencies));
+    }
+
+    /**
+     * Creates a provider by reading the JSON contingency list from a file.
+     */
+    public JsonContingenciesProvider(Path jsonFile) {
+        Objects.requireNonNull(jsonFile);
+        try (InputStream is = Files.newInputStream(jsonFile)) {
+            contingencies = read(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a provider by reading the JSON contingency list from an input stream.
+     */
+    public JsonContingenciesProvider(InputStream is) {
+        contingencies = read(Objects.requireNonNull(is));
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        return JsonUtil.createObjectMapper()
+                .registerModule(new ContingencyJsonModule());
+    }
+
+    private static List<Contingency> read(InputStream is) {
+        try {
+            return createObjectMapper().readValue(is, CONTINGENCY_LIST_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Evaluate the contingencies of a provider on a network, and wrap them in a JSON provider.
+     */
+    public static JsonContingenciesProvider of(ContingenciesProvider provider, Network network) {
+        Objects.requireNonNull(provider);
+        return new JsonContingenciesProvider(provider.getContingencies(network));
+    }
+
+    @Override
+    public List<Contingency> getContingencies(Network network) {
+        return Contingency.checkValidity(contingencies, network);
+    }
+
+    @Override
+    public String asScript() {
+        try {
+            return createObjectMapper().writerWithDefaultPrettyPrinter()
+                    .forType(CONTINGENCY_LIST_TYPE)
+                    .writeValueAsString(contingencies);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
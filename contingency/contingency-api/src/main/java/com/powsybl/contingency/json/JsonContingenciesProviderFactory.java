@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency.json;
+
+import com.powsybl.commons.config.ModuleConfig;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.contingency.ContingenciesProviderFactory;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JsonContingenciesProviderFactory implements ContingenciesProviderFactory {
+
+    @Override
+    public JsonContingenciesProvider create() {
+        ModuleConfig config = PlatformConfig.defaultConfig().getModuleConfig("json-contingencies");
+        Path jsonFile = config.getPathProperty("json-file");
+        return new JsonContingenciesProvider(jsonFile);
+    }
+
+    @Override
+    public JsonContingenciesProvider create(Path jsonFile) {
+        return new JsonContingenciesProvider(jsonFile);
+    }
+
+    @Override
+    public JsonContingenciesProvider create(InputStream jsonStream) {
+        return new JsonContingenciesProvider(jsonStream);
+    }
+}
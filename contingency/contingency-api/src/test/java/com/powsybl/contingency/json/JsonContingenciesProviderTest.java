@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.contingency.json;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.contingency.BranchContingency;
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.GeneratorContingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JsonContingenciesProviderTest {
+
+    private FileSystem fileSystem;
+
+    private Network network;
+
+    @Before
+    public void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+        network = EurostagTutorialExample1Factory.create();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static List<String> getIds(List<Contingency> contingencies) {
+        return contingencies.stream().map(Contingency::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    public void test() throws IOException {
+        ContingenciesProvider provider = n -> Arrays.asList(new Contingency("c1", new BranchContingency("NHV1_NHV2_1")),
+                                                            new Contingency("c2", new GeneratorContingency("GEN")),
+                                                            new Contingency("c3", new BranchContingency("UNKNOWN")));
+        JsonContingenciesProvider jsonProvider = JsonContingenciesProvider.of(provider, network);
+
+        // invalid contingencies are filtered out
+        assertEquals(Arrays.asList("c1", "c2"), getIds(jsonProvider.getContingencies(network)));
+
+        // the JSON list is read back by the factory, as a distributed computation would do
+        Path jsonFile = fileSystem.getPath("/contingencies.json");
+        Files.write(jsonFile, jsonProvider.asScript().getBytes(StandardCharsets.UTF_8));
+        JsonContingenciesProviderFactory factory = new JsonContingenciesProviderFactory();
+        List<Contingency> contingencies = factory.create(jsonFile).getContingencies(network);
+        assertEquals(Arrays.asList("c1", "c2"), getIds(contingencies));
+        assertEquals("NHV1_NHV2_1", contingencies.get(0).getElements().iterator().next().getId());
+        assertEquals(GeneratorContingency.class, contingencies.get(1).getElements().iterator().next().getClass());
+
+        assertEquals(Arrays.asList("c1", "c2"),
+                     getIds(factory.create(new ByteArrayInputStream(jsonProvider.asScript().getBytes(StandardCharsets.UTF_8)))
+                             .getContingencies(network)));
+    }
+}
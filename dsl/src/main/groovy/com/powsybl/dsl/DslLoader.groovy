@@ -17,6 +17,11 @@ class DslLoader {
 
     protected final GroovyCodeSource dslSrc
 
+    /**
+     * Cache of compiled scripts, scripts are compiled at each load when null.
+     */
+    DslScriptCache scriptCache = DslScriptCache.getDefault()
+
     DslLoader(GroovyCodeSource dslSrc) {
         this.dslSrc = Objects.requireNonNull(dslSrc)
     }
@@ -29,12 +34,26 @@ class DslLoader {
         this(new GroovyCodeSource(script, "script", GroovyShell.DEFAULT_CODE_BASE))
     }
 
-    static GroovyShell createShell(Binding binding) {
+    static CompilerConfiguration createCompilerConfiguration() {
         def astCustomizer = new ASTTransformationCustomizer(new PowsyblDslAstTransformation())
         def imports = new ImportCustomizer()
         def config = new CompilerConfiguration()
         config.addCompilationCustomizers(astCustomizer, imports)
-        new GroovyShell(binding, config)
+        config
+    }
+
+    static GroovyShell createShell(Binding binding) {
+        new GroovyShell(binding, createCompilerConfiguration())
+    }
+
+    /**
+     * Run the DSL script with the given binding, reusing the compiled script from the cache when available.
+     */
+    protected Object evaluate(Binding binding) {
+        if (scriptCache != null && dslSrc.getScriptText() != null) {
+            return scriptCache.createScript(dslSrc, createCompilerConfiguration(), binding).run()
+        }
+        createShell(binding).evaluate(dslSrc)
     }
 
 }
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dsl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovySystem;
+import groovy.lang.Script;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Cache of compiled DSL scripts, so that a script loaded several times, by the same loader or by different ones, is
+ * only compiled once.
+ * <p>
+ * Scripts are identified by a hash of their text, and compiled classes are kept in memory. As each script class
+ * holds its own class loader, the number of classes kept is bounded and they are softly referenced, so that the
+ * least recently used ones can be unloaded. When a directory is given, class bytes are also written to it, so that
+ * the compilation is shared by all the processes using the same directory (next runs, distributed security analysis
+ * workers...).
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DslScriptCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DslScriptCache.class);
+
+    private static final String CLASS_NAME_PREFIX = "Script_";
+
+    private static final String CLASS_FILE_EXTENSION = ".class";
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 100;
+
+    private static final DslScriptCache DEFAULT = new DslScriptCache();
+
+    public static DslScriptCache getDefault() {
+        return DEFAULT;
+    }
+
+    private final Path directory;
+
+    private final Cache<String, Class<?>> scriptClasses;
+
+    public DslScriptCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public DslScriptCache(int maximumSize) {
+        this(null, maximumSize);
+    }
+
+    public DslScriptCache(Path directory) {
+        this(Objects.requireNonNull(directory), DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public DslScriptCache(Path directory, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Bad maximum size " + maximumSize);
+        }
+        this.directory = directory;
+        scriptClasses = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .softValues()
+                .build();
+    }
+
+    public Optional<Path> getDirectory() {
+        return Optional.ofNullable(directory);
+    }
+
+    /**
+     * The class name of a compiled script, built from a hash of the script text and of the Groovy and DSL versions,
+     * so that classes written to the cache directory by another version are ignored.
+     */
+    static String getClassName(String scriptText) {
+        String key = GroovySystem.getVersion() + "/" + DslScriptCache.class.getPackage().getImplementationVersion()
+                + "/" + scriptText;
+        return CLASS_NAME_PREFIX + Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    public Class<?> getScriptClass(GroovyCodeSource codeSource, CompilerConfiguration config) {
+        Objects.requireNonNull(codeSource);
+        Objects.requireNonNull(config);
+        String scriptText = Objects.requireNonNull(codeSource.getScriptText(), "Script text is not available");
+        String className = getClassName(scriptText);
+        try {
+            return scriptClasses.get(className, () -> loadScriptClass(className, codeSource.getName(), scriptText, config));
+        } catch (UncheckedExecutionException e) {
+            // compilation errors are thrown as is
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        } catch (ExecutionException e) {
+            throw new UncheckedExecutionException(e.getCause());
+        }
+    }
+
+    public Script createScript(GroovyCodeSource codeSource, CompilerConfiguration config, Binding binding) {
+        return InvokerHelper.createScript(getScriptClass(codeSource, config), binding);
+    }
+
+    public int size() {
+        return (int) scriptClasses.size();
+    }
+
+    /**
+     * Clear the in-memory cache, classes written to the cache directory are kept.
+     */
+    public void clear() {
+        scriptClasses.invalidateAll();
+    }
+
+    private static ClassLoader getParentClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : DslScriptCache.class.getClassLoader();
+    }
+
+    private Class<?> loadScriptClass(String className, String scriptName, String scriptText, CompilerConfiguration config) {
+        ClassLoader parent = getParentClassLoader();
+        Map<String, byte[]> classes = directory != null ? readClasses(directory.resolve(className)) : null;
+        if (classes == null) {
+            long start = System.currentTimeMillis();
+            classes = compile(className, scriptText, config, parent);
+            LOGGER.debug("Script '{}' compiled in {} ms", scriptName, System.currentTimeMillis() - start);
+            if (directory != null) {
+                writeClasses(directory.resolve(className), classes);
+            }
+        } else {
+            LOGGER.debug("Compiled script '{}' read from cache directory {}", scriptName, directory);
+        }
+        try {
+            return new ScriptClassLoader(parent, classes).loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, byte[]> compile(String className, String scriptText, CompilerConfiguration config, ClassLoader parent) {
+        CompilationUnit unit = new CompilationUnit(config, null, new GroovyClassLoader(parent, config));
+        unit.addSource(className + ".groovy", scriptText);
+        unit.compile(Phases.CLASS_GENERATION);
+        Map<String, byte[]> classes = new HashMap<>();
+        for (Object o : unit.getClasses()) {
+            GroovyClass groovyClass = (GroovyClass) o;
+            classes.put(groovyClass.getName(), groovyClass.getBytes());
+        }
+        return classes;
+    }
+
+    private static Map<String, byte[]> readClasses(Path classesDir) {
+        if (!Files.isDirectory(classesDir)) {
+            return null;
+        }
+        Map<String, byte[]> classes = new HashMap<>();
+        try (Stream<Path> stream = Files.list(classesDir)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(CLASS_FILE_EXTENSION)) {
+                    classes.put(fileName.substring(0, fileName.length() - CLASS_FILE_EXTENSION.length()), Files.readAllBytes(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return classes;
+    }
+
+    private static void writeClasses(Path classesDir, Map<String, byte[]> classes) {
+        try {
+            // classes are written to a temporary directory, then moved, so that other processes never read a
+            // partially written script
+            Files.createDirectories(classesDir.getParent());
+            Path tmpDir = Files.createTempDirectory(classesDir.getParent(), classesDir.getFileName().toString());
+            for (Map.Entry<String, byte[]> e : classes.entrySet()) {
+                Files.write(tmpDir.resolve(e.getKey() + CLASS_FILE_EXTENSION), e.getValue());
+            }
+            try {
+                Files.move(tmpDir, classesDir, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                // already written by another process
+                deleteDirectory(tmpDir);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteDirectory(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) stream::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    private static final class ScriptClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        private ScriptClassLoader(ClassLoader parent, Map<String, byte[]> classes) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = classes.get(name);
+            if (bytes == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -26,6 +26,10 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
     public Object visitComparisonOperator(ComparisonOperatorNode node, Void arg) {
         Object result1 = node.getLeft().accept(this, arg);
         Object result2 = node.getRight().accept(this, arg);
+        return evaluateComparison(node.getOperator(), result1, result2);
+    }
+
+    public static Object evaluateComparison(ComparisonOperator operator, Object result1, Object result2) {
         if (!(result1 instanceof Number)) {
             throw new PowsyblException("Left operand of comparison should return a number");
         }
@@ -34,7 +38,7 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
         }
         double value1 = ((Number) result1).doubleValue();
         double value2 = ((Number) result2).doubleValue();
-        switch (node.getOperator()) {
+        switch (operator) {
             case EQUALS:
                 return value1 == value2;
             case NOT_EQUALS:
@@ -48,13 +52,17 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
             case LESS_THAN_OR_EQUALS_TO:
                 return value1 <= value2;
             default:
-                throw createUnexpectedOperatorException(node.getOperator().name());
+                throw createUnexpectedOperatorException(operator.name());
         }
     }
 
     @Override
     public Object visitNotOperator(LogicalNotOperator node, Void arg) {
         Object result = node.getChild().accept(this, arg);
+        return evaluateNot(result);
+    }
+
+    public static Object evaluateNot(Object result) {
         if (!(result instanceof Boolean)) {
             throw new PowsyblException("Operand of not operator should return a boolean");
         }
@@ -65,6 +73,10 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
     public Object visitLogicalOperator(LogicalBinaryOperatorNode node, Void arg) {
         Object result1 = node.getLeft().accept(this, arg);
         Object result2 = node.getRight().accept(this, arg);
+        return evaluateLogical(node.getOperator(), result1, result2);
+    }
+
+    public static Object evaluateLogical(LogicalBinaryOperator operator, Object result1, Object result2) {
         if (!(result1 instanceof Boolean)) {
             throw new PowsyblException("Left operand of comparison should return a boolean");
         }
@@ -73,13 +85,13 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
         }
         boolean value1 = (Boolean) result1;
         boolean value2 = (Boolean) result2;
-        switch (node.getOperator()) {
+        switch (operator) {
             case AND:
                 return value1 && value2;
             case OR:
                 return value1 || value2;
             default:
-                throw createUnexpectedOperatorException(node.getOperator().name());
+                throw createUnexpectedOperatorException(operator.name());
         }
     }
 
@@ -87,6 +99,10 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
     public Object visitArithmeticOperator(ArithmeticBinaryOperatorNode node, Void arg) {
         Object result1 = node.getLeft().accept(this, arg);
         Object result2 = node.getRight().accept(this, arg);
+        return evaluateArithmetic(node.getOperator(), result1, result2);
+    }
+
+    public static Object evaluateArithmetic(ArithmeticBinaryOperator operator, Object result1, Object result2) {
         if (!(result1 instanceof Number)) {
             throw new PowsyblException("Left operand of arithmetic operation should return a number (" + result1.getClass() + ")");
         }
@@ -95,7 +111,7 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
         }
         double value1 = ((Number) result1).doubleValue();
         double value2 = ((Number) result2).doubleValue();
-        switch (node.getOperator()) {
+        switch (operator) {
             case PLUS:
                 return value1 + value2;
             case MINUS:
@@ -105,7 +121,7 @@ public class ExpressionEvaluator extends DefaultExpressionVisitor<Object, Void>
             case DIVIDE:
                 return value1 / value2;
             default:
-                throw createUnexpectedOperatorException(node.getOperator().name());
+                throw createUnexpectedOperatorException(operator.name());
         }
     }
 
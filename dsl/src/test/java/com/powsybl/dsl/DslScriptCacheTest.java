@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.dsl;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import groovy.lang.Binding;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.GroovyShell;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DslScriptCacheTest {
+
+    private static final String SCRIPT = "def f(v) { v * 2 }\n[1, 2].collect { f(it) + a }";
+
+    private FileSystem fileSystem;
+
+    @Before
+    public void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static GroovyCodeSource createCodeSource(String script) {
+        return new GroovyCodeSource(script, "test", GroovyShell.DEFAULT_CODE_BASE);
+    }
+
+    private static Object run(DslScriptCache cache, String script, int a) {
+        Binding binding = new Binding();
+        binding.setVariable("a", a);
+        return cache.createScript(createCodeSource(script), new CompilerConfiguration(), binding).run();
+    }
+
+    @Test
+    public void test() {
+        DslScriptCache cache = new DslScriptCache();
+        assertFalse(cache.getDirectory().isPresent());
+        Class<?> scriptClass = cache.getScriptClass(createCodeSource(SCRIPT), new CompilerConfiguration());
+        assertEquals(DslScriptCache.getClassName(SCRIPT), scriptClass.getName());
+
+        // same script text, whatever the code source, is only compiled once
+        assertSame(scriptClass, cache.getScriptClass(createCodeSource(SCRIPT), new CompilerConfiguration()));
+        assertEquals(1, cache.size());
+
+        // bindings are not shared between runs
+        assertEquals("[3, 5]", run(cache, SCRIPT, 1).toString());
+        assertEquals("[12, 14]", run(cache, SCRIPT, 10).toString());
+
+        assertEquals(3, run(cache, "a + 2", 1));
+        assertEquals(2, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(scriptClass, cache.getScriptClass(createCodeSource(SCRIPT), new CompilerConfiguration()));
+    }
+
+    @Test
+    public void testDirectory() throws IOException {
+        Path dir = fileSystem.getPath("/cache");
+        DslScriptCache cache = new DslScriptCache(dir);
+        assertEquals(dir, cache.getDirectory().orElse(null));
+        assertEquals("[3, 5]", run(cache, SCRIPT, 1).toString());
+
+        // script and closure classes have been written to the cache directory
+        Path classesDir = dir.resolve(DslScriptCache.getClassName(SCRIPT));
+        assertTrue(Files.isDirectory(classesDir));
+        assertEquals(2, Files.list(classesDir).count());
+        assertEquals(1, Files.list(dir).count());
+
+        // another cache using the same directory, as another process would, reads compiled classes
+        DslScriptCache otherCache = new DslScriptCache(dir);
+        assertEquals("[12, 14]", run(otherCache, SCRIPT, 10).toString());
+
+        // already loaded, the cache directory is not read again
+        Files.write(classesDir.resolve(DslScriptCache.getClassName(SCRIPT) + ".class"), new byte[] {0});
+        assertEquals("[12, 14]", run(otherCache, SCRIPT, 10).toString());
+        assertEquals(1, Files.list(dir).count());
+    }
+
+    @Test
+    public void testMaximumSize() {
+        DslScriptCache cache = new DslScriptCache(1);
+        assertEquals(3, run(cache, "a + 2", 1));
+        assertEquals("[3, 5]", run(cache, SCRIPT, 1).toString());
+
+        // least recently used script class has been evicted
+        assertEquals(1, cache.size());
+        assertEquals(4, run(cache, "a + 2", 2));
+        assertEquals(1, cache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadMaximumSize() {
+        new DslScriptCache(0);
+    }
+
+    @Test(expected = CompilationFailedException.class)
+    public void testCompilationError() {
+        new DslScriptCache().getScriptClass(createCodeSource("a +"), new CompilerConfiguration());
+    }
+}
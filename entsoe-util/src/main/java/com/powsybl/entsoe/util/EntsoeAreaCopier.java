@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.entsoe.util;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.ExtensionCopier;
+import com.powsybl.iidm.network.Substation;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(ExtensionCopier.class)
+public class EntsoeAreaCopier implements ExtensionCopier<Substation, EntsoeArea> {
+
+    @Override
+    public String getExtensionName() {
+        return "entsoeArea";
+    }
+
+    @Override
+    public String getCategoryName() {
+        return "network";
+    }
+
+    @Override
+    public Class<EntsoeArea> getExtensionClass() {
+        return EntsoeArea.class;
+    }
+
+    @Override
+    public EntsoeArea copy(EntsoeArea extension, Substation target) {
+        return new EntsoeArea(target, extension.getCode());
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.entsoe.util;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.ExtensionCopier;
+import com.powsybl.iidm.network.Line;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(ExtensionCopier.class)
+public class MergedXnodeCopier implements ExtensionCopier<Line, MergedXnode> {
+
+    @Override
+    public String getExtensionName() {
+        return "mergedXnode";
+    }
+
+    @Override
+    public String getCategoryName() {
+        return "network";
+    }
+
+    @Override
+    public Class<MergedXnode> getExtensionClass() {
+        return MergedXnode.class;
+    }
+
+    @Override
+    public MergedXnode copy(MergedXnode extension, Line target) {
+        return new MergedXnode(target, extension.getRdp(), extension.getXdp(), extension.getXnodeP1(), extension.getXnodeQ1(),
+                               extension.getXnodeP2(), extension.getXnodeQ2(), extension.getCode());
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.entsoe.util;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.DanglingLine;
+import com.powsybl.iidm.network.ExtensionCopier;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(ExtensionCopier.class)
+public class XnodeCopier implements ExtensionCopier<DanglingLine, Xnode> {
+
+    @Override
+    public String getExtensionName() {
+        return "xnode";
+    }
+
+    @Override
+    public String getCategoryName() {
+        return "network";
+    }
+
+    @Override
+    public Class<Xnode> getExtensionClass() {
+        return Xnode.class;
+    }
+
+    @Override
+    public Xnode copy(Xnode extension, DanglingLine target) {
+        return new Xnode(target, extension.getCode());
+    }
+}
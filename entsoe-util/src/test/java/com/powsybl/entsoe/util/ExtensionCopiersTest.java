@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.entsoe.util;
+
+import com.powsybl.iidm.network.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ExtensionCopiersTest {
+
+    private static Network createTestNetwork() {
+        Network network = NetworkFactory.create("test", "test");
+        for (int i = 1; i <= 2; i++) {
+            Substation s = network.newSubstation()
+                    .setId("S" + i)
+                    .setCountry(Country.FR)
+                    .add();
+            s.newVoltageLevel()
+                    .setId("VL" + i)
+                    .setNominalV(400)
+                    .setTopologyKind(TopologyKind.BUS_BREAKER)
+                    .add()
+                .getBusBreakerView().newBus()
+                    .setId("B" + i)
+                    .add();
+        }
+        network.newLine()
+                .setId("L")
+                .setVoltageLevel1("VL1")
+                .setBus1("B1")
+                .setVoltageLevel2("VL2")
+                .setBus2("B2")
+                .setR(1.0)
+                .setX(1.0)
+                .setG1(0.0)
+                .setG2(0.0)
+                .setB1(0.0)
+                .setB2(0.0)
+                .add();
+        network.getVoltageLevel("VL1").newDanglingLine()
+                .setId("DL")
+                .setBus("B1")
+                .setR(1.0)
+                .setX(1.0)
+                .setG(0.0)
+                .setB(0.0)
+                .setP0(10.0)
+                .setQ0(0.0)
+                .add();
+        return network;
+    }
+
+    @Test
+    public void test() {
+        Network network = createTestNetwork();
+        Substation s1 = network.getSubstation("S1");
+        s1.addExtension(EntsoeArea.class, new EntsoeArea(s1, EntsoeGeographicalCode.FR));
+        Line line = network.getLine("L");
+        line.addExtension(MergedXnode.class, new MergedXnode(line, 0.5f, 0.5f, 1.0, 2.0, 3.0, 4.0, "XXXXXX11"));
+        DanglingLine dl = network.getDanglingLine("DL");
+        dl.addExtension(Xnode.class, new Xnode(dl, "XXXXXX12"));
+        assertTrue(ExtensionCopiers.isCopySupported(network));
+
+        Network copy = network.copy(true);
+
+        EntsoeArea area = copy.getSubstation("S1").getExtension(EntsoeArea.class);
+        assertSame(copy.getSubstation("S1"), area.getExtendable());
+        assertEquals(EntsoeGeographicalCode.FR, area.getCode());
+        assertNull(copy.getSubstation("S2").getExtension(EntsoeArea.class));
+
+        MergedXnode mergedXnode = copy.getLine("L").getExtension(MergedXnode.class);
+        assertSame(copy.getLine("L"), mergedXnode.getExtendable());
+        assertEquals(0.5f, mergedXnode.getRdp(), 0f);
+        assertEquals(0.5f, mergedXnode.getXdp(), 0f);
+        assertEquals(1.0, mergedXnode.getXnodeP1(), 0.0);
+        assertEquals(2.0, mergedXnode.getXnodeQ1(), 0.0);
+        assertEquals(3.0, mergedXnode.getXnodeP2(), 0.0);
+        assertEquals(4.0, mergedXnode.getXnodeQ2(), 0.0);
+        assertEquals("XXXXXX11", mergedXnode.getCode());
+
+        Xnode xnode = copy.getDanglingLine("DL").getExtension(Xnode.class);
+        assertSame(copy.getDanglingLine("DL"), xnode.getExtendable());
+        assertEquals("XXXXXX12", xnode.getCode());
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network;
+
+import com.powsybl.commons.extensions.Extendable;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.commons.extensions.ExtensionProvider;
+
+/**
+ * Copy of an extension by {@link Network#copy(boolean)}, to be registered as a service with the "network" category.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface ExtensionCopier<T extends Extendable, E extends Extension<T>> extends ExtensionProvider<T, E> {
+
+    /**
+     * Create a copy of an extension for the copy of its extendable, the extension is then added to the target by
+     * the caller.
+     *
+     * @param extension the extension to copy
+     * @param target the copy of the extendable, in the copied network
+     */
+    E copy(E extension, T target);
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.extensions.Extendable;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.commons.extensions.ExtensionProviders;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Extension copiers available as services.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class ExtensionCopiers {
+
+    private static final String CATEGORY_NAME = "network";
+
+    private static final ExtensionProviders<ExtensionCopier> COPIERS = ExtensionProviders.createProvider(ExtensionCopier.class, CATEGORY_NAME);
+
+    private ExtensionCopiers() {
+    }
+
+    /**
+     * Check that all the extensions of a network and of its identifiables can be copied, so that an in memory copy
+     * of the network loses nothing.
+     */
+    public static boolean isCopySupported(Network network) {
+        Objects.requireNonNull(network);
+        return Stream.concat(Stream.of(network), network.getIdentifiables().stream())
+                .flatMap(identifiable -> identifiable.getExtensions().stream())
+                .allMatch(extension -> COPIERS.findProvider(extension.getName()) != null);
+    }
+
+    /**
+     * Copy all the extensions of an extendable to another one.
+     *
+     * @throws PowsyblException if an extension has no copier
+     */
+    @SuppressWarnings("unchecked")
+    public static void copyExtensions(Extendable<?> source, Extendable<?> target) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(target);
+        for (Extension<?> extension : source.getExtensions()) {
+            ExtensionCopier copier = COPIERS.findProvider(extension.getName());
+            if (copier == null) {
+                throw new PowsyblException("Copier not found for extension " + extension.getName());
+            }
+            ((Extendable) target).addExtension(copier.getExtensionClass(), copier.copy(extension, target));
+        }
+    }
+}
@@ -133,6 +133,33 @@ public interface Network extends Container<Network> {
      */
     VariantManager getVariantManager();
 
+    /**
+     * Get an in memory copy of the network, with all its variants.
+     * <p>
+     * Extensions are copied by the {@link ExtensionCopier} services, see {@link #copy(boolean)}.
+     */
+    default Network copy() {
+        return copy(false);
+    }
+
+    /**
+     * Get an in memory copy of the network.
+     * <p>
+     * If <code>workingVariantOnly</code> is true, the copy only has the initial variant, holding the state of the
+     * working variant of this network. Otherwise all the variants are copied and the working variant of the copy
+     * is the same as this network one.
+     * <p>
+     * Extensions of the network and of its identifiables are copied by the {@link ExtensionCopier} services, so
+     * {@link ExtensionCopiers#isCopySupported(Network)} has to be checked before, to fall back on another kind of
+     * copy (XML...) when one of them is missing.
+     *
+     * @param workingVariantOnly only copy the working variant
+     * @throws com.powsybl.commons.PowsyblException if an extension cannot be copied
+     */
+    default Network copy(boolean workingVariantOnly) {
+        throw new UnsupportedOperationException("Not implemented");
+    }
+
     /**
      * Get all countries.
      */
@@ -66,6 +66,20 @@ public interface VariantManager {
      */
     void cloneVariant(String sourceVariantId, String targetVariantId);
 
+    /**
+     * Create a new variant by cloning an existing one, or if allowed overwrite an existing variant with a copy
+     * of the source one. Overwriting reuses the variant array element of the target variant, so it is cheaper
+     * than removing the target variant and cloning it again.
+     *
+     * @param sourceVariantId the source variant id
+     * @param targetVariantId the target variant id
+     * @param mayOverwrite if true an existing target variant is overwritten
+     * @throws com.powsybl.commons.PowsyblException
+     *                         if the source variant is not found or if a variant with
+     *                         the id targetVariantId already exists and mayOverwrite is false
+     */
+    void cloneVariant(String sourceVariantId, String targetVariantId, boolean mayOverwrite);
+
     /**
      * Remove a variant.
      *
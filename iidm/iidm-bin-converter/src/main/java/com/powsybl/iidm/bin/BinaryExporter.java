@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.iidm.ConversionParameters;
+import com.powsybl.iidm.export.ExportOptions;
+import com.powsybl.iidm.export.Exporter;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.parameters.Parameter;
+import com.powsybl.iidm.parameters.ParameterDefaultValueConfig;
+import com.powsybl.iidm.parameters.ParameterType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+
+/**
+ * Binary export of an IIDM model.<p>
+ * <table border="1">
+ *     <tr>
+ *         <td><b>property name</b></td>
+ *         <td><b>comment</b></td>
+ *         <td><b>possible values</b></td>
+ *     </tr>
+ *     <tr>
+ *         <td>iidm.export.bin.skip-extensions</td>
+ *         <td>if true do not export extensions</td>
+ *         <td>true or false</td>
+ *     </tr>
+ *     <tr>
+ *         <td>iidm.export.bin.throw-exception-if-extension-not-found</td>
+ *         <td>if true fail when an extension has no binary serializer</td>
+ *         <td>true or false</td>
+ *     </tr>
+ * </table>
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(Exporter.class)
+public class BinaryExporter implements Exporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryExporter.class);
+
+    public static final String SKIP_EXTENSIONS = "iidm.export.bin.skip-extensions";
+    public static final String THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND = "iidm.export.bin.throw-exception-if-extension-not-found";
+
+    private static final Parameter SKIP_EXTENSIONS_PARAMETER = new Parameter(SKIP_EXTENSIONS, ParameterType.BOOLEAN, "Skip exporting the extensions", Boolean.FALSE);
+    private static final Parameter THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER = new Parameter(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE);
+
+    private final ParameterDefaultValueConfig defaultValueConfig;
+
+    public BinaryExporter() {
+        this(PlatformConfig.defaultConfig());
+    }
+
+    public BinaryExporter(PlatformConfig platformConfig) {
+        defaultValueConfig = new ParameterDefaultValueConfig(platformConfig);
+    }
+
+    @Override
+    public String getFormat() {
+        return "BIIDM";
+    }
+
+    @Override
+    public String getComment() {
+        return "IIDM binary v" + NetworkBinary.VERSION + " exporter";
+    }
+
+    @Override
+    public void export(Network network, Properties parameters, DataSource dataSource) {
+        if (network == null) {
+            throw new IllegalArgumentException("network is null");
+        }
+
+        ExportOptions options = new ExportOptions()
+                .setSkipExtensions(ConversionParameters.readBooleanParameter(getFormat(), parameters, SKIP_EXTENSIONS_PARAMETER, defaultValueConfig))
+                .setThrowExceptionIfExtensionNotFound(ConversionParameters.readBooleanParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER, defaultValueConfig));
+
+        try {
+            long startTime = System.currentTimeMillis();
+
+            try (OutputStream os = dataSource.newOutputStream(null, "biidm", false);
+                 BufferedOutputStream bos = new BufferedOutputStream(os)) {
+                NetworkBinary.write(network, options, bos);
+            }
+
+            LOGGER.debug("BIIDM export done in {} ms", System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
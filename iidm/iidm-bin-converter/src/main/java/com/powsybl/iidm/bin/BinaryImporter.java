@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.auto.service.AutoService;
+import com.google.common.io.ByteStreams;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.config.PlatformConfig;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.ReadOnlyDataSource;
+import com.powsybl.iidm.ConversionParameters;
+import com.powsybl.iidm.import_.ImportOptions;
+import com.powsybl.iidm.import_.Importer;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.parameters.Parameter;
+import com.powsybl.iidm.parameters.ParameterDefaultValueConfig;
+import com.powsybl.iidm.parameters.ParameterType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(Importer.class)
+public class BinaryImporter implements Importer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BinaryImporter.class);
+
+    private static final String EXTENSION = "biidm";
+
+    public static final String THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND = "iidm.import.bin.throw-exception-if-extension-not-found";
+
+    private static final Parameter THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER
+            = new Parameter(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE);
+
+    private final ParameterDefaultValueConfig defaultValueConfig;
+
+    public BinaryImporter() {
+        this(PlatformConfig.defaultConfig());
+    }
+
+    public BinaryImporter(PlatformConfig platformConfig) {
+        defaultValueConfig = new ParameterDefaultValueConfig(platformConfig);
+    }
+
+    @Override
+    public String getFormat() {
+        return "BIIDM";
+    }
+
+    @Override
+    public List<Parameter> getParameters() {
+        return Collections.singletonList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER);
+    }
+
+    @Override
+    public String getComment() {
+        return "IIDM binary v" + NetworkBinary.VERSION + " importer";
+    }
+
+    @Override
+    public boolean exists(ReadOnlyDataSource dataSource) {
+        try {
+            if (dataSource.exists(null, EXTENSION)) {
+                try (InputStream is = dataSource.newInputStream(null, EXTENSION)) {
+                    return NetworkBinary.isBinary(is);
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void copy(ReadOnlyDataSource fromDataSource, DataSource toDataSource) {
+        if (!exists(fromDataSource)) {
+            throw new PowsyblException("From data source is not importable");
+        }
+        try (InputStream is = fromDataSource.newInputStream(null, EXTENSION);
+             OutputStream os = toDataSource.newOutputStream(null, EXTENSION, false)) {
+            ByteStreams.copy(is, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
+        Objects.requireNonNull(dataSource);
+        Network network;
+        long startTime = System.currentTimeMillis();
+        try {
+            if (!dataSource.exists(null, EXTENSION)) {
+                throw new PowsyblException("File " + dataSource.getBaseName() + "." + EXTENSION + " not found");
+            }
+            boolean throwExceptionIfExtensionNotFound = ConversionParameters.readBooleanParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER, defaultValueConfig);
+            try (InputStream is = new BufferedInputStream(dataSource.newInputStream(null, EXTENSION))) {
+                network = NetworkBinary.read(is, new ImportOptions(throwExceptionIfExtensionNotFound));
+            }
+            LOGGER.debug("BIIDM import done in {} ms", System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            throw new PowsyblException(e);
+        }
+        return network;
+    }
+}
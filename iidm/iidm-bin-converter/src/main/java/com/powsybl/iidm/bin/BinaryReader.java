@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.powsybl.iidm.bin.BinaryWriter.*;
+
+/**
+ * Low level reader of the binary IIDM format, see {@link BinaryWriter}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BinaryReader {
+
+    private final DataInputStream is;
+
+    private final List<String> strings = new ArrayList<>();
+
+    public BinaryReader(InputStream is) {
+        this.is = new DataInputStream(Objects.requireNonNull(is));
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = is.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new PowsyblException("Malformed variable length integer");
+    }
+
+    public int readVarInt() throws IOException {
+        return (int) readVarLong();
+    }
+
+    public int readSignedVarInt() throws IOException {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public boolean readBoolean() throws IOException {
+        return is.readBoolean();
+    }
+
+    public double readDouble() throws IOException {
+        int kind = is.readUnsignedByte();
+        switch (kind) {
+            case NAN_DOUBLE:
+                return Double.NaN;
+            case LONG_DOUBLE:
+                return readSignedVarLong();
+            case FLOAT_DOUBLE:
+                return is.readFloat();
+            case RAW_DOUBLE:
+                return is.readDouble();
+            default:
+                throw new PowsyblException("Unexpected double encoding " + kind);
+        }
+    }
+
+    public float readFloat() throws IOException {
+        return (float) readDouble();
+    }
+
+    public String readString() throws IOException {
+        int index = readVarInt();
+        if (index == NULL_STRING) {
+            return null;
+        }
+        if (index == NEW_STRING) {
+            byte[] bytes = new byte[readVarInt()];
+            is.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+        if (index - FIRST_STRING_INDEX >= strings.size()) {
+            throw new PowsyblException("Unknown string index " + index);
+        }
+        return strings.get(index - FIRST_STRING_INDEX);
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> clazz) throws IOException {
+        String name = readString();
+        return name != null ? Enum.valueOf(clazz, name) : null;
+    }
+
+    public byte[] readBytes() throws IOException {
+        byte[] bytes = new byte[readVarInt()];
+        is.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Low level writer of the binary IIDM format.
+ * <p>
+ * Integers are written as variable length integers (7 bits per byte), signed ones being zigzag encoded. A string is
+ * only written the first time it is met, later occurrences are replaced by its index in a string table which is
+ * rebuilt by the {@link BinaryReader} in the same order. Doubles are written with the smallest exact encoding among
+ * NaN, integer, float and double.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BinaryWriter {
+
+    static final int NULL_STRING = 0;
+    static final int NEW_STRING = 1;
+    static final int FIRST_STRING_INDEX = 2;
+
+    static final int NAN_DOUBLE = 0;
+    static final int LONG_DOUBLE = 1;
+    static final int FLOAT_DOUBLE = 2;
+    static final int RAW_DOUBLE = 3;
+
+    // doubles are exactly represented by a long up to 2^53
+    private static final double MAX_EXACT_LONG = 9007199254740992d;
+
+    private final DataOutputStream os;
+
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+    public BinaryWriter(OutputStream os) {
+        this.os = new DataOutputStream(Objects.requireNonNull(os));
+    }
+
+    public void writeVarLong(long value) throws IOException {
+        long v = value;
+        while ((v & ~0x7FL) != 0) {
+            os.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        os.writeByte((int) v);
+    }
+
+    public void writeVarInt(int value) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    public void writeSignedVarInt(int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeBoolean(boolean value) throws IOException {
+        os.writeBoolean(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        if (Double.isNaN(value)) {
+            os.writeByte(NAN_DOUBLE);
+        } else if (value == Math.rint(value) && Math.abs(value) <= MAX_EXACT_LONG
+                && (value != 0 || Double.doubleToRawLongBits(value) == 0)) {
+            os.writeByte(LONG_DOUBLE);
+            writeSignedVarLong((long) value);
+        } else if ((double) (float) value == value) {
+            os.writeByte(FLOAT_DOUBLE);
+            os.writeFloat((float) value);
+        } else {
+            os.writeByte(RAW_DOUBLE);
+            os.writeDouble(value);
+        }
+    }
+
+    public void writeFloat(float value) throws IOException {
+        writeDouble(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(NULL_STRING);
+            return;
+        }
+        Integer index = stringIndexes.get(value);
+        if (index != null) {
+            writeVarInt(FIRST_STRING_INDEX + index);
+        } else {
+            stringIndexes.put(value, stringIndexes.size());
+            writeVarInt(NEW_STRING);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            os.write(bytes);
+        }
+    }
+
+    public <E extends Enum<E>> void writeEnum(E value) throws IOException {
+        writeString(value != null ? value.name() : null);
+    }
+
+    public void writeBytes(byte[] bytes) throws IOException {
+        writeVarInt(bytes.length);
+        os.write(bytes);
+    }
+
+    public void flush() throws IOException {
+        os.flush();
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.extensions.Extendable;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.commons.extensions.ExtensionProvider;
+
+import java.io.IOException;
+
+/**
+ * An ExtensionProvider able to serialize/deserialize extensions to the binary IIDM format.
+ * <p>
+ * Each extension is written to its own buffer, so the string table of the writer and the reader given to the
+ * serializer is local to the extension.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface ExtensionBinarySerializer<T extends Extendable, E extends Extension<T>> extends ExtensionProvider<T, E> {
+
+    void write(E extension, BinaryWriter writer) throws IOException;
+
+    E read(T extendable, BinaryReader reader) throws IOException;
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.extensions.ExtensionProviders;
+import com.powsybl.iidm.export.ExportOptions;
+import com.powsybl.iidm.import_.ImportOptions;
+import com.powsybl.iidm.network.Network;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact binary serialization of a network, much faster to write and to read than XIIDM and well suited to the
+ * transfer of a network between processes.
+ * <p>
+ * Only the working variant is written. Extensions are written through {@link ExtensionBinarySerializer} plugins.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class NetworkBinary {
+
+    private static final String EXTENSION_CATEGORY_NAME = "network";
+
+    private static final byte[] MAGIC = "BIIDM".getBytes(StandardCharsets.US_ASCII);
+
+    static final int VERSION = 1;
+
+    private static final Supplier<ExtensionProviders<ExtensionBinarySerializer>> EXTENSIONS_SUPPLIER
+        = Suppliers.memoize(() -> ExtensionProviders.createProvider(ExtensionBinarySerializer.class, EXTENSION_CATEGORY_NAME));
+
+    private NetworkBinary() {
+    }
+
+    static ExtensionProviders<ExtensionBinarySerializer> getExtensionProviders() {
+        return EXTENSIONS_SUPPLIER.get();
+    }
+
+    /**
+     * Check if the stream starts with the binary IIDM magic number.
+     */
+    public static boolean isBinary(InputStream is) throws IOException {
+        byte[] header = new byte[MAGIC.length];
+        int n = 0;
+        while (n < header.length) {
+            int count = is.read(header, n, header.length - n);
+            if (count == -1) {
+                return false;
+            }
+            n += count;
+        }
+        return Arrays.equals(header, MAGIC);
+    }
+
+    public static void write(Network n, ExportOptions options, OutputStream os) {
+        Objects.requireNonNull(n);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(os);
+        try {
+            BinaryWriter writer = new BinaryWriter(os);
+            os.write(MAGIC);
+            writer.writeVarInt(VERSION);
+            new NetworkBinaryWriter(n, options, writer).write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Network n, OutputStream os) {
+        write(n, new ExportOptions(), os);
+    }
+
+    public static void write(Network n, ExportOptions options, Path file) {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(n, options, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Network n, Path file) {
+        write(n, new ExportOptions(), file);
+    }
+
+    public static Network read(InputStream is, ImportOptions options) {
+        Objects.requireNonNull(is);
+        Objects.requireNonNull(options);
+        try {
+            if (!isBinary(is)) {
+                throw new PowsyblException("Not a binary IIDM stream");
+            }
+            BinaryReader reader = new BinaryReader(is);
+            int version = reader.readVarInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary IIDM version " + version);
+            }
+            return new NetworkBinaryReader(options, reader).read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Network read(InputStream is) {
+        return read(is, new ImportOptions());
+    }
+
+    public static Network read(Path file, ImportOptions options) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(is, options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static Network read(Path file) {
+        return read(file, new ImportOptions());
+    }
+}
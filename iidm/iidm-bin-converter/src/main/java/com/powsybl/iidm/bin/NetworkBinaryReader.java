@@ -0,0 +1,989 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.iidm.import_.ImportOptions;
+import com.powsybl.iidm.network.*;
+import org.joda.time.DateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Read a network written by {@link NetworkBinaryWriter}.
+ * <p>
+ * Each block is fully read, column by column, before the corresponding equipments are created with the adders.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class NetworkBinaryReader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkBinaryReader.class);
+
+    @FunctionalInterface
+    private interface ColumnReader<T> {
+        T read() throws IOException;
+    }
+
+    private static final class Connectivity {
+
+        private final String voltageLevelId;
+
+        private final int node;
+
+        private final String connectableBusId;
+
+        private final boolean connected;
+
+        private Connectivity(String voltageLevelId, int node, String connectableBusId, boolean connected) {
+            this.voltageLevelId = voltageLevelId;
+            this.node = node;
+            this.connectableBusId = connectableBusId;
+            this.connected = connected;
+        }
+    }
+
+    private static final class TerminalRef {
+
+        private final String connectableId;
+
+        private final int side;
+
+        private TerminalRef(String connectableId, int side) {
+            this.connectableId = connectableId;
+            this.side = side;
+        }
+    }
+
+    private static final class IdentifiableColumns {
+
+        private final int count;
+
+        private final String[] ids;
+
+        private final String[] names;
+
+        private IdentifiableColumns(int count, String[] ids, String[] names) {
+            this.count = count;
+            this.ids = ids;
+            this.names = names;
+        }
+    }
+
+    private final ImportOptions options;
+
+    private final BinaryReader reader;
+
+    private Network network;
+
+    NetworkBinaryReader(ImportOptions options, BinaryReader reader) {
+        this.options = Objects.requireNonNull(options);
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    private <T> List<T> readColumn(int count, ColumnReader<T> columnReader) throws IOException {
+        List<T> column = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            column.add(columnReader.read());
+        }
+        return column;
+    }
+
+    private double[] readDoubles(int count) throws IOException {
+        double[] column = new double[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readDouble();
+        }
+        return column;
+    }
+
+    private float[] readFloats(int count) throws IOException {
+        float[] column = new float[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readFloat();
+        }
+        return column;
+    }
+
+    private int[] readInts(int count) throws IOException {
+        int[] column = new int[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readVarInt();
+        }
+        return column;
+    }
+
+    private int[] readSignedInts(int count) throws IOException {
+        int[] column = new int[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readSignedVarInt();
+        }
+        return column;
+    }
+
+    private boolean[] readBooleans(int count) throws IOException {
+        boolean[] column = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readBoolean();
+        }
+        return column;
+    }
+
+    private String[] readStrings(int count) throws IOException {
+        String[] column = new String[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readString();
+        }
+        return column;
+    }
+
+    private <E extends Enum<E>> List<E> readEnums(int count, Class<E> clazz) throws IOException {
+        return readColumn(count, () -> reader.readEnum(clazz));
+    }
+
+    private IdentifiableColumns readIdentifiables() throws IOException {
+        int count = reader.readVarInt();
+        return new IdentifiableColumns(count, readStrings(count), readStrings(count));
+    }
+
+    private Connectivity readConnectivity() throws IOException {
+        String voltageLevelId = reader.readString();
+        VoltageLevel voltageLevel = getVoltageLevel(voltageLevelId);
+        if (voltageLevel.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            return new Connectivity(voltageLevelId, reader.readVarInt(), null, false);
+        } else {
+            String connectableBusId = reader.readString();
+            return new Connectivity(voltageLevelId, -1, connectableBusId, reader.readBoolean());
+        }
+    }
+
+    private List<Connectivity> readConnectivities(int count) throws IOException {
+        return readColumn(count, this::readConnectivity);
+    }
+
+    private TerminalRef readTerminalRef() throws IOException {
+        String connectableId = reader.readString();
+        return connectableId != null ? new TerminalRef(connectableId, reader.readVarInt()) : null;
+    }
+
+    private VoltageLevel getVoltageLevel(String id) {
+        VoltageLevel voltageLevel = network.getVoltageLevel(id);
+        if (voltageLevel == null) {
+            throw new PowsyblException("Voltage level '" + id + "' not found");
+        }
+        return voltageLevel;
+    }
+
+    private Terminal getTerminal(TerminalRef ref) {
+        if (ref == null) {
+            return null;
+        }
+        Identifiable<?> identifiable = network.getIdentifiable(ref.connectableId);
+        if (identifiable instanceof Injection) {
+            return ((Injection<?>) identifiable).getTerminal();
+        } else if (identifiable instanceof Branch) {
+            return ((Branch<?>) identifiable).getTerminal(Branch.Side.values()[ref.side - 1]);
+        } else if (identifiable instanceof ThreeWindingsTransformer) {
+            return ((ThreeWindingsTransformer) identifiable).getTerminal(ThreeWindingsTransformer.Side.values()[ref.side - 1]);
+        }
+        throw new PowsyblException("Connectable '" + ref.connectableId + "' not found");
+    }
+
+    private static <T extends InjectionAdder<T>> T setConnectivity(T adder, Connectivity c) {
+        if (c.connectableBusId == null) {
+            adder.setNode(c.node);
+        } else {
+            adder.setConnectableBus(c.connectableBusId);
+            if (c.connected) {
+                adder.setBus(c.connectableBusId);
+            }
+        }
+        return adder;
+    }
+
+    private static <L extends ThreeWindingsTransformerAdder.LegAdder<L>> L setConnectivity(L adder, Connectivity c) {
+        adder.setVoltageLevel(c.voltageLevelId);
+        if (c.connectableBusId == null) {
+            adder.setNode(c.node);
+        } else {
+            adder.setConnectableBus(c.connectableBusId);
+            if (c.connected) {
+                adder.setBus(c.connectableBusId);
+            }
+        }
+        return adder;
+    }
+
+    private static <T extends BranchAdder<T>> T setConnectivity(T adder, Connectivity c1, Connectivity c2) {
+        adder.setVoltageLevel1(c1.voltageLevelId);
+        if (c1.connectableBusId == null) {
+            adder.setNode1(c1.node);
+        } else {
+            adder.setConnectableBus1(c1.connectableBusId);
+            if (c1.connected) {
+                adder.setBus1(c1.connectableBusId);
+            }
+        }
+        adder.setVoltageLevel2(c2.voltageLevelId);
+        if (c2.connectableBusId == null) {
+            adder.setNode2(c2.node);
+        } else {
+            adder.setConnectableBus2(c2.connectableBusId);
+            if (c2.connected) {
+                adder.setBus2(c2.connectableBusId);
+            }
+        }
+        return adder;
+    }
+
+    private void readCurrentLimits(CurrentLimitsAdder adder) throws IOException {
+        if (!reader.readBoolean()) {
+            return;
+        }
+        adder.setPermanentLimit(reader.readDouble());
+        int temporaryLimitCount = reader.readVarInt();
+        for (int i = 0; i < temporaryLimitCount; i++) {
+            adder.beginTemporaryLimit()
+                    .setName(reader.readString())
+                    .setAcceptableDuration(reader.readVarInt())
+                    .setValue(reader.readDouble())
+                    .setFictitious(reader.readBoolean())
+                    .endTemporaryLimit();
+        }
+        adder.add();
+    }
+
+    private void readReactiveLimits(ReactiveLimitsHolder holder) throws IOException {
+        ReactiveLimitsKind kind = reader.readEnum(ReactiveLimitsKind.class);
+        switch (kind) {
+            case CURVE:
+                ReactiveCapabilityCurveAdder curveAdder = holder.newReactiveCapabilityCurve();
+                int pointCount = reader.readVarInt();
+                for (int i = 0; i < pointCount; i++) {
+                    curveAdder.beginPoint()
+                            .setP(reader.readDouble())
+                            .setMinQ(reader.readDouble())
+                            .setMaxQ(reader.readDouble())
+                            .endPoint();
+                }
+                curveAdder.add();
+                break;
+
+            case MIN_MAX:
+                holder.newMinMaxReactiveLimits()
+                        .setMinQ(reader.readDouble())
+                        .setMaxQ(reader.readDouble())
+                        .add();
+                break;
+
+            default:
+                throw new AssertionError("Unexpected reactive limits kind: " + kind);
+        }
+    }
+
+    private <T extends Injection<?>> void readPQ(List<T> injections) throws IOException {
+        int count = injections.size();
+        double[] p = readDoubles(count);
+        double[] q = readDoubles(count);
+        for (int i = 0; i < count; i++) {
+            injections.get(i).getTerminal().setP(p[i]).setQ(q[i]);
+        }
+    }
+
+    private <T extends Branch<?>> void readBranchesState(List<T> branches) throws IOException {
+        int count = branches.size();
+        double[] p1 = readDoubles(count);
+        double[] q1 = readDoubles(count);
+        double[] p2 = readDoubles(count);
+        double[] q2 = readDoubles(count);
+        for (int i = 0; i < count; i++) {
+            T branch = branches.get(i);
+            branch.getTerminal1().setP(p1[i]).setQ(q1[i]);
+            branch.getTerminal2().setP(p2[i]).setQ(q2[i]);
+        }
+        for (T branch : branches) {
+            readCurrentLimits(branch.newCurrentLimits1());
+        }
+        for (T branch : branches) {
+            readCurrentLimits(branch.newCurrentLimits2());
+        }
+    }
+
+    Network read() throws IOException {
+        String id = reader.readString();
+        String sourceFormat = reader.readString();
+        network = NetworkFactory.create(id, sourceFormat);
+        network.setCaseDate(DateTime.parse(reader.readString()));
+        network.setForecastDistance(reader.readVarInt());
+
+        readSubstations();
+        readVoltageLevels();
+        Runnable busbarSectionsStateTask = readTopology();
+        readGenerators();
+        readLoads();
+        readShuntCompensators();
+        readDanglingLines();
+        readStaticVarCompensators();
+        readVscConverterStations();
+        readLccConverterStations();
+        readTwoWindingsTransformers();
+        readThreeWindingsTransformers();
+        readLines();
+        readHvdcLines();
+        readTapChangers();
+        readRegulatingTerminals();
+        readProperties();
+        readExtensions();
+
+        // voltages of busbar sections can only be set once the bus view is complete
+        busbarSectionsStateTask.run();
+
+        return network;
+    }
+
+    private void readSubstations() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Country> countries = readEnums(columns.count, Country.class);
+        String[] tsos = readStrings(columns.count);
+        List<String[]> tags = readColumn(columns.count, () -> readStrings(reader.readVarInt()));
+        for (int i = 0; i < columns.count; i++) {
+            network.newSubstation()
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setCountry(countries.get(i))
+                    .setTso(tsos[i])
+                    .setGeographicalTags(tags.get(i))
+                    .add();
+        }
+    }
+
+    private void readVoltageLevels() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        String[] substationIds = readStrings(columns.count);
+        double[] nominalV = readDoubles(columns.count);
+        double[] lowVoltageLimits = readDoubles(columns.count);
+        double[] highVoltageLimits = readDoubles(columns.count);
+        List<TopologyKind> topologyKinds = readEnums(columns.count, TopologyKind.class);
+        int[] nodeCounts = readInts(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Substation substation = network.getSubstation(substationIds[i]);
+            if (substation == null) {
+                throw new PowsyblException("Substation '" + substationIds[i] + "' not found");
+            }
+            VoltageLevel voltageLevel = substation.newVoltageLevel()
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setNominalV(nominalV[i])
+                    .setLowVoltageLimit(lowVoltageLimits[i])
+                    .setHighVoltageLimit(highVoltageLimits[i])
+                    .setTopologyKind(topologyKinds.get(i))
+                    .add();
+            if (topologyKinds.get(i) == TopologyKind.NODE_BREAKER) {
+                voltageLevel.getNodeBreakerView().setNodeCount(nodeCounts[i]);
+            }
+        }
+    }
+
+    private Runnable readTopology() throws IOException {
+        IdentifiableColumns busbarSections = readIdentifiables();
+        List<Connectivity> busbarSectionConnectivities = readConnectivities(busbarSections.count);
+        double[] busbarSectionV = readDoubles(busbarSections.count);
+        double[] busbarSectionAngles = readDoubles(busbarSections.count);
+        List<BusbarSection> addedBusbarSections = new ArrayList<>(busbarSections.count);
+        for (int i = 0; i < busbarSections.count; i++) {
+            Connectivity c = busbarSectionConnectivities.get(i);
+            addedBusbarSections.add(getVoltageLevel(c.voltageLevelId).getNodeBreakerView().newBusbarSection()
+                    .setId(busbarSections.ids[i])
+                    .setName(busbarSections.names[i])
+                    .setNode(c.node)
+                    .add());
+        }
+
+        IdentifiableColumns switches = readIdentifiables();
+        String[] voltageLevelIds = readStrings(switches.count);
+        List<SwitchKind> kinds = readEnums(switches.count, SwitchKind.class);
+        int[] nodes1 = readInts(switches.count);
+        int[] nodes2 = readInts(switches.count);
+        boolean[] open = readBooleans(switches.count);
+        boolean[] retained = readBooleans(switches.count);
+        boolean[] fictitious = readBooleans(switches.count);
+        for (int i = 0; i < switches.count; i++) {
+            getVoltageLevel(voltageLevelIds[i]).getNodeBreakerView().newSwitch()
+                    .setId(switches.ids[i])
+                    .setName(switches.names[i])
+                    .setKind(kinds.get(i))
+                    .setNode1(nodes1[i])
+                    .setNode2(nodes2[i])
+                    .setOpen(open[i])
+                    .setRetained(retained[i])
+                    .setFictitious(fictitious[i])
+                    .add();
+        }
+
+        int internalConnectionCount = reader.readVarInt();
+        voltageLevelIds = readStrings(internalConnectionCount);
+        nodes1 = readInts(internalConnectionCount);
+        nodes2 = readInts(internalConnectionCount);
+        for (int i = 0; i < internalConnectionCount; i++) {
+            getVoltageLevel(voltageLevelIds[i]).getNodeBreakerView().newInternalConnection()
+                    .setNode1(nodes1[i])
+                    .setNode2(nodes2[i])
+                    .add();
+        }
+
+        IdentifiableColumns buses = readIdentifiables();
+        voltageLevelIds = readStrings(buses.count);
+        double[] v = readDoubles(buses.count);
+        double[] angles = readDoubles(buses.count);
+        for (int i = 0; i < buses.count; i++) {
+            getVoltageLevel(voltageLevelIds[i]).getBusBreakerView().newBus()
+                    .setId(buses.ids[i])
+                    .setName(buses.names[i])
+                    .add()
+                    .setV(v[i])
+                    .setAngle(angles[i]);
+        }
+
+        switches = readIdentifiables();
+        voltageLevelIds = readStrings(switches.count);
+        String[] buses1 = readStrings(switches.count);
+        String[] buses2 = readStrings(switches.count);
+        open = readBooleans(switches.count);
+        fictitious = readBooleans(switches.count);
+        for (int i = 0; i < switches.count; i++) {
+            getVoltageLevel(voltageLevelIds[i]).getBusBreakerView().newSwitch()
+                    .setId(switches.ids[i])
+                    .setName(switches.names[i])
+                    .setBus1(buses1[i])
+                    .setBus2(buses2[i])
+                    .setOpen(open[i])
+                    .setFictitious(fictitious[i])
+                    .add();
+        }
+
+        return () -> {
+            for (int i = 0; i < addedBusbarSections.size(); i++) {
+                Bus b = addedBusbarSections.get(i).getTerminal().getBusView().getBus();
+                if (b != null) {
+                    b.setV(busbarSectionV[i]).setAngle(busbarSectionAngles[i]);
+                }
+            }
+        };
+    }
+
+    private void readGenerators() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        List<EnergySource> energySources = readEnums(columns.count, EnergySource.class);
+        double[] minP = readDoubles(columns.count);
+        double[] maxP = readDoubles(columns.count);
+        double[] ratedS = readDoubles(columns.count);
+        boolean[] voltageRegulatorOn = readBooleans(columns.count);
+        double[] targetP = readDoubles(columns.count);
+        double[] targetQ = readDoubles(columns.count);
+        double[] targetV = readDoubles(columns.count);
+        List<Generator> generators = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            generators.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newGenerator(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setEnergySource(energySources.get(i))
+                    .setMinP(minP[i])
+                    .setMaxP(maxP[i])
+                    .setRatedS(ratedS[i])
+                    .setVoltageRegulatorOn(voltageRegulatorOn[i])
+                    .setTargetP(targetP[i])
+                    .setTargetQ(targetQ[i])
+                    .setTargetV(targetV[i])
+                    .add());
+        }
+        for (Generator generator : generators) {
+            readReactiveLimits(generator);
+        }
+        readPQ(generators);
+    }
+
+    private void readLoads() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        List<LoadType> loadTypes = readEnums(columns.count, LoadType.class);
+        double[] p0 = readDoubles(columns.count);
+        double[] q0 = readDoubles(columns.count);
+        List<Load> loads = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            loads.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newLoad(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setLoadType(loadTypes.get(i))
+                    .setP0(p0[i])
+                    .setQ0(q0[i])
+                    .add());
+        }
+        readPQ(loads);
+    }
+
+    private void readShuntCompensators() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        double[] bPerSection = readDoubles(columns.count);
+        int[] maximumSectionCounts = readInts(columns.count);
+        int[] currentSectionCounts = readInts(columns.count);
+        double[] q = readDoubles(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            setConnectivity(getVoltageLevel(c.voltageLevelId).newShuntCompensator(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setbPerSection(bPerSection[i])
+                    .setMaximumSectionCount(maximumSectionCounts[i])
+                    .setCurrentSectionCount(currentSectionCounts[i])
+                    .add()
+                    .getTerminal().setQ(q[i]);
+        }
+    }
+
+    private void readDanglingLines() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        double[] p0 = readDoubles(columns.count);
+        double[] q0 = readDoubles(columns.count);
+        double[] r = readDoubles(columns.count);
+        double[] x = readDoubles(columns.count);
+        double[] g = readDoubles(columns.count);
+        double[] b = readDoubles(columns.count);
+        String[] ucteXnodeCodes = readStrings(columns.count);
+        List<DanglingLine> danglingLines = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            danglingLines.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newDanglingLine(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setP0(p0[i])
+                    .setQ0(q0[i])
+                    .setR(r[i])
+                    .setX(x[i])
+                    .setG(g[i])
+                    .setB(b[i])
+                    .setUcteXnodeCode(ucteXnodeCodes[i])
+                    .add());
+        }
+        for (DanglingLine danglingLine : danglingLines) {
+            readCurrentLimits(danglingLine.newCurrentLimits());
+        }
+        readPQ(danglingLines);
+    }
+
+    private void readStaticVarCompensators() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        double[] bMin = readDoubles(columns.count);
+        double[] bMax = readDoubles(columns.count);
+        double[] voltageSetPoints = readDoubles(columns.count);
+        double[] reactivePowerSetPoints = readDoubles(columns.count);
+        List<StaticVarCompensator.RegulationMode> regulationModes = readEnums(columns.count, StaticVarCompensator.RegulationMode.class);
+        List<StaticVarCompensator> svcs = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            svcs.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newStaticVarCompensator(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setBmin(bMin[i])
+                    .setBmax(bMax[i])
+                    .setVoltageSetPoint(voltageSetPoints[i])
+                    .setReactivePowerSetPoint(reactivePowerSetPoints[i])
+                    .setRegulationMode(regulationModes.get(i))
+                    .add());
+        }
+        readPQ(svcs);
+    }
+
+    private void readVscConverterStations() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        float[] lossFactors = readFloats(columns.count);
+        boolean[] voltageRegulatorOn = readBooleans(columns.count);
+        double[] voltageSetpoints = readDoubles(columns.count);
+        double[] reactivePowerSetpoints = readDoubles(columns.count);
+        List<VscConverterStation> stations = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            stations.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newVscConverterStation(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setLossFactor(lossFactors[i])
+                    .setVoltageRegulatorOn(voltageRegulatorOn[i])
+                    .setVoltageSetpoint(voltageSetpoints[i])
+                    .setReactivePowerSetpoint(reactivePowerSetpoints[i])
+                    .add());
+        }
+        for (VscConverterStation station : stations) {
+            readReactiveLimits(station);
+        }
+        readPQ(stations);
+    }
+
+    private void readLccConverterStations() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities = readConnectivities(columns.count);
+        float[] lossFactors = readFloats(columns.count);
+        float[] powerFactors = readFloats(columns.count);
+        List<LccConverterStation> stations = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            Connectivity c = connectivities.get(i);
+            stations.add(setConnectivity(getVoltageLevel(c.voltageLevelId).newLccConverterStation(), c)
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setLossFactor(lossFactors[i])
+                    .setPowerFactor(powerFactors[i])
+                    .add());
+        }
+        readPQ(stations);
+    }
+
+    private void readTwoWindingsTransformers() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities1 = readConnectivities(columns.count);
+        List<Connectivity> connectivities2 = readConnectivities(columns.count);
+        String[] substationIds = readStrings(columns.count);
+        double[] r = readDoubles(columns.count);
+        double[] x = readDoubles(columns.count);
+        double[] g = readDoubles(columns.count);
+        double[] b = readDoubles(columns.count);
+        double[] ratedU1 = readDoubles(columns.count);
+        double[] ratedU2 = readDoubles(columns.count);
+        List<TwoWindingsTransformer> twts = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            twts.add(setConnectivity(network.getSubstation(substationIds[i]).newTwoWindingsTransformer(), connectivities1.get(i), connectivities2.get(i))
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setR(r[i])
+                    .setX(x[i])
+                    .setG(g[i])
+                    .setB(b[i])
+                    .setRatedU1(ratedU1[i])
+                    .setRatedU2(ratedU2[i])
+                    .add());
+        }
+        readBranchesState(twts);
+    }
+
+    private void readThreeWindingsTransformers() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        String[] substationIds = readStrings(columns.count);
+        List<Connectivity> connectivities1 = readConnectivities(columns.count);
+        List<Connectivity> connectivities2 = readConnectivities(columns.count);
+        List<Connectivity> connectivities3 = readConnectivities(columns.count);
+        double[] r1 = readDoubles(columns.count);
+        double[] x1 = readDoubles(columns.count);
+        double[] g1 = readDoubles(columns.count);
+        double[] b1 = readDoubles(columns.count);
+        double[] ratedU1 = readDoubles(columns.count);
+        double[] r2 = readDoubles(columns.count);
+        double[] x2 = readDoubles(columns.count);
+        double[] ratedU2 = readDoubles(columns.count);
+        double[] r3 = readDoubles(columns.count);
+        double[] x3 = readDoubles(columns.count);
+        double[] ratedU3 = readDoubles(columns.count);
+        List<ThreeWindingsTransformer> twts = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            twts.add(setConnectivity(setConnectivity(setConnectivity(network.getSubstation(substationIds[i]).newThreeWindingsTransformer()
+                                .setId(columns.ids[i])
+                                .setName(columns.names[i])
+                                .newLeg1(), connectivities1.get(i))
+                            .setR(r1[i])
+                            .setX(x1[i])
+                            .setG(g1[i])
+                            .setB(b1[i])
+                            .setRatedU(ratedU1[i])
+                            .add()
+                            .newLeg2(), connectivities2.get(i))
+                        .setR(r2[i])
+                        .setX(x2[i])
+                        .setRatedU(ratedU2[i])
+                        .add()
+                        .newLeg3(), connectivities3.get(i))
+                    .setR(r3[i])
+                    .setX(x3[i])
+                    .setRatedU(ratedU3[i])
+                    .add()
+                    .add());
+        }
+        for (ThreeWindingsTransformer.Side side : ThreeWindingsTransformer.Side.values()) {
+            double[] p = readDoubles(columns.count);
+            double[] q = readDoubles(columns.count);
+            for (int i = 0; i < columns.count; i++) {
+                twts.get(i).getTerminal(side).setP(p[i]).setQ(q[i]);
+            }
+        }
+        for (ThreeWindingsTransformer twt : twts) {
+            readCurrentLimits(twt.getLeg1().newCurrentLimits());
+        }
+        for (ThreeWindingsTransformer twt : twts) {
+            readCurrentLimits(twt.getLeg2().newCurrentLimits());
+        }
+        for (ThreeWindingsTransformer twt : twts) {
+            readCurrentLimits(twt.getLeg3().newCurrentLimits());
+        }
+    }
+
+
+    private void readLines() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities1 = readConnectivities(columns.count);
+        List<Connectivity> connectivities2 = readConnectivities(columns.count);
+        double[] r = readDoubles(columns.count);
+        double[] x = readDoubles(columns.count);
+        double[] g1 = readDoubles(columns.count);
+        double[] b1 = readDoubles(columns.count);
+        double[] g2 = readDoubles(columns.count);
+        double[] b2 = readDoubles(columns.count);
+        List<Line> lines = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            lines.add(setConnectivity(network.newLine(), connectivities1.get(i), connectivities2.get(i))
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setR(r[i])
+                    .setX(x[i])
+                    .setG1(g1[i])
+                    .setB1(b1[i])
+                    .setG2(g2[i])
+                    .setB2(b2[i])
+                    .add());
+        }
+        readBranchesState(lines);
+
+        readTieLines();
+    }
+
+    private static final class HalfLineColumns {
+
+        private final String[] ids;
+
+        private final String[] names;
+
+        private final double[] r;
+
+        private final double[] x;
+
+        private final double[] g1;
+
+        private final double[] b1;
+
+        private final double[] g2;
+
+        private final double[] b2;
+
+        private final double[] xnodeP;
+
+        private final double[] xnodeQ;
+
+        private HalfLineColumns(NetworkBinaryReader reader, int count) throws IOException {
+            ids = reader.readStrings(count);
+            names = reader.readStrings(count);
+            r = reader.readDoubles(count);
+            x = reader.readDoubles(count);
+            g1 = reader.readDoubles(count);
+            b1 = reader.readDoubles(count);
+            g2 = reader.readDoubles(count);
+            b2 = reader.readDoubles(count);
+            xnodeP = reader.readDoubles(count);
+            xnodeQ = reader.readDoubles(count);
+        }
+
+        private void set(TieLineAdder adder, int i) {
+            adder.setId(ids[i])
+                    .setName(names[i])
+                    .setR(r[i])
+                    .setX(x[i])
+                    .setG1(g1[i])
+                    .setB1(b1[i])
+                    .setG2(g2[i])
+                    .setB2(b2[i])
+                    .setXnodeP(xnodeP[i])
+                    .setXnodeQ(xnodeQ[i]);
+        }
+    }
+
+    private void readTieLines() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        List<Connectivity> connectivities1 = readConnectivities(columns.count);
+        List<Connectivity> connectivities2 = readConnectivities(columns.count);
+        String[] ucteXnodeCodes = readStrings(columns.count);
+        HalfLineColumns halves1 = new HalfLineColumns(this, columns.count);
+        HalfLineColumns halves2 = new HalfLineColumns(this, columns.count);
+        List<TieLine> tieLines = new ArrayList<>(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            // id and name of the tie line have to be set before selecting the first half line
+            TieLineAdder adder = network.newTieLine()
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i]);
+            halves1.set(adder.line1(), i);
+            halves2.set(adder.line2(), i);
+            tieLines.add(setConnectivity(adder, connectivities1.get(i), connectivities2.get(i))
+                    .setUcteXnodeCode(ucteXnodeCodes[i])
+                    .add());
+        }
+        readBranchesState(tieLines);
+    }
+
+    private void readHvdcLines() throws IOException {
+        IdentifiableColumns columns = readIdentifiables();
+        double[] r = readDoubles(columns.count);
+        double[] nominalV = readDoubles(columns.count);
+        List<HvdcLine.ConvertersMode> convertersModes = readEnums(columns.count, HvdcLine.ConvertersMode.class);
+        double[] activePowerSetpoints = readDoubles(columns.count);
+        double[] maxP = readDoubles(columns.count);
+        String[] converterStationIds1 = readStrings(columns.count);
+        String[] converterStationIds2 = readStrings(columns.count);
+        for (int i = 0; i < columns.count; i++) {
+            network.newHvdcLine()
+                    .setId(columns.ids[i])
+                    .setName(columns.names[i])
+                    .setR(r[i])
+                    .setNominalV(nominalV[i])
+                    .setConvertersMode(convertersModes.get(i))
+                    .setActivePowerSetpoint(activePowerSetpoints[i])
+                    .setMaxP(maxP[i])
+                    .setConverterStationId1(converterStationIds1[i])
+                    .setConverterStationId2(converterStationIds2[i])
+                    .add();
+        }
+    }
+
+    private RatioTapChangerHolder getRatioTapChangerHolder(String transformerId, int leg) {
+        if (leg == 0) {
+            return network.getTwoWindingsTransformer(transformerId);
+        }
+        ThreeWindingsTransformer twt = network.getThreeWindingsTransformer(transformerId);
+        return leg == 2 ? twt.getLeg2() : twt.getLeg3();
+    }
+
+    private void readTapChangers() throws IOException {
+        int count = reader.readVarInt();
+        String[] transformerIds = readStrings(count);
+        int[] legs = readInts(count);
+        int[] lowTapPositions = readSignedInts(count);
+        int[] tapPositions = readSignedInts(count);
+        boolean[] loadTapChangingCapabilities = readBooleans(count);
+        boolean[] regulating = readBooleans(count);
+        double[] targetV = readDoubles(count);
+        List<TerminalRef> regulationTerminals = readColumn(count, this::readTerminalRef);
+        for (int i = 0; i < count; i++) {
+            RatioTapChangerAdder adder = getRatioTapChangerHolder(transformerIds[i], legs[i]).newRatioTapChanger()
+                    .setLowTapPosition(lowTapPositions[i])
+                    .setTapPosition(tapPositions[i])
+                    .setLoadTapChangingCapabilities(loadTapChangingCapabilities[i])
+                    .setRegulating(regulating[i])
+                    .setTargetV(targetV[i])
+                    .setRegulationTerminal(getTerminal(regulationTerminals.get(i)));
+            int stepCount = reader.readVarInt();
+            for (int j = 0; j < stepCount; j++) {
+                adder.beginStep()
+                        .setRho(reader.readDouble())
+                        .setR(reader.readDouble())
+                        .setX(reader.readDouble())
+                        .setG(reader.readDouble())
+                        .setB(reader.readDouble())
+                        .endStep();
+            }
+            adder.add();
+        }
+
+        count = reader.readVarInt();
+        transformerIds = readStrings(count);
+        lowTapPositions = readSignedInts(count);
+        tapPositions = readSignedInts(count);
+        List<PhaseTapChanger.RegulationMode> regulationModes = readEnums(count, PhaseTapChanger.RegulationMode.class);
+        double[] regulationValues = readDoubles(count);
+        regulating = readBooleans(count);
+        regulationTerminals = readColumn(count, this::readTerminalRef);
+        for (int i = 0; i < count; i++) {
+            PhaseTapChangerAdder adder = network.getTwoWindingsTransformer(transformerIds[i]).newPhaseTapChanger()
+                    .setLowTapPosition(lowTapPositions[i])
+                    .setTapPosition(tapPositions[i])
+                    .setRegulationMode(regulationModes.get(i))
+                    .setRegulationValue(regulationValues[i])
+                    .setRegulating(regulating[i])
+                    .setRegulationTerminal(getTerminal(regulationTerminals.get(i)));
+            int stepCount = reader.readVarInt();
+            for (int j = 0; j < stepCount; j++) {
+                adder.beginStep()
+                        .setAlpha(reader.readDouble())
+                        .setRho(reader.readDouble())
+                        .setR(reader.readDouble())
+                        .setX(reader.readDouble())
+                        .setG(reader.readDouble())
+                        .setB(reader.readDouble())
+                        .endStep();
+            }
+            adder.add();
+        }
+    }
+
+    private void readRegulatingTerminals() throws IOException {
+        int count = reader.readVarInt();
+        String[] generatorIds = readStrings(count);
+        List<TerminalRef> regulatingTerminals = readColumn(count, this::readTerminalRef);
+        for (int i = 0; i < count; i++) {
+            network.getGenerator(generatorIds[i]).setRegulatingTerminal(getTerminal(regulatingTerminals.get(i)));
+        }
+    }
+
+    private Identifiable<?> getIdentifiable(String id) {
+        Identifiable<?> identifiable = id.equals(network.getId()) ? network : network.getIdentifiable(id);
+        if (identifiable == null) {
+            throw new PowsyblException("Identifiable '" + id + "' not found");
+        }
+        return identifiable;
+    }
+
+    private void readProperties() throws IOException {
+        int count = reader.readVarInt();
+        for (int i = 0; i < count; i++) {
+            Identifiable<?> identifiable = getIdentifiable(reader.readString());
+            int propertyCount = reader.readVarInt();
+            for (int j = 0; j < propertyCount; j++) {
+                identifiable.getProperties().setProperty(reader.readString(), reader.readString());
+            }
+        }
+    }
+
+    private void readExtensions() throws IOException {
+        Set<String> extensionNamesNotFound = new TreeSet<>();
+        int count = reader.readVarInt();
+        for (int i = 0; i < count; i++) {
+            Identifiable identifiable = getIdentifiable(reader.readString());
+            int extensionCount = reader.readVarInt();
+            for (int j = 0; j < extensionCount; j++) {
+                String extensionName = reader.readString();
+                byte[] bytes = reader.readBytes();
+                ExtensionBinarySerializer serializer = NetworkBinary.getExtensionProviders().findProvider(extensionName);
+                if (serializer != null) {
+                    Extension extension = serializer.read(identifiable, new BinaryReader(new ByteArrayInputStream(bytes)));
+                    identifiable.addExtension(serializer.getExtensionClass(), extension);
+                } else {
+                    extensionNamesNotFound.add(extensionName);
+                }
+            }
+        }
+
+        if (!extensionNamesNotFound.isEmpty()) {
+            if (options.isThrowExceptionIfExtensionNotFound()) {
+                throw new PowsyblException("Extensions " + extensionNamesNotFound + " not found");
+            } else {
+                LOGGER.error("Extensions {} not found", extensionNamesNotFound);
+            }
+        }
+    }
+}
@@ -0,0 +1,603 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.common.collect.Lists;
+import com.powsybl.commons.extensions.Extension;
+import com.powsybl.iidm.export.ExportOptions;
+import com.powsybl.iidm.network.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Write the working variant of a network in the binary IIDM format.
+ * <p>
+ * Equipments are written by blocks of same type. In a block, each attribute is written for all the equipments
+ * before the next one, so that similar values are stored contiguously.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class NetworkBinaryWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(NetworkBinaryWriter.class);
+
+    @FunctionalInterface
+    private interface ColumnWriter<T> {
+        void write(T item) throws IOException;
+    }
+
+    private final Network network;
+
+    private final ExportOptions options;
+
+    private final BinaryWriter writer;
+
+    NetworkBinaryWriter(Network network, ExportOptions options, BinaryWriter writer) {
+        this.network = Objects.requireNonNull(network);
+        this.options = Objects.requireNonNull(options);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    private <T> void writeColumn(List<T> items, ColumnWriter<T> columnWriter) throws IOException {
+        for (T item : items) {
+            columnWriter.write(item);
+        }
+    }
+
+    private <T extends Identifiable<?>> void writeIdentifiables(List<T> identifiables) throws IOException {
+        writer.writeVarInt(identifiables.size());
+        writeColumn(identifiables, i -> writer.writeString(i.getId()));
+        // the name is only written if it is not the id
+        writeColumn(identifiables, i -> writer.writeString(i.getName().equals(i.getId()) ? null : i.getName()));
+    }
+
+    private void writeConnectivity(Terminal t) throws IOException {
+        writer.writeString(t.getVoltageLevel().getId());
+        if (t.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            writer.writeVarInt(t.getNodeBreakerView().getNode());
+        } else {
+            writer.writeString(t.getBusBreakerView().getConnectableBus().getId());
+            writer.writeBoolean(t.isConnected());
+        }
+    }
+
+    private void writeTerminalRef(Terminal t) throws IOException {
+        if (t == null) {
+            writer.writeString(null);
+            return;
+        }
+        Connectable<?> connectable = t.getConnectable();
+        writer.writeString(connectable.getId());
+        if (connectable instanceof Branch) {
+            writer.writeVarInt(((Branch<?>) connectable).getSide(t).ordinal() + 1);
+        } else if (connectable instanceof ThreeWindingsTransformer) {
+            writer.writeVarInt(((ThreeWindingsTransformer) connectable).getSide(t).ordinal() + 1);
+        } else {
+            writer.writeVarInt(0);
+        }
+    }
+
+    private void writeCurrentLimits(CurrentLimits limits) throws IOException {
+        writer.writeBoolean(limits != null);
+        if (limits != null) {
+            writer.writeDouble(limits.getPermanentLimit());
+            writer.writeVarInt(limits.getTemporaryLimits().size());
+            for (CurrentLimits.TemporaryLimit tl : limits.getTemporaryLimits()) {
+                writer.writeString(tl.getName());
+                writer.writeVarInt(tl.getAcceptableDuration());
+                writer.writeDouble(tl.getValue());
+                writer.writeBoolean(tl.isFictitious());
+            }
+        }
+    }
+
+    private void writeReactiveLimits(ReactiveLimits limits) throws IOException {
+        writer.writeEnum(limits.getKind());
+        switch (limits.getKind()) {
+            case CURVE:
+                Collection<ReactiveCapabilityCurve.Point> points = ((ReactiveCapabilityCurve) limits).getPoints();
+                writer.writeVarInt(points.size());
+                for (ReactiveCapabilityCurve.Point point : points) {
+                    writer.writeDouble(point.getP());
+                    writer.writeDouble(point.getMinQ());
+                    writer.writeDouble(point.getMaxQ());
+                }
+                break;
+
+            case MIN_MAX:
+                writer.writeDouble(((MinMaxReactiveLimits) limits).getMinQ());
+                writer.writeDouble(((MinMaxReactiveLimits) limits).getMaxQ());
+                break;
+
+            default:
+                throw new AssertionError("Unexpected reactive limits kind: " + limits.getKind());
+        }
+    }
+
+    private <T extends Injection<?>> void writeInjections(List<T> injections) throws IOException {
+        writeIdentifiables(injections);
+        writeColumn(injections, i -> writeConnectivity(i.getTerminal()));
+    }
+
+    private <T extends Injection<?>> void writePQ(List<T> injections) throws IOException {
+        writeColumn(injections, i -> writer.writeDouble(i.getTerminal().getP()));
+        writeColumn(injections, i -> writer.writeDouble(i.getTerminal().getQ()));
+    }
+
+    private <T extends Branch<?>> void writeBranches(List<T> branches) throws IOException {
+        writeIdentifiables(branches);
+        writeColumn(branches, b -> writeConnectivity(b.getTerminal1()));
+        writeColumn(branches, b -> writeConnectivity(b.getTerminal2()));
+    }
+
+    private <T extends Branch<?>> void writeBranchesState(List<T> branches) throws IOException {
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal1().getP()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal1().getQ()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal2().getP()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal2().getQ()));
+        writeColumn(branches, b -> writeCurrentLimits(b.getCurrentLimits1()));
+        writeColumn(branches, b -> writeCurrentLimits(b.getCurrentLimits2()));
+    }
+
+    void write() throws IOException {
+        writer.writeString(network.getId());
+        writer.writeString(network.getSourceFormat());
+        writer.writeString(network.getCaseDate().toString());
+        writer.writeVarInt(network.getForecastDistance());
+
+        writeSubstations();
+        writeVoltageLevels();
+        writeTopology();
+        writeGenerators();
+        writeLoads();
+        writeShuntCompensators();
+        writeDanglingLines();
+        writeStaticVarCompensators();
+        writeVscConverterStations();
+        writeLccConverterStations();
+        writeTwoWindingsTransformers();
+        writeThreeWindingsTransformers();
+        writeLines();
+        writeHvdcLines();
+        writeTapChangers();
+        writeRegulatingTerminals();
+        writeProperties();
+        writeExtensions();
+        writer.flush();
+    }
+
+    private void writeSubstations() throws IOException {
+        List<Substation> substations = Lists.newArrayList(network.getSubstations());
+        writeIdentifiables(substations);
+        writeColumn(substations, s -> writer.writeEnum(s.getCountry()));
+        writeColumn(substations, s -> writer.writeString(s.getTso()));
+        writeColumn(substations, s -> {
+            writer.writeVarInt(s.getGeographicalTags().size());
+            for (String tag : s.getGeographicalTags()) {
+                writer.writeString(tag);
+            }
+        });
+    }
+
+    private void writeVoltageLevels() throws IOException {
+        List<VoltageLevel> voltageLevels = Lists.newArrayList(network.getVoltageLevels());
+        writeIdentifiables(voltageLevels);
+        writeColumn(voltageLevels, vl -> writer.writeString(vl.getSubstation().getId()));
+        writeColumn(voltageLevels, vl -> writer.writeDouble(vl.getNominalV()));
+        writeColumn(voltageLevels, vl -> writer.writeDouble(vl.getLowVoltageLimit()));
+        writeColumn(voltageLevels, vl -> writer.writeDouble(vl.getHighVoltageLimit()));
+        writeColumn(voltageLevels, vl -> writer.writeEnum(vl.getTopologyKind()));
+        writeColumn(voltageLevels, vl -> writer.writeVarInt(vl.getTopologyKind() == TopologyKind.NODE_BREAKER ? vl.getNodeBreakerView().getNodeCount() : 0));
+    }
+
+    private static class InternalConnectionRef {
+
+        private final VoltageLevel voltageLevel;
+
+        private final VoltageLevel.NodeBreakerView.InternalConnection internalConnection;
+
+        InternalConnectionRef(VoltageLevel voltageLevel, VoltageLevel.NodeBreakerView.InternalConnection internalConnection) {
+            this.voltageLevel = voltageLevel;
+            this.internalConnection = internalConnection;
+        }
+    }
+
+    private void writeTopology() throws IOException {
+        List<VoltageLevel> nodeBreakerVoltageLevels = new ArrayList<>();
+        List<VoltageLevel> busBreakerVoltageLevels = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                nodeBreakerVoltageLevels.add(vl);
+            } else {
+                busBreakerVoltageLevels.add(vl);
+            }
+        }
+
+        List<BusbarSection> busbarSections = nodeBreakerVoltageLevels.stream()
+                .flatMap(vl -> vl.getNodeBreakerView().getBusbarSectionStream())
+                .collect(Collectors.toList());
+        writeIdentifiables(busbarSections);
+        writeColumn(busbarSections, bbs -> writeConnectivity(bbs.getTerminal()));
+        writeColumn(busbarSections, bbs -> writer.writeDouble(bbs.getV()));
+        writeColumn(busbarSections, bbs -> writer.writeDouble(bbs.getAngle()));
+
+        List<Switch> nodeBreakerSwitches = nodeBreakerVoltageLevels.stream()
+                .flatMap(vl -> vl.getNodeBreakerView().getSwitchStream())
+                .collect(Collectors.toList());
+        writeIdentifiables(nodeBreakerSwitches);
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeString(sw.getVoltageLevel().getId()));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeEnum(sw.getKind()));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeVarInt(sw.getVoltageLevel().getNodeBreakerView().getNode1(sw.getId())));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeVarInt(sw.getVoltageLevel().getNodeBreakerView().getNode2(sw.getId())));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeBoolean(sw.isOpen()));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeBoolean(sw.isRetained()));
+        writeColumn(nodeBreakerSwitches, sw -> writer.writeBoolean(sw.isFictitious()));
+
+        List<InternalConnectionRef> internalConnections = new ArrayList<>();
+        for (VoltageLevel vl : nodeBreakerVoltageLevels) {
+            for (VoltageLevel.NodeBreakerView.InternalConnection ic : vl.getNodeBreakerView().getInternalConnections()) {
+                internalConnections.add(new InternalConnectionRef(vl, ic));
+            }
+        }
+        writer.writeVarInt(internalConnections.size());
+        writeColumn(internalConnections, ic -> writer.writeString(ic.voltageLevel.getId()));
+        writeColumn(internalConnections, ic -> writer.writeVarInt(ic.internalConnection.getNode1()));
+        writeColumn(internalConnections, ic -> writer.writeVarInt(ic.internalConnection.getNode2()));
+
+        List<Bus> buses = busBreakerVoltageLevels.stream()
+                .flatMap(vl -> vl.getBusBreakerView().getBusStream())
+                .collect(Collectors.toList());
+        writeIdentifiables(buses);
+        writeColumn(buses, b -> writer.writeString(b.getVoltageLevel().getId()));
+        writeColumn(buses, b -> writer.writeDouble(b.getV()));
+        writeColumn(buses, b -> writer.writeDouble(b.getAngle()));
+
+        List<Switch> busBreakerSwitches = busBreakerVoltageLevels.stream()
+                .flatMap(vl -> vl.getBusBreakerView().getSwitchStream())
+                .collect(Collectors.toList());
+        writeIdentifiables(busBreakerSwitches);
+        writeColumn(busBreakerSwitches, sw -> writer.writeString(sw.getVoltageLevel().getId()));
+        writeColumn(busBreakerSwitches, sw -> writer.writeString(sw.getVoltageLevel().getBusBreakerView().getBus1(sw.getId()).getId()));
+        writeColumn(busBreakerSwitches, sw -> writer.writeString(sw.getVoltageLevel().getBusBreakerView().getBus2(sw.getId()).getId()));
+        writeColumn(busBreakerSwitches, sw -> writer.writeBoolean(sw.isOpen()));
+        writeColumn(busBreakerSwitches, sw -> writer.writeBoolean(sw.isFictitious()));
+    }
+
+    private void writeGenerators() throws IOException {
+        List<Generator> generators = Lists.newArrayList(network.getGenerators());
+        writeInjections(generators);
+        writeColumn(generators, g -> writer.writeEnum(g.getEnergySource()));
+        writeColumn(generators, g -> writer.writeDouble(g.getMinP()));
+        writeColumn(generators, g -> writer.writeDouble(g.getMaxP()));
+        writeColumn(generators, g -> writer.writeDouble(g.getRatedS()));
+        writeColumn(generators, g -> writer.writeBoolean(g.isVoltageRegulatorOn()));
+        writeColumn(generators, g -> writer.writeDouble(g.getTargetP()));
+        writeColumn(generators, g -> writer.writeDouble(g.getTargetQ()));
+        writeColumn(generators, g -> writer.writeDouble(g.getTargetV()));
+        writeColumn(generators, g -> writeReactiveLimits(g.getReactiveLimits()));
+        writePQ(generators);
+    }
+
+    private void writeLoads() throws IOException {
+        List<Load> loads = Lists.newArrayList(network.getLoads());
+        writeInjections(loads);
+        writeColumn(loads, l -> writer.writeEnum(l.getLoadType()));
+        writeColumn(loads, l -> writer.writeDouble(l.getP0()));
+        writeColumn(loads, l -> writer.writeDouble(l.getQ0()));
+        writePQ(loads);
+    }
+
+    private void writeShuntCompensators() throws IOException {
+        List<ShuntCompensator> shunts = Lists.newArrayList(network.getShuntCompensators());
+        writeInjections(shunts);
+        writeColumn(shunts, sc -> writer.writeDouble(sc.getbPerSection()));
+        writeColumn(shunts, sc -> writer.writeVarInt(sc.getMaximumSectionCount()));
+        writeColumn(shunts, sc -> writer.writeVarInt(sc.getCurrentSectionCount()));
+        // active power of a shunt is always NaN
+        writeColumn(shunts, sc -> writer.writeDouble(sc.getTerminal().getQ()));
+    }
+
+    private void writeDanglingLines() throws IOException {
+        List<DanglingLine> danglingLines = Lists.newArrayList(network.getDanglingLines());
+        writeInjections(danglingLines);
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getP0()));
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getQ0()));
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getR()));
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getX()));
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getG()));
+        writeColumn(danglingLines, dl -> writer.writeDouble(dl.getB()));
+        writeColumn(danglingLines, dl -> writer.writeString(dl.getUcteXnodeCode()));
+        writeColumn(danglingLines, dl -> writeCurrentLimits(dl.getCurrentLimits()));
+        writePQ(danglingLines);
+    }
+
+    private void writeStaticVarCompensators() throws IOException {
+        List<StaticVarCompensator> svcs = Lists.newArrayList(network.getStaticVarCompensators());
+        writeInjections(svcs);
+        writeColumn(svcs, svc -> writer.writeDouble(svc.getBmin()));
+        writeColumn(svcs, svc -> writer.writeDouble(svc.getBmax()));
+        writeColumn(svcs, svc -> writer.writeDouble(svc.getVoltageSetPoint()));
+        writeColumn(svcs, svc -> writer.writeDouble(svc.getReactivePowerSetPoint()));
+        writeColumn(svcs, svc -> writer.writeEnum(svc.getRegulationMode()));
+        writePQ(svcs);
+    }
+
+    private void writeVscConverterStations() throws IOException {
+        List<VscConverterStation> stations = Lists.newArrayList(network.getVscConverterStations());
+        writeInjections(stations);
+        writeColumn(stations, cs -> writer.writeFloat(cs.getLossFactor()));
+        writeColumn(stations, cs -> writer.writeBoolean(cs.isVoltageRegulatorOn()));
+        writeColumn(stations, cs -> writer.writeDouble(cs.getVoltageSetpoint()));
+        writeColumn(stations, cs -> writer.writeDouble(cs.getReactivePowerSetpoint()));
+        writeColumn(stations, cs -> writeReactiveLimits(cs.getReactiveLimits()));
+        writePQ(stations);
+    }
+
+    private void writeLccConverterStations() throws IOException {
+        List<LccConverterStation> stations = Lists.newArrayList(network.getLccConverterStations());
+        writeInjections(stations);
+        writeColumn(stations, cs -> writer.writeFloat(cs.getLossFactor()));
+        writeColumn(stations, cs -> writer.writeFloat(cs.getPowerFactor()));
+        writePQ(stations);
+    }
+
+    private void writeTwoWindingsTransformers() throws IOException {
+        List<TwoWindingsTransformer> twts = Lists.newArrayList(network.getTwoWindingsTransformers());
+        writeBranches(twts);
+        writeColumn(twts, twt -> writer.writeString(twt.getSubstation().getId()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getR()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getX()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getG()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getB()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getRatedU1()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getRatedU2()));
+        writeBranchesState(twts);
+    }
+
+    private void writeThreeWindingsTransformers() throws IOException {
+        List<ThreeWindingsTransformer> twts = Lists.newArrayList(network.getThreeWindingsTransformers());
+        writeIdentifiables(twts);
+        writeColumn(twts, twt -> writer.writeString(twt.getSubstation().getId()));
+        writeColumn(twts, twt -> writeConnectivity(twt.getLeg1().getTerminal()));
+        writeColumn(twts, twt -> writeConnectivity(twt.getLeg2().getTerminal()));
+        writeColumn(twts, twt -> writeConnectivity(twt.getLeg3().getTerminal()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getR()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getX()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getG()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getB()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getRatedU()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg2().getR()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg2().getX()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg2().getRatedU()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg3().getR()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg3().getX()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg3().getRatedU()));
+        for (ThreeWindingsTransformer.Side side : ThreeWindingsTransformer.Side.values()) {
+            writeColumn(twts, twt -> writer.writeDouble(twt.getTerminal(side).getP()));
+            writeColumn(twts, twt -> writer.writeDouble(twt.getTerminal(side).getQ()));
+        }
+        writeColumn(twts, twt -> writeCurrentLimits(twt.getLeg1().getCurrentLimits()));
+        writeColumn(twts, twt -> writeCurrentLimits(twt.getLeg2().getCurrentLimits()));
+        writeColumn(twts, twt -> writeCurrentLimits(twt.getLeg3().getCurrentLimits()));
+    }
+
+    private void writeHalfLines(List<TieLine> tieLines, ThreeWindingsTransformer.Side side) throws IOException {
+        List<TieLine.HalfLine> halves = tieLines.stream()
+                .map(l -> side == ThreeWindingsTransformer.Side.ONE ? l.getHalf1() : l.getHalf2())
+                .collect(Collectors.toList());
+        writeColumn(halves, h -> writer.writeString(h.getId()));
+        writeColumn(halves, h -> writer.writeString(h.getName().equals(h.getId()) ? null : h.getName()));
+        writeColumn(halves, h -> writer.writeDouble(h.getR()));
+        writeColumn(halves, h -> writer.writeDouble(h.getX()));
+        writeColumn(halves, h -> writer.writeDouble(h.getG1()));
+        writeColumn(halves, h -> writer.writeDouble(h.getB1()));
+        writeColumn(halves, h -> writer.writeDouble(h.getG2()));
+        writeColumn(halves, h -> writer.writeDouble(h.getB2()));
+        writeColumn(halves, h -> writer.writeDouble(h.getXnodeP()));
+        writeColumn(halves, h -> writer.writeDouble(h.getXnodeQ()));
+    }
+
+    private void writeLines() throws IOException {
+        List<Line> lines = new ArrayList<>();
+        List<TieLine> tieLines = new ArrayList<>();
+        for (Line l : network.getLines()) {
+            if (l.isTieLine()) {
+                tieLines.add((TieLine) l);
+            } else {
+                lines.add(l);
+            }
+        }
+
+        writeBranches(lines);
+        writeColumn(lines, l -> writer.writeDouble(l.getR()));
+        writeColumn(lines, l -> writer.writeDouble(l.getX()));
+        writeColumn(lines, l -> writer.writeDouble(l.getG1()));
+        writeColumn(lines, l -> writer.writeDouble(l.getB1()));
+        writeColumn(lines, l -> writer.writeDouble(l.getG2()));
+        writeColumn(lines, l -> writer.writeDouble(l.getB2()));
+        writeBranchesState(lines);
+
+        writeBranches(tieLines);
+        writeColumn(tieLines, l -> writer.writeString(l.getUcteXnodeCode()));
+        writeHalfLines(tieLines, ThreeWindingsTransformer.Side.ONE);
+        writeHalfLines(tieLines, ThreeWindingsTransformer.Side.TWO);
+        writeBranchesState(tieLines);
+    }
+
+    private void writeHvdcLines() throws IOException {
+        List<HvdcLine> hvdcLines = Lists.newArrayList(network.getHvdcLines());
+        writeIdentifiables(hvdcLines);
+        writeColumn(hvdcLines, l -> writer.writeDouble(l.getR()));
+        writeColumn(hvdcLines, l -> writer.writeDouble(l.getNominalV()));
+        writeColumn(hvdcLines, l -> writer.writeEnum(l.getConvertersMode()));
+        writeColumn(hvdcLines, l -> writer.writeDouble(l.getActivePowerSetpoint()));
+        writeColumn(hvdcLines, l -> writer.writeDouble(l.getMaxP()));
+        writeColumn(hvdcLines, l -> writer.writeString(l.getConverterStation1().getId()));
+        writeColumn(hvdcLines, l -> writer.writeString(l.getConverterStation2().getId()));
+    }
+
+    private static class RatioTapChangerRef {
+
+        private final String transformerId;
+
+        private final int leg;
+
+        private final RatioTapChanger tapChanger;
+
+        RatioTapChangerRef(String transformerId, int leg, RatioTapChanger tapChanger) {
+            this.transformerId = transformerId;
+            this.leg = leg;
+            this.tapChanger = tapChanger;
+        }
+    }
+
+    private void writeTapChangers() throws IOException {
+        // tap changers are written once all equipments are, as their regulation terminal may belong to any of them
+        List<RatioTapChangerRef> ratioTapChangers = new ArrayList<>();
+        List<TwoWindingsTransformer> phaseShifters = new ArrayList<>();
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            if (twt.getRatioTapChanger() != null) {
+                ratioTapChangers.add(new RatioTapChangerRef(twt.getId(), 0, twt.getRatioTapChanger()));
+            }
+            if (twt.getPhaseTapChanger() != null) {
+                phaseShifters.add(twt);
+            }
+        }
+        for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
+            if (twt.getLeg2().getRatioTapChanger() != null) {
+                ratioTapChangers.add(new RatioTapChangerRef(twt.getId(), 2, twt.getLeg2().getRatioTapChanger()));
+            }
+            if (twt.getLeg3().getRatioTapChanger() != null) {
+                ratioTapChangers.add(new RatioTapChangerRef(twt.getId(), 3, twt.getLeg3().getRatioTapChanger()));
+            }
+        }
+
+        writer.writeVarInt(ratioTapChangers.size());
+        writeColumn(ratioTapChangers, r -> writer.writeString(r.transformerId));
+        writeColumn(ratioTapChangers, r -> writer.writeVarInt(r.leg));
+        writeColumn(ratioTapChangers, r -> writer.writeSignedVarInt(r.tapChanger.getLowTapPosition()));
+        writeColumn(ratioTapChangers, r -> writer.writeSignedVarInt(r.tapChanger.getTapPosition()));
+        writeColumn(ratioTapChangers, r -> writer.writeBoolean(r.tapChanger.hasLoadTapChangingCapabilities()));
+        writeColumn(ratioTapChangers, r -> writer.writeBoolean(r.tapChanger.isRegulating()));
+        writeColumn(ratioTapChangers, r -> writer.writeDouble(r.tapChanger.getTargetV()));
+        writeColumn(ratioTapChangers, r -> writeTerminalRef(r.tapChanger.getRegulationTerminal()));
+        writeColumn(ratioTapChangers, r -> {
+            RatioTapChanger rtc = r.tapChanger;
+            writer.writeVarInt(rtc.getStepCount());
+            for (int position = rtc.getLowTapPosition(); position <= rtc.getHighTapPosition(); position++) {
+                RatioTapChangerStep step = rtc.getStep(position);
+                writer.writeDouble(step.getRho());
+                writer.writeDouble(step.getR());
+                writer.writeDouble(step.getX());
+                writer.writeDouble(step.getG());
+                writer.writeDouble(step.getB());
+            }
+        });
+
+        writer.writeVarInt(phaseShifters.size());
+        writeColumn(phaseShifters, twt -> writer.writeString(twt.getId()));
+        writeColumn(phaseShifters, twt -> writer.writeSignedVarInt(twt.getPhaseTapChanger().getLowTapPosition()));
+        writeColumn(phaseShifters, twt -> writer.writeSignedVarInt(twt.getPhaseTapChanger().getTapPosition()));
+        writeColumn(phaseShifters, twt -> writer.writeEnum(twt.getPhaseTapChanger().getRegulationMode()));
+        writeColumn(phaseShifters, twt -> writer.writeDouble(twt.getPhaseTapChanger().getRegulationValue()));
+        writeColumn(phaseShifters, twt -> writer.writeBoolean(twt.getPhaseTapChanger().isRegulating()));
+        writeColumn(phaseShifters, twt -> writeTerminalRef(twt.getPhaseTapChanger().getRegulationTerminal()));
+        writeColumn(phaseShifters, twt -> {
+            PhaseTapChanger ptc = twt.getPhaseTapChanger();
+            writer.writeVarInt(ptc.getStepCount());
+            for (int position = ptc.getLowTapPosition(); position <= ptc.getHighTapPosition(); position++) {
+                PhaseTapChangerStep step = ptc.getStep(position);
+                writer.writeDouble(step.getAlpha());
+                writer.writeDouble(step.getRho());
+                writer.writeDouble(step.getR());
+                writer.writeDouble(step.getX());
+                writer.writeDouble(step.getG());
+                writer.writeDouble(step.getB());
+            }
+        });
+    }
+
+    private void writeRegulatingTerminals() throws IOException {
+        // only remote regulating terminals, by default a generator regulates its own terminal
+        List<Generator> generators = network.getGeneratorStream()
+                .filter(g -> g.getRegulatingTerminal() != null && g.getRegulatingTerminal().getConnectable() != g)
+                .collect(Collectors.toList());
+        writer.writeVarInt(generators.size());
+        writeColumn(generators, g -> writer.writeString(g.getId()));
+        writeColumn(generators, g -> writeTerminalRef(g.getRegulatingTerminal()));
+    }
+
+    private List<Identifiable<?>> getIdentifiables() {
+        List<Identifiable<?>> identifiables = new ArrayList<>();
+        identifiables.add(network);
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            if (identifiable != network) {
+                identifiables.add(identifiable);
+            }
+        }
+        return identifiables;
+    }
+
+    private void writeProperties() throws IOException {
+        List<Identifiable<?>> identifiables = getIdentifiables().stream()
+                .filter(Identifiable::hasProperty)
+                .collect(Collectors.toList());
+        writer.writeVarInt(identifiables.size());
+        for (Identifiable<?> identifiable : identifiables) {
+            Properties properties = identifiable.getProperties();
+            writer.writeString(identifiable.getId());
+            writer.writeVarInt(properties.stringPropertyNames().size());
+            for (String name : properties.stringPropertyNames()) {
+                writer.writeString(name);
+                writer.writeString(properties.getProperty(name));
+            }
+        }
+    }
+
+    private ExtensionBinarySerializer findSerializer(String extensionName) {
+        ExtensionBinarySerializer serializer = options.isThrowExceptionIfExtensionNotFound()
+                ? NetworkBinary.getExtensionProviders().findProviderOrThrowException(extensionName)
+                : NetworkBinary.getExtensionProviders().findProvider(extensionName);
+        if (serializer == null) {
+            LOGGER.warn("No Extension binary Serializer for {}", extensionName);
+        }
+        return serializer;
+    }
+
+    private void writeExtensions() throws IOException {
+        Map<Identifiable<?>, List<Extension<? extends Identifiable<?>>>> extensionsByIdentifiable = new LinkedHashMap<>();
+        if (!options.isSkipExtensions()) {
+            for (Identifiable<?> identifiable : getIdentifiables()) {
+                for (Extension<? extends Identifiable<?>> extension : identifiable.getExtensions()) {
+                    if (findSerializer(extension.getName()) != null) {
+                        extensionsByIdentifiable.computeIfAbsent(identifiable, k -> new ArrayList<>()).add(extension);
+                    }
+                }
+            }
+        }
+        writer.writeVarInt(extensionsByIdentifiable.size());
+        for (Map.Entry<Identifiable<?>, List<Extension<? extends Identifiable<?>>>> e : extensionsByIdentifiable.entrySet()) {
+            writer.writeString(e.getKey().getId());
+            writer.writeVarInt(e.getValue().size());
+            for (Extension<? extends Identifiable<?>> extension : e.getValue()) {
+                writer.writeString(extension.getName());
+                // each extension is written to its own buffer so that it can be skipped by a reader which does not
+                // know it
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                BinaryWriter extensionWriter = new BinaryWriter(bos);
+                findSerializer(extension.getName()).write(extension, extensionWriter);
+                extensionWriter.flush();
+                writer.writeBytes(bos.toByteArray());
+            }
+        }
+    }
+}
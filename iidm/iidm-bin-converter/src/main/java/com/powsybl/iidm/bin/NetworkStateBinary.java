@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact binary serialization of the state of a network: switch states, tap positions, shunt sections,
+ * injections, flows and bus voltages of the working variant, keyed by equipment id.
+ * <p>
+ * This is much lighter than a full network export followed by {@code NetworkXml.update} to send back calculation
+ * results to a process which already has the network. The state can be applied to any variant of a network with
+ * the same structure: select the target variant as the working one before calling
+ * {@link #update(Network, InputStream)}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class NetworkStateBinary {
+
+    private static final byte[] MAGIC = "BIIDMS".getBytes(StandardCharsets.US_ASCII);
+
+    static final int VERSION = 1;
+
+    private NetworkStateBinary() {
+    }
+
+    public static void write(Network network, OutputStream os) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(os);
+        try {
+            BinaryWriter writer = new BinaryWriter(os);
+            os.write(MAGIC);
+            writer.writeVarInt(VERSION);
+            new NetworkStateBinaryWriter(network, writer).write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(Network network, Path file) {
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(file))) {
+            write(network, os);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] write(Network network) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        write(network, bos);
+        return bos.toByteArray();
+    }
+
+    public static void update(Network network, InputStream is) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(is);
+        try {
+            byte[] header = new byte[MAGIC.length];
+            new DataInputStream(is).readFully(header);
+            if (!Arrays.equals(header, MAGIC)) {
+                throw new PowsyblException("Not a binary IIDM state stream");
+            }
+            BinaryReader reader = new BinaryReader(is);
+            int version = reader.readVarInt();
+            if (version != VERSION) {
+                throw new PowsyblException("Unsupported binary IIDM state version " + version);
+            }
+            new NetworkStateBinaryReader(network, reader).read();
+        } catch (EOFException e) {
+            throw new PowsyblException("Truncated binary IIDM state stream", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void update(Network network, Path file) {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            update(network, is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void update(Network network, byte[] state) {
+        update(network, new ByteArrayInputStream(state));
+    }
+}
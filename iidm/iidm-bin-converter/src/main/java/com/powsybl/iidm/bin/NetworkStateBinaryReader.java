@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Apply a state written by {@link NetworkStateBinaryWriter} to the working variant of a network.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class NetworkStateBinaryReader {
+
+    private final Network network;
+
+    private final BinaryReader reader;
+
+    NetworkStateBinaryReader(Network network, BinaryReader reader) {
+        this.network = Objects.requireNonNull(network);
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    private String[] readIds() throws IOException {
+        String[] ids = new String[reader.readVarInt()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = reader.readString();
+        }
+        return ids;
+    }
+
+    private double[] readDoubles(int count) throws IOException {
+        double[] column = new double[count];
+        for (int i = 0; i < count; i++) {
+            column[i] = reader.readDouble();
+        }
+        return column;
+    }
+
+    private <T extends Identifiable<?>> T getIdentifiable(String id, Class<T> clazz) {
+        Identifiable<?> identifiable = network.getIdentifiable(id);
+        if (!clazz.isInstance(identifiable)) {
+            throw new PowsyblException(clazz.getSimpleName() + " '" + id + "' not found");
+        }
+        return clazz.cast(identifiable);
+    }
+
+    private void readSwitches() throws IOException {
+        String[] ids = readIds();
+        for (String id : ids) {
+            boolean open = reader.readBoolean();
+            Switch sw = network.getSwitch(id);
+            if (sw == null) {
+                throw new PowsyblException("Switch '" + id + "' not found");
+            }
+            sw.setOpen(open);
+        }
+    }
+
+    private void readTapChangers() throws IOException {
+        String[] ids = readIds();
+        int[] sides = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sides[i] = reader.readVarInt();
+        }
+        for (int i = 0; i < ids.length; i++) {
+            int tapPosition = reader.readSignedVarInt();
+            RatioTapChangerHolder holder;
+            if (sides[i] == 0) {
+                holder = getIdentifiable(ids[i], TwoWindingsTransformer.class);
+            } else {
+                ThreeWindingsTransformer twt = getIdentifiable(ids[i], ThreeWindingsTransformer.class);
+                holder = sides[i] == 2 ? twt.getLeg2() : twt.getLeg3();
+            }
+            if (holder.getRatioTapChanger() == null) {
+                throw new PowsyblException("Ratio tap changer of '" + ids[i] + "' not found");
+            }
+            holder.getRatioTapChanger().setTapPosition(tapPosition);
+        }
+
+        for (String id : readIds()) {
+            int tapPosition = reader.readSignedVarInt();
+            PhaseTapChanger ptc = getIdentifiable(id, TwoWindingsTransformer.class).getPhaseTapChanger();
+            if (ptc == null) {
+                throw new PowsyblException("Phase tap changer of '" + id + "' not found");
+            }
+            ptc.setTapPosition(tapPosition);
+        }
+    }
+
+    private void readShuntSections() throws IOException {
+        for (String id : readIds()) {
+            getIdentifiable(id, ShuntCompensator.class).setCurrentSectionCount(reader.readVarInt());
+        }
+    }
+
+    private void readInjections() throws IOException {
+        String[] ids = readIds();
+        double[] p = readDoubles(ids.length);
+        double[] q = readDoubles(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            getIdentifiable(ids[i], Injection.class).getTerminal().setP(p[i]).setQ(q[i]);
+        }
+    }
+
+    private void readBranches() throws IOException {
+        String[] ids = readIds();
+        double[] p1 = readDoubles(ids.length);
+        double[] q1 = readDoubles(ids.length);
+        double[] p2 = readDoubles(ids.length);
+        double[] q2 = readDoubles(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            Branch<?> branch = getIdentifiable(ids[i], Branch.class);
+            branch.getTerminal1().setP(p1[i]).setQ(q1[i]);
+            branch.getTerminal2().setP(p2[i]).setQ(q2[i]);
+        }
+
+        ids = readIds();
+        p1 = readDoubles(ids.length);
+        q1 = readDoubles(ids.length);
+        p2 = readDoubles(ids.length);
+        q2 = readDoubles(ids.length);
+        double[] p3 = readDoubles(ids.length);
+        double[] q3 = readDoubles(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            ThreeWindingsTransformer twt = getIdentifiable(ids[i], ThreeWindingsTransformer.class);
+            twt.getLeg1().getTerminal().setP(p1[i]).setQ(q1[i]);
+            twt.getLeg2().getTerminal().setP(p2[i]).setQ(q2[i]);
+            twt.getLeg3().getTerminal().setP(p3[i]).setQ(q3[i]);
+        }
+    }
+
+    private void readBuses() throws IOException {
+        int count = reader.readVarInt();
+        String[] voltageLevelIds = new String[count];
+        for (int i = 0; i < count; i++) {
+            voltageLevelIds[i] = reader.readString();
+        }
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = reader.readString();
+        }
+        double[] v = readDoubles(count);
+        double[] angle = readDoubles(count);
+        for (int i = 0; i < count; i++) {
+            VoltageLevel vl = network.getVoltageLevel(voltageLevelIds[i]);
+            if (vl == null) {
+                throw new PowsyblException("Voltage level '" + voltageLevelIds[i] + "' not found");
+            }
+            Bus bus = vl.getTopologyKind() == TopologyKind.BUS_BREAKER
+                    ? vl.getBusBreakerView().getBus(ids[i])
+                    : vl.getBusView().getBus(ids[i]);
+            if (bus == null) {
+                throw new PowsyblException("Bus '" + ids[i] + "' not found in voltage level '" + voltageLevelIds[i] + "'");
+            }
+            bus.setV(v[i]).setAngle(angle[i]);
+        }
+    }
+
+    void read() throws IOException {
+        String networkId = reader.readString();
+        if (!networkId.equals(network.getId())) {
+            throw new PowsyblException("State of network '" + networkId + "' cannot be applied to network '"
+                    + network.getId() + "'");
+        }
+        readSwitches();
+        readTapChangers();
+        readShuntSections();
+        readInjections();
+        readBranches();
+        readBuses();
+    }
+}
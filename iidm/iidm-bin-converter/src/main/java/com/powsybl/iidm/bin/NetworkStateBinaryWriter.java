@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.powsybl.iidm.network.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Write the state of the working variant of a network: switch states, tap positions, shunt sections, injections,
+ * flows and bus voltages.
+ * <p>
+ * State variables are written by blocks, each block starts with the ids of its equipments followed by one column
+ * per state variable.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class NetworkStateBinaryWriter {
+
+    @FunctionalInterface
+    private interface ColumnWriter<T> {
+        void write(T item) throws IOException;
+    }
+
+    private final Network network;
+
+    private final BinaryWriter writer;
+
+    NetworkStateBinaryWriter(Network network, BinaryWriter writer) {
+        this.network = Objects.requireNonNull(network);
+        this.writer = Objects.requireNonNull(writer);
+    }
+
+    private <T> void writeColumn(List<T> items, ColumnWriter<T> columnWriter) throws IOException {
+        for (T item : items) {
+            columnWriter.write(item);
+        }
+    }
+
+    private <T extends Identifiable<?>> void writeIds(List<T> identifiables) throws IOException {
+        writer.writeVarInt(identifiables.size());
+        writeColumn(identifiables, i -> writer.writeString(i.getId()));
+    }
+
+    private void writeSwitches() throws IOException {
+        List<Switch> switches = Lists.newArrayList(network.getSwitches());
+        writeIds(switches);
+        writeColumn(switches, s -> writer.writeBoolean(s.isOpen()));
+    }
+
+    private void writeTapChangers() throws IOException {
+        List<Identifiable<?>> ratioTapChangerHolders = new ArrayList<>();
+        List<Integer> sides = new ArrayList<>();
+        List<Integer> ratioTapPositions = new ArrayList<>();
+        List<TwoWindingsTransformer> phaseShifters = new ArrayList<>();
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            if (twt.getRatioTapChanger() != null) {
+                ratioTapChangerHolders.add(twt);
+                sides.add(0);
+                ratioTapPositions.add(twt.getRatioTapChanger().getTapPosition());
+            }
+            if (twt.getPhaseTapChanger() != null) {
+                phaseShifters.add(twt);
+            }
+        }
+        for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
+            if (twt.getLeg2().getRatioTapChanger() != null) {
+                ratioTapChangerHolders.add(twt);
+                sides.add(2);
+                ratioTapPositions.add(twt.getLeg2().getRatioTapChanger().getTapPosition());
+            }
+            if (twt.getLeg3().getRatioTapChanger() != null) {
+                ratioTapChangerHolders.add(twt);
+                sides.add(3);
+                ratioTapPositions.add(twt.getLeg3().getRatioTapChanger().getTapPosition());
+            }
+        }
+        writeIds(ratioTapChangerHolders);
+        writeColumn(sides, writer::writeVarInt);
+        writeColumn(ratioTapPositions, writer::writeSignedVarInt);
+
+        writeIds(phaseShifters);
+        writeColumn(phaseShifters, twt -> writer.writeSignedVarInt(twt.getPhaseTapChanger().getTapPosition()));
+    }
+
+    private void writeShuntSections() throws IOException {
+        List<ShuntCompensator> shunts = Lists.newArrayList(network.getShuntCompensators());
+        writeIds(shunts);
+        writeColumn(shunts, s -> writer.writeVarInt(s.getCurrentSectionCount()));
+    }
+
+    private void writeInjections() throws IOException {
+        List<Injection<?>> injections = new ArrayList<>();
+        Iterables.addAll(injections, network.getGenerators());
+        Iterables.addAll(injections, network.getLoads());
+        Iterables.addAll(injections, network.getShuntCompensators());
+        Iterables.addAll(injections, network.getDanglingLines());
+        Iterables.addAll(injections, network.getStaticVarCompensators());
+        Iterables.addAll(injections, network.getHvdcConverterStations());
+        writeIds(injections);
+        writeColumn(injections, i -> writer.writeDouble(i.getTerminal().getP()));
+        writeColumn(injections, i -> writer.writeDouble(i.getTerminal().getQ()));
+    }
+
+    private void writeBranches() throws IOException {
+        List<Branch<?>> branches = new ArrayList<>();
+        Iterables.addAll(branches, network.getLines());
+        Iterables.addAll(branches, network.getTwoWindingsTransformers());
+        writeIds(branches);
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal1().getP()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal1().getQ()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal2().getP()));
+        writeColumn(branches, b -> writer.writeDouble(b.getTerminal2().getQ()));
+
+        List<ThreeWindingsTransformer> twts = Lists.newArrayList(network.getThreeWindingsTransformers());
+        writeIds(twts);
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getTerminal().getP()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg1().getTerminal().getQ()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg2().getTerminal().getP()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg2().getTerminal().getQ()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg3().getTerminal().getP()));
+        writeColumn(twts, twt -> writer.writeDouble(twt.getLeg3().getTerminal().getQ()));
+    }
+
+    private void writeBuses() throws IOException {
+        // configured buses for bus breaker voltage levels, calculated ones for node breaker voltage levels
+        List<String> voltageLevelIds = new ArrayList<>();
+        List<Bus> buses = new ArrayList<>();
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            Iterable<Bus> vlBuses = vl.getTopologyKind() == TopologyKind.BUS_BREAKER
+                    ? vl.getBusBreakerView().getBuses()
+                    : vl.getBusView().getBuses();
+            for (Bus bus : vlBuses) {
+                voltageLevelIds.add(vl.getId());
+                buses.add(bus);
+            }
+        }
+        writer.writeVarInt(buses.size());
+        writeColumn(voltageLevelIds, writer::writeString);
+        writeColumn(buses, b -> writer.writeString(b.getId()));
+        writeColumn(buses, b -> writer.writeDouble(b.getV()));
+        writeColumn(buses, b -> writer.writeDouble(b.getAngle()));
+    }
+
+    void write() throws IOException {
+        writer.writeString(network.getId());
+        // topology first, as calculated buses depend on it
+        writeSwitches();
+        writeTapChangers();
+        writeShuntSections();
+        writeInjections();
+        writeBranches();
+        writeBuses();
+        writer.flush();
+    }
+}
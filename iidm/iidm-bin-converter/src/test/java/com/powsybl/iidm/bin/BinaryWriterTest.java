@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.iidm.network.Country;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BinaryWriterTest {
+
+    @Test
+    public void test() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        BinaryWriter writer = new BinaryWriter(os);
+        writer.writeVarInt(0);
+        writer.writeVarInt(300);
+        writer.writeVarInt(Integer.MAX_VALUE);
+        writer.writeSignedVarInt(-1);
+        writer.writeSignedVarInt(Integer.MIN_VALUE);
+        writer.writeSignedVarLong(Long.MIN_VALUE);
+        writer.writeBoolean(true);
+        writer.writeDouble(Double.NaN);
+        writer.writeDouble(400);
+        writer.writeDouble(-0d);
+        writer.writeDouble(0.5);
+        writer.writeDouble(0.1);
+        writer.writeDouble(1e300);
+        writer.writeFloat(1.1f);
+        writer.writeString(null);
+        writer.writeString("foo");
+        writer.writeString("bar");
+        writer.writeString("foo");
+        writer.writeEnum(Country.FR);
+        writer.writeEnum(null);
+        writer.writeBytes(new byte[] {1, 2, 3});
+        writer.flush();
+
+        BinaryReader reader = new BinaryReader(new ByteArrayInputStream(os.toByteArray()));
+        assertEquals(0, reader.readVarInt());
+        assertEquals(300, reader.readVarInt());
+        assertEquals(Integer.MAX_VALUE, reader.readVarInt());
+        assertEquals(-1, reader.readSignedVarInt());
+        assertEquals(Integer.MIN_VALUE, reader.readSignedVarInt());
+        assertEquals(Long.MIN_VALUE, reader.readSignedVarLong());
+        assertTrue(reader.readBoolean());
+        assertTrue(Double.isNaN(reader.readDouble()));
+        assertEquals(400, reader.readDouble(), 0);
+        assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits(reader.readDouble()));
+        assertEquals(0.5, reader.readDouble(), 0);
+        assertEquals(0.1, reader.readDouble(), 0);
+        assertEquals(1e300, reader.readDouble(), 0);
+        assertEquals(1.1f, reader.readFloat(), 0);
+        assertNull(reader.readString());
+        assertEquals("foo", reader.readString());
+        assertEquals("bar", reader.readString());
+        assertEquals("foo", reader.readString());
+        assertEquals(Country.FR, reader.readEnum(Country.class));
+        assertNull(reader.readEnum(Country.class));
+        assertArrayEquals(new byte[] {1, 2, 3}, reader.readBytes());
+    }
+
+    @Test
+    public void testCompactEncoding() throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        BinaryWriter writer = new BinaryWriter(os);
+        writer.writeVarInt(100);
+        writer.writeDouble(100);
+        writer.writeString("a-long-identifier");
+        // 1 byte for the integer, 3 bytes for the integral double, 2 bytes + characters for a new string
+        assertEquals(1 + 3 + 2 + "a-long-identifier".length(), os.size());
+        int size = os.size();
+        // a string already written only costs its index
+        writer.writeString("a-long-identifier");
+        assertEquals(size + 1, os.size());
+    }
+}
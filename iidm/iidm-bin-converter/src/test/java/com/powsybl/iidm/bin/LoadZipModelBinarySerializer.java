@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.test.LoadZipModel;
+
+import java.io.IOException;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+@AutoService(ExtensionBinarySerializer.class)
+public class LoadZipModelBinarySerializer implements ExtensionBinarySerializer<Load, LoadZipModel> {
+
+    @Override
+    public String getExtensionName() {
+        return "loadZipModel";
+    }
+
+    @Override
+    public String getCategoryName() {
+        return "network";
+    }
+
+    @Override
+    public Class<? super LoadZipModel> getExtensionClass() {
+        return LoadZipModel.class;
+    }
+
+    @Override
+    public void write(LoadZipModel zipModel, BinaryWriter writer) throws IOException {
+        writer.writeDouble(zipModel.getA1());
+        writer.writeDouble(zipModel.getA2());
+        writer.writeDouble(zipModel.getA3());
+        writer.writeDouble(zipModel.getA4());
+        writer.writeDouble(zipModel.getA5());
+        writer.writeDouble(zipModel.getA6());
+        writer.writeDouble(zipModel.getV0());
+    }
+
+    @Override
+    public LoadZipModel read(Load load, BinaryReader reader) throws IOException {
+        double a1 = reader.readDouble();
+        double a2 = reader.readDouble();
+        double a3 = reader.readDouble();
+        double a4 = reader.readDouble();
+        double a5 = reader.readDouble();
+        double a6 = reader.readDouble();
+        double v0 = reader.readDouble();
+        return new LoadZipModel(load, a1, a2, a3, a4, a5, a6, v0);
+    }
+}
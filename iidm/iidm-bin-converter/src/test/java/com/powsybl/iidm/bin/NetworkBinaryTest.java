@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.config.InMemoryPlatformConfig;
+import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.datasource.FileDataSource;
+import com.powsybl.iidm.export.ExportOptions;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.*;
+import com.powsybl.iidm.xml.NetworkXml;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkBinaryTest {
+
+    private FileSystem fileSystem;
+
+    @Before
+    public void setUp() {
+        fileSystem = Jimfs.newFileSystem(Configuration.unix());
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        fileSystem.close();
+    }
+
+    private static byte[] writeBinary(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkBinary.write(network, os);
+        return os.toByteArray();
+    }
+
+    private static String writeXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return new String(os.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Network roundTrip(Network network) {
+        byte[] bytes = writeBinary(network);
+        Network network2 = NetworkBinary.read(new ByteArrayInputStream(bytes));
+        // the XML export is used as a reference of all the data of the network
+        assertEquals(writeXml(network), writeXml(network2));
+        return network2;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        roundTrip(EurostagTutorialExample1Factory.createWithCurrentLimits());
+        roundTrip(EurostagTutorialExample1Factory.createWithMoreGenerators());
+        roundTrip(FictitiousSwitchFactory.create());
+        roundTrip(NetworkTest1Factory.create());
+        roundTrip(PhaseShifterTestCaseFactory.create());
+        roundTrip(ThreeWindingsTransformerNetworkFactory.createWithCurrentLimits());
+        roundTrip(SvcTestCaseFactory.createWithMoreSVCs());
+        roundTrip(HvdcTestNetwork.createVsc());
+        roundTrip(HvdcTestNetwork.createLcc());
+        roundTrip(ReactiveLimitsTestNetworkFactory.create());
+        roundTrip(DanglingLineNetworkFactory.create());
+        roundTrip(NoEquipmentNetworkFactory.create());
+    }
+
+    @Test
+    public void testState() {
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getLoad("LOAD").getTerminal().setP(600.5).setQ(200.25);
+        network.getLoad("LOAD").getTerminal().disconnect();
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(300.1);
+        network.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").setV(402.1).setAngle(0.5);
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(0);
+        network.getLoad("LOAD").getProperties().setProperty("foo", "bar");
+        network.getProperties().setProperty("network", "property");
+
+        Network network2 = roundTrip(network);
+        assertEquals(600.5, network2.getLoad("LOAD").getTerminal().getP(), 0);
+        assertFalse(network2.getLoad("LOAD").getTerminal().isConnected());
+        assertEquals(300.1, network2.getLine("NHV1_NHV2_1").getTerminal1().getP(), 0);
+        assertEquals(402.1, network2.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").getV(), 0);
+        assertEquals(0, network2.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getTapPosition());
+        assertEquals("bar", network2.getLoad("LOAD").getProperties().getProperty("foo"));
+        assertEquals("property", network2.getProperties().getProperty("network"));
+    }
+
+    @Test
+    public void testExtensions() {
+        Network network = EurostagTutorialExample1Factory.create();
+        Load load = network.getLoad("LOAD");
+        load.addExtension(LoadZipModel.class, new LoadZipModel(load, 1, 2, 3, 4, 5, 6, 380));
+
+        Network network2 = NetworkBinary.read(new ByteArrayInputStream(writeBinary(network)));
+        LoadZipModel zipModel2 = network2.getLoad("LOAD").getExtension(LoadZipModel.class);
+        assertNotNull(zipModel2);
+        assertEquals(1, zipModel2.getA1(), 0);
+        assertEquals(6, zipModel2.getA6(), 0);
+        assertEquals(380, zipModel2.getV0(), 0);
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkBinary.write(network, new ExportOptions().setSkipExtensions(true), os);
+        network2 = NetworkBinary.read(new ByteArrayInputStream(os.toByteArray()));
+        assertNull(network2.getLoad("LOAD").getExtension(LoadZipModel.class));
+    }
+
+    @Test
+    public void testSize() {
+        Network network = FictitiousSwitchFactory.create();
+        byte[] bytes = writeBinary(network);
+        byte[] xmlBytes = writeXml(network).getBytes(StandardCharsets.UTF_8);
+        assertTrue(bytes.length * 5 < xmlBytes.length);
+    }
+
+    @Test
+    public void testNotBinary() throws IOException {
+        assertFalse(NetworkBinary.isBinary(new ByteArrayInputStream("<?xml".getBytes(StandardCharsets.UTF_8))));
+        try {
+            NetworkBinary.read(new ByteArrayInputStream("<?xml version=\"1.0\"?>".getBytes(StandardCharsets.UTF_8)));
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+    }
+
+    @Test
+    public void testExporterImporter() throws IOException {
+        Path workingDir = fileSystem.getPath("/work");
+        Files.createDirectory(workingDir);
+        InMemoryPlatformConfig platformConfig = new InMemoryPlatformConfig(fileSystem);
+        BinaryExporter exporter = new BinaryExporter(platformConfig);
+        BinaryImporter importer = new BinaryImporter(platformConfig);
+        assertEquals("BIIDM", exporter.getFormat());
+        assertEquals("BIIDM", importer.getFormat());
+        assertEquals("IIDM binary v1 exporter", exporter.getComment());
+        assertEquals("IIDM binary v1 importer", importer.getComment());
+        assertEquals(1, importer.getParameters().size());
+
+        Network network = EurostagTutorialExample1Factory.create();
+        DataSource dataSource = new FileDataSource(workingDir, "network");
+        assertFalse(importer.exists(dataSource));
+        exporter.export(network, null, dataSource);
+        assertTrue(Files.exists(workingDir.resolve("network.biidm")));
+        assertTrue(importer.exists(dataSource));
+
+        Network network2 = importer.importData(dataSource, null);
+        assertEquals(writeXml(network), writeXml(network2));
+
+        DataSource copyDataSource = new FileDataSource(workingDir, "copy");
+        importer.copy(dataSource, copyDataSource);
+        assertTrue(importer.exists(copyDataSource));
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.bin;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.*;
+import com.powsybl.iidm.xml.NetworkXml;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkStateBinaryTest {
+
+    private static String writeXml(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        return new String(os.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Network copy(Network network) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkBinary.write(network, os);
+        return NetworkBinary.read(new ByteArrayInputStream(os.toByteArray()));
+    }
+
+    private static void setTerminalState(Terminal t, double value) {
+        t.setP(value).setQ(-value);
+    }
+
+    /**
+     * Change all the state variables, as a calculation would do.
+     */
+    private static void changeState(Network network) {
+        for (Switch sw : network.getSwitches()) {
+            sw.setOpen(!sw.isOpen());
+        }
+        for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
+            if (twt.getRatioTapChanger() != null) {
+                twt.getRatioTapChanger().setTapPosition(twt.getRatioTapChanger().getLowTapPosition());
+            }
+            if (twt.getPhaseTapChanger() != null) {
+                twt.getPhaseTapChanger().setTapPosition(twt.getPhaseTapChanger().getHighTapPosition());
+            }
+        }
+        for (ShuntCompensator shunt : network.getShuntCompensators()) {
+            shunt.setCurrentSectionCount(shunt.getMaximumSectionCount());
+        }
+        double value = 1.5;
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            if (identifiable instanceof Injection) {
+                setTerminalState(((Injection<?>) identifiable).getTerminal(), value++);
+            } else if (identifiable instanceof Branch) {
+                setTerminalState(((Branch<?>) identifiable).getTerminal1(), value++);
+                setTerminalState(((Branch<?>) identifiable).getTerminal2(), value++);
+            } else if (identifiable instanceof ThreeWindingsTransformer) {
+                setTerminalState(((ThreeWindingsTransformer) identifiable).getLeg1().getTerminal(), value++);
+                setTerminalState(((ThreeWindingsTransformer) identifiable).getLeg2().getTerminal(), value++);
+                setTerminalState(((ThreeWindingsTransformer) identifiable).getLeg3().getTerminal(), value++);
+            }
+        }
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            Iterable<Bus> buses = vl.getTopologyKind() == TopologyKind.BUS_BREAKER
+                    ? vl.getBusBreakerView().getBuses()
+                    : vl.getBusView().getBuses();
+            for (Bus bus : buses) {
+                bus.setV(vl.getNominalV() * 1.02).setAngle(value++);
+            }
+        }
+    }
+
+    private static void checkUpdate(Network network) {
+        Network network2 = copy(network);
+        String initialXml = writeXml(network2);
+
+        changeState(network);
+        byte[] state = NetworkStateBinary.write(network);
+
+        // apply the state to another variant of the copy
+        network2.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network2.getVariantManager().setWorkingVariant("v");
+        NetworkStateBinary.update(network2, state);
+        assertEquals(writeXml(network), writeXml(network2));
+
+        // initial variant is unchanged
+        network2.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(initialXml, writeXml(network2));
+    }
+
+    @Test
+    public void testUpdate() {
+        checkUpdate(EurostagTutorialExample1Factory.create());
+        checkUpdate(FictitiousSwitchFactory.create());
+        checkUpdate(NetworkTest1Factory.create());
+        checkUpdate(PhaseShifterTestCaseFactory.create());
+        checkUpdate(ThreeWindingsTransformerNetworkFactory.create());
+        checkUpdate(SvcTestCaseFactory.create());
+        checkUpdate(HvdcTestNetwork.createLcc());
+        checkUpdate(DanglingLineNetworkFactory.create());
+    }
+
+    @Test
+    public void testSize() {
+        Network network = EurostagTutorialExample1Factory.create();
+        changeState(network);
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        NetworkXml.write(network, os);
+        assertTrue(NetworkStateBinary.write(network).length * 5 < os.size());
+    }
+
+    @Test
+    public void testInvalidState() {
+        Network network = EurostagTutorialExample1Factory.create();
+        byte[] state = NetworkStateBinary.write(network);
+        try {
+            NetworkStateBinary.update(NoEquipmentNetworkFactory.create(), state);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        try {
+            NetworkStateBinary.update(network, new byte[] {1, 2, 3, 4, 5, 6, 7});
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+
+        network.getLoad("LOAD").remove();
+        try {
+            NetworkStateBinary.update(network, state);
+            fail();
+        } catch (PowsyblException e) {
+            assertEquals("Injection 'LOAD' not found", e.getMessage());
+        }
+    }
+}
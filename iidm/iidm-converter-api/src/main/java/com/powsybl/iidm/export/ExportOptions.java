@@ -30,6 +30,8 @@ public class ExportOptions {
 
     private boolean throwExceptionIfExtensionNotFound = false;
 
+    private boolean schemaValidation = false;
+
     public ExportOptions() {
     }
 
@@ -103,4 +105,13 @@ public class ExportOptions {
         this.throwExceptionIfExtensionNotFound = throwException;
         return this;
     }
+
+    public boolean isSchemaValidation() {
+        return schemaValidation;
+    }
+
+    public ExportOptions setSchemaValidation(boolean schemaValidation) {
+        this.schemaValidation = schemaValidation;
+        return this;
+    }
 }
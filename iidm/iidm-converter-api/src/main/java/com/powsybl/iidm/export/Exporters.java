@@ -10,6 +10,7 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.DataSource;
 import com.powsybl.commons.datasource.DataSourceObserver;
 import com.powsybl.commons.datasource.DataSourceUtil;
+import com.powsybl.commons.datasource.DefaultDataSourceObserver;
 import com.powsybl.commons.datasource.FileDataSource;
 import com.powsybl.iidm.network.Network;
 
@@ -120,4 +121,30 @@ public final class Exporters {
         export(format, network, parameters, new FileDataSource(Paths.get(directory), baseName));
     }
 
+    /**
+     * Export a model to a given format and return the main generated file, that is to say the first one written by
+     * the exporter. Useful when the extension of the generated file is not known by the caller.
+     *
+     * @param format the export format
+     * @param network the model
+     * @param parameters some properties to configure the export
+     * @param directory the output directory where files are generated
+     * @param baseName a base name for all generated files
+     * @return the main generated file
+     */
+    public static Path exportToDirectory(String format, Network network, Properties parameters, Path directory, String baseName) {
+        List<String> streamNames = new ArrayList<>();
+        DataSource dataSource = new FileDataSource(directory, baseName, new DefaultDataSourceObserver() {
+            @Override
+            public void opened(String streamName) {
+                streamNames.add(streamName);
+            }
+        });
+        export(format, network, parameters, dataSource);
+        if (streamNames.isEmpty()) {
+            throw new PowsyblException("Nothing has been exported in format " + format);
+        }
+        return directory.resolve(directory.getFileSystem().getPath(streamNames.get(0)).getFileName().toString());
+    }
+
 }
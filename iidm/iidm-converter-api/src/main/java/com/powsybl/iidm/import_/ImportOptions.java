@@ -14,6 +14,8 @@ public class ImportOptions {
 
     private boolean throwExceptionIfExtensionNotFound;
 
+    private boolean schemaValidation = false;
+
     public ImportOptions() {
         this(false);
     }
@@ -30,4 +32,11 @@ public class ImportOptions {
         this.throwExceptionIfExtensionNotFound = throwExceptionIfExtensionNotFound;
     }
 
+    public boolean isSchemaValidation() {
+        return schemaValidation;
+    }
+
+    public void setSchemaValidation(boolean schemaValidation) {
+        this.schemaValidation = schemaValidation;
+    }
 }
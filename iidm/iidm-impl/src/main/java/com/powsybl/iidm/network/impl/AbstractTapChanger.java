@@ -67,7 +67,11 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
     }
 
     public int getTapPosition() {
-        return tapPosition.get(network.get().getVariantIndex());
+        return getTapPosition(network.get().getVariantIndex());
+    }
+
+    int getTapPosition(int variantIndex) {
+        return tapPosition.get(variantIndex);
     }
 
     protected abstract String getTapChangerAttribute();
@@ -98,7 +102,11 @@ abstract class AbstractTapChanger<H extends TapChangerParent, C extends Abstract
     }
 
     public boolean isRegulating() {
-        return regulating.get(network.get().getVariantIndex());
+        return isRegulating(network.get().getVariantIndex());
+    }
+
+    boolean isRegulating(int variantIndex) {
+        return regulating.get(variantIndex);
     }
 
     public C setRegulating(boolean regulating) {
@@ -69,7 +69,11 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public double getP() {
-        return p.get(network.get().getVariantIndex());
+        return getP(network.get().getVariantIndex());
+    }
+
+    double getP(int variantIndex) {
+        return p.get(variantIndex);
     }
 
     @Override
@@ -87,7 +91,11 @@ abstract class AbstractTerminal implements TerminalExt {
 
     @Override
     public double getQ() {
-        return q.get(network.get().getVariantIndex());
+        return getQ(network.get().getVariantIndex());
+    }
+
+    double getQ(int variantIndex) {
+        return q.get(variantIndex);
     }
 
     @Override
@@ -336,6 +336,11 @@ class BusBreakerVoltageLevel extends AbstractVoltageLevel {
         getNetwork().getSynchronousComponentsManager().invalidate();
     }
 
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        invalidateCache();
+    }
+
     @Override
     public Iterable<Terminal> getTerminals() {
         return FluentIterable.from(graph.getVerticesObj())
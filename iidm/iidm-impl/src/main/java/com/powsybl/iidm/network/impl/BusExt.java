@@ -20,8 +20,12 @@ interface BusExt extends Bus {
 
     Stream<TerminalExt> getConnectedTerminalStream();
 
+    int getConnectedComponentNumber();
+
     void setConnectedComponentNumber(int connectedComponentNumber);
 
+    int getSynchronousComponentNumber();
+
     void setSynchronousComponentNumber(int componentNumber);
 
 }
@@ -86,7 +86,11 @@ class BusTerminal extends AbstractTerminal {
     }
 
     String getConnectableBusId() {
-        return this.connectableBusId.get(network.get().getVariantIndex());
+        return getConnectableBusId(network.get().getVariantIndex());
+    }
+
+    String getConnectableBusId(int variantIndex) {
+        return this.connectableBusId.get(variantIndex);
     }
 
     void setConnected(boolean connected) {
@@ -95,7 +99,11 @@ class BusTerminal extends AbstractTerminal {
 
     @Override
     public boolean isConnected() {
-        return this.connected.get(network.get().getVariantIndex());
+        return isConnected(network.get().getVariantIndex());
+    }
+
+    boolean isConnected(int variantIndex) {
+        return this.connected.get(variantIndex);
     }
 
     @Override
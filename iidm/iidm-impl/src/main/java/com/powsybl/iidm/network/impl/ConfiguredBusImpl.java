@@ -96,7 +96,11 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, MultiVaria
 
     @Override
     public double getV() {
-        return v.get(network.get().getVariantIndex());
+        return getV(network.get().getVariantIndex());
+    }
+
+    double getV(int variantIndex) {
+        return v.get(variantIndex);
     }
 
     @Override
@@ -111,7 +115,11 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, MultiVaria
 
     @Override
     public double getAngle() {
-        return angle.get(network.get().getVariantIndex());
+        return getAngle(network.get().getVariantIndex());
+    }
+
+    double getAngle(int variantIndex) {
+        return angle.get(variantIndex);
     }
 
     @Override
@@ -121,6 +129,11 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, MultiVaria
         return this;
     }
 
+    @Override
+    public int getConnectedComponentNumber() {
+        return connectedComponentNumber.get(network.get().getVariantIndex());
+    }
+
     @Override
     public void setConnectedComponentNumber(int connectedComponentNumber) {
         this.connectedComponentNumber.set(network.get().getVariantIndex(), connectedComponentNumber);
@@ -133,6 +146,11 @@ class ConfiguredBusImpl extends AbstractBus implements ConfiguredBus, MultiVaria
         return ccm.getComponent(connectedComponentNumber.get(network.get().getVariantIndex()));
     }
 
+    @Override
+    public int getSynchronousComponentNumber() {
+        return synchronousComponentNumber.get(network.get().getVariantIndex());
+    }
+
     @Override
     public void setSynchronousComponentNumber(int componentNumber) {
         this.synchronousComponentNumber.set(network.get().getVariantIndex(), componentNumber);
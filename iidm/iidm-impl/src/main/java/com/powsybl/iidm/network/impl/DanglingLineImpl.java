@@ -72,7 +72,11 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
 
     @Override
     public double getP0() {
-        return p0.get(network.get().getVariantIndex());
+        return getP0(network.get().getVariantIndex());
+    }
+
+    double getP0(int variantIndex) {
+        return p0.get(variantIndex);
     }
 
     @Override
@@ -85,7 +89,11 @@ class DanglingLineImpl extends AbstractConnectable<DanglingLine> implements Dang
 
     @Override
     public double getQ0() {
-        return q0.get(network.get().getVariantIndex());
+        return getQ0(network.get().getVariantIndex());
+    }
+
+    double getQ0(int variantIndex) {
+        return q0.get(variantIndex);
     }
 
     @Override
@@ -6,10 +6,9 @@
  */
 package com.powsybl.iidm.network.impl;
 
-import com.powsybl.commons.util.trove.TBooleanArrayList;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  *
@@ -17,6 +16,26 @@ import gnu.trove.list.array.TDoubleArrayList;
  */
 class GeneratorImpl extends AbstractConnectable<Generator> implements Generator, ReactiveLimitsOwner {
 
+    /**
+     * Variant dependent attributes of all the generators of a network.
+     */
+    static final class Columns extends VariantColumnStore {
+
+        private final BooleanColumn voltageRegulatorOn = new BooleanColumn();
+
+        private final DoubleColumn targetP = new DoubleColumn();
+
+        private final DoubleColumn targetQ = new DoubleColumn();
+
+        private final DoubleColumn targetV = new DoubleColumn();
+
+        Columns(Ref<? extends VariantManagerHolder> network, int variantArraySize) {
+            super(network, variantArraySize);
+        }
+    }
+
+    private final Ref<NetworkImpl> network;
+
     private EnergySource energySource;
 
     private double minP;
@@ -29,40 +48,46 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     private TerminalExt regulatingTerminal;
 
-    // attributes depending on the variant
+    // attributes depending on the variant, stored in the generator columns of the network
 
-    private final TBooleanArrayList voltageRegulatorOn;
+    // -1 once removed
+    private int row;
 
-    private final TDoubleArrayList targetP;
-
-    private final TDoubleArrayList targetQ;
-
-    private final TDoubleArrayList targetV;
-
-    GeneratorImpl(Ref<? extends VariantManagerHolder> ref,
+    GeneratorImpl(Ref<NetworkImpl> ref,
                   String id, String name, EnergySource energySource,
                   double minP, double maxP,
                   boolean voltageRegulatorOn, TerminalExt regulatingTerminal,
                   double targetP, double targetQ, double targetV,
                   double ratedS) {
         super(id, name);
+        this.network = ref;
         this.energySource = energySource;
         this.minP = minP;
         this.maxP = maxP;
         reactiveLimits = new MinMaxReactiveLimitsImpl(-Double.MAX_VALUE, Double.MAX_VALUE);
         this.regulatingTerminal = regulatingTerminal;
         this.ratedS = ratedS;
-        int variantArraySize = ref.get().getVariantManager().getVariantArraySize();
-        this.voltageRegulatorOn = new TBooleanArrayList(variantArraySize);
-        this.targetP = new TDoubleArrayList(variantArraySize);
-        this.targetQ = new TDoubleArrayList(variantArraySize);
-        this.targetV = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.voltageRegulatorOn.add(voltageRegulatorOn);
-            this.targetP.add(targetP);
-            this.targetQ.add(targetQ);
-            this.targetV.add(targetV);
+        Columns columns = ref.get().getGeneratorColumns();
+        row = columns.addRow();
+        columns.voltageRegulatorOn.setAll(row, voltageRegulatorOn);
+        columns.targetP.setAll(row, targetP);
+        columns.targetQ.setAll(row, targetQ);
+        columns.targetV.setAll(row, targetV);
+    }
+
+    private Columns getColumns() {
+        if (row == -1) {
+            throw new PowsyblException(id + " has been removed");
         }
+        return network.get().getGeneratorColumns();
+    }
+
+    /**
+     * Move the variant dependent attributes of this generator to the columns of another network, used when merging
+     * networks.
+     */
+    void moveColumns(Columns columns) {
+        row = columns.importRow(getColumns(), row);
     }
 
     @Override
@@ -121,14 +146,18 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return voltageRegulatorOn.get(getNetwork().getVariantIndex());
+        return getColumns().voltageRegulatorOn.get(row);
+    }
+
+    boolean isVoltageRegulatorOn(int variantIndex) {
+        return getColumns().voltageRegulatorOn.get(row, variantIndex);
     }
 
     @Override
     public GeneratorImpl setVoltageRegulatorOn(boolean voltageRegulatorOn) {
-        int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, targetV.get(variantIndex), targetQ.get(variantIndex));
-        boolean oldValue = this.voltageRegulatorOn.set(variantIndex, voltageRegulatorOn);
+        Columns columns = getColumns();
+        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn, columns.targetV.get(row), columns.targetQ.get(row));
+        boolean oldValue = columns.voltageRegulatorOn.set(row, voltageRegulatorOn);
         notifyUpdate("voltageRegulatorOn", oldValue, voltageRegulatorOn);
         return this;
     }
@@ -147,41 +176,53 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
 
     @Override
     public double getTargetP() {
-        return targetP.get(getNetwork().getVariantIndex());
+        return getColumns().targetP.get(row);
+    }
+
+    double getTargetP(int variantIndex) {
+        return getColumns().targetP.get(row, variantIndex);
     }
 
     @Override
     public GeneratorImpl setTargetP(double targetP) {
         ValidationUtil.checkActivePowerSetpoint(this, targetP);
-        double oldValue = this.targetP.set(getNetwork().getVariantIndex(), targetP);
+        double oldValue = getColumns().targetP.set(row, targetP);
         notifyUpdate("targetP", oldValue, targetP);
         return this;
     }
 
     @Override
     public double getTargetQ() {
-        return targetQ.get(getNetwork().getVariantIndex());
+        return getColumns().targetQ.get(row);
+    }
+
+    double getTargetQ(int variantIndex) {
+        return getColumns().targetQ.get(row, variantIndex);
     }
 
     @Override
     public GeneratorImpl setTargetQ(double targetQ) {
-        int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), targetV.get(variantIndex), targetQ);
-        double oldValue = this.targetQ.set(variantIndex, targetQ);
+        Columns columns = getColumns();
+        ValidationUtil.checkVoltageControl(this, columns.voltageRegulatorOn.get(row), columns.targetV.get(row), targetQ);
+        double oldValue = columns.targetQ.set(row, targetQ);
         notifyUpdate("targetQ", oldValue, targetQ);
         return this;
     }
 
     @Override
     public double getTargetV() {
-        return this.targetV.get(getNetwork().getVariantIndex());
+        return getColumns().targetV.get(row);
+    }
+
+    double getTargetV(int variantIndex) {
+        return getColumns().targetV.get(row, variantIndex);
     }
 
     @Override
     public GeneratorImpl setTargetV(double targetV) {
-        int variantIndex = getNetwork().getVariantIndex();
-        ValidationUtil.checkVoltageControl(this, voltageRegulatorOn.get(variantIndex), targetV, targetQ.get(variantIndex));
-        double oldValue = this.targetV.set(variantIndex, targetV);
+        Columns columns = getColumns();
+        ValidationUtil.checkVoltageControl(this, columns.voltageRegulatorOn.get(row), targetV, columns.targetQ.get(row));
+        double oldValue = columns.targetV.set(row, targetV);
         notifyUpdate("targetV", oldValue, targetV);
         return this;
     }
@@ -234,44 +275,12 @@ class GeneratorImpl extends AbstractConnectable<Generator> implements Generator,
     }
 
     @Override
-    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        voltageRegulatorOn.ensureCapacity(voltageRegulatorOn.size() + number);
-        targetP.ensureCapacity(targetP.size() + number);
-        targetQ.ensureCapacity(targetQ.size() + number);
-        targetV.ensureCapacity(targetV.size() + number);
-        for (int i = 0; i < number; i++) {
-            voltageRegulatorOn.add(voltageRegulatorOn.get(sourceIndex));
-            targetP.add(targetP.get(sourceIndex));
-            targetQ.add(targetQ.get(sourceIndex));
-            targetV.add(targetV.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceVariantArraySize(int number) {
-        super.reduceVariantArraySize(number);
-        voltageRegulatorOn.remove(voltageRegulatorOn.size() - number, number);
-        targetP.remove(targetP.size() - number, number);
-        targetQ.remove(targetQ.size() - number, number);
-        targetV.remove(targetV.size() - number, number);
-    }
-
-    @Override
-    public void deleteVariantArrayElement(int index) {
-        super.deleteVariantArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            voltageRegulatorOn.set(index, voltageRegulatorOn.get(sourceIndex));
-            targetP.set(index, targetP.get(sourceIndex));
-            targetQ.set(index, targetQ.get(sourceIndex));
-            targetV.set(index, targetV.get(sourceIndex));
-        }
+    public void remove() {
+        Columns columns = getColumns();
+        super.remove();
+        columns.removeRow(row);
+        // the row is recycled by the next created generator
+        row = -1;
     }
 
     @Override
@@ -77,7 +77,11 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, M
 
     @Override
     public ConvertersMode getConvertersMode() {
-        return toEnum(convertersMode.get(getNetwork().getVariantIndex()));
+        return getConvertersMode(getNetwork().getVariantIndex());
+    }
+
+    ConvertersMode getConvertersMode(int variantIndex) {
+        return toEnum(convertersMode.get(variantIndex));
     }
 
     @Override
@@ -134,7 +138,11 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, M
 
     @Override
     public double getActivePowerSetpoint() {
-        return activePowerSetpoint.get(getNetwork().getVariantIndex());
+        return getActivePowerSetpoint(getNetwork().getVariantIndex());
+    }
+
+    double getActivePowerSetpoint(int variantIndex) {
+        return activePowerSetpoint.get(variantIndex);
     }
 
     @Override
@@ -186,6 +194,8 @@ class HvdcLineImpl extends AbstractIdentifiable<HvdcLine> implements HvdcLine, M
     public void remove() {
         NetworkImpl network = getNetwork();
         network.getObjectStore().remove(this);
+        // converter stations are no longer connected
+        network.getConnectedComponentsManager().invalidate();
         network.getListeners().notifyRemoval(this);
     }
 
@@ -6,11 +6,11 @@
  */
 package com.powsybl.iidm.network.impl;
 
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.iidm.network.ConnectableType;
 import com.powsybl.iidm.network.Load;
 import com.powsybl.iidm.network.LoadType;
 import com.powsybl.iidm.network.impl.util.Ref;
-import gnu.trove.list.array.TDoubleArrayList;
 
 /**
  *
@@ -18,28 +18,53 @@ import gnu.trove.list.array.TDoubleArrayList;
  */
 class LoadImpl extends AbstractConnectable<Load> implements Load {
 
-    private final Ref<? extends VariantManagerHolder> network;
+    /**
+     * Variant dependent attributes of all the loads of a network.
+     */
+    static final class Columns extends VariantColumnStore {
 
-    private LoadType loadType;
+        private final DoubleColumn p0 = new DoubleColumn();
+
+        private final DoubleColumn q0 = new DoubleColumn();
 
-    // attributes depending on the variant
+        Columns(Ref<? extends VariantManagerHolder> network, int variantArraySize) {
+            super(network, variantArraySize);
+        }
+    }
+
+    private final Ref<NetworkImpl> network;
+
+    private LoadType loadType;
 
-    private final TDoubleArrayList p0;
+    // attributes depending on the variant, stored in the load columns of the network
 
-    private final TDoubleArrayList q0;
+    // -1 once removed
+    private int row;
 
-    LoadImpl(Ref<? extends VariantManagerHolder> network,
+    LoadImpl(Ref<NetworkImpl> network,
              String id, String name, LoadType loadType, double p0, double q0) {
         super(id, name);
         this.network = network;
         this.loadType = loadType;
-        int variantArraySize = network.get().getVariantManager().getVariantArraySize();
-        this.p0 = new TDoubleArrayList(variantArraySize);
-        this.q0 = new TDoubleArrayList(variantArraySize);
-        for (int i = 0; i < variantArraySize; i++) {
-            this.p0.add(p0);
-            this.q0.add(q0);
+        Columns columns = network.get().getLoadColumns();
+        row = columns.addRow();
+        columns.p0.setAll(row, p0);
+        columns.q0.setAll(row, q0);
+    }
+
+    private Columns getColumns() {
+        if (row == -1) {
+            throw new PowsyblException(id + " has been removed");
         }
+        return network.get().getLoadColumns();
+    }
+
+    /**
+     * Move the variant dependent attributes of this load to the columns of another network, used when merging
+     * networks.
+     */
+    void moveColumns(Columns columns) {
+        row = columns.importRow(getColumns(), row);
     }
 
     @Override
@@ -73,61 +98,45 @@ class LoadImpl extends AbstractConnectable<Load> implements Load {
 
     @Override
     public double getP0() {
-        return p0.get(network.get().getVariantIndex());
+        return getColumns().p0.get(row);
+    }
+
+    double getP0(int variantIndex) {
+        return getColumns().p0.get(row, variantIndex);
     }
 
     @Override
     public LoadImpl setP0(double p0) {
         ValidationUtil.checkP0(this, p0);
-        double oldValue = this.p0.set(network.get().getVariantIndex(), p0);
+        double oldValue = getColumns().p0.set(row, p0);
         notifyUpdate("p0", oldValue, p0);
         return this;
     }
 
     @Override
     public double getQ0() {
-        return q0.get(network.get().getVariantIndex());
+        return getColumns().q0.get(row);
+    }
+
+    double getQ0(int variantIndex) {
+        return getColumns().q0.get(row, variantIndex);
     }
 
     @Override
     public LoadImpl setQ0(double q0) {
         ValidationUtil.checkQ0(this, q0);
-        double oldValue = this.q0.set(network.get().getVariantIndex(), q0);
+        double oldValue = getColumns().q0.set(row, q0);
         notifyUpdate("q0", oldValue, q0);
         return this;
     }
 
     @Override
-    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
-        super.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
-        p0.ensureCapacity(p0.size() + number);
-        q0.ensureCapacity(q0.size() + number);
-        for (int i = 0; i < number; i++) {
-            p0.add(p0.get(sourceIndex));
-            q0.add(q0.get(sourceIndex));
-        }
-    }
-
-    @Override
-    public void reduceVariantArraySize(int number) {
-        super.reduceVariantArraySize(number);
-        p0.remove(p0.size() - number, number);
-        q0.remove(q0.size() - number, number);
-    }
-
-    @Override
-    public void deleteVariantArrayElement(int index) {
-        super.deleteVariantArrayElement(index);
-        // nothing to do
-    }
-
-    @Override
-    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
-        super.allocateVariantArrayElement(indexes, sourceIndex);
-        for (int index : indexes) {
-            p0.set(index, p0.get(sourceIndex));
-            q0.set(index, q0.get(sourceIndex));
-        }
+    public void remove() {
+        Columns columns = getColumns();
+        super.remove();
+        columns.removeRow(row);
+        // the row is recycled by the next created load
+        row = -1;
     }
 
 }
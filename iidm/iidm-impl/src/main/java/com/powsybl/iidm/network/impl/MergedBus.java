@@ -153,6 +153,12 @@ class MergedBus extends AbstractIdentifiable<Bus> implements CalculatedBus {
         return q;
     }
 
+    @Override
+    public int getConnectedComponentNumber() {
+        checkValidity();
+        return buses.iterator().next().getConnectedComponentNumber();
+    }
+
     @Override
     public void setConnectedComponentNumber(int connectedComponentNumber) {
         checkValidity();
@@ -173,6 +179,12 @@ class MergedBus extends AbstractIdentifiable<Bus> implements CalculatedBus {
         throw new AssertionError("Should not happen");
     }
 
+    @Override
+    public int getSynchronousComponentNumber() {
+        checkValidity();
+        return buses.iterator().next().getSynchronousComponentNumber();
+    }
+
     @Override
     public void setSynchronousComponentNumber(int componentNumber) {
         checkValidity();
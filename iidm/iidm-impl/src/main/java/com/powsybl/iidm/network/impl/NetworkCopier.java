@@ -0,0 +1,700 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * In memory copy of a network, without any serialization.
+ * <p>
+ * The structure of the network (substations, voltage levels, topology, equipments, current and reactive limits) is
+ * first rebuilt using the adders, from the working variant. Then, for each variant, the state of the equipments
+ * (setpoints, tap positions, switch status, terminal connection and flows, bus voltages) is read by variant index and
+ * copied using the setters, in an order that keeps each intermediate state valid. The working variant of the source
+ * network is never switched, so the copy does not disturb concurrent readers of the source network.
+ * <p>
+ * Extensions are finally copied by the {@link ExtensionCopier} services, the copy fails if one of them is missing.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class NetworkCopier {
+
+    private final NetworkImpl source;
+
+    private NetworkImpl target;
+
+    NetworkCopier(NetworkImpl source) {
+        this.source = Objects.requireNonNull(source);
+    }
+
+    NetworkImpl copy(boolean workingVariantOnly) {
+        VariantManagerImpl sourceVariantManager = source.getVariantManager();
+        String workingVariantId = sourceVariantManager.getWorkingVariantId();
+        List<String> variantIds = new ArrayList<>();
+        if (workingVariantOnly) {
+            variantIds.add(workingVariantId);
+        } else {
+            variantIds.add(VariantManagerConstants.INITIAL_VARIANT_ID);
+            sourceVariantManager.getVariantIds().stream()
+                    .filter(variantId -> !variantId.equals(VariantManagerConstants.INITIAL_VARIANT_ID))
+                    .forEach(variantIds::add);
+        }
+
+        target = new NetworkImpl(source.getId(), source.getName(), source.getSourceFormat());
+        copyStructure();
+        for (int i = 0; i < variantIds.size(); i++) {
+            String sourceVariantId = variantIds.get(i);
+            if (i > 0) {
+                target.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, sourceVariantId);
+                target.getVariantManager().setWorkingVariant(sourceVariantId);
+            }
+            copyState(sourceVariantManager.getVariantIndex(sourceVariantId));
+        }
+        copyExtensions();
+        target.getVariantManager().setWorkingVariant(workingVariantOnly ? VariantManagerConstants.INITIAL_VARIANT_ID : workingVariantId);
+        return target;
+    }
+
+    private void copyStructure() {
+        target.setCaseDate(source.getCaseDate());
+        target.setForecastDistance(source.getForecastDistance());
+        copyProperties(source, target);
+
+        for (Substation s : source.getSubstations()) {
+            Substation substation = target.newSubstation()
+                    .setId(s.getId())
+                    .setName(s.getName())
+                    .setCountry(s.getCountry())
+                    .setTso(s.getTso())
+                    .setGeographicalTags(s.getGeographicalTags().toArray(new String[0]))
+                    .add();
+            for (VoltageLevel vl : s.getVoltageLevels()) {
+                VoltageLevel voltageLevel = substation.newVoltageLevel()
+                        .setId(vl.getId())
+                        .setName(vl.getName())
+                        .setNominalV(vl.getNominalV())
+                        .setLowVoltageLimit(vl.getLowVoltageLimit())
+                        .setHighVoltageLimit(vl.getHighVoltageLimit())
+                        .setTopologyKind(vl.getTopologyKind())
+                        .add();
+                copyTopology(vl, voltageLevel);
+                copyInjections(vl, voltageLevel);
+            }
+        }
+        for (Substation s : source.getSubstations()) {
+            Substation substation = target.getSubstation(s.getId());
+            for (TwoWindingsTransformer twt : s.getTwoWindingsTransformers()) {
+                copyTwoWindingsTransformer(twt, substation);
+            }
+            for (ThreeWindingsTransformer twt : s.getThreeWindingsTransformers()) {
+                copyThreeWindingsTransformer(twt, substation);
+            }
+        }
+        for (Line l : source.getLines()) {
+            if (l.isTieLine()) {
+                copyTieLine((TieLine) l);
+            } else {
+                copyLine(l);
+            }
+        }
+        for (HvdcLine l : source.getHvdcLines()) {
+            target.newHvdcLine()
+                    .setId(l.getId())
+                    .setName(l.getName())
+                    .setR(l.getR())
+                    .setNominalV(l.getNominalV())
+                    .setConvertersMode(l.getConvertersMode())
+                    .setActivePowerSetpoint(l.getActivePowerSetpoint())
+                    .setMaxP(l.getMaxP())
+                    .setConverterStationId1(l.getConverterStation1().getId())
+                    .setConverterStationId2(l.getConverterStation2().getId())
+                    .add();
+        }
+
+        // regulation terminals may belong to any equipment, so they are set once all of them exist
+        for (Generator g : source.getGenerators()) {
+            Terminal regulatingTerminal = g.getRegulatingTerminal();
+            if (regulatingTerminal != null && regulatingTerminal.getConnectable() != g) {
+                target.getGenerator(g.getId()).setRegulatingTerminal(getTargetTerminal(regulatingTerminal));
+            }
+        }
+        for (TwoWindingsTransformer twt : source.getTwoWindingsTransformers()) {
+            TwoWindingsTransformer transformer = target.getTwoWindingsTransformer(twt.getId());
+            copyRatioTapChanger(twt.getRatioTapChanger(), transformer);
+            copyPhaseTapChanger(twt.getPhaseTapChanger(), transformer);
+        }
+        for (ThreeWindingsTransformer twt : source.getThreeWindingsTransformers()) {
+            ThreeWindingsTransformer transformer = target.getThreeWindingsTransformer(twt.getId());
+            copyRatioTapChanger(twt.getLeg2().getRatioTapChanger(), transformer.getLeg2());
+            copyRatioTapChanger(twt.getLeg3().getRatioTapChanger(), transformer.getLeg3());
+        }
+
+        for (Identifiable<?> identifiable : source.getIdentifiables()) {
+            if (identifiable.hasProperty()) {
+                copyProperties(identifiable, target.getIdentifiable(identifiable.getId()));
+            }
+        }
+    }
+
+    private void copyExtensions() {
+        ExtensionCopiers.copyExtensions(source, target);
+        for (Identifiable<?> identifiable : source.getIdentifiables()) {
+            ExtensionCopiers.copyExtensions(identifiable, target.getIdentifiable(identifiable.getId()));
+        }
+    }
+
+    private static void copyProperties(Identifiable<?> from, Identifiable<?> to) {
+        if (from.hasProperty()) {
+            to.getProperties().putAll(from.getProperties());
+        }
+    }
+
+    private static void copyTopology(VoltageLevel vl, VoltageLevel voltageLevel) {
+        switch (vl.getTopologyKind()) {
+            case NODE_BREAKER:
+                VoltageLevel.NodeBreakerView nbv = vl.getNodeBreakerView();
+                voltageLevel.getNodeBreakerView().setNodeCount(nbv.getNodeCount());
+                for (BusbarSection bbs : nbv.getBusbarSections()) {
+                    voltageLevel.getNodeBreakerView().newBusbarSection()
+                            .setId(bbs.getId())
+                            .setName(bbs.getName())
+                            .setNode(bbs.getTerminal().getNodeBreakerView().getNode())
+                            .add();
+                }
+                for (Switch sw : nbv.getSwitches()) {
+                    voltageLevel.getNodeBreakerView().newSwitch()
+                            .setId(sw.getId())
+                            .setName(sw.getName())
+                            .setKind(sw.getKind())
+                            .setRetained(sw.isRetained())
+                            .setOpen(sw.isOpen())
+                            .setFictitious(sw.isFictitious())
+                            .setNode1(nbv.getNode1(sw.getId()))
+                            .setNode2(nbv.getNode2(sw.getId()))
+                            .add();
+                }
+                for (VoltageLevel.NodeBreakerView.InternalConnection ic : nbv.getInternalConnections()) {
+                    voltageLevel.getNodeBreakerView().newInternalConnection()
+                            .setNode1(ic.getNode1())
+                            .setNode2(ic.getNode2())
+                            .add();
+                }
+                break;
+
+            case BUS_BREAKER:
+                VoltageLevel.BusBreakerView bbv = vl.getBusBreakerView();
+                for (Bus b : bbv.getBuses()) {
+                    voltageLevel.getBusBreakerView().newBus()
+                            .setId(b.getId())
+                            .setName(b.getName())
+                            .add();
+                }
+                for (Switch sw : bbv.getSwitches()) {
+                    voltageLevel.getBusBreakerView().newSwitch()
+                            .setId(sw.getId())
+                            .setName(sw.getName())
+                            .setOpen(sw.isOpen())
+                            .setFictitious(sw.isFictitious())
+                            .setBus1(bbv.getBus1(sw.getId()).getId())
+                            .setBus2(bbv.getBus2(sw.getId()).getId())
+                            .add();
+                }
+                break;
+
+            default:
+                throw new AssertionError("Unexpected topology kind: " + vl.getTopologyKind());
+        }
+    }
+
+    private static <T extends InjectionAdder<T>> T setNodeOrBus(T adder, Terminal t) {
+        if (t.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode(t.getNodeBreakerView().getNode());
+        } else {
+            Bus bus = t.getBusBreakerView().getBus();
+            if (bus != null) {
+                adder.setBus(bus.getId());
+            }
+            adder.setConnectableBus(t.getBusBreakerView().getConnectableBus().getId());
+        }
+        return adder;
+    }
+
+    private static <L extends ThreeWindingsTransformerAdder.LegAdder<L>> L setNodeOrBus(L adder, Terminal t) {
+        adder.setVoltageLevel(t.getVoltageLevel().getId());
+        if (t.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode(t.getNodeBreakerView().getNode());
+        } else {
+            Bus bus = t.getBusBreakerView().getBus();
+            if (bus != null) {
+                adder.setBus(bus.getId());
+            }
+            adder.setConnectableBus(t.getBusBreakerView().getConnectableBus().getId());
+        }
+        return adder;
+    }
+
+    private static <T extends BranchAdder<T>> T setNodeOrBus(T adder, Branch<?> branch) {
+        Terminal t1 = branch.getTerminal1();
+        adder.setVoltageLevel1(t1.getVoltageLevel().getId());
+        if (t1.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode1(t1.getNodeBreakerView().getNode());
+        } else {
+            Bus bus1 = t1.getBusBreakerView().getBus();
+            if (bus1 != null) {
+                adder.setBus1(bus1.getId());
+            }
+            adder.setConnectableBus1(t1.getBusBreakerView().getConnectableBus().getId());
+        }
+        Terminal t2 = branch.getTerminal2();
+        adder.setVoltageLevel2(t2.getVoltageLevel().getId());
+        if (t2.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            adder.setNode2(t2.getNodeBreakerView().getNode());
+        } else {
+            Bus bus2 = t2.getBusBreakerView().getBus();
+            if (bus2 != null) {
+                adder.setBus2(bus2.getId());
+            }
+            adder.setConnectableBus2(t2.getBusBreakerView().getConnectableBus().getId());
+        }
+        return adder;
+    }
+
+    private static void copyInjections(VoltageLevel vl, VoltageLevel voltageLevel) {
+        for (Generator g : vl.getGenerators()) {
+            Generator generator = setNodeOrBus(voltageLevel.newGenerator(), g.getTerminal())
+                    .setId(g.getId())
+                    .setName(g.getName())
+                    .setEnergySource(g.getEnergySource())
+                    .setMinP(g.getMinP())
+                    .setMaxP(g.getMaxP())
+                    .setRatedS(g.getRatedS())
+                    .setVoltageRegulatorOn(g.isVoltageRegulatorOn())
+                    .setTargetP(g.getTargetP())
+                    .setTargetQ(g.getTargetQ())
+                    .setTargetV(g.getTargetV())
+                    .add();
+            copyReactiveLimits(g, generator);
+        }
+        for (Load l : vl.getLoads()) {
+            setNodeOrBus(voltageLevel.newLoad(), l.getTerminal())
+                    .setId(l.getId())
+                    .setName(l.getName())
+                    .setLoadType(l.getLoadType())
+                    .setP0(l.getP0())
+                    .setQ0(l.getQ0())
+                    .add();
+        }
+        for (ShuntCompensator sc : vl.getShuntCompensators()) {
+            setNodeOrBus(voltageLevel.newShuntCompensator(), sc.getTerminal())
+                    .setId(sc.getId())
+                    .setName(sc.getName())
+                    .setbPerSection(sc.getbPerSection())
+                    .setMaximumSectionCount(sc.getMaximumSectionCount())
+                    .setCurrentSectionCount(sc.getCurrentSectionCount())
+                    .add();
+        }
+        for (DanglingLine dl : vl.getDanglingLines()) {
+            DanglingLine danglingLine = setNodeOrBus(voltageLevel.newDanglingLine(), dl.getTerminal())
+                    .setId(dl.getId())
+                    .setName(dl.getName())
+                    .setP0(dl.getP0())
+                    .setQ0(dl.getQ0())
+                    .setR(dl.getR())
+                    .setX(dl.getX())
+                    .setG(dl.getG())
+                    .setB(dl.getB())
+                    .setUcteXnodeCode(dl.getUcteXnodeCode())
+                    .add();
+            copyCurrentLimits(dl.getCurrentLimits(), danglingLine.newCurrentLimits());
+        }
+        for (StaticVarCompensator svc : vl.getStaticVarCompensators()) {
+            setNodeOrBus(voltageLevel.newStaticVarCompensator(), svc.getTerminal())
+                    .setId(svc.getId())
+                    .setName(svc.getName())
+                    .setBmin(svc.getBmin())
+                    .setBmax(svc.getBmax())
+                    .setVoltageSetPoint(svc.getVoltageSetPoint())
+                    .setReactivePowerSetPoint(svc.getReactivePowerSetPoint())
+                    .setRegulationMode(svc.getRegulationMode())
+                    .add();
+        }
+        for (VscConverterStation cs : vl.getVscConverterStations()) {
+            VscConverterStation station = setNodeOrBus(voltageLevel.newVscConverterStation(), cs.getTerminal())
+                    .setId(cs.getId())
+                    .setName(cs.getName())
+                    .setLossFactor(cs.getLossFactor())
+                    .setVoltageRegulatorOn(cs.isVoltageRegulatorOn())
+                    .setVoltageSetpoint(cs.getVoltageSetpoint())
+                    .setReactivePowerSetpoint(cs.getReactivePowerSetpoint())
+                    .add();
+            copyReactiveLimits(cs, station);
+        }
+        for (LccConverterStation cs : vl.getLccConverterStations()) {
+            setNodeOrBus(voltageLevel.newLccConverterStation(), cs.getTerminal())
+                    .setId(cs.getId())
+                    .setName(cs.getName())
+                    .setLossFactor(cs.getLossFactor())
+                    .setPowerFactor(cs.getPowerFactor())
+                    .add();
+        }
+    }
+
+    private static void copyReactiveLimits(ReactiveLimitsHolder from, ReactiveLimitsHolder to) {
+        ReactiveLimits limits = from.getReactiveLimits();
+        switch (limits.getKind()) {
+            case CURVE:
+                ReactiveCapabilityCurveAdder curveAdder = to.newReactiveCapabilityCurve();
+                for (ReactiveCapabilityCurve.Point point : ((ReactiveCapabilityCurve) limits).getPoints()) {
+                    curveAdder.beginPoint()
+                            .setP(point.getP())
+                            .setMinQ(point.getMinQ())
+                            .setMaxQ(point.getMaxQ())
+                            .endPoint();
+                }
+                curveAdder.add();
+                break;
+
+            case MIN_MAX:
+                to.newMinMaxReactiveLimits()
+                        .setMinQ(((MinMaxReactiveLimits) limits).getMinQ())
+                        .setMaxQ(((MinMaxReactiveLimits) limits).getMaxQ())
+                        .add();
+                break;
+
+            default:
+                throw new AssertionError("Unexpected reactive limits kind: " + limits.getKind());
+        }
+    }
+
+    private static void copyCurrentLimits(CurrentLimits limits, CurrentLimitsAdder adder) {
+        if (limits == null) {
+            return;
+        }
+        adder.setPermanentLimit(limits.getPermanentLimit());
+        for (CurrentLimits.TemporaryLimit tl : limits.getTemporaryLimits()) {
+            adder.beginTemporaryLimit()
+                    .setName(tl.getName())
+                    .setAcceptableDuration(tl.getAcceptableDuration())
+                    .setValue(tl.getValue())
+                    .setFictitious(tl.isFictitious())
+                    .endTemporaryLimit();
+        }
+        adder.add();
+    }
+
+    private static void copyTwoWindingsTransformer(TwoWindingsTransformer twt, Substation substation) {
+        TwoWindingsTransformer transformer = setNodeOrBus(substation.newTwoWindingsTransformer(), twt)
+                .setId(twt.getId())
+                .setName(twt.getName())
+                .setR(twt.getR())
+                .setX(twt.getX())
+                .setG(twt.getG())
+                .setB(twt.getB())
+                .setRatedU1(twt.getRatedU1())
+                .setRatedU2(twt.getRatedU2())
+                .add();
+        copyCurrentLimits(twt.getCurrentLimits1(), transformer.newCurrentLimits1());
+        copyCurrentLimits(twt.getCurrentLimits2(), transformer.newCurrentLimits2());
+    }
+
+    private static void copyThreeWindingsTransformer(ThreeWindingsTransformer twt, Substation substation) {
+        ThreeWindingsTransformer.Leg1 leg1 = twt.getLeg1();
+        ThreeWindingsTransformer.Leg2or3 leg2 = twt.getLeg2();
+        ThreeWindingsTransformer.Leg2or3 leg3 = twt.getLeg3();
+        ThreeWindingsTransformer transformer = setNodeOrBus(setNodeOrBus(setNodeOrBus(substation.newThreeWindingsTransformer()
+                            .setId(twt.getId())
+                            .setName(twt.getName())
+                            .newLeg1(), leg1.getTerminal())
+                        .setR(leg1.getR())
+                        .setX(leg1.getX())
+                        .setG(leg1.getG())
+                        .setB(leg1.getB())
+                        .setRatedU(leg1.getRatedU())
+                        .add()
+                        .newLeg2(), leg2.getTerminal())
+                    .setR(leg2.getR())
+                    .setX(leg2.getX())
+                    .setRatedU(leg2.getRatedU())
+                    .add()
+                    .newLeg3(), leg3.getTerminal())
+                .setR(leg3.getR())
+                .setX(leg3.getX())
+                .setRatedU(leg3.getRatedU())
+                .add()
+                .add();
+        copyCurrentLimits(leg1.getCurrentLimits(), transformer.getLeg1().newCurrentLimits());
+        copyCurrentLimits(leg2.getCurrentLimits(), transformer.getLeg2().newCurrentLimits());
+        copyCurrentLimits(leg3.getCurrentLimits(), transformer.getLeg3().newCurrentLimits());
+    }
+
+    private void copyLine(Line l) {
+        Line line = setNodeOrBus(target.newLine(), l)
+                .setId(l.getId())
+                .setName(l.getName())
+                .setR(l.getR())
+                .setX(l.getX())
+                .setG1(l.getG1())
+                .setB1(l.getB1())
+                .setG2(l.getG2())
+                .setB2(l.getB2())
+                .add();
+        copyCurrentLimits(l.getCurrentLimits1(), line.newCurrentLimits1());
+        copyCurrentLimits(l.getCurrentLimits2(), line.newCurrentLimits2());
+    }
+
+    private static void copyHalfLine(TieLine.HalfLine half, TieLineAdder adder) {
+        adder.setId(half.getId())
+                .setName(half.getName())
+                .setR(half.getR())
+                .setX(half.getX())
+                .setG1(half.getG1())
+                .setB1(half.getB1())
+                .setG2(half.getG2())
+                .setB2(half.getB2())
+                .setXnodeP(half.getXnodeP())
+                .setXnodeQ(half.getXnodeQ());
+    }
+
+    private void copyTieLine(TieLine l) {
+        TieLineAdder adder = target.newTieLine()
+                .setId(l.getId())
+                .setName(l.getName());
+        copyHalfLine(l.getHalf1(), adder.line1());
+        copyHalfLine(l.getHalf2(), adder.line2());
+        TieLine line = setNodeOrBus(adder, l)
+                .setUcteXnodeCode(l.getUcteXnodeCode())
+                .add();
+        copyCurrentLimits(l.getCurrentLimits1(), line.newCurrentLimits1());
+        copyCurrentLimits(l.getCurrentLimits2(), line.newCurrentLimits2());
+    }
+
+    private void copyRatioTapChanger(RatioTapChanger rtc, RatioTapChangerHolder holder) {
+        if (rtc == null) {
+            return;
+        }
+        RatioTapChangerAdder adder = holder.newRatioTapChanger()
+                .setLowTapPosition(rtc.getLowTapPosition())
+                .setTapPosition(rtc.getTapPosition())
+                .setLoadTapChangingCapabilities(rtc.hasLoadTapChangingCapabilities())
+                .setRegulating(rtc.isRegulating())
+                .setTargetV(rtc.getTargetV())
+                .setRegulationTerminal(getTargetTerminal(rtc.getRegulationTerminal()));
+        for (int position = rtc.getLowTapPosition(); position <= rtc.getHighTapPosition(); position++) {
+            RatioTapChangerStep step = rtc.getStep(position);
+            adder.beginStep()
+                    .setRho(step.getRho())
+                    .setR(step.getR())
+                    .setX(step.getX())
+                    .setG(step.getG())
+                    .setB(step.getB())
+                    .endStep();
+        }
+        adder.add();
+    }
+
+    private void copyPhaseTapChanger(PhaseTapChanger ptc, TwoWindingsTransformer transformer) {
+        if (ptc == null) {
+            return;
+        }
+        PhaseTapChangerAdder adder = transformer.newPhaseTapChanger()
+                .setLowTapPosition(ptc.getLowTapPosition())
+                .setTapPosition(ptc.getTapPosition())
+                .setRegulationMode(ptc.getRegulationMode())
+                .setRegulating(ptc.isRegulating())
+                .setRegulationValue(ptc.getRegulationValue())
+                .setRegulationTerminal(getTargetTerminal(ptc.getRegulationTerminal()));
+        for (int position = ptc.getLowTapPosition(); position <= ptc.getHighTapPosition(); position++) {
+            PhaseTapChangerStep step = ptc.getStep(position);
+            adder.beginStep()
+                    .setAlpha(step.getAlpha())
+                    .setRho(step.getRho())
+                    .setR(step.getR())
+                    .setX(step.getX())
+                    .setG(step.getG())
+                    .setB(step.getB())
+                    .endStep();
+        }
+        adder.add();
+    }
+
+    private Terminal getTargetTerminal(Terminal t) {
+        if (t == null) {
+            return null;
+        }
+        Connectable<?> connectable = t.getConnectable();
+        Identifiable<?> identifiable = target.getIdentifiable(connectable.getId());
+        if (identifiable instanceof Injection) {
+            return ((Injection<?>) identifiable).getTerminal();
+        } else if (identifiable instanceof Branch) {
+            return ((Branch<?>) identifiable).getTerminal(((Branch<?>) connectable).getSide(t));
+        } else if (identifiable instanceof ThreeWindingsTransformer) {
+            return ((ThreeWindingsTransformer) identifiable).getTerminal(((ThreeWindingsTransformer) connectable).getSide(t));
+        }
+        throw new AssertionError("Unexpected connectable: " + connectable.getId());
+    }
+
+    private void copyState(int variantIndex) {
+        for (Generator g : source.getGenerators()) {
+            GeneratorImpl sourceGenerator = (GeneratorImpl) g;
+            Generator generator = target.getGenerator(g.getId());
+            if (sourceGenerator.isVoltageRegulatorOn(variantIndex)) {
+                generator.setTargetV(sourceGenerator.getTargetV(variantIndex))
+                        .setVoltageRegulatorOn(true)
+                        .setTargetQ(sourceGenerator.getTargetQ(variantIndex));
+            } else {
+                generator.setTargetQ(sourceGenerator.getTargetQ(variantIndex))
+                        .setVoltageRegulatorOn(false)
+                        .setTargetV(sourceGenerator.getTargetV(variantIndex));
+            }
+            generator.setTargetP(sourceGenerator.getTargetP(variantIndex));
+        }
+        for (Load l : source.getLoads()) {
+            LoadImpl sourceLoad = (LoadImpl) l;
+            target.getLoad(l.getId())
+                    .setP0(sourceLoad.getP0(variantIndex))
+                    .setQ0(sourceLoad.getQ0(variantIndex));
+        }
+        for (ShuntCompensator sc : source.getShuntCompensators()) {
+            target.getShuntCompensator(sc.getId()).setCurrentSectionCount(((ShuntCompensatorImpl) sc).getCurrentSectionCount(variantIndex));
+        }
+        for (DanglingLine dl : source.getDanglingLines()) {
+            DanglingLineImpl sourceDanglingLine = (DanglingLineImpl) dl;
+            target.getDanglingLine(dl.getId())
+                    .setP0(sourceDanglingLine.getP0(variantIndex))
+                    .setQ0(sourceDanglingLine.getQ0(variantIndex));
+        }
+        for (StaticVarCompensator svc : source.getStaticVarCompensators()) {
+            StaticVarCompensatorImpl sourceSvc = (StaticVarCompensatorImpl) svc;
+            target.getStaticVarCompensator(svc.getId())
+                    .setRegulationMode(StaticVarCompensator.RegulationMode.OFF)
+                    .setVoltageSetPoint(sourceSvc.getVoltageSetPoint(variantIndex))
+                    .setReactivePowerSetPoint(sourceSvc.getReactivePowerSetPoint(variantIndex))
+                    .setRegulationMode(sourceSvc.getRegulationMode(variantIndex));
+        }
+        for (VscConverterStation cs : source.getVscConverterStations()) {
+            VscConverterStationImpl sourceStation = (VscConverterStationImpl) cs;
+            VscConverterStation station = target.getVscConverterStation(cs.getId());
+            if (sourceStation.isVoltageRegulatorOn(variantIndex)) {
+                station.setVoltageSetpoint(sourceStation.getVoltageSetpoint(variantIndex));
+                station.setVoltageRegulatorOn(true);
+                station.setReactivePowerSetpoint(sourceStation.getReactivePowerSetpoint(variantIndex));
+            } else {
+                station.setReactivePowerSetpoint(sourceStation.getReactivePowerSetpoint(variantIndex));
+                station.setVoltageRegulatorOn(false);
+                station.setVoltageSetpoint(sourceStation.getVoltageSetpoint(variantIndex));
+            }
+        }
+        for (HvdcLine l : source.getHvdcLines()) {
+            HvdcLineImpl sourceLine = (HvdcLineImpl) l;
+            target.getHvdcLine(l.getId())
+                    .setConvertersMode(sourceLine.getConvertersMode(variantIndex))
+                    .setActivePowerSetpoint(sourceLine.getActivePowerSetpoint(variantIndex));
+        }
+        for (TwoWindingsTransformer twt : source.getTwoWindingsTransformers()) {
+            TwoWindingsTransformerImpl sourceTransformer = (TwoWindingsTransformerImpl) twt;
+            TwoWindingsTransformer transformer = target.getTwoWindingsTransformer(twt.getId());
+            copyRatioTapChangerState(sourceTransformer.getRatioTapChanger(), transformer.getRatioTapChanger(), variantIndex);
+            copyPhaseTapChangerState(sourceTransformer.getPhaseTapChanger(), transformer.getPhaseTapChanger(), variantIndex);
+        }
+        for (ThreeWindingsTransformer twt : source.getThreeWindingsTransformers()) {
+            ThreeWindingsTransformerImpl sourceTransformer = (ThreeWindingsTransformerImpl) twt;
+            ThreeWindingsTransformer transformer = target.getThreeWindingsTransformer(twt.getId());
+            copyRatioTapChangerState(sourceTransformer.getLeg2().getRatioTapChanger(), transformer.getLeg2().getRatioTapChanger(), variantIndex);
+            copyRatioTapChangerState(sourceTransformer.getLeg3().getRatioTapChanger(), transformer.getLeg3().getRatioTapChanger(), variantIndex);
+        }
+        for (VoltageLevel vl : source.getVoltageLevels()) {
+            copyTopologyState(vl, target.getVoltageLevel(vl.getId()), variantIndex);
+        }
+    }
+
+    private static void copyRatioTapChangerState(RatioTapChangerImpl rtc, RatioTapChanger ratioTapChanger, int variantIndex) {
+        if (rtc == null) {
+            return;
+        }
+        ratioTapChanger.setTapPosition(rtc.getTapPosition(variantIndex));
+        if (rtc.isRegulating(variantIndex)) {
+            ratioTapChanger.setTargetV(rtc.getTargetV(variantIndex))
+                    .setRegulating(true);
+        } else {
+            ratioTapChanger.setRegulating(false)
+                    .setTargetV(rtc.getTargetV(variantIndex));
+        }
+    }
+
+    private static void copyPhaseTapChangerState(PhaseTapChangerImpl ptc, PhaseTapChanger phaseTapChanger, int variantIndex) {
+        if (ptc == null) {
+            return;
+        }
+        phaseTapChanger.setTapPosition(ptc.getTapPosition(variantIndex))
+                .setRegulationValue(ptc.getRegulationValue(variantIndex))
+                .setRegulating(ptc.isRegulating(variantIndex));
+    }
+
+    private void copyTopologyState(VoltageLevel vl, VoltageLevel voltageLevel, int variantIndex) {
+        for (Switch sw : vl.getSwitches()) {
+            SwitchImpl sourceSwitch = (SwitchImpl) sw;
+            Switch aSwitch = voltageLevel.getTopologyKind() == TopologyKind.NODE_BREAKER
+                    ? voltageLevel.getNodeBreakerView().getSwitch(sw.getId())
+                    : voltageLevel.getBusBreakerView().getSwitch(sw.getId());
+            boolean open = sourceSwitch.isOpen(variantIndex);
+            if (aSwitch.isOpen() != open) {
+                aSwitch.setOpen(open);
+            }
+            if (vl.getTopologyKind() == TopologyKind.NODE_BREAKER) {
+                boolean retained = sourceSwitch.isRetained(variantIndex);
+                if (aSwitch.isRetained() != retained) {
+                    aSwitch.setRetained(retained);
+                }
+            }
+        }
+        for (Connectable<?> connectable : vl.getConnectables()) {
+            for (Terminal t : connectable.getTerminals()) {
+                if (t.getVoltageLevel() == vl) {
+                    copyTerminalState((AbstractTerminal) t, getTargetTerminal(t), variantIndex);
+                }
+            }
+        }
+        if (vl.getTopologyKind() == TopologyKind.BUS_BREAKER) {
+            for (Bus b : vl.getBusBreakerView().getBuses()) {
+                ConfiguredBusImpl sourceBus = (ConfiguredBusImpl) b;
+                voltageLevel.getBusBreakerView().getBus(b.getId())
+                        .setV(sourceBus.getV(variantIndex))
+                        .setAngle(sourceBus.getAngle(variantIndex));
+            }
+        }
+    }
+
+    private static void copyTerminalState(AbstractTerminal t, Terminal terminal, int variantIndex) {
+        ConnectableType type = t.getConnectable().getType();
+        if (type != ConnectableType.BUSBAR_SECTION) {
+            if (type != ConnectableType.SHUNT_COMPENSATOR) {
+                terminal.setP(t.getP(variantIndex));
+            }
+            terminal.setQ(t.getQ(variantIndex));
+        }
+        if (t instanceof NodeTerminal) {
+            ((NodeTerminal) terminal).setV(((NodeTerminal) t).getV(variantIndex));
+            ((NodeTerminal) terminal).setAngle(((NodeTerminal) t).getAngle(variantIndex));
+        } else {
+            BusTerminal busTerminal = (BusTerminal) t;
+            String connectableBusId = busTerminal.getConnectableBusId(variantIndex);
+            if (!connectableBusId.equals(terminal.getBusBreakerView().getConnectableBus().getId())) {
+                terminal.getBusBreakerView().setConnectableBus(connectableBusId);
+            }
+            boolean connected = busTerminal.isConnected(variantIndex);
+            if (connected && !terminal.isConnected()) {
+                terminal.connect();
+            } else if (!connected && terminal.isConnected()) {
+                terminal.disconnect();
+            }
+        }
+    }
+}
@@ -15,6 +15,12 @@ import com.powsybl.iidm.network.impl.util.RefObj;
 import com.powsybl.math.graph.GraphUtil;
 import com.powsybl.math.graph.GraphUtil.ConnectedComponentsComputationResult;
 import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.hash.TIntHashSet;
 import org.joda.time.DateTime;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +50,10 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
 
     private final VariantManagerImpl variantManager;
 
+    private final GeneratorImpl.Columns generatorColumns;
+
+    private final LoadImpl.Columns loadColumns;
+
     private final NetworkListenerList listeners = new NetworkListenerList();
 
     class BusBreakerViewImpl implements BusBreakerView {
@@ -107,6 +117,8 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         this.sourceFormat = sourceFormat;
         variantManager = new VariantManagerImpl(objectStore);
         variants = new VariantArray<>(ref, VariantImpl::new);
+        generatorColumns = new GeneratorImpl.Columns(ref, variantManager.getVariantArraySize());
+        loadColumns = new LoadImpl.Columns(ref, variantManager.getVariantArraySize());
         // add the network the object list as it is a multi variant object
         // and it needs to be notified when and extension or a reduction of
         // the variant array is requested
@@ -159,11 +171,24 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         return objectStore;
     }
 
+    GeneratorImpl.Columns getGeneratorColumns() {
+        return generatorColumns;
+    }
+
+    LoadImpl.Columns getLoadColumns() {
+        return loadColumns;
+    }
+
     @Override
     public VariantManagerImpl getVariantManager() {
         return variantManager;
     }
 
+    @Override
+    public NetworkImpl copy(boolean workingVariantOnly) {
+        return new NetworkCopier(this).copy(workingVariantOnly);
+    }
+
     @Override
     public int getVariantIndex() {
         return variantManager.getVariantContext().getVariantIndex();
@@ -588,8 +613,18 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         return busView;
     }
 
+    /**
+     * Components of the bus view. Component numbers stored on buses are identifiers of a union-find structure, so that
+     * switch state changes in node/breaker voltage levels can be applied incrementally: merged components are just
+     * linked together and only components that may have been split are recomputed.
+     * <p>
+     * The structure is only modified under the lock of the manager, by updates. Looking up the component of a bus
+     * only reads it, paths are compressed by updates.
+     */
     private abstract static class AbstractComponentsManager<C extends Component> {
 
+        private static final long UNKNOWN_KEY = -1;
+
         protected final NetworkImpl network;
 
         private AbstractComponentsManager(NetworkImpl network) {
@@ -598,8 +633,43 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
 
         private List<C> components;
 
-        void invalidate() {
+        /* union-find parent of each component identifier */
+        private final TIntArrayList parent = new TIntArrayList();
+
+        /* number of buses of each root component */
+        private final TIntArrayList size = new TIntArrayList();
+
+        /* smallest bus key of each root component, to order components of same size like a full computation does,
+           UNKNOWN_KEY when the largest part of a split component has not been traversed */
+        private final TLongArrayList minKey = new TLongArrayList();
+
+        /* a bus of each root component with an unknown smallest key, to compute it when it is needed for ordering */
+        private final TIntObjectMap<BusExt> representatives = new TIntObjectHashMap<>();
+
+        private final TIntHashSet roots = new TIntHashSet();
+
+        private final TIntIntMap root2num = new TIntIntHashMap();
+
+        private final Map<VoltageLevel, Integer> voltageLevelIndexes = new IdentityHashMap<>();
+
+        /* position in the bus view of their voltage level of the buses of bus/breaker voltage levels, which are only
+           changed by a full computation */
+        private final Map<BusExt, Integer> busPositions = new IdentityHashMap<>();
+
+        /* number of buses at last full computation or compaction */
+        private int busCount;
+
+        synchronized void invalidate() {
             components = null;
+            parent.clear();
+            size.clear();
+            minKey.clear();
+            roots.clear();
+            representatives.clear();
+            root2num.clear();
+            voltageLevelIndexes.clear();
+            busPositions.clear();
+            busCount = 0;
         }
 
         protected void addToAdjacencyList(Bus bus1, Bus bus2, Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
@@ -632,13 +702,45 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             }
         }
 
+        /**
+         * Add to {@code buses} the buses linked to {@code terminal} by a branch, consistently with
+         * {@link #fillAdjacencyList(Map, TIntArrayList[])}.
+         */
+        protected void addNeighborBuses(TerminalExt terminal, List<BusExt> buses) {
+            AbstractConnectable connectable = terminal.getConnectable();
+            switch (connectable.getType()) {
+                case LINE:
+                case TWO_WINDINGS_TRANSFORMER:
+                case THREE_WINDINGS_TRANSFORMER:
+                    List<TerminalExt> terminals = connectable.getTerminals();
+                    for (TerminalExt otherTerminal : terminals) {
+                        addBus(otherTerminal, terminal, buses);
+                    }
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        protected static void addBus(TerminalExt otherTerminal, TerminalExt terminal, List<BusExt> buses) {
+            if (otherTerminal != terminal) {
+                BusExt bus = otherTerminal.getBusView().getBus();
+                if (bus != null) {
+                    buses.add(bus);
+                }
+            }
+        }
+
         protected abstract C createComponent(int num, int size);
 
         protected abstract String getComponentLabel();
 
+        protected abstract int getComponentNumber(BusExt bus);
+
         protected abstract void setComponentNumber(BusExt bus, int num);
 
-        void update() {
+        synchronized void update() {
             if (components != null) {
                 return;
             }
@@ -653,11 +755,22 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             int num = 0;
             Map<String, Integer> id2num = new HashMap<>();
             List<BusExt> num2bus = new ArrayList<>();
-            for (Bus bus : network.getBusView().getBuses()) {
-                num2bus.add((BusExt) bus);
-                id2num.put(bus.getId(), num);
-                num++;
+            TLongArrayList num2key = new TLongArrayList();
+            for (VoltageLevel vl : network.getVoltageLevels()) {
+                int vlIndex = voltageLevelIndexes.size();
+                voltageLevelIndexes.put(vl, vlIndex);
+                int position = 0;
+                for (Bus bus : vl.getBusView().getBuses()) {
+                    num2bus.add((BusExt) bus);
+                    if (!(vl instanceof NodeBreakerVoltageLevel)) {
+                        busPositions.put((BusExt) bus, position);
+                    }
+                    num2key.add(getBusKey(vlIndex, (VoltageLevelExt) vl, (BusExt) bus, position++));
+                    id2num.put(bus.getId(), num);
+                    num++;
+                }
             }
+            busCount = num;
             TIntArrayList[] adjacencyList = new TIntArrayList[num];
             for (int i = 0; i < adjacencyList.length; i++) {
                 adjacencyList[i] = new TIntArrayList(3);
@@ -669,16 +782,438 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             components = new ArrayList<>(result.getComponentSize().length);
             for (int i = 0; i < result.getComponentSize().length; i++) {
                 components.add(createComponent(i, result.getComponentSize()[i]));
+                parent.add(i);
+                size.add(result.getComponentSize()[i]);
+                minKey.add(Long.MAX_VALUE);
+                roots.add(i);
+                root2num.put(i, i);
             }
 
             for (int i = 0; i < result.getComponentNumber().length; i++) {
                 BusExt bus = num2bus.get(i);
-                setComponentNumber(bus, result.getComponentNumber()[i]);
+                int c = result.getComponentNumber()[i];
+                setComponentNumber(bus, c);
+                minKey.set(c, Math.min(minKey.get(c), num2key.get(i)));
             }
 
             LOGGER.debug("{} components computed in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
         }
 
+        /**
+         * Key of a bus giving its position in the bus view of the network.
+         */
+        private static long getBusKey(int vlIndex, VoltageLevelExt vl, BusExt bus, int position) {
+            int positionInVl = vl instanceof NodeBreakerVoltageLevel
+                    ? ((NodeBreakerVoltageLevel) vl).getCalculatedBusTopology().getRank(bus.getId())
+                    : position;
+            return ((long) vlIndex << 32) | positionInVl;
+        }
+
+        private long getBusKey(BusExt bus) {
+            VoltageLevelExt vl = (VoltageLevelExt) bus.getVoltageLevel();
+            Integer vlIndex = voltageLevelIndexes.get(vl);
+            if (vlIndex == null) {
+                throw new AssertionError("Voltage level " + vl.getId() + " not indexed");
+            }
+            int position = 0;
+            if (!(vl instanceof NodeBreakerVoltageLevel)) {
+                Integer busPosition = busPositions.get(bus);
+                if (busPosition == null) {
+                    throw new AssertionError("Bus " + bus.getId() + " not indexed");
+                }
+                position = busPosition;
+            }
+            return getBusKey(vlIndex, vl, bus, position);
+        }
+
+        /**
+         * Find the root of a component identifier, without modifying the structure so that it can be called by readers.
+         */
+        private int find(int id) {
+            int current = id;
+            while (parent.getQuick(current) != current) {
+                current = parent.getQuick(current);
+            }
+            return current;
+        }
+
+        /**
+         * Find the root of a component identifier and link all the identifiers of the path to it, only called while
+         * updating.
+         */
+        private int findAndCompress(int id) {
+            int root = find(id);
+            int current = id;
+            while (current != root) {
+                int next = parent.getQuick(current);
+                parent.setQuick(current, root);
+                current = next;
+            }
+            return root;
+        }
+
+        private int newComponent(int componentSize, long componentMinKey) {
+            int id = parent.size();
+            parent.add(id);
+            size.add(componentSize);
+            minKey.add(componentMinKey);
+            roots.add(id);
+            return id;
+        }
+
+        private int union(int id1, int id2) {
+            int root1 = findAndCompress(id1);
+            int root2 = findAndCompress(id2);
+            if (root1 == root2) {
+                return root1;
+            }
+            if (size.get(root1) < size.get(root2)) {
+                int tmp = root1;
+                root1 = root2;
+                root2 = tmp;
+            }
+            parent.set(root2, root1);
+            size.set(root1, size.get(root1) + size.get(root2));
+            if (minKey.get(root1) != UNKNOWN_KEY && minKey.get(root2) == UNKNOWN_KEY) {
+                representatives.put(root1, representatives.get(root2));
+            }
+            // an unknown key is lower than any bus key, so it is kept
+            minKey.set(root1, Math.min(minKey.get(root1), minKey.get(root2)));
+            roots.remove(root2);
+            representatives.remove(root2);
+            return root1;
+        }
+
+        /**
+         * Update components after an incremental update of the bus view of a node/breaker voltage level.
+         */
+        synchronized void update(NodeBreakerVoltageLevel voltageLevel, NodeBreakerVoltageLevel.BusChange change) {
+            if (components == null) {
+                // will be fully computed on next access
+                return;
+            }
+            Integer vlIndex = voltageLevelIndexes.get(voltageLevel);
+            if (vlIndex == null || voltageLevelIndexes.size() != network.getVoltageLevelCount()) {
+                invalidate();
+                return;
+            }
+
+            long startTime = System.currentTimeMillis();
+
+            if (change.isSplit()) {
+                updateAfterSplit(vlIndex, voltageLevel, change);
+            } else {
+                updateAfterMerge(change);
+            }
+            computeTiedUnknownMinKeys();
+            // compacting costs a pass over all the buses, so it is only worth it once dead identifiers outnumber
+            // the buses, and so the live components
+            if (parent.size() - roots.size() > busCount) {
+                compact();
+            }
+            sortComponents();
+
+            LOGGER.trace("{} components updated in {} ms", getComponentLabel(), System.currentTimeMillis() - startTime);
+        }
+
+        private void updateAfterMerge(NodeBreakerVoltageLevel.BusChange change) {
+            // a closed switch merges all the removed buses in at most one new bus, so components can only be merged
+            if (change.getCreatedBuses().isEmpty()) {
+                return;
+            }
+            CalculatedBus createdBus = change.getCreatedBuses().get(0);
+            // the rank of the new bus is lower or equal to the ones of the removed buses
+            long createdBusKey = getBusKey(createdBus);
+            int root = newComponent(1, createdBusKey);
+            for (CalculatedBus removedBus : change.getRemovedBuses()) {
+                root = union(root, getComponentNumber(removedBus));
+            }
+            List<BusExt> neighborBuses = new ArrayList<>();
+            for (TerminalExt terminal : createdBus.getConnectedTerminals()) {
+                addNeighborBuses(terminal, neighborBuses);
+            }
+            for (BusExt neighborBus : neighborBuses) {
+                if (neighborBus != createdBus) {
+                    root = union(root, getComponentNumber(neighborBus));
+                }
+            }
+            size.set(root, size.get(root) - change.getRemovedBuses().size());
+            setComponentNumber(createdBus, root);
+            if (minKey.get(root) == UNKNOWN_KEY) {
+                // the representative may be one of the removed buses
+                representatives.put(root, createdBus);
+            }
+        }
+
+        private static boolean hasLostNeighbor(CalculatedBus removedBus, CalculatedBus createdBus) {
+            for (TerminalExt terminal : removedBus.getConnectedTerminals()) {
+                AbstractConnectable connectable = terminal.getConnectable();
+                if (connectable.getTerminals().size() > 1 || connectable.getType() == ConnectableType.HVDC_CONVERTER_STATION) {
+                    if (terminal.getBusView().getBus() != createdBus) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void updateAfterSplit(int vlIndex, NodeBreakerVoltageLevel voltageLevel, NodeBreakerVoltageLevel.BusChange change) {
+            if (change.getRemovedBuses().isEmpty()) {
+                return;
+            }
+            CalculatedBus removedBus = change.getRemovedBuses().get(0);
+            long removedBusKey = ((long) vlIndex << 32) | change.getRemovedBusRank(0);
+            int root = findAndCompress(getComponentNumber(removedBus));
+            List<CalculatedBus> createdBuses = change.getCreatedBuses();
+
+            // when the removed bus is replaced by a single bus connected to the same branches, the component is not
+            // split. Its size does not change and as the new bus has a greater rank, its smallest key only changes
+            // if the removed bus had it
+            if (createdBuses.size() == 1 && minKey.get(root) != removedBusKey && !hasLostNeighbor(removedBus, createdBuses.get(0))) {
+                setComponentNumber(createdBuses.get(0), root);
+                if (representatives.get(root) == removedBus) {
+                    representatives.put(root, createdBuses.get(0));
+                }
+                return;
+            }
+            if (createdBuses.isEmpty() && size.get(root) == 1) {
+                roots.remove(root);
+                representatives.remove(root);
+                return;
+            }
+
+            // localized recomputation: components of buses connected to the removed one cover the old component
+            List<BusExt> seeds = new ArrayList<>(createdBuses);
+            for (TerminalExt terminal : removedBus.getConnectedTerminals()) {
+                addNeighborBuses(terminal, seeds);
+            }
+            Map<BusExt, SplitPart> owners = new IdentityHashMap<>();
+            List<SplitPart> parts = new ArrayList<>(seeds.size());
+            for (BusExt seed : seeds) {
+                if (!owners.containsKey(seed)) {
+                    SplitPart part = new SplitPart(seed);
+                    owners.put(seed, part);
+                    parts.add(part);
+                }
+            }
+            List<SplitPart> traversedParts = traverse(parts, owners);
+
+            int traversedSize = 0;
+            boolean minKeyTraversed = false;
+            for (SplitPart part : traversedParts) {
+                long componentMinKey = Long.MAX_VALUE;
+                for (BusExt bus : part.buses) {
+                    componentMinKey = Math.min(componentMinKey, getBusKey(bus));
+                }
+                minKeyTraversed |= componentMinKey == minKey.get(root);
+                int id = newComponent(part.buses.size(), componentMinKey);
+                for (BusExt bus : part.buses) {
+                    setComponentNumber(bus, id);
+                }
+                traversedSize += part.buses.size();
+            }
+
+            // the part left, if any, is the largest one: it keeps the identifier of the old component, its buses
+            // which have not been traversed are already linked to it
+            SplitPart largestPart = parts.stream().filter(part -> part.mergedInto == null).findFirst().orElse(null);
+            if (largestPart == null) {
+                roots.remove(root);
+                representatives.remove(root);
+                return;
+            }
+            BusExt representative = null;
+            for (Map.Entry<BusExt, SplitPart> e : owners.entrySet()) {
+                if (e.getValue().find() == largestPart) {
+                    setComponentNumber(e.getKey(), root);
+                    representative = e.getKey();
+                }
+            }
+            size.set(root, size.get(root) - change.getRemovedBuses().size() + createdBuses.size() - traversedSize);
+            if (minKeyTraversed || minKey.get(root) == removedBusKey) {
+                minKey.set(root, UNKNOWN_KEY);
+            }
+            if (minKey.get(root) == UNKNOWN_KEY) {
+                // the previous representative may have been removed or may now belong to a traversed part
+                representatives.put(root, representative);
+            }
+        }
+
+        /**
+         * Traverse the parts of a split component one bus at a time each, merging parts that meet, until at most one
+         * part is left, so that the cost of a split is bounded by the size of the smallest parts.
+         *
+         * @return the fully traversed parts
+         */
+        private List<SplitPart> traverse(List<SplitPart> parts, Map<BusExt, SplitPart> owners) {
+            List<SplitPart> traversedParts = new ArrayList<>();
+            List<SplitPart> activeParts = new ArrayList<>(parts);
+            List<BusExt> neighborBuses = new ArrayList<>();
+            while (activeParts.size() > 1 || activeParts.size() == 1 && activeParts.get(0).stack.isEmpty()) {
+                Iterator<SplitPart> it = activeParts.iterator();
+                while (it.hasNext()) {
+                    SplitPart part = it.next();
+                    if (part.mergedInto != null) {
+                        it.remove();
+                    } else if (part.stack.isEmpty()) {
+                        it.remove();
+                        traversedParts.add(part);
+                        part.mergedInto = part;
+                    } else {
+                        BusExt bus = part.stack.pop();
+                        part.buses.add(bus);
+                        neighborBuses.clear();
+                        for (TerminalExt terminal : bus.getConnectedTerminals()) {
+                            addNeighborBuses(terminal, neighborBuses);
+                        }
+                        for (BusExt neighborBus : neighborBuses) {
+                            SplitPart owner = owners.get(neighborBus);
+                            if (owner == null) {
+                                owners.put(neighborBus, part);
+                                part.stack.push(neighborBus);
+                            } else {
+                                part.merge(owner.find());
+                            }
+                        }
+                    }
+                }
+            }
+            return traversedParts;
+        }
+
+        /**
+         * Compute the smallest key of the components for which it is unknown, when they have the same size as another
+         * component and so it is needed to order them.
+         */
+        private void computeTiedUnknownMinKeys() {
+            if (representatives.isEmpty()) {
+                return;
+            }
+            TIntIntMap sizeCounts = new TIntIntHashMap();
+            roots.forEach(root -> {
+                sizeCounts.adjustOrPutValue(size.get(root), 1, 1);
+                return true;
+            });
+            for (int root : representatives.keys()) {
+                if (sizeCounts.get(size.get(root)) > 1) {
+                    minKey.set(root, getMinKey(representatives.remove(root)));
+                }
+            }
+        }
+
+        private long getMinKey(BusExt seed) {
+            Set<BusExt> encountered = Collections.newSetFromMap(new IdentityHashMap<>());
+            encountered.add(seed);
+            Deque<BusExt> stack = new ArrayDeque<>();
+            stack.push(seed);
+            long componentMinKey = Long.MAX_VALUE;
+            List<BusExt> neighborBuses = new ArrayList<>();
+            while (!stack.isEmpty()) {
+                BusExt bus = stack.pop();
+                componentMinKey = Math.min(componentMinKey, getBusKey(bus));
+                neighborBuses.clear();
+                for (TerminalExt terminal : bus.getConnectedTerminals()) {
+                    addNeighborBuses(terminal, neighborBuses);
+                }
+                for (BusExt neighborBus : neighborBuses) {
+                    if (encountered.add(neighborBus)) {
+                        stack.push(neighborBus);
+                    }
+                }
+            }
+            return componentMinKey;
+        }
+
+        /**
+         * Part of a split component being traversed.
+         */
+        private static final class SplitPart {
+
+            private final Deque<BusExt> stack = new ArrayDeque<>();
+
+            private final List<BusExt> buses = new ArrayList<>();
+
+            /* part this one has been merged into, itself once fully traversed */
+            private SplitPart mergedInto;
+
+            private SplitPart(BusExt seed) {
+                stack.push(seed);
+            }
+
+            private SplitPart find() {
+                SplitPart part = this;
+                while (part.mergedInto != null && part.mergedInto != part) {
+                    part = part.mergedInto;
+                }
+                return part;
+            }
+
+            private void merge(SplitPart other) {
+                if (other != this) {
+                    stack.addAll(other.stack);
+                    buses.addAll(other.buses);
+                    other.stack.clear();
+                    other.buses.clear();
+                    other.mergedInto = this;
+                }
+            }
+        }
+
+        /**
+         * Re-index components so that only root identifiers remain, all bus views being up to date.
+         */
+        private void compact() {
+            TIntIntMap old2new = new TIntIntHashMap();
+            TIntArrayList newSize = new TIntArrayList(roots.size());
+            TLongArrayList newMinKey = new TLongArrayList(roots.size());
+            TIntObjectMap<BusExt> newRepresentatives = new TIntObjectHashMap<>();
+            roots.forEach(root -> {
+                if (representatives.containsKey(root)) {
+                    newRepresentatives.put(newSize.size(), representatives.get(root));
+                }
+                old2new.put(root, newSize.size());
+                newSize.add(size.get(root));
+                newMinKey.add(minKey.get(root));
+                return true;
+            });
+            int count = 0;
+            for (VoltageLevel vl : network.getVoltageLevels()) {
+                for (Bus b : vl.getBusView().getBuses()) {
+                    BusExt bus = (BusExt) b;
+                    int num = getComponentNumber(bus);
+                    if (num != -1) {
+                        setComponentNumber(bus, old2new.get(find(num)));
+                    }
+                    count++;
+                }
+            }
+            parent.clear();
+            roots.clear();
+            for (int i = 0; i < newSize.size(); i++) {
+                parent.add(i);
+                roots.add(i);
+            }
+            size.clear();
+            size.addAll(newSize);
+            minKey.clear();
+            minKey.addAll(newMinKey);
+            representatives.clear();
+            representatives.putAll(newRepresentatives);
+            busCount = count;
+        }
+
+        private void sortComponents() {
+            List<Integer> sortedRoots = new ArrayList<>(roots.size());
+            roots.forEach(sortedRoots::add);
+            sortedRoots.sort(Comparator.<Integer>comparingInt(size::get).reversed().thenComparingLong(minKey::get));
+            components = new ArrayList<>(sortedRoots.size());
+            root2num.clear();
+            for (int i = 0; i < sortedRoots.size(); i++) {
+                int root = sortedRoots.get(i);
+                components.add(createComponent(i, size.get(root)));
+                root2num.put(root, i);
+            }
+        }
+
         List<C> getConnectedComponents() {
             update();
             return components;
@@ -688,17 +1223,26 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             // update() must not be put here, but explicitly called each time before because update may
             // trigger a new component computation and so on a change in the value of the num component already passed
             // (and outdated consequently) in parameter of this method
-            return num != -1 ? components.get(num) : null;
+            return num != -1 ? components.get(root2num.get(find(num))) : null;
         }
 
     }
 
     static final class ConnectedComponentsManager extends AbstractComponentsManager<ConnectedComponentImpl> {
 
+        /* terminal of the converter station at the other side of the HVDC line of each converter station */
+        private final Map<Connectable, TerminalExt> otherConverterStationTerminals = new IdentityHashMap<>();
+
         private ConnectedComponentsManager(NetworkImpl network) {
             super(network);
         }
 
+        @Override
+        synchronized void invalidate() {
+            super.invalidate();
+            otherConverterStationTerminals.clear();
+        }
+
         @Override
         protected void fillAdjacencyList(Map<String, Integer> id2num, TIntArrayList[] adjacencyList) {
             super.fillAdjacencyList(id2num, adjacencyList);
@@ -706,6 +1250,19 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
                 BusExt bus1 = line.getConverterStation1().getTerminal().getBusView().getBus();
                 BusExt bus2 = line.getConverterStation2().getTerminal().getBusView().getBus();
                 addToAdjacencyList(bus1, bus2, id2num, adjacencyList);
+                otherConverterStationTerminals.put(line.getConverterStation1(), line.getConverterStation2().getTerminal());
+                otherConverterStationTerminals.put(line.getConverterStation2(), line.getConverterStation1().getTerminal());
+            }
+        }
+
+        @Override
+        protected void addNeighborBuses(TerminalExt terminal, List<BusExt> buses) {
+            super.addNeighborBuses(terminal, buses);
+            if (terminal.getConnectable().getType() == ConnectableType.HVDC_CONVERTER_STATION) {
+                TerminalExt otherTerminal = otherConverterStationTerminals.get(terminal.getConnectable());
+                if (otherTerminal != null) {
+                    addBus(otherTerminal, terminal, buses);
+                }
             }
         }
 
@@ -714,6 +1271,11 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             return "Connected";
         }
 
+        @Override
+        protected int getComponentNumber(BusExt bus) {
+            return bus.getConnectedComponentNumber();
+        }
+
         @Override
         protected void setComponentNumber(BusExt bus, int num) {
             Objects.requireNonNull(bus);
@@ -740,6 +1302,11 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
             return "Synchronous";
         }
 
+        @Override
+        protected int getComponentNumber(BusExt bus) {
+            return bus.getSynchronousComponentNumber();
+        }
+
         @Override
         protected void setComponentNumber(BusExt bus, int num) {
             Objects.requireNonNull(bus);
@@ -775,21 +1342,29 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
     @Override
     public void extendVariantArraySize(int initVariantArraySize, int number, final int sourceIndex) {
         variants.push(number, () -> variants.copy(sourceIndex));
+        generatorColumns.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
+        loadColumns.extendVariantArraySize(initVariantArraySize, number, sourceIndex);
     }
 
     @Override
     public void reduceVariantArraySize(int number) {
         variants.pop(number);
+        generatorColumns.reduceVariantArraySize(number);
+        loadColumns.reduceVariantArraySize(number);
     }
 
     @Override
     public void deleteVariantArrayElement(int index) {
         variants.delete(index);
+        generatorColumns.deleteVariantArrayElement(index);
+        loadColumns.deleteVariantArrayElement(index);
     }
 
     @Override
     public void allocateVariantArrayElement(int[] indexes, final int sourceIndex) {
         variants.allocate(indexes, () -> variants.copy(sourceIndex));
+        generatorColumns.allocateVariantArrayElement(indexes, sourceIndex);
+        loadColumns.allocateVariantArrayElement(indexes, sourceIndex);
     }
 
     @Override
@@ -849,6 +1424,14 @@ class NetworkImpl extends AbstractIdentifiable<Network> implements Network, Vari
         // do not forget to remove the other network from its store!!!
         otherNetwork.objectStore.remove(otherNetwork);
 
+        // move variant dependent attributes of the other network objects to the columns of this network
+        for (GeneratorImpl generator : otherNetwork.objectStore.getAll(GeneratorImpl.class)) {
+            generator.moveColumns(generatorColumns);
+        }
+        for (LoadImpl load : otherNetwork.objectStore.getAll(LoadImpl.class)) {
+            load.moveColumns(loadColumns);
+        }
+
         // merge the stores
         objectStore.merge(otherNetwork.objectStore);
 
@@ -24,12 +24,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -65,6 +66,8 @@ import com.powsybl.math.graph.UndirectedGraph;
 import com.powsybl.math.graph.UndirectedGraphImpl;
 
 import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
 import guru.nidi.graphviz.attribute.Color;
 import guru.nidi.graphviz.attribute.Font;
 import guru.nidi.graphviz.attribute.Label;
@@ -263,15 +266,49 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         private final CalculatedBus[] node2bus;
 
-        private final Map<String, CalculatedBus> id2bus;
+        private final Map<String, CalculatedBus> id2bus = new HashMap<>();
 
-        private BusCache(CalculatedBus[] node2bus, Map<String, CalculatedBus> id2bus) {
-            this.node2bus = node2bus;
-            this.id2bus = id2bus;
+        /**
+         * Rank of each bus in the order of a full graph traversal, used to keep the bus order stable when the cache
+         * is incrementally updated.
+         */
+        private final TObjectIntMap<String> id2rank = new TObjectIntHashMap<>();
+
+        /**
+         * Buses sorted by rank, so that a bus is inserted at its position without sorting all the buses again.
+         */
+        private final NavigableMap<Integer, CalculatedBus> rank2bus = new TreeMap<>();
+
+        /**
+         * Rank of the connected component of each node, whether the component is a valid bus or not.
+         */
+        private final int[] node2rank;
+
+        private BusCache(int maxVertex) {
+            this.node2bus = new CalculatedBus[maxVertex];
+            this.node2rank = new int[maxVertex];
+        }
+
+        private void addBus(CalculatedBus bus, int rank) {
+            id2bus.put(bus.getId(), bus);
+            id2rank.put(bus.getId(), rank);
+            rank2bus.put(rank, bus);
+        }
+
+        /**
+         * Remove the bus {@code busId} and return its rank, or -1 if the bus has already been removed.
+         */
+        private int removeBus(String busId) {
+            if (id2bus.remove(busId) == null) {
+                return -1;
+            }
+            int rank = id2rank.remove(busId);
+            rank2bus.remove(rank);
+            return rank;
         }
 
         private Collection<CalculatedBus> getBuses() {
-            return id2bus.values();
+            return rank2bus.values();
         }
 
         private CalculatedBus getBus(int node) {
@@ -283,6 +320,50 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         }
     }
 
+    /**
+     * Buses removed and created by an incremental update of a calculated bus topology. Removed buses are only
+     * invalidated once the change has been applied, so that their state is still readable.
+     */
+    static final class BusChange {
+
+        private final List<CalculatedBus> removedBuses = new ArrayList<>(1);
+
+        private final TIntArrayList removedBusRanks = new TIntArrayList(1);
+
+        private final List<CalculatedBus> createdBuses = new ArrayList<>(2);
+
+        private final boolean split;
+
+        private BusChange(boolean split) {
+            this.split = split;
+        }
+
+        List<CalculatedBus> getRemovedBuses() {
+            return removedBuses;
+        }
+
+        int getRemovedBusRank(int i) {
+            return removedBusRanks.get(i);
+        }
+
+        List<CalculatedBus> getCreatedBuses() {
+            return createdBuses;
+        }
+
+        /**
+         * Return true if the change results from a switch opening, so if a component may have been split.
+         */
+        boolean isSplit() {
+            return split;
+        }
+
+        private void invalidateRemovedBuses() {
+            for (CalculatedBus bus : removedBuses) {
+                bus.invalidate();
+            }
+        }
+    }
+
     /**
      * Bus topology calculated from node breaker topology
      */
@@ -290,46 +371,114 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
 
         protected BusCache busCache;
 
+        /**
+         * Work arrays of the traversals, kept from one update to the next one so that toggling a switch does not
+         * allocate arrays sized by the number of nodes. Encountered flags are reset after each update.
+         */
+        private boolean[] encountered;
+
+        private int[] stack;
+
+        private void ensureWorkArrays() {
+            int maxVertex = graph.getMaxVertex();
+            if (encountered == null || encountered.length < maxVertex) {
+                encountered = new boolean[maxVertex];
+                stack = new int[2 * maxVertex];
+            }
+        }
+
+        private void resetEncountered(TIntArrayList nodes) {
+            if (nodes != null) {
+                for (int i = 0; i < nodes.size(); i++) {
+                    encountered[nodes.getQuick(i)] = false;
+                }
+            }
+        }
+
         protected void updateCache() {
             updateCache(Switch::isOpen);
         }
 
+        /**
+         * Incrementally update the cache after a change of the state of the switch associated to edge {@code e}.
+         */
+        protected BusChange updateCache(int e) {
+            return updateCache(e, Switch::isOpen);
+        }
+
         protected BusChecker getBusChecker() {
             return CALCULATED_BUS_CHECKER;
         }
 
-        private void traverse(int n, boolean[] encountered, Predicate<SwitchImpl> terminate, Map<String, CalculatedBus> id2bus, CalculatedBus[] node2bus) {
-            if (!encountered[n]) {
-                final TIntArrayList nodes = new TIntArrayList(1);
-                nodes.add(n);
-                graph.traverse(n, (n1, e, n2) -> {
-                    SwitchImpl aSwitch = graph.getEdgeObject(e);
-                    if (aSwitch != null && terminate.apply(aSwitch)) {
-                        return TraverseResult.TERMINATE;
-                    }
+        /**
+         * Nodes connected to {@code n}, or null if {@code n} has already been encountered during the update.
+         */
+        private TIntArrayList traverse(int n, Predicate<SwitchImpl> terminate) {
+            if (encountered[n]) {
+                return null;
+            }
+            final TIntArrayList nodes = new TIntArrayList(1);
+            nodes.add(n);
+            graph.traverse(n, (n1, e, n2) -> {
+                SwitchImpl aSwitch = graph.getEdgeObject(e);
+                if (aSwitch != null && terminate.apply(aSwitch)) {
+                    return TraverseResult.TERMINATE;
+                }
 
-                    nodes.add(n2);
-                    return TraverseResult.CONTINUE;
-                }, encountered);
+                nodes.add(n2);
+                return TraverseResult.CONTINUE;
+            }, encountered, stack);
+            return nodes;
+        }
 
-                // check that the component is a bus
-                String busId = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
-                CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
+        private CalculatedBus createBus(TIntArrayList nodes, int rank, BusCache cache) {
+            if (nodes == null) {
+                return null;
+            }
+
+            for (int i = 0; i < nodes.size(); i++) {
+                cache.node2rank[nodes.getQuick(i)] = rank;
+            }
+
+            // check that the component is a bus
+            String busId = NAMING_STRATEGY.getName(NodeBreakerVoltageLevel.this, nodes);
+            CopyOnWriteArrayList<NodeTerminal> terminals = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                int n2 = nodes.getQuick(i);
+                NodeTerminal terminal2 = graph.getVertexObject(n2);
+                if (terminal2 != null) {
+                    terminals.add(terminal2);
+                }
+            }
+            if (getBusChecker().isValid(graph, nodes, terminals)) {
+                CalculatedBusImpl bus = new CalculatedBusImpl(busId, NodeBreakerVoltageLevel.this, terminals);
+                cache.addBus(bus, rank);
                 for (int i = 0; i < nodes.size(); i++) {
-                    int n2 = nodes.getQuick(i);
-                    NodeTerminal terminal2 = graph.getVertexObject(n2);
-                    if (terminal2 != null) {
-                        terminals.add(terminal2);
-                    }
+                    cache.node2bus[nodes.getQuick(i)] = bus;
                 }
-                if (getBusChecker().isValid(graph, nodes, terminals)) {
-                    CalculatedBusImpl bus = new CalculatedBusImpl(busId, NodeBreakerVoltageLevel.this, terminals);
-                    id2bus.put(busId, bus);
-                    for (int i = 0; i < nodes.size(); i++) {
-                        node2bus[nodes.getQuick(i)] = bus;
-                    }
+                return bus;
+            }
+            return null;
+        }
+
+        /**
+         * Rank of the component made of {@code nodes} in a full rebuild of the cache, i.e. the position of the first
+         * edge end from which the component is reached when iterating over the edges.
+         */
+        private int getRank(TIntArrayList nodes) {
+            int rank = Integer.MAX_VALUE;
+            for (int i = 0; i < nodes.size(); i++) {
+                int n = nodes.getQuick(i);
+                for (int e : graph.getEdgesConnectedToVertex(n)) {
+                    rank = Math.min(rank, graph.getEdgeVertex1(e) == n ? 2 * e : 2 * e + 1);
                 }
             }
+            return rank;
+        }
+
+        int getRank(String busId) {
+            updateCache();
+            return busCache.id2rank.get(busId);
         }
 
         protected void updateCache(final Predicate<SwitchImpl> terminate) {
@@ -337,16 +486,88 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
                 return;
             }
             LOGGER.trace("Update bus topology of voltage level {}", NodeBreakerVoltageLevel.this.id);
-            Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
-            CalculatedBus[] node2bus = new CalculatedBus[graph.getMaxVertex()];
-            boolean[] encountered = new boolean[graph.getMaxVertex()];
-            Arrays.fill(encountered, false);
+            BusCache cache = new BusCache(graph.getMaxVertex());
+            ensureWorkArrays();
             for (int e : graph.getEdges()) {
-                traverse(graph.getEdgeVertex1(e), encountered, terminate, id2bus, node2bus);
-                traverse(graph.getEdgeVertex2(e), encountered, terminate, id2bus, node2bus);
+                createBus(traverse(graph.getEdgeVertex1(e), terminate), 2 * e, cache);
+                createBus(traverse(graph.getEdgeVertex2(e), terminate), 2 * e + 1, cache);
+            }
+            Arrays.fill(encountered, false);
+            busCache = cache;
+            LOGGER.trace("Found buses {}", cache.getBuses());
+        }
+
+        /**
+         * Return the buses removed and created by the update, or null if the buses are not modified or if the cache
+         * has been fully invalidated.
+         */
+        protected BusChange updateCache(int e, final Predicate<SwitchImpl> terminate) {
+            if (busCache == null) {
+                // nothing to patch, cache will be fully computed on next access
+                return null;
+            }
+            if (busCache.node2bus.length != graph.getMaxVertex()) {
+                // graph has been modified since last computation
+                NodeBreakerVoltageLevel.this.invalidateCache();
+                return null;
+            }
+
+            int v1 = graph.getEdgeVertex1(e);
+            int v2 = graph.getEdgeVertex2(e);
+            boolean open = terminate.apply(graph.getEdgeObject(e));
+            boolean connected = busCache.node2rank[v1] == busCache.node2rank[v2];
+            if (open != connected) {
+                // closing a switch inside a component or opening a switch between two components does not change
+                // anything
+                return null;
+            }
+            LOGGER.trace("Incremental update of bus topology of voltage level {}", NodeBreakerVoltageLevel.this.id);
+
+            // as only one edge has changed, the union of the new components of both sides of the edge is equal to
+            // the union of the old ones, so only buses of these nodes have to be recomputed
+            ensureWorkArrays();
+            TIntArrayList nodes1 = traverse(v1, terminate);
+            TIntArrayList nodes2 = traverse(v2, terminate);
+            resetEncountered(nodes1);
+            resetEncountered(nodes2);
+            if (open && nodes2 == null) {
+                // there is a parallel path, component is not split
+                return null;
+            }
+
+            BusChange change = new BusChange(open);
+            detachBuses(nodes1, change);
+            detachBuses(nodes2, change);
+            addCreatedBus(nodes1, change);
+            addCreatedBus(nodes2, change);
+            return change;
+        }
+
+        private void addCreatedBus(TIntArrayList nodes, BusChange change) {
+            if (nodes != null) {
+                CalculatedBus bus = createBus(nodes, getRank(nodes), busCache);
+                if (bus != null) {
+                    change.createdBuses.add(bus);
+                }
+            }
+        }
+
+        private void detachBuses(TIntArrayList nodes, BusChange change) {
+            if (nodes == null) {
+                return;
+            }
+            for (int i = 0; i < nodes.size(); i++) {
+                int n = nodes.getQuick(i);
+                CalculatedBus bus = busCache.node2bus[n];
+                if (bus != null) {
+                    int rank = busCache.removeBus(bus.getId());
+                    if (rank != -1) {
+                        change.removedBuses.add(bus);
+                        change.removedBusRanks.add(rank);
+                    }
+                    busCache.node2bus[n] = null;
+                }
             }
-            busCache = new BusCache(node2bus, id2bus);
-            LOGGER.trace("Found buses {}", id2bus.values());
         }
 
         protected void invalidateCache() {
@@ -416,6 +637,11 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             updateCache(sw -> sw.isOpen() || sw.isRetained());
         }
 
+        @Override
+        protected BusChange updateCache(int e) {
+            return updateCache(e, sw -> sw.isOpen() || sw.isRetained());
+        }
+
         @Override
         protected BusChecker getBusChecker() {
             return CALCULATED_BUS_BREAKER_CHECKER;
@@ -552,6 +778,23 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
         variants.get().calculatedBusBreakerTopology.invalidateCache();
         variants.get().calculatedBusTopology.invalidateCache();
         getNetwork().getConnectedComponentsManager().invalidate();
+        getNetwork().getSynchronousComponentsManager().invalidate();
+    }
+
+    @Override
+    public void invalidateCache(SwitchImpl aSwitch) {
+        int e = getEdge(aSwitch.getId(), true);
+        BusChange busBreakerChange = variants.get().calculatedBusBreakerTopology.updateCache(e);
+        if (busBreakerChange != null) {
+            busBreakerChange.invalidateRemovedBuses();
+        }
+        // connected and synchronous components only depend on the bus view
+        BusChange busChange = variants.get().calculatedBusTopology.updateCache(e);
+        if (busChange != null) {
+            getNetwork().getConnectedComponentsManager().update(this, busChange);
+            getNetwork().getSynchronousComponentsManager().update(this, busChange);
+            busChange.invalidateRemovedBuses();
+        }
     }
 
     private Integer getEdge(String switchId, boolean throwException) {
@@ -720,6 +963,7 @@ class NodeBreakerVoltageLevel extends AbstractVoltageLevel {
             }
             SwitchImpl aSwitch = graph.removeEdge(e);
             clean();
+            invalidateCache();
 
             getNetwork().getObjectStore().remove(aSwitch);
             getNetwork().getListeners().notifyRemoval(aSwitch);
@@ -96,7 +96,11 @@ class NodeTerminal extends AbstractTerminal {
 
     @Override
     protected double getV() {
-        return v.get(network.get().getVariantIndex());
+        return getV(network.get().getVariantIndex());
+    }
+
+    double getV(int variantIndex) {
+        return v.get(variantIndex);
     }
 
     void setV(double v) {
@@ -107,7 +111,11 @@ class NodeTerminal extends AbstractTerminal {
     }
 
     double getAngle() {
-        return angle.get(network.get().getVariantIndex());
+        return getAngle(network.get().getVariantIndex());
+    }
+
+    double getAngle(int variantIndex) {
+        return angle.get(variantIndex);
     }
 
     void setAngle(double angle) {
@@ -56,7 +56,11 @@ class PhaseTapChangerImpl extends AbstractTapChanger<TwoWindingsTransformerImpl,
 
     @Override
     public double getRegulationValue() {
-        return regulationValue.get(network.get().getVariantIndex());
+        return getRegulationValue(network.get().getVariantIndex());
+    }
+
+    double getRegulationValue(int variantIndex) {
+        return regulationValue.get(variantIndex);
     }
 
     @Override
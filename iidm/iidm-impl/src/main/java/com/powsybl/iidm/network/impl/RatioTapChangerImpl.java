@@ -53,7 +53,11 @@ class RatioTapChangerImpl extends AbstractTapChanger<RatioTapChangerParent, Rati
 
     @Override
     public double getTargetV() {
-        return targetV.get(network.get().getVariantIndex());
+        return getTargetV(network.get().getVariantIndex());
+    }
+
+    double getTargetV(int variantIndex) {
+        return targetV.get(variantIndex);
     }
 
     @Override
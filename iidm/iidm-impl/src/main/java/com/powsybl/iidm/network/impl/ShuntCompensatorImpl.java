@@ -84,7 +84,11 @@ class ShuntCompensatorImpl extends AbstractConnectable<ShuntCompensator> impleme
 
     @Override
     public int getCurrentSectionCount() {
-        return currentSectionCount.get(network.get().getVariantIndex());
+        return getCurrentSectionCount(network.get().getVariantIndex());
+    }
+
+    int getCurrentSectionCount(int variantIndex) {
+        return currentSectionCount.get(variantIndex);
     }
 
     @Override
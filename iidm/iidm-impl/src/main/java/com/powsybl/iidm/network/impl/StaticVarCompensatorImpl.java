@@ -89,7 +89,11 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
 
     @Override
     public double getVoltageSetPoint() {
-        return voltageSetPoint.get(getNetwork().getVariantIndex());
+        return getVoltageSetPoint(getNetwork().getVariantIndex());
+    }
+
+    double getVoltageSetPoint(int variantIndex) {
+        return voltageSetPoint.get(variantIndex);
     }
 
     @Override
@@ -102,7 +106,11 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
 
     @Override
     public double getReactivePowerSetPoint() {
-        return reactivePowerSetPoint.get(getNetwork().getVariantIndex());
+        return getReactivePowerSetPoint(getNetwork().getVariantIndex());
+    }
+
+    double getReactivePowerSetPoint(int variantIndex) {
+        return reactivePowerSetPoint.get(variantIndex);
     }
 
     @Override
@@ -115,7 +123,11 @@ class StaticVarCompensatorImpl extends AbstractConnectable<StaticVarCompensator>
 
     @Override
     public RegulationMode getRegulationMode() {
-        return RegulationMode.values()[regulationMode.get(getNetwork().getVariantIndex())];
+        return getRegulationMode(getNetwork().getVariantIndex());
+    }
+
+    RegulationMode getRegulationMode(int variantIndex) {
+        return RegulationMode.values()[regulationMode.get(variantIndex)];
     }
 
     @Override
@@ -54,7 +54,11 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
 
     @Override
     public boolean isOpen() {
-        return open.get(voltageLevel.getNetwork().getVariantIndex());
+        return isOpen(voltageLevel.getNetwork().getVariantIndex());
+    }
+
+    boolean isOpen(int variantIndex) {
+        return open.get(variantIndex);
     }
 
     @Override
@@ -64,14 +68,18 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
         boolean oldValue = this.open.get(index);
         if (oldValue != open) {
             this.open.set(index, open);
-            voltageLevel.invalidateCache();
+            voltageLevel.invalidateCache(this);
             network.getListeners().notifyUpdate(this, "open", oldValue, open);
         }
     }
 
     @Override
     public boolean isRetained() {
-        return retained.get(voltageLevel.getNetwork().getVariantIndex());
+        return isRetained(voltageLevel.getNetwork().getVariantIndex());
+    }
+
+    boolean isRetained(int variantIndex) {
+        return retained.get(variantIndex);
     }
 
     @Override
@@ -84,7 +92,7 @@ class SwitchImpl extends AbstractIdentifiable<Switch> implements Switch, MultiVa
         boolean oldValue = this.retained.get(index);
         if (oldValue != retained) {
             this.retained.set(index, retained);
-            voltageLevel.invalidateCache();
+            voltageLevel.invalidateCache(this);
             network.getListeners().notifyUpdate(this, "retained", oldValue, retained);
         }
     }
@@ -16,12 +16,20 @@ public class ThreadLocalMultiVariantContext implements VariantContext {
 
     public static final ThreadLocalMultiVariantContext INSTANCE = new ThreadLocalMultiVariantContext();
 
-    private final ThreadLocal<Integer> index = ThreadLocal.withInitial(() -> null);
+    /**
+     * Per thread mutable holder of the variant index, so that setting or reading the index does not box it.
+     */
+    private static final class IndexHolder {
+
+        private int index = -1;
+    }
+
+    private final ThreadLocal<IndexHolder> index = ThreadLocal.withInitial(IndexHolder::new);
 
     @Override
     public int getVariantIndex() {
-        Integer i = index.get();
-        if (i == null) {
+        int i = index.get().index;
+        if (i == -1) {
             throw new PowsyblException("Variant index not set for current thread " + Thread.currentThread().getName());
         }
         return i;
@@ -29,7 +37,7 @@ public class ThreadLocalMultiVariantContext implements VariantContext {
 
     @Override
     public void setVariantIndex(int index) {
-        this.index.set(index);
+        this.index.get().index = index;
     }
 
     public void reset() {
@@ -38,9 +46,9 @@ public class ThreadLocalMultiVariantContext implements VariantContext {
 
     @Override
     public void resetIfVariantIndexIs(int index) {
-        Integer i = this.index.get();
-        if (i != null && i == index) {
-            this.index.remove();
+        IndexHolder holder = this.index.get();
+        if (holder.index == index) {
+            holder.index = -1;
         }
     }
 }
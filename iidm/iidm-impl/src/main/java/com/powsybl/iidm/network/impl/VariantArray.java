@@ -7,12 +7,17 @@
 package com.powsybl.iidm.network.impl;
 
 import com.powsybl.iidm.network.impl.util.Ref;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * To easily manage an array of variant.
+ * <p>
+ * Variants are stored in an array whose capacity grows geometrically, so that pushing variants one by one costs an
+ * amortized constant time. Modifications are made under the lock of the variant array, the slots of the array being
+ * atomic references and a grown array being published through a volatile field. Reading the variant of the current
+ * thread is then lock free, which is important when many threads work concurrently on different variants of the same
+ * network.
  *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -20,52 +25,72 @@ class VariantArray<S extends Variant> {
 
     private final Ref<? extends VariantManagerHolder> variantManagerHolder;
 
-    private final List<S> variants;
+    private volatile AtomicReferenceArray<Variant> variants;
+
+    /* number of used slots, only accessed under the lock */
+    private int size;
 
     VariantArray(Ref<? extends VariantManagerHolder> variantManagerHolder, VariantFactory<S> variantFactory) {
         this.variantManagerHolder = variantManagerHolder;
         VariantManagerImpl variantManager = variantManagerHolder.get().getVariantManager();
-        variants = Collections.synchronizedList(new ArrayList<S>(variantManager.getVariantArraySize()));
-        for (int i = 0; i < variantManager.getVariantArraySize(); i++) {
-            variants.add(null);
-        }
+        size = variantManager.getVariantArraySize();
+        AtomicReferenceArray<Variant> newVariants = new AtomicReferenceArray<>(Math.max(size, 1));
         for (int i : variantManager.getVariantIndexes()) {
-            variants.set(i, variantFactory.newVariant());
+            newVariants.set(i, variantFactory.newVariant());
         }
+        variants = newVariants;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S get(int index) {
+        return (S) variants.get(index);
     }
 
     S get() {
-        return variants.get(variantManagerHolder.get().getVariantManager().getVariantContext().getVariantIndex());
+        return get(variantManagerHolder.get().getVariantIndex());
     }
 
-    void push(int number, VariantFactory<S> variantFactory) {
-        for (int i = 0; i < number; i++) {
-            variants.add(variantFactory.newVariant());
+    synchronized void push(int number, VariantFactory<S> variantFactory) {
+        AtomicReferenceArray<Variant> currentVariants = variants;
+        if (size + number > currentVariants.length()) {
+            AtomicReferenceArray<Variant> newVariants = new AtomicReferenceArray<>(Math.max(size + number, 2 * currentVariants.length()));
+            for (int i = 0; i < size; i++) {
+                newVariants.set(i, currentVariants.get(i));
+            }
+            currentVariants = newVariants;
+        }
+        for (int i = size; i < size + number; i++) {
+            currentVariants.set(i, variantFactory.newVariant());
         }
+        size += number;
+        variants = currentVariants;
     }
 
     void push(VariantFactory<S> variantFactory) {
-        variants.add(variantFactory.newVariant());
+        push(1, variantFactory);
     }
 
-    void pop(int number) {
-        for (int i = 0; i < number; i++) {
-            variants.remove(variants.size() - 1);
+    synchronized void pop(int number) {
+        AtomicReferenceArray<Variant> currentVariants = variants;
+        for (int i = size - number; i < size; i++) {
+            currentVariants.set(i, null);
         }
+        size -= number;
     }
 
-    void delete(int index) {
+    synchronized void delete(int index) {
         variants.set(index, null);
     }
 
-    void allocate(int[] indexes, VariantFactory<S> variantFactory) {
+    synchronized void allocate(int[] indexes, VariantFactory<S> variantFactory) {
+        AtomicReferenceArray<Variant> currentVariants = variants;
         for (int index : indexes) {
-            variants.set(index, variantFactory.newVariant());
+            currentVariants.set(index, variantFactory.newVariant());
         }
     }
 
     S copy(int index) {
-        return variants.get(index).copy();
+        return get(index).copy();
     }
 
 }
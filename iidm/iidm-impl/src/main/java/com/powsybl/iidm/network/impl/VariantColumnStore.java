@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.impl.util.Ref;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Variant dependent attributes of all the objects of a same type, stored column by column.
+ * <p>
+ * Each object owns a row of the store and each attribute is a column made of one primitive array per variant, so
+ * values are laid out variant-major: {@code values[variantIndex][row]}. Creating a variant is then a single array
+ * copy per attribute instead of a walk through all the objects of the network.
+ * <p>
+ * Rows of removed objects are recycled for the next created ones.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class VariantColumnStore implements MultiVariantObject {
+
+    private static final int INITIAL_ROW_CAPACITY = 16;
+
+    abstract class AbstractColumn {
+
+        abstract void resize(int rowCapacity);
+
+        abstract void extend(int number, int sourceIndex);
+
+        abstract void reduce(int number);
+
+        abstract void delete(int index);
+
+        abstract void allocate(int[] indexes, int sourceIndex);
+
+        abstract void copyRow(AbstractColumn other, int otherRow, int row);
+    }
+
+    final class DoubleColumn extends AbstractColumn {
+
+        private volatile double[][] values;
+
+        DoubleColumn() {
+            values = new double[variantArraySize][rowCapacity];
+            columns.add(this);
+        }
+
+        double get(int row) {
+            return get(row, network.get().getVariantIndex());
+        }
+
+        double get(int row, int variantIndex) {
+            return values[variantIndex][row];
+        }
+
+        double set(int row, double value) {
+            double[] variantValues = values[network.get().getVariantIndex()];
+            double oldValue = variantValues[row];
+            variantValues[row] = value;
+            return oldValue;
+        }
+
+        void setAll(int row, double value) {
+            for (double[] variantValues : values) {
+                if (variantValues != null) {
+                    variantValues[row] = value;
+                }
+            }
+        }
+
+        @Override
+        void resize(int rowCapacity) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    values[i] = Arrays.copyOf(values[i], rowCapacity);
+                }
+            }
+        }
+
+        @Override
+        void extend(int number, int sourceIndex) {
+            double[][] newValues = Arrays.copyOf(values, values.length + number);
+            for (int i = values.length; i < newValues.length; i++) {
+                newValues[i] = values[sourceIndex].clone();
+            }
+            values = newValues;
+        }
+
+        @Override
+        void reduce(int number) {
+            values = Arrays.copyOf(values, values.length - number);
+        }
+
+        @Override
+        void delete(int index) {
+            values[index] = null;
+        }
+
+        @Override
+        void allocate(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                values[index] = values[sourceIndex].clone();
+            }
+        }
+
+        @Override
+        void copyRow(AbstractColumn other, int otherRow, int row) {
+            double[][] otherValues = ((DoubleColumn) other).values;
+            for (int i = 0; i < Math.min(values.length, otherValues.length); i++) {
+                if (values[i] != null && otherValues[i] != null) {
+                    values[i][row] = otherValues[i][otherRow];
+                }
+            }
+        }
+    }
+
+    final class BooleanColumn extends AbstractColumn {
+
+        private volatile boolean[][] values;
+
+        BooleanColumn() {
+            values = new boolean[variantArraySize][rowCapacity];
+            columns.add(this);
+        }
+
+        boolean get(int row) {
+            return get(row, network.get().getVariantIndex());
+        }
+
+        boolean get(int row, int variantIndex) {
+            return values[variantIndex][row];
+        }
+
+        boolean set(int row, boolean value) {
+            boolean[] variantValues = values[network.get().getVariantIndex()];
+            boolean oldValue = variantValues[row];
+            variantValues[row] = value;
+            return oldValue;
+        }
+
+        void setAll(int row, boolean value) {
+            for (boolean[] variantValues : values) {
+                if (variantValues != null) {
+                    variantValues[row] = value;
+                }
+            }
+        }
+
+        @Override
+        void resize(int rowCapacity) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    values[i] = Arrays.copyOf(values[i], rowCapacity);
+                }
+            }
+        }
+
+        @Override
+        void extend(int number, int sourceIndex) {
+            boolean[][] newValues = Arrays.copyOf(values, values.length + number);
+            for (int i = values.length; i < newValues.length; i++) {
+                newValues[i] = values[sourceIndex].clone();
+            }
+            values = newValues;
+        }
+
+        @Override
+        void reduce(int number) {
+            values = Arrays.copyOf(values, values.length - number);
+        }
+
+        @Override
+        void delete(int index) {
+            values[index] = null;
+        }
+
+        @Override
+        void allocate(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                values[index] = values[sourceIndex].clone();
+            }
+        }
+
+        @Override
+        void copyRow(AbstractColumn other, int otherRow, int row) {
+            boolean[][] otherValues = ((BooleanColumn) other).values;
+            for (int i = 0; i < Math.min(values.length, otherValues.length); i++) {
+                if (values[i] != null && otherValues[i] != null) {
+                    values[i][row] = otherValues[i][otherRow];
+                }
+            }
+        }
+    }
+
+    private final Ref<? extends VariantManagerHolder> network;
+
+    private final List<AbstractColumn> columns = new ArrayList<>();
+
+    private int variantArraySize;
+
+    private int rowCapacity = INITIAL_ROW_CAPACITY;
+
+    private int rowCount = 0;
+
+    private final TIntArrayList freeRows = new TIntArrayList();
+
+    VariantColumnStore(Ref<? extends VariantManagerHolder> network, int variantArraySize) {
+        this.network = Objects.requireNonNull(network);
+        this.variantArraySize = variantArraySize;
+    }
+
+    /**
+     * Allocate a row for a new object. Values of the row are undefined and have to be initialized for all the
+     * variants.
+     */
+    int addRow() {
+        if (!freeRows.isEmpty()) {
+            return freeRows.removeAt(freeRows.size() - 1);
+        }
+        if (rowCount == rowCapacity) {
+            rowCapacity *= 2;
+            for (AbstractColumn column : columns) {
+                column.resize(rowCapacity);
+            }
+        }
+        return rowCount++;
+    }
+
+    void removeRow(int row) {
+        freeRows.add(row);
+    }
+
+    /**
+     * Allocate a row and copy to it the values of a row of another store of the same type, for all the variants
+     * both stores have in common.
+     */
+    int importRow(VariantColumnStore other, int otherRow) {
+        int row = addRow();
+        for (int i = 0; i < columns.size(); i++) {
+            columns.get(i).copyRow(other.columns.get(i), otherRow, row);
+        }
+        return row;
+    }
+
+    int getRowCount() {
+        return rowCount - freeRows.size();
+    }
+
+    @Override
+    public void extendVariantArraySize(int initVariantArraySize, int number, int sourceIndex) {
+        for (AbstractColumn column : columns) {
+            column.extend(number, sourceIndex);
+        }
+        variantArraySize += number;
+    }
+
+    @Override
+    public void reduceVariantArraySize(int number) {
+        for (AbstractColumn column : columns) {
+            column.reduce(number);
+        }
+        variantArraySize -= number;
+    }
+
+    @Override
+    public void deleteVariantArrayElement(int index) {
+        for (AbstractColumn column : columns) {
+            column.delete(index);
+        }
+    }
+
+    @Override
+    public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+        for (AbstractColumn column : columns) {
+            column.allocate(indexes, sourceIndex);
+        }
+    }
+}
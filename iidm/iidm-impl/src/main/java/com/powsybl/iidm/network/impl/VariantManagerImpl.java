@@ -28,7 +28,7 @@ class VariantManagerImpl implements VariantManager {
 
     private static final int INITIAL_VARIANT_INDEX = 0;
 
-    private VariantContext variantContext;
+    private volatile VariantContext variantContext;
 
     private final ObjectStore objectStore;
 
@@ -67,7 +67,7 @@ class VariantManagerImpl implements VariantManager {
         return id2index.values();
     }
 
-    private int getVariantIndex(String variantId) {
+    int getVariantIndex(String variantId) {
         Integer index = id2index.get(variantId);
         if (index == null) {
             throw new PowsyblException("Variant '" + variantId + "' not found");
@@ -96,6 +96,27 @@ class VariantManagerImpl implements VariantManager {
         cloneVariant(sourceVariantId, Collections.singletonList(targetVariantId));
     }
 
+    @Override
+    public void cloneVariant(String sourceVariantId, String targetVariantId, boolean mayOverwrite) {
+        Integer targetIndex = id2index.get(targetVariantId);
+        if (targetIndex == null || !mayOverwrite) {
+            cloneVariant(sourceVariantId, targetVariantId);
+            return;
+        }
+        if (VariantManagerConstants.INITIAL_VARIANT_ID.equals(targetVariantId)) {
+            throw new PowsyblException("Overwriting initial variant is forbidden");
+        }
+        int sourceIndex = getVariantIndex(sourceVariantId);
+        if (sourceIndex == targetIndex) {
+            return;
+        }
+        LOGGER.debug("Overwriting variant '{}' with variant '{}'", targetVariantId, sourceVariantId);
+        int[] indexes = new int[] {targetIndex};
+        for (MultiVariantObject obj : getStafulObjects()) {
+            obj.allocateVariantArrayElement(indexes, sourceIndex);
+        }
+    }
+
     @Override
     public void cloneVariant(String sourceVariantId, List<String> targetVariantIds) {
         if (targetVariantIds.isEmpty()) {
@@ -57,4 +57,9 @@ interface VoltageLevelExt extends VoltageLevel, MultiVariantObject {
     boolean disconnect(TerminalExt terminal);
 
     void invalidateCache();
+
+    /**
+     * Invalidate the cache after a change of the open or retained status of a switch.
+     */
+    void invalidateCache(SwitchImpl aSwitch);
 }
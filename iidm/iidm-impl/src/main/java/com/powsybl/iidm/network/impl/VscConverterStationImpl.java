@@ -53,7 +53,11 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
 
     @Override
     public boolean isVoltageRegulatorOn() {
-        return voltageRegulatorOn.get(getNetwork().getVariantIndex());
+        return isVoltageRegulatorOn(getNetwork().getVariantIndex());
+    }
+
+    boolean isVoltageRegulatorOn(int variantIndex) {
+        return voltageRegulatorOn.get(variantIndex);
     }
 
     @Override
@@ -68,7 +72,11 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
 
     @Override
     public double getVoltageSetpoint() {
-        return this.voltageSetpoint.get(getNetwork().getVariantIndex());
+        return getVoltageSetpoint(getNetwork().getVariantIndex());
+    }
+
+    double getVoltageSetpoint(int variantIndex) {
+        return this.voltageSetpoint.get(variantIndex);
     }
 
     @Override
@@ -82,7 +90,11 @@ class VscConverterStationImpl extends AbstractHvdcConverterStation<VscConverterS
 
     @Override
     public double getReactivePowerSetpoint() {
-        return reactivePowerSetpoint.get(getNetwork().getVariantIndex());
+        return getReactivePowerSetpoint(getNetwork().getVariantIndex());
+    }
+
+    double getReactivePowerSetpoint(int variantIndex) {
+        return reactivePowerSetpoint.get(variantIndex);
     }
 
     @Override
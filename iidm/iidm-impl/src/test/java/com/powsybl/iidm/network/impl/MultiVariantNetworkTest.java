@@ -11,10 +11,14 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
@@ -80,6 +84,52 @@ public class MultiVariantNetworkTest {
         assertFalse(voltageRegulatorOnSecondVariant[0]);
     }
 
+    @Test
+    public void manyThreadsTest() throws Exception {
+        final Network network = EurostagTutorialExample1Factory.create();
+        final VariantManager manager = network.getVariantManager();
+        manager.allowVariantMultiThreadAccess(true);
+
+        int threadCount = 8;
+        List<String> variantIds = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            variantIds.add("Variant" + i);
+        }
+        manager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantIds);
+
+        final Generator generator = network.getGenerator("GEN");
+        final Load load = network.getLoad("LOAD");
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final int variantNum = i;
+            tasks.add(() -> {
+                manager.setWorkingVariant(variantIds.get(variantNum));
+                generator.setTargetP(variantNum);
+                latch.countDown();
+                latch.await();
+                boolean ok = true;
+                for (int j = 0; j < 10000; j++) {
+                    ok &= generator.getTargetP() == variantNum
+                            && load.getP0() == 600
+                            && load.getTerminal().getBusView().getBus() != null;
+                }
+                return ok;
+            });
+        }
+        ExecutorService service = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (Future<Boolean> result : service.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            service.shutdown();
+            service.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        manager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(607, generator.getTargetP(), 0);
+    }
+
     @Test
     public void multiVariantTopologyTest() throws InterruptedException {
         Network network = EurostagTutorialExample1Factory.create();
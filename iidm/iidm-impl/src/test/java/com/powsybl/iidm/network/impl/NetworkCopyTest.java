@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NetworkCopyTest {
+
+    private static void assertSameTopology(Network network, Network copy) {
+        assertEquals(network.getId(), copy.getId());
+        assertEquals(network.getCaseDate(), copy.getCaseDate());
+        assertEquals(Iterables.size(network.getIdentifiables()), Iterables.size(copy.getIdentifiables()));
+        for (Identifiable<?> identifiable : network.getIdentifiables()) {
+            Identifiable<?> copied = copy.getIdentifiable(identifiable.getId());
+            assertNotNull(copied);
+            assertNotSame(identifiable, copied);
+            assertEquals(identifiable.getName(), copied.getName());
+        }
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            VoltageLevel copied = copy.getVoltageLevel(vl.getId());
+            assertEquals(Iterables.size(vl.getBusView().getBuses()), Iterables.size(copied.getBusView().getBuses()));
+            for (Switch sw : vl.getSwitches()) {
+                assertEquals(sw.isOpen(), copy.getSwitch(sw.getId()).isOpen());
+            }
+        }
+    }
+
+    @Test
+    public void testCopyWithVariants() {
+        Network network = EurostagTutorialExample1Factory.createWithCurrentLimits();
+        network.getLoad("LOAD").getProperties().setProperty("foo", "bar");
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getGenerator("GEN").setTargetQ(100).setVoltageRegulatorOn(false).setTargetP(500);
+        network.getLoad("LOAD").setP0(700).getTerminal().disconnect();
+        network.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().setTapPosition(0);
+
+        Network copy = network.copy();
+        assertSameTopology(network, copy);
+        assertEquals(ImmutableSet.of(VariantManagerConstants.INITIAL_VARIANT_ID, "v"), ImmutableSet.copyOf(copy.getVariantManager().getVariantIds()));
+        assertEquals("v", copy.getVariantManager().getWorkingVariantId());
+        assertEquals("v", network.getVariantManager().getWorkingVariantId());
+        assertEquals("bar", copy.getLoad("LOAD").getProperties().getProperty("foo"));
+
+        // structure
+        Line line = copy.getLine("NHV1_NHV2_1");
+        assertEquals(1100, line.getCurrentLimits2().getPermanentLimit(), 0);
+        assertEquals(2, line.getCurrentLimits2().getTemporaryLimits().size());
+        assertEquals(1200, line.getCurrentLimits2().getTemporaryLimitValue(600), 0);
+        assertEquals(3, copy.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getStepCount());
+        assertSame(copy.getTwoWindingsTransformer("NHV2_NLOAD").getTerminal2(), copy.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getRegulationTerminal());
+
+        // state of each variant
+        assertFalse(copy.getGenerator("GEN").isVoltageRegulatorOn());
+        assertEquals(500, copy.getGenerator("GEN").getTargetP(), 0);
+        assertEquals(700, copy.getLoad("LOAD").getP0(), 0);
+        assertFalse(copy.getLoad("LOAD").getTerminal().isConnected());
+        assertEquals(0, copy.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getTapPosition());
+        copy.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertTrue(copy.getGenerator("GEN").isVoltageRegulatorOn());
+        assertEquals(607, copy.getGenerator("GEN").getTargetP(), 0);
+        assertEquals(600, copy.getLoad("LOAD").getP0(), 0);
+        assertTrue(copy.getLoad("LOAD").getTerminal().isConnected());
+        assertEquals(1, copy.getTwoWindingsTransformer("NHV2_NLOAD").getRatioTapChanger().getTapPosition());
+        assertEquals(380, copy.getVoltageLevel("VLHV1").getBusBreakerView().getBus("NHV1").getV(), 0);
+        assertEquals(560, copy.getLine("NHV1_NHV2_1").getTerminal1().getP(), 0);
+
+        // the copy is independent of the original network
+        copy.getLoad("LOAD").setP0(800);
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(600, network.getLoad("LOAD").getP0(), 0);
+    }
+
+    @Test
+    public void testCopyWorkingVariantOnly() {
+        Network network = EurostagTutorialExample1Factory.create();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getLoad("LOAD").setP0(700);
+
+        Network copy = network.copy(true);
+        assertSameTopology(network, copy);
+        assertEquals(ImmutableSet.of(VariantManagerConstants.INITIAL_VARIANT_ID), ImmutableSet.copyOf(copy.getVariantManager().getVariantIds()));
+        assertEquals(700, copy.getLoad("LOAD").getP0(), 0);
+        assertEquals("v", network.getVariantManager().getWorkingVariantId());
+    }
+
+    @Test
+    public void testCopyNodeBreaker() {
+        Network network = FictitiousSwitchFactory.create();
+        network.getSwitch("J").setOpen(true);
+
+        Network copy = network.copy();
+        assertSameTopology(network, copy);
+        for (VoltageLevel vl : network.getVoltageLevels()) {
+            VoltageLevel copied = copy.getVoltageLevel(vl.getId());
+            assertEquals(vl.getNodeBreakerView().getNodeCount(), copied.getNodeBreakerView().getNodeCount());
+            assertEquals(vl.getNodeBreakerView().getInternalConnectionCount(), copied.getNodeBreakerView().getInternalConnectionCount());
+            for (Switch sw : vl.getSwitches()) {
+                Switch copiedSwitch = copied.getNodeBreakerView().getSwitch(sw.getId());
+                assertEquals(sw.getKind(), copiedSwitch.getKind());
+                assertEquals(sw.isRetained(), copiedSwitch.isRetained());
+                assertEquals(sw.isFictitious(), copiedSwitch.isFictitious());
+                assertEquals(vl.getNodeBreakerView().getNode1(sw.getId()), copied.getNodeBreakerView().getNode1(sw.getId()));
+                assertEquals(vl.getNodeBreakerView().getNode2(sw.getId()), copied.getNodeBreakerView().getNode2(sw.getId()));
+            }
+        }
+    }
+
+    @Test
+    public void testCopyOtherEquipments() {
+        Network network = PhaseShifterTestCaseFactory.create();
+        Network copy = network.copy();
+        assertSameTopology(network, copy);
+        PhaseTapChanger ptc = copy.getTwoWindingsTransformer("PS1").getPhaseTapChanger();
+        assertEquals(network.getTwoWindingsTransformer("PS1").getPhaseTapChanger().getStepCount(), ptc.getStepCount());
+        assertEquals(network.getTwoWindingsTransformer("PS1").getPhaseTapChanger().getCurrentStep().getAlpha(), ptc.getCurrentStep().getAlpha(), 0);
+
+        network = ThreeWindingsTransformerNetworkFactory.create();
+        copy = network.copy();
+        assertSameTopology(network, copy);
+        ThreeWindingsTransformer twt = copy.getThreeWindingsTransformer("3WT");
+        assertEquals(network.getThreeWindingsTransformer("3WT").getLeg3().getRatedU(), twt.getLeg3().getRatedU(), 0);
+        assertEquals("VL_11", twt.getLeg3().getTerminal().getVoltageLevel().getId());
+
+        network = SvcTestCaseFactory.create();
+        copy = network.copy();
+        assertSameTopology(network, copy);
+        assertEquals(network.getStaticVarCompensator("SVC2").getRegulationMode(), copy.getStaticVarCompensator("SVC2").getRegulationMode());
+
+        network = HvdcTestNetwork.createVsc();
+        copy = network.copy();
+        assertSameTopology(network, copy);
+        HvdcLine hvdcLine = copy.getHvdcLine("L");
+        assertEquals("C1", hvdcLine.getConverterStation1().getId());
+        assertEquals(network.getHvdcLine("L").getActivePowerSetpoint(), hvdcLine.getActivePowerSetpoint(), 0);
+        assertEquals(ReactiveLimitsKind.CURVE, copy.getVscConverterStation("C1").getReactiveLimits().getKind());
+
+        network = HvdcTestNetwork.createLcc();
+        copy = network.copy();
+        assertSameTopology(network, copy);
+        assertEquals(network.getLccConverterStation("C2").getPowerFactor(), copy.getLccConverterStation("C2").getPowerFactor(), 0);
+    }
+
+    @Test
+    public void testExtensionWithoutCopier() {
+        Network network = EurostagTutorialExample1Factory.create();
+        assertTrue(ExtensionCopiers.isCopySupported(network));
+        Load load = network.getLoad("LOAD");
+        load.addExtension(LoadFooExt.class, new LoadFooExt(load));
+        assertFalse(ExtensionCopiers.isCopySupported(network));
+        try {
+            network.copy(true);
+            fail();
+        } catch (PowsyblException e) {
+            assertEquals("Copier not found for extension loadFoo", e.getMessage());
+        }
+    }
+}
@@ -7,9 +7,17 @@
 package com.powsybl.iidm.network.impl;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.FictitiousSwitchFactory;
+import com.powsybl.iidm.network.test.HvdcTestNetwork;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
@@ -95,4 +103,168 @@ public class SwitchOpenCloseNodeBreakerTopoTest {
         s.setOpen(true);
         assertEquals(2, Iterables.size(vl.getBusView().getBuses()));
     }
+
+    private static List<String> getBusIds(Iterable<Bus> buses) {
+        return StreamSupport.stream(buses.spliterator(), false).map(Bus::getId).collect(Collectors.toList());
+    }
+
+    private static List<String> getBusIdsAfterFullRebuild(VoltageLevel vl, boolean busBreakerView) {
+        ((VoltageLevelExt) vl).invalidateCache();
+        return getBusIds(busBreakerView ? vl.getBusBreakerView().getBuses() : vl.getBusView().getBuses());
+    }
+
+    @Test
+    public void testIncrementalUpdate() {
+        Network network = createNetwork();
+        VoltageLevel vl = network.getVoltageLevel("VL");
+        for (String switchId : Arrays.asList("B1", "B2", "B3", "D1", "B1", "B3", "B2", "D1")) {
+            Switch s = vl.getNodeBreakerView().getSwitch(switchId);
+            s.setOpen(!s.isOpen());
+            List<String> busIds = getBusIds(vl.getBusView().getBuses());
+            List<String> busBreakerIds = getBusIds(vl.getBusBreakerView().getBuses());
+            // buses are the same, and in the same order, as the ones of a full rebuild
+            assertEquals(getBusIdsAfterFullRebuild(vl, false), busIds);
+            assertEquals(getBusIdsAfterFullRebuild(vl, true), busBreakerIds);
+        }
+    }
+
+    private static List<String> getComponents(Network network) {
+        return network.getBusView().getBusStream()
+                .map(bus -> bus.getId() + " " + bus.getConnectedComponent().getNum() + " " + bus.getConnectedComponent().getSize()
+                        + " " + bus.getSynchronousComponent().getNum() + " " + bus.getSynchronousComponent().getSize())
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> getComponentsAfterFullComputation(Network network) {
+        ((NetworkImpl) network).getConnectedComponentsManager().invalidate();
+        ((NetworkImpl) network).getSynchronousComponentsManager().invalidate();
+        return getComponents(network);
+    }
+
+    @Test
+    public void testIncrementalComponentsUpdate() {
+        Network network = FictitiousSwitchFactory.create();
+        List<Switch> switches = Lists.newArrayList(network.getSwitches());
+        getComponents(network);
+        // open then close back each switch, components being computed after each change to test incremental update
+        for (int i = 0; i < 2; i++) {
+            for (Switch s : switches) {
+                s.setOpen(!s.isOpen());
+                List<String> components = getComponents(network);
+                assertEquals(getComponentsAfterFullComputation(network), components);
+            }
+        }
+    }
+
+    private static void addBusBreakerVoltageLevel(Network network, String id) {
+        VoltageLevel vl = network.getSubstation("S").newVoltageLevel()
+                .setId(id)
+                .setNominalV(400.0)
+                .setTopologyKind(TopologyKind.BUS_BREAKER)
+                .add();
+        vl.getBusBreakerView().newBus()
+                .setId(id + "_B")
+                .add();
+    }
+
+    private static void addLine(Network network, String id, String voltageLevelId1, Integer node1, String voltageLevelId2) {
+        LineAdder adder = network.newLine()
+                .setId(id)
+                .setVoltageLevel1(voltageLevelId1)
+                .setVoltageLevel2(voltageLevelId2)
+                .setBus2(voltageLevelId2 + "_B")
+                .setConnectableBus2(voltageLevelId2 + "_B")
+                .setR(1)
+                .setX(1)
+                .setG1(0)
+                .setB1(0)
+                .setG2(0)
+                .setB2(0);
+        if (node1 != null) {
+            adder.setNode1(node1);
+        } else {
+            adder.setBus1(voltageLevelId1 + "_B")
+                    .setConnectableBus1(voltageLevelId1 + "_B");
+        }
+        adder.add();
+    }
+
+    /**
+     * Network of {@link #createNetwork()} with each bus bar section linked by lines to a chain of bus/breaker voltage
+     * levels, so that opening the coupler splits the component in two parts of different sizes.
+     */
+    private Network createNetworkWithBranches() {
+        Network network = createNetwork();
+        VoltageLevel vl = network.getVoltageLevel("VL");
+        vl.getNodeBreakerView().newBreaker()
+                .setId("B4")
+                .setNode1(0)
+                .setNode2(6)
+                .setOpen(false)
+                .add();
+        vl.getNodeBreakerView().newBreaker()
+                .setId("B5")
+                .setNode1(3)
+                .setNode2(7)
+                .setOpen(false)
+                .add();
+        for (String id : Arrays.asList("VL2", "VL3", "VL4")) {
+            addBusBreakerVoltageLevel(network, id);
+        }
+        addLine(network, "LA", "VL", 6, "VL2");
+        addLine(network, "LB", "VL", 7, "VL3");
+        addLine(network, "LC", "VL3", null, "VL4");
+        return network;
+    }
+
+    @Test
+    public void testIncrementalComponentsUpdateAfterSplit() {
+        Network network = createNetworkWithBranches();
+        getComponents(network);
+        for (int i = 0; i < 2; i++) {
+            for (String switchId : Arrays.asList("B1", "B4", "B1", "B5", "B4", "B1", "B5", "D1", "B1")) {
+                Switch s = network.getSwitch(switchId);
+                s.setOpen(!s.isOpen());
+                List<String> components = getComponents(network);
+                assertEquals(getComponentsAfterFullComputation(network), components);
+            }
+        }
+    }
+
+    @Test
+    public void testIncrementalComponentsUpdateWithHvdcLine() {
+        Network network = HvdcTestNetwork.createLcc();
+        List<Switch> switches = Lists.newArrayList(network.getSwitches());
+        getComponents(network);
+        for (int i = 0; i < 2; i++) {
+            for (Switch s : switches) {
+                s.setOpen(!s.isOpen());
+                List<String> components = getComponents(network);
+                assertEquals(getComponentsAfterFullComputation(network), components);
+            }
+        }
+
+        // converter stations are no longer connected once the line is removed
+        int connectedComponentCount = network.getBusView().getConnectedComponents().size();
+        network.getHvdcLine("L").remove();
+        assertEquals(connectedComponentCount + 1, network.getBusView().getConnectedComponents().size());
+    }
+
+    @Test
+    public void testIncrementalComponentsCompaction() {
+        // successive incremental updates, without any full computation in between, so that component identifiers
+        // are compacted several times
+        Network network = FictitiousSwitchFactory.create();
+        Network reference = FictitiousSwitchFactory.create();
+        List<Switch> switches = Lists.newArrayList(network.getSwitches());
+        getComponents(network);
+        for (int i = 0; i < 20; i++) {
+            for (Switch s : switches) {
+                s.setOpen(!s.isOpen());
+                Switch referenceSwitch = reference.getSwitch(s.getId());
+                referenceSwitch.setOpen(!referenceSwitch.isOpen());
+                assertEquals(getComponentsAfterFullComputation(reference), getComponents(network));
+            }
+        }
+    }
 }
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Generator;
+import com.powsybl.iidm.network.Load;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class VariantColumnStoreTest {
+
+    private static final class Holder implements VariantManagerHolder {
+
+        private int variantIndex = 0;
+
+        @Override
+        public VariantManagerImpl getVariantManager() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int getVariantIndex() {
+            return variantIndex;
+        }
+    }
+
+    private static final class TestColumns extends VariantColumnStore {
+
+        private final DoubleColumn d = new DoubleColumn();
+
+        private final BooleanColumn b = new BooleanColumn();
+
+        private TestColumns(Holder holder) {
+            super(() -> holder, 1);
+        }
+    }
+
+    private Holder holder;
+
+    private TestColumns columns;
+
+    @Before
+    public void setUp() {
+        holder = new Holder();
+        columns = new TestColumns(holder);
+    }
+
+    @Test
+    public void testRows() {
+        for (int i = 0; i < 100; i++) {
+            int row = columns.addRow();
+            assertEquals(i, row);
+            columns.d.setAll(row, i);
+            columns.b.setAll(row, i % 2 == 0);
+        }
+        assertEquals(100, columns.getRowCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, columns.d.get(i), 0);
+            assertEquals(i % 2 == 0, columns.b.get(i));
+        }
+
+        // removed rows are recycled
+        columns.removeRow(10);
+        assertEquals(99, columns.getRowCount());
+        assertEquals(10, columns.addRow());
+        assertEquals(100, columns.addRow());
+    }
+
+    @Test
+    public void testVariants() {
+        int row = columns.addRow();
+        columns.d.setAll(row, 1);
+        columns.b.setAll(row, true);
+
+        // clone variant 0 to 1 and 2
+        columns.extendVariantArraySize(1, 2, 0);
+        holder.variantIndex = 1;
+        assertEquals(1, columns.d.get(row), 0);
+        assertEquals(1, columns.d.set(row, 2), 0);
+        assertTrue(columns.b.set(row, false));
+        holder.variantIndex = 0;
+        assertEquals(1, columns.d.get(row), 0);
+        assertTrue(columns.b.get(row));
+
+        // rows added after a variant creation are sized for all the variants
+        for (int i = 0; i < 20; i++) {
+            columns.d.setAll(columns.addRow(), 3);
+        }
+        holder.variantIndex = 2;
+        assertEquals(3, columns.d.get(20), 0);
+
+        // remove variant 1 and reuse its slot as a clone of variant 2
+        columns.deleteVariantArrayElement(1);
+        columns.allocateVariantArrayElement(new int[] {1}, 2);
+        holder.variantIndex = 1;
+        assertEquals(1, columns.d.get(row), 0);
+        assertTrue(columns.b.get(row));
+
+        columns.reduceVariantArraySize(2);
+        holder.variantIndex = 0;
+        assertEquals(1, columns.d.get(row), 0);
+    }
+
+    @Test
+    public void testImportRow() {
+        TestColumns other = new TestColumns(new Holder());
+        int otherRow = other.addRow();
+        other.d.setAll(otherRow, 5);
+        other.b.setAll(otherRow, true);
+        columns.addRow();
+        int row = columns.importRow(other, otherRow);
+        assertEquals(1, row);
+        assertEquals(5, columns.d.get(row), 0);
+        assertTrue(columns.b.get(row));
+    }
+
+    @Test
+    public void testNetwork() {
+        Network network = EurostagTutorialExample1Factory.create();
+        VariantManager variantManager = network.getVariantManager();
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, Arrays.asList("s1", "s2"));
+        variantManager.setWorkingVariant("s1");
+        network.getGenerator("GEN").setTargetP(100);
+        network.getLoad("LOAD").setP0(200);
+        variantManager.setWorkingVariant("s2");
+        variantManager.removeVariant("s1");
+        variantManager.cloneVariant("s2", "s3");
+        variantManager.setWorkingVariant("s3");
+        assertEquals(607, network.getGenerator("GEN").getTargetP(), 0);
+        assertEquals(600, network.getLoad("LOAD").getP0(), 0);
+
+        // a removed load gives its row to the next created one
+        Load load = network.getLoad("LOAD");
+        load.remove();
+        network.getVoltageLevel("VLLOAD").newLoad()
+                .setId("LOAD2")
+                .setBus("NLOAD")
+                .setP0(10)
+                .setQ0(5)
+                .add();
+        assertEquals(10, network.getLoad("LOAD2").getP0(), 0);
+
+        // and cannot read or write the new one attributes anymore
+        try {
+            load.getP0();
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        try {
+            load.setQ0(1);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        assertEquals(5, network.getLoad("LOAD2").getQ0(), 0);
+
+        Generator generator = network.getGenerator("GEN");
+        generator.remove();
+        try {
+            generator.getTargetP();
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        variantManager.setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(10, network.getLoad("LOAD2").getP0(), 0);
+        assertEquals(5, network.getLoad("LOAD2").getQ0(), 0);
+    }
+}
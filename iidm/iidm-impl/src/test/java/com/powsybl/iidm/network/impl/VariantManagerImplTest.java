@@ -34,6 +34,8 @@ public class VariantManagerImplTest {
 
         private final Set<Integer> deleted = new HashSet<>();
 
+        private final Set<Integer> allocated = new HashSet<>();
+
         private int reducedCount = 0;
 
         private IdentifiableMock(String id) {
@@ -79,6 +81,9 @@ public class VariantManagerImplTest {
 
         @Override
         public void allocateVariantArrayElement(int[] indexes, int sourceIndex) {
+            for (int index : indexes) {
+                allocated.add(index);
+            }
         }
     }
 
@@ -140,6 +145,22 @@ public class VariantManagerImplTest {
         assertEquals(3, variantManager.getVariantArraySize());
         assertEquals(Sets.newHashSet(VariantManagerConstants.INITIAL_VARIANT_ID, "ClonedVariant2", "ClonedVariant3"), variantManager.getVariantIds());
         assertEquals(Sets.newHashSet(0, 1, 2), variantManager.getVariantIndexes());
+        // overwriting test
+        try {
+            variantManager.cloneVariant("ClonedVariant2", "ClonedVariant3", false);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+        identifiable1.allocated.clear();
+        variantManager.cloneVariant("ClonedVariant2", "ClonedVariant3", true);
+        assertEquals(3, variantManager.getVariantArraySize());
+        assertEquals(Sets.newHashSet(VariantManagerConstants.INITIAL_VARIANT_ID, "ClonedVariant2", "ClonedVariant3"), variantManager.getVariantIds());
+        assertEquals(Collections.singleton(1), identifiable1.allocated);
+        try {
+            variantManager.cloneVariant("ClonedVariant2", VariantManagerConstants.INITIAL_VARIANT_ID, true);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
         // variant array reduction test
         variantManager.removeVariant("ClonedVariant3");
         assertEquals(3, variantManager.getVariantArraySize());
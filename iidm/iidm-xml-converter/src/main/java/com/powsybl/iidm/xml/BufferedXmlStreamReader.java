@@ -0,0 +1,568 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link XMLStreamReader} replaying the events previously recorded from another reader. Recording can be done by
+ * a worker thread, so that the costly part of the parsing (decoding, tokenization, attribute and text
+ * materialization) is done in parallel, replay is then only a walk through an in-memory list.
+ * <p>
+ * Only elements, attributes, namespace declarations, texts and comments are recorded, processing instructions are
+ * not. The replay starts positioned on the root element.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class BufferedXmlStreamReader implements XMLStreamReader {
+
+    private static final String[] NO_ATTRIBUTES = new String[0];
+
+    private static final String[] NO_NAMESPACES = new String[0];
+
+    private static final Location NO_LOCATION = new Location() {
+        @Override
+        public int getLineNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    };
+
+    /**
+     * Namespace declarations in scope: the declarations of an element chained to the ones of its enclosing elements.
+     */
+    private static final class NamespaceScope implements NamespaceContext {
+
+        private static final NamespaceScope EMPTY = new NamespaceScope(NO_NAMESPACES, null);
+
+        /**
+         * Flattened (prefix, namespace URI) pairs, as returned by the recorded reader.
+         */
+        private final String[] declarations;
+
+        private final NamespaceScope parent;
+
+        private NamespaceScope(String[] declarations, NamespaceScope parent) {
+            this.declarations = declarations;
+            this.parent = parent;
+        }
+
+        private static String nullToEmpty(String str) {
+            return str != null ? str : "";
+        }
+
+        private String lookupNamespaceUri(String prefix) {
+            if (prefix == null) {
+                throw new IllegalArgumentException("Prefix is null");
+            }
+            if (prefix.equals(XMLConstants.XML_NS_PREFIX)) {
+                return XMLConstants.XML_NS_URI;
+            }
+            if (prefix.equals(XMLConstants.XMLNS_ATTRIBUTE)) {
+                return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+            }
+            for (NamespaceScope scope = this; scope != null; scope = scope.parent) {
+                for (int i = 0; i < scope.declarations.length; i += 2) {
+                    if (prefix.equals(nullToEmpty(scope.declarations[i]))) {
+                        return nullToEmpty(scope.declarations[i + 1]);
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            String namespaceUri = lookupNamespaceUri(prefix);
+            return namespaceUri != null ? namespaceUri : XMLConstants.NULL_NS_URI;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            Iterator<String> prefixes = getPrefixes(namespaceURI);
+            return prefixes.hasNext() ? prefixes.next() : null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            if (namespaceURI == null) {
+                throw new IllegalArgumentException("Namespace URI is null");
+            }
+            if (namespaceURI.equals(XMLConstants.XML_NS_URI)) {
+                return Collections.singletonList(XMLConstants.XML_NS_PREFIX).iterator();
+            }
+            if (namespaceURI.equals(XMLConstants.XMLNS_ATTRIBUTE_NS_URI)) {
+                return Collections.singletonList(XMLConstants.XMLNS_ATTRIBUTE).iterator();
+            }
+            List<String> prefixes = new ArrayList<>();
+            for (NamespaceScope scope = this; scope != null; scope = scope.parent) {
+                for (int i = 0; i < scope.declarations.length; i += 2) {
+                    String prefix = nullToEmpty(scope.declarations[i]);
+                    // skip the prefixes redeclared by an inner element
+                    if (!prefixes.contains(prefix) && namespaceURI.equals(lookupNamespaceUri(prefix))) {
+                        prefixes.add(prefix);
+                    }
+                }
+            }
+            return Collections.unmodifiableList(prefixes).iterator();
+        }
+    }
+
+    private static final class Event {
+
+        private final int type;
+        private final String localName;
+        private final String namespaceUri;
+        private final String prefix;
+        private final String text;
+
+        /**
+         * Flattened (namespace URI, local name, prefix, value) tuples.
+         */
+        private final String[] attributes;
+
+        /**
+         * Flattened (prefix, namespace URI) pairs declared by a start element, or going out of scope at an end element.
+         */
+        private final String[] namespaces;
+
+        private final NamespaceScope scope;
+
+        private Event(int type, String localName, String namespaceUri, String prefix, String text, String[] attributes,
+                      String[] namespaces, NamespaceScope scope) {
+            this.type = type;
+            this.localName = localName;
+            this.namespaceUri = namespaceUri;
+            this.prefix = prefix;
+            this.text = text;
+            this.attributes = attributes;
+            this.namespaces = namespaces;
+            this.scope = scope;
+        }
+    }
+
+    private final List<Event> events;
+
+    private int index;
+
+    private BufferedXmlStreamReader(List<Event> events, int index) {
+        this.events = events;
+        this.index = index;
+    }
+
+    /**
+     * Record all the remaining events of a reader, which is closed afterwards.
+     */
+    static BufferedXmlStreamReader record(XMLStreamReader reader) throws XMLStreamException {
+        Objects.requireNonNull(reader);
+        List<Event> events = new ArrayList<>();
+        Deque<Event> startElements = new ArrayDeque<>();
+        NamespaceScope scope = NamespaceScope.EMPTY;
+        int rootIndex = -1;
+        int type = reader.getEventType();
+        while (true) {
+            switch (type) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (rootIndex == -1) {
+                        rootIndex = events.size();
+                    }
+                    String[] attributes = NO_ATTRIBUTES;
+                    if (reader.getAttributeCount() > 0) {
+                        attributes = new String[reader.getAttributeCount() * 4];
+                        for (int i = 0; i < reader.getAttributeCount(); i++) {
+                            attributes[i * 4] = reader.getAttributeNamespace(i);
+                            attributes[i * 4 + 1] = reader.getAttributeLocalName(i);
+                            attributes[i * 4 + 2] = reader.getAttributePrefix(i);
+                            attributes[i * 4 + 3] = reader.getAttributeValue(i);
+                        }
+                    }
+                    String[] namespaces = NO_NAMESPACES;
+                    if (reader.getNamespaceCount() > 0) {
+                        namespaces = new String[reader.getNamespaceCount() * 2];
+                        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                            namespaces[i * 2] = reader.getNamespacePrefix(i);
+                            namespaces[i * 2 + 1] = reader.getNamespaceURI(i);
+                        }
+                        scope = new NamespaceScope(namespaces, scope);
+                    }
+                    Event startElement = new Event(type, reader.getLocalName(), reader.getNamespaceURI(), reader.getPrefix(), null, attributes,
+                                                   namespaces, scope);
+                    events.add(startElement);
+                    startElements.push(startElement);
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    if (startElements.isEmpty()) {
+                        throw new XMLStreamException("Unexpected end element " + reader.getLocalName());
+                    }
+                    // declarations are still in scope at the end element, and go out of scope just after
+                    Event matchingStartElement = startElements.pop();
+                    events.add(new Event(type, reader.getLocalName(), reader.getNamespaceURI(), reader.getPrefix(), null, NO_ATTRIBUTES,
+                                         matchingStartElement.namespaces, matchingStartElement.scope));
+                    scope = startElements.isEmpty() ? NamespaceScope.EMPTY : startElements.peek().scope;
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.COMMENT:
+                    if (rootIndex != -1) {
+                        events.add(new Event(type, null, null, null, reader.getText(), NO_ATTRIBUTES, NO_NAMESPACES, scope));
+                    }
+                    break;
+
+                case XMLStreamConstants.END_DOCUMENT:
+                    events.add(new Event(type, null, null, null, null, NO_ATTRIBUTES, NO_NAMESPACES, NamespaceScope.EMPTY));
+                    reader.close();
+                    if (rootIndex == -1) {
+                        throw new XMLStreamException("Root element not found");
+                    }
+                    return new BufferedXmlStreamReader(events, rootIndex);
+
+                default:
+                    break;
+            }
+            type = reader.next();
+        }
+    }
+
+    private Event current() {
+        return events.get(index);
+    }
+
+    private Event currentElement() {
+        Event event = current();
+        if (event.type != XMLStreamConstants.START_ELEMENT && event.type != XMLStreamConstants.END_ELEMENT) {
+            throw new IllegalStateException("Current event is not an element: " + event.type);
+        }
+        return event;
+    }
+
+    private String[] currentAttributes() {
+        Event event = current();
+        if (event.type != XMLStreamConstants.START_ELEMENT) {
+            throw new IllegalStateException("Current event is not a start element: " + event.type);
+        }
+        return event.attributes;
+    }
+
+    private Event currentText() {
+        Event event = current();
+        if (event.text == null) {
+            throw new IllegalStateException("Current event has no text: " + event.type);
+        }
+        return event;
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return null;
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        if (!hasNext()) {
+            throw new XMLStreamException("End of document reached");
+        }
+        return events.get(++index).type;
+    }
+
+    @Override
+    public void require(int type, String namespaceURI, String localName) throws XMLStreamException {
+        Event event = current();
+        if (event.type != type
+                || (namespaceURI != null && !namespaceURI.equals(event.namespaceUri))
+                || (localName != null && !localName.equals(event.localName))) {
+            throw new XMLStreamException("Unexpected event " + event.type + " " + event.localName);
+        }
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("Current event is not a start element");
+        }
+        StringBuilder builder = new StringBuilder();
+        int type = next();
+        while (type != XMLStreamConstants.END_ELEMENT) {
+            if (type == XMLStreamConstants.CHARACTERS || type == XMLStreamConstants.CDATA || type == XMLStreamConstants.SPACE) {
+                builder.append(getText());
+            } else if (type != XMLStreamConstants.COMMENT) {
+                throw new XMLStreamException("Unexpected event " + type + " while reading element text");
+            }
+            type = next();
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int type = next();
+        while ((type == XMLStreamConstants.CHARACTERS && isWhiteSpace())
+                || type == XMLStreamConstants.CDATA && isWhiteSpace()
+                || type == XMLStreamConstants.SPACE
+                || type == XMLStreamConstants.COMMENT) {
+            type = next();
+        }
+        if (type != XMLStreamConstants.START_ELEMENT && type != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag");
+        }
+        return type;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < events.size() - 1;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+
+    @Override
+    public String getNamespaceURI(String prefix) {
+        return current().scope.lookupNamespaceUri(prefix);
+    }
+
+    @Override
+    public boolean isStartElement() {
+        return getEventType() == XMLStreamConstants.START_ELEMENT;
+    }
+
+    @Override
+    public boolean isEndElement() {
+        return getEventType() == XMLStreamConstants.END_ELEMENT;
+    }
+
+    @Override
+    public boolean isCharacters() {
+        return getEventType() == XMLStreamConstants.CHARACTERS;
+    }
+
+    @Override
+    public boolean isWhiteSpace() {
+        Event event = current();
+        return event.text != null && event.text.trim().isEmpty();
+    }
+
+    @Override
+    public String getAttributeValue(String namespaceURI, String localName) {
+        String[] attributes = currentAttributes();
+        for (int i = 0; i < attributes.length; i += 4) {
+            if (attributes[i + 1].equals(localName)
+                    && (namespaceURI == null || namespaceURI.equals(attributes[i] == null ? "" : attributes[i]))) {
+                return attributes[i + 3];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int getAttributeCount() {
+        return currentAttributes().length / 4;
+    }
+
+    @Override
+    public QName getAttributeName(int index) {
+        String[] attributes = currentAttributes();
+        String namespaceUri = attributes[index * 4];
+        String prefix = attributes[index * 4 + 2];
+        return new QName(namespaceUri != null ? namespaceUri : "", attributes[index * 4 + 1], prefix != null ? prefix : "");
+    }
+
+    @Override
+    public String getAttributeNamespace(int index) {
+        return currentAttributes()[index * 4];
+    }
+
+    @Override
+    public String getAttributeLocalName(int index) {
+        return currentAttributes()[index * 4 + 1];
+    }
+
+    @Override
+    public String getAttributePrefix(int index) {
+        return currentAttributes()[index * 4 + 2];
+    }
+
+    @Override
+    public String getAttributeType(int index) {
+        return "CDATA";
+    }
+
+    @Override
+    public String getAttributeValue(int index) {
+        return currentAttributes()[index * 4 + 3];
+    }
+
+    @Override
+    public boolean isAttributeSpecified(int index) {
+        return true;
+    }
+
+    @Override
+    public int getNamespaceCount() {
+        return currentElement().namespaces.length / 2;
+    }
+
+    @Override
+    public String getNamespacePrefix(int index) {
+        return currentElement().namespaces[index * 2];
+    }
+
+    @Override
+    public String getNamespaceURI(int index) {
+        return currentElement().namespaces[index * 2 + 1];
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return current().scope;
+    }
+
+    @Override
+    public int getEventType() {
+        return current().type;
+    }
+
+    @Override
+    public String getText() {
+        return currentText().text;
+    }
+
+    @Override
+    public char[] getTextCharacters() {
+        return getText().toCharArray();
+    }
+
+    @Override
+    public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length) {
+        String text = getText();
+        int count = Math.min(length, text.length() - sourceStart);
+        if (count <= 0) {
+            return 0;
+        }
+        text.getChars(sourceStart, sourceStart + count, target, targetStart);
+        return count;
+    }
+
+    @Override
+    public int getTextStart() {
+        currentText();
+        return 0;
+    }
+
+    @Override
+    public int getTextLength() {
+        return getText().length();
+    }
+
+    @Override
+    public String getEncoding() {
+        return null;
+    }
+
+    @Override
+    public boolean hasText() {
+        return current().text != null;
+    }
+
+    @Override
+    public Location getLocation() {
+        return NO_LOCATION;
+    }
+
+    @Override
+    public QName getName() {
+        Event event = currentElement();
+        return new QName(event.namespaceUri != null ? event.namespaceUri : "", event.localName, event.prefix != null ? event.prefix : "");
+    }
+
+    @Override
+    public String getLocalName() {
+        return currentElement().localName;
+    }
+
+    @Override
+    public boolean hasName() {
+        int type = getEventType();
+        return type == XMLStreamConstants.START_ELEMENT || type == XMLStreamConstants.END_ELEMENT;
+    }
+
+    @Override
+    public String getNamespaceURI() {
+        return currentElement().namespaceUri;
+    }
+
+    @Override
+    public String getPrefix() {
+        return currentElement().prefix;
+    }
+
+    @Override
+    public String getVersion() {
+        return null;
+    }
+
+    @Override
+    public boolean isStandalone() {
+        return false;
+    }
+
+    @Override
+    public boolean standaloneSet() {
+        return false;
+    }
+
+    @Override
+    public String getCharacterEncodingScheme() {
+        return null;
+    }
+
+    @Override
+    public String getPITarget() {
+        return null;
+    }
+
+    @Override
+    public String getPIData() {
+        return null;
+    }
+}
@@ -8,7 +8,9 @@ package com.powsybl.iidm.xml;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import com.google.common.io.ByteStreams;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.exceptions.UncheckedInterruptedException;
 import com.powsybl.commons.exceptions.UncheckedSaxException;
 import com.powsybl.commons.exceptions.UncheckedXmlStreamException;
 import com.powsybl.commons.extensions.Extension;
@@ -39,8 +41,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -60,12 +65,15 @@ public final class NetworkXml {
     static final String NETWORK_ROOT_ELEMENT_NAME = "network";
     private static final String EXTENSION_ELEMENT_NAME = "extension";
     private static final String IIDM_XSD = "iidm.xsd";
+    private static final int DEFAULT_CHUNK_SIZE = 256 * 1024;
 
     // cache XMLOutputFactory to improve performance
     private static final Supplier<XMLOutputFactory> XML_OUTPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLOutputFactory::newFactory);
 
     private static final Supplier<XMLInputFactory> XML_INPUT_FACTORY_SUPPLIER = Suppliers.memoize(XMLInputFactory::newInstance);
 
+    private static final Map<Set<String>, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
     private static final Supplier<ExtensionProviders<ExtensionXmlSerializer>> EXTENSIONS_SUPPLIER
         = Suppliers.memoize(() -> ExtensionProviders.createProvider(ExtensionXmlSerializer.class, EXTENSION_CATEGORY_NAME));
 
@@ -79,6 +87,9 @@ public final class NetworkXml {
             indentingWriter.setIndent(INDENT);
             writer = indentingWriter;
         }
+        if (options.isSchemaValidation()) {
+            writer = new ValidatingXmlStreamWriter(writer, getSchemaWithExtensions().newValidatorHandler());
+        }
         return writer;
     }
 
@@ -92,15 +103,37 @@ public final class NetworkXml {
         return extensions;
     }
 
-    private static void validate(Source xml, List<Source> additionalSchemas) {
+    private static Schema newSchema(Collection<ExtensionXmlSerializer> extensionXmlSerializers) {
         SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Source[] sources = new Source[additionalSchemas.size() + 1];
-        sources[0] = new StreamSource(NetworkXml.class.getResourceAsStream("/xsd/" + IIDM_XSD));
-        for (int i = 0; i < additionalSchemas.size(); i++) {
-            sources[i + 1] = additionalSchemas.get(i);
+        List<Source> sources = new ArrayList<>(extensionXmlSerializers.size() + 1);
+        sources.add(new StreamSource(NetworkXml.class.getResourceAsStream("/xsd/" + IIDM_XSD)));
+        for (ExtensionXmlSerializer extensionXmlSerializer : extensionXmlSerializers) {
+            sources.add(new StreamSource(extensionXmlSerializer.getXsdAsStream()));
+        }
+        try {
+            return factory.newSchema(sources.toArray(new Source[sources.size()]));
+        } catch (SAXException e) {
+            throw new UncheckedSaxException(e);
         }
+    }
+
+    /**
+     * Get the compiled schema of IIDM plus the given extensions. Schema compilation is costly so compiled schemas
+     * are cached per extension set, a compiled schema being immutable and thread safe.
+     */
+    private static Schema getSchema(Collection<ExtensionXmlSerializer> extensionXmlSerializers) {
+        Set<String> extensionNames = extensionXmlSerializers.stream()
+                .map(ExtensionXmlSerializer::getExtensionName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        return SCHEMAS.computeIfAbsent(extensionNames, k -> newSchema(extensionXmlSerializers));
+    }
+
+    private static Schema getSchemaWithExtensions() {
+        return getSchema(EXTENSIONS_SUPPLIER.get().getProviders());
+    }
+
+    private static void validate(Source xml, Schema schema) {
         try {
-            Schema schema = factory.newSchema(sources);
             Validator validator = schema.newValidator();
             validator.validate(xml);
         } catch (IOException e) {
@@ -111,7 +144,7 @@ public final class NetworkXml {
     }
 
     static void validate(InputStream is) {
-        validate(new StreamSource(is), Collections.emptyList());
+        validate(new StreamSource(is), getSchema(Collections.emptyList()));
     }
 
     static void validate(Path file) {
@@ -123,10 +156,7 @@ public final class NetworkXml {
     }
 
     static void validateWithExtensions(InputStream is) {
-        List<Source> additionalSchemas = EXTENSIONS_SUPPLIER.get().getProviders().stream()
-            .map(e -> new StreamSource(e.getXsdAsStream()))
-            .collect(Collectors.toList());
-        validate(new StreamSource(is), additionalSchemas);
+        validate(new StreamSource(is), getSchemaWithExtensions());
     }
 
     static void validateWithExtensions(Path file) {
@@ -280,9 +310,7 @@ public final class NetworkXml {
     }
 
     public static Anonymizer writeAndValidate(Network n, Path xmlFile) {
-        Anonymizer anonymizer = write(n, xmlFile);
-        validateWithExtensions(xmlFile);
-        return anonymizer;
+        return write(n, new ExportOptions().setSchemaValidation(true), xmlFile);
     }
 
     public static Network read(InputStream is) {
@@ -292,69 +320,201 @@ public final class NetworkXml {
     public static Network read(InputStream is, ImportOptions config, Anonymizer anonymizer) {
         try {
             XMLStreamReader reader = XML_INPUT_FACTORY_SUPPLIER.get().createXMLStreamReader(is);
+            if (config.isSchemaValidation()) {
+                // validate while reading instead of reading the document twice
+                reader = new ValidatingXmlStreamReader(reader, getSchemaWithExtensions().newValidatorHandler());
+            }
             int state = reader.next();
             while (state == XMLStreamReader.COMMENT) {
                 state = reader.next();
             }
-            String id = reader.getAttributeValue(null, "id");
-            DateTime date = DateTime.parse(reader.getAttributeValue(null, "caseDate"));
-            int forecastDistance = XmlUtil.readOptionalIntegerAttribute(reader, "forecastDistance", 0);
-            String sourceFormat = reader.getAttributeValue(null, "sourceFormat");
-
-            Network network = NetworkFactory.create(id, sourceFormat);
-            network.setCaseDate(date);
-            network.setForecastDistance(forecastDistance);
+            Network network = createNetwork(reader);
 
             NetworkXmlReaderContext context = new NetworkXmlReaderContext(anonymizer, reader);
 
             Set<String> extensionNamesNotFound = new TreeSet<>();
 
-            XmlUtil.readUntilEndElement(NETWORK_ROOT_ELEMENT_NAME, reader, () -> {
-                switch (reader.getLocalName()) {
-                    case SubstationXml.ROOT_ELEMENT_NAME:
-                        SubstationXml.INSTANCE.read(network, context);
-                        break;
+            readTopLevelElements(network, context, extensionNamesNotFound);
 
-                    case LineXml.ROOT_ELEMENT_NAME:
-                        LineXml.INSTANCE.read(network, context);
-                        break;
+            if (config.isSchemaValidation()) {
+                // the validation is complete only at the end of the document
+                while (reader.hasNext()) {
+                    reader.next();
+                }
+            }
 
-                    case TieLineXml.ROOT_ELEMENT_NAME:
-                        TieLineXml.INSTANCE.read(network, context);
-                        break;
+            context.getEndTasks().forEach(Runnable::run);
 
-                    case HvdcLineXml.ROOT_ELEMENT_NAME:
-                        HvdcLineXml.INSTANCE.read(network, context);
-                        break;
+            checkExtensionNamesNotFound(config, extensionNamesNotFound);
 
-                    case EXTENSION_ELEMENT_NAME:
-                        String id2 = context.getAnonymizer().deanonymizeString(reader.getAttributeValue(null, "id"));
-                        Identifiable identifiable = network.getIdentifiable(id2);
-                        if (identifiable == null) {
-                            throw new PowsyblException("Identifiable " + id2 + " not found");
-                        }
+            return network;
+        } catch (XMLStreamException e) {
+            throw new UncheckedXmlStreamException(e);
+        }
+    }
 
-                        readExtensions(identifiable, context, extensionNamesNotFound);
-                        break;
+    /**
+     * Parallel version of {@link #read(InputStream, ImportOptions, Anonymizer)}.
+     * <p>
+     * The document is split into chunks of top-level elements (substations, lines, HVDC lines, extensions) which are
+     * parsed by the executor, while the calling thread assembles the network from the parsed chunks in document
+     * order. Branches connecting several voltage levels and extensions are so always assembled after the substations
+     * they refer to, and the other cross references (regulating terminals...) are resolved once the whole network has
+     * been assembled. The resulting network is exactly the same as the one of the sequential read.
+     * <p>
+     * The whole document is loaded in memory. Documents which cannot be split (non ASCII compatible encoding, empty
+     * network...) are read sequentially. If schema validation is enabled, the in-memory document is validated by
+     * the executor in parallel of the assembly.
+     */
+    public static Network read(InputStream is, ImportOptions config, Anonymizer anonymizer, ExecutorService executor) {
+        return read(is, config, anonymizer, executor, DEFAULT_CHUNK_SIZE);
+    }
 
-                    default:
-                        throw new AssertionError();
-                }
-            });
+    static Network read(InputStream is, ImportOptions config, Anonymizer anonymizer, ExecutorService executor, int chunkSize) {
+        Objects.requireNonNull(is);
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(executor);
+        byte[] xml;
+        try {
+            xml = ByteStreams.toByteArray(is);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<NetworkXmlSplitter.Chunk> chunks = NetworkXmlSplitter.split(xml, chunkSize);
+        if (chunks == null) {
+            return read(new ByteArrayInputStream(xml), config, anonymizer);
+        }
 
-            context.getEndTasks().forEach(Runnable::run);
+        Future<?> validation = null;
+        if (config.isSchemaValidation()) {
+            Schema schema = getSchemaWithExtensions();
+            validation = executor.submit(() -> validate(new StreamSource(new ByteArrayInputStream(xml)), schema));
+        }
 
-            if (!extensionNamesNotFound.isEmpty()) {
-                if (config.isThrowExceptionIfExtensionNotFound()) {
-                    throw new PowsyblException("Extensions " + extensionNamesNotFound + " not found");
-                } else {
-                    LOGGER.error("Extensions {} not found", extensionNamesNotFound);
+        // bound the number of chunks parsed ahead of the assembly to limit memory usage
+        int maxChunksInFlight = 2 * Runtime.getRuntime().availableProcessors();
+        Deque<Future<XMLStreamReader>> parsedChunks = new ArrayDeque<>();
+        Iterator<NetworkXmlSplitter.Chunk> itChunk = chunks.iterator();
+        try {
+            Network network = null;
+            List<Runnable> endTasks = new ArrayList<>();
+            Set<String> extensionNamesNotFound = new TreeSet<>();
+            while (itChunk.hasNext() || !parsedChunks.isEmpty()) {
+                while (itChunk.hasNext() && parsedChunks.size() < maxChunksInFlight) {
+                    NetworkXmlSplitter.Chunk chunk = itChunk.next();
+                    parsedChunks.add(executor.submit(() -> BufferedXmlStreamReader.record(createXmlStreamReader(chunk.newInputStream()))));
+                }
+                XMLStreamReader reader = waitForTask(parsedChunks.poll());
+                if (network == null) {
+                    network = createNetwork(reader);
                 }
+
+                NetworkXmlReaderContext context = new NetworkXmlReaderContext(anonymizer, reader);
+
+                readTopLevelElements(network, context, extensionNamesNotFound);
+
+                endTasks.addAll(context.getEndTasks());
             }
 
+            endTasks.forEach(Runnable::run);
+
+            if (validation != null) {
+                waitForTask(validation);
+            }
+
+            checkExtensionNamesNotFound(config, extensionNamesNotFound);
+
             return network;
         } catch (XMLStreamException e) {
             throw new UncheckedXmlStreamException(e);
+        } finally {
+            parsedChunks.forEach(parsedChunk -> parsedChunk.cancel(true));
+            if (validation != null) {
+                validation.cancel(true);
+            }
+        }
+    }
+
+    private static XMLStreamReader createXmlStreamReader(InputStream is) throws XMLStreamException {
+        XMLInputFactory factory = XML_INPUT_FACTORY_SUPPLIER.get();
+        // reader creation is not guaranteed to be thread safe by all the StAX implementations
+        synchronized (factory) {
+            return factory.createXMLStreamReader(is);
+        }
+    }
+
+    private static <T> T waitForTask(Future<T> task) throws XMLStreamException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof XMLStreamException) {
+                throw (XMLStreamException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    private static Network createNetwork(XMLStreamReader reader) {
+        String id = reader.getAttributeValue(null, "id");
+        DateTime date = DateTime.parse(reader.getAttributeValue(null, "caseDate"));
+        int forecastDistance = XmlUtil.readOptionalIntegerAttribute(reader, "forecastDistance", 0);
+        String sourceFormat = reader.getAttributeValue(null, "sourceFormat");
+
+        Network network = NetworkFactory.create(id, sourceFormat);
+        network.setCaseDate(date);
+        network.setForecastDistance(forecastDistance);
+        return network;
+    }
+
+    private static void readTopLevelElements(Network network, NetworkXmlReaderContext context,
+                                             Set<String> extensionNamesNotFound) throws XMLStreamException {
+        XMLStreamReader reader = context.getReader();
+        XmlUtil.readUntilEndElement(NETWORK_ROOT_ELEMENT_NAME, reader, () -> {
+            switch (reader.getLocalName()) {
+                case SubstationXml.ROOT_ELEMENT_NAME:
+                    SubstationXml.INSTANCE.read(network, context);
+                    break;
+
+                case LineXml.ROOT_ELEMENT_NAME:
+                    LineXml.INSTANCE.read(network, context);
+                    break;
+
+                case TieLineXml.ROOT_ELEMENT_NAME:
+                    TieLineXml.INSTANCE.read(network, context);
+                    break;
+
+                case HvdcLineXml.ROOT_ELEMENT_NAME:
+                    HvdcLineXml.INSTANCE.read(network, context);
+                    break;
+
+                case EXTENSION_ELEMENT_NAME:
+                    String id2 = context.getAnonymizer().deanonymizeString(reader.getAttributeValue(null, "id"));
+                    Identifiable identifiable = network.getIdentifiable(id2);
+                    if (identifiable == null) {
+                        throw new PowsyblException("Identifiable " + id2 + " not found");
+                    }
+
+                    readExtensions(identifiable, context, extensionNamesNotFound);
+                    break;
+
+                default:
+                    throw new AssertionError();
+            }
+        });
+    }
+
+    private static void checkExtensionNamesNotFound(ImportOptions config, Set<String> extensionNamesNotFound) {
+        if (!extensionNamesNotFound.isEmpty()) {
+            if (config.isThrowExceptionIfExtensionNotFound()) {
+                throw new PowsyblException("Extensions " + extensionNamesNotFound + " not found");
+            } else {
+                LOGGER.error("Extensions {} not found", extensionNamesNotFound);
+            }
         }
     }
 
@@ -367,8 +527,13 @@ public final class NetworkXml {
     }
 
     public static Network validateAndRead(Path xmlFile) {
-        validateWithExtensions(xmlFile);
-        return read(xmlFile);
+        ImportOptions options = new ImportOptions();
+        options.setSchemaValidation(true);
+        try (InputStream is = Files.newInputStream(xmlFile)) {
+            return read(is, options, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private static void readExtensions(Identifiable identifiable, NetworkXmlReaderContext context,
@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Split a network XML document into chunks of top-level elements (substations, lines, extensions...) which can be
+ * parsed independently. Each chunk is a standalone document: the original prolog and root start tag, so that
+ * namespace declarations are kept, followed by a range of top-level elements and the root end tag.
+ * <p>
+ * The scan works on raw bytes and only supports ASCII compatible encodings, {@link #split(byte[], int)} returns
+ * <code>null</code> when the document cannot be split.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class NetworkXmlSplitter {
+
+    static final class Chunk {
+
+        private final byte[] xml;
+        private final byte[] header;
+        private final byte[] footer;
+        private final int start;
+        private final int end;
+
+        private Chunk(byte[] xml, byte[] header, byte[] footer, int start, int end) {
+            this.xml = xml;
+            this.header = header;
+            this.footer = footer;
+            this.start = start;
+            this.end = end;
+        }
+
+        InputStream newInputStream() {
+            return new SequenceInputStream(Collections.enumeration(Arrays.asList(new ByteArrayInputStream(header),
+                                                                                 new ByteArrayInputStream(xml, start, end - start),
+                                                                                 new ByteArrayInputStream(footer))));
+        }
+    }
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final byte[] xml;
+
+    private int pos;
+
+    private NetworkXmlSplitter(byte[] xml) {
+        this.xml = xml;
+    }
+
+    static List<Chunk> split(byte[] xml, int chunkSize) {
+        Objects.requireNonNull(xml);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        return new NetworkXmlSplitter(xml).split(chunkSize);
+    }
+
+    private boolean startsWith(String prefix) {
+        if (pos + prefix.length() > xml.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (xml[pos + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move after the next occurrence of the terminator, return false if not found.
+     */
+    private boolean skipPast(String terminator) {
+        while (pos < xml.length) {
+            if (startsWith(terminator)) {
+                pos += terminator.length();
+                return true;
+            }
+            pos++;
+        }
+        return false;
+    }
+
+    /**
+     * Move after the '>' closing a tag, quoted attribute values may contain '>'. Return false if not found.
+     */
+    private boolean skipTag() {
+        byte quote = 0;
+        while (pos < xml.length) {
+            byte b = xml[pos++];
+            if (quote != 0) {
+                if (b == quote) {
+                    quote = 0;
+                }
+            } else if (b == '"' || b == '\'') {
+                quote = b;
+            } else if (b == '>') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean contains(char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (xml[i] == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String readTagName(int tagStart) {
+        int i = tagStart + 1;
+        while (i < xml.length && xml[i] != '>' && xml[i] != '/' && !Character.isWhitespace(xml[i])) {
+            i++;
+        }
+        return new String(xml, tagStart + 1, i - tagStart - 1, StandardCharsets.US_ASCII);
+    }
+
+    private List<Chunk> split(int chunkSize) {
+        pos = 0;
+        if (xml.length >= UTF8_BOM.length && xml[0] == UTF8_BOM[0] && xml[1] == UTF8_BOM[1] && xml[2] == UTF8_BOM[2]) {
+            pos = UTF8_BOM.length;
+        }
+        // only ASCII compatible encodings can be scanned byte per byte
+        if (pos + 1 >= xml.length || xml[pos] != '<' || xml[pos + 1] == 0) {
+            return null;
+        }
+
+        int rootStartTagEnd = -1;
+        String rootName = null;
+        List<int[]> elements = new ArrayList<>();
+        int elementStart = -1;
+        int depth = 0;
+        while (pos < xml.length) {
+            if (xml[pos] != '<') {
+                pos++;
+                continue;
+            }
+            int tagStart = pos;
+            if (startsWith("<?")) {
+                if (!skipPast("?>")) {
+                    return null;
+                }
+            } else if (startsWith("<!--")) {
+                if (!skipPast("-->")) {
+                    return null;
+                }
+            } else if (startsWith("<![CDATA[")) {
+                if (!skipPast("]]>")) {
+                    return null;
+                }
+            } else if (startsWith("<!")) {
+                // DTD, internal subsets are not supported
+                if (!skipTag() || contains('[', tagStart, pos)) {
+                    return null;
+                }
+            } else if (startsWith("</")) {
+                if (!skipTag()) {
+                    return null;
+                }
+                depth--;
+                if (depth == 1) {
+                    elements.add(new int[] {elementStart, pos});
+                } else if (depth == 0) {
+                    break;
+                }
+            } else {
+                if (!skipTag()) {
+                    return null;
+                }
+                boolean empty = xml[pos - 2] == '/';
+                if (depth == 0) {
+                    if (empty) {
+                        // nothing to split
+                        return null;
+                    }
+                    rootStartTagEnd = pos;
+                    rootName = readTagName(tagStart);
+                } else if (depth == 1) {
+                    elementStart = tagStart;
+                    if (empty) {
+                        elements.add(new int[] {elementStart, pos});
+                    }
+                }
+                if (!empty) {
+                    depth++;
+                }
+            }
+        }
+        if (depth != 0 || rootName == null) {
+            return null;
+        }
+
+        byte[] header = Arrays.copyOf(xml, rootStartTagEnd);
+        byte[] footer = ("</" + rootName + ">").getBytes(StandardCharsets.US_ASCII);
+        List<Chunk> chunks = new ArrayList<>();
+        int chunkStart = -1;
+        for (int[] element : elements) {
+            if (chunkStart == -1) {
+                chunkStart = element[0];
+            }
+            if (element[1] - chunkStart >= chunkSize) {
+                chunks.add(new Chunk(xml, header, footer, chunkStart, element[1]));
+                chunkStart = -1;
+            }
+        }
+        if (chunkStart != -1) {
+            chunks.add(new Chunk(xml, header, footer, chunkStart, elements.get(elements.size() - 1)[1]));
+        }
+        if (chunks.isEmpty()) {
+            // keep at least one chunk to read the network attributes from the root element
+            chunks.add(new Chunk(xml, header, footer, rootStartTagEnd, rootStartTagEnd));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.base.Strings;
+import com.powsybl.commons.exceptions.UncheckedSaxException;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.ValidatorHandler;
+import java.util.Objects;
+
+/**
+ * A {@link XMLStreamReader} validating the document against a schema while it is being read, so that the
+ * document is read only once. Each event is forwarded to a {@link ValidatorHandler}, validation errors are
+ * thrown as {@link UncheckedSaxException}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class ValidatingXmlStreamReader extends StreamReaderDelegate {
+
+    private final ValidatorHandler handler;
+
+    ValidatingXmlStreamReader(XMLStreamReader reader, ValidatorHandler handler) {
+        super(reader);
+        this.handler = Objects.requireNonNull(handler);
+        if (reader.getEventType() != XMLStreamConstants.START_DOCUMENT) {
+            throw new IllegalArgumentException("Reader is expected to be at the start of the document");
+        }
+        try {
+            handler.startDocument();
+        } catch (SAXException e) {
+            throw new UncheckedSaxException(e);
+        }
+    }
+
+    private static String getQName(String prefix, String localName) {
+        return Strings.isNullOrEmpty(prefix) ? localName : prefix + ":" + localName;
+    }
+
+    private void validate(int event) throws SAXException {
+        switch (event) {
+            case XMLStreamConstants.START_ELEMENT:
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.startPrefixMapping(Strings.nullToEmpty(getNamespacePrefix(i)), getNamespaceURI(i));
+                }
+                AttributesImpl attributes = new AttributesImpl();
+                for (int i = 0; i < getAttributeCount(); i++) {
+                    attributes.addAttribute(Strings.nullToEmpty(getAttributeNamespace(i)), getAttributeLocalName(i),
+                                            getQName(getAttributePrefix(i), getAttributeLocalName(i)),
+                                            getAttributeType(i), getAttributeValue(i));
+                }
+                handler.startElement(Strings.nullToEmpty(getNamespaceURI()), getLocalName(), getQName(getPrefix(), getLocalName()), attributes);
+                break;
+
+            case XMLStreamConstants.END_ELEMENT:
+                handler.endElement(Strings.nullToEmpty(getNamespaceURI()), getLocalName(), getQName(getPrefix(), getLocalName()));
+                for (int i = 0; i < getNamespaceCount(); i++) {
+                    handler.endPrefixMapping(Strings.nullToEmpty(getNamespacePrefix(i)));
+                }
+                break;
+
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                handler.characters(getTextCharacters(), getTextStart(), getTextLength());
+                break;
+
+            case XMLStreamConstants.END_DOCUMENT:
+                handler.endDocument();
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event = super.next();
+        try {
+            validate(event);
+        } catch (SAXException e) {
+            throw new UncheckedSaxException(e);
+        }
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) && isWhiteSpace()
+                || event == XMLStreamConstants.SPACE
+                || event == XMLStreamConstants.COMMENT
+                || event == XMLStreamConstants.PROCESSING_INSTRUCTION) {
+            event = next();
+        }
+        if (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+            throw new XMLStreamException("Expected start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != XMLStreamConstants.START_ELEMENT) {
+            throw new XMLStreamException("Current event is not a start element", getLocation());
+        }
+        StringBuilder builder = new StringBuilder();
+        int event = next();
+        while (event != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE) {
+                builder.append(getText());
+            } else if (event != XMLStreamConstants.COMMENT && event != XMLStreamConstants.PROCESSING_INSTRUCTION) {
+                throw new XMLStreamException("Unexpected event " + event + " while reading element text", getLocation());
+            }
+            event = next();
+        }
+        return builder.toString();
+    }
+}
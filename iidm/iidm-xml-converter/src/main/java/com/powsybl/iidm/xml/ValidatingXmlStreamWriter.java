@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.base.Strings;
+import com.powsybl.commons.exceptions.UncheckedSaxException;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.validation.ValidatorHandler;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link XMLStreamWriter} validating the document against a schema while it is being written, so that the
+ * document does not have to be read back to be validated. Each event is forwarded to a {@link ValidatorHandler},
+ * validation errors are thrown as {@link UncheckedSaxException}.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class ValidatingXmlStreamWriter implements XMLStreamWriter {
+
+    private static final class Element {
+
+        private final String namespaceUri;
+        private final String localName;
+        private final String qName;
+        private final boolean empty;
+        private final AttributesImpl attributes = new AttributesImpl();
+        private final List<String> prefixes = new ArrayList<>();
+        private final List<String> namespaceUris = new ArrayList<>();
+
+        private Element(String namespaceUri, String localName, String prefix, boolean empty) {
+            this.namespaceUri = Strings.nullToEmpty(namespaceUri);
+            this.localName = localName;
+            this.qName = getQName(prefix, localName);
+            this.empty = empty;
+        }
+    }
+
+    private final XMLStreamWriter writer;
+
+    private final ValidatorHandler handler;
+
+    private final Deque<Element> openElements = new ArrayDeque<>();
+
+    /**
+     * Attributes and namespaces can still be added to the last started element, so it is forwarded to the
+     * validator only when the next event is written.
+     */
+    private Element pendingElement;
+
+    ValidatingXmlStreamWriter(XMLStreamWriter writer, ValidatorHandler handler) {
+        this.writer = Objects.requireNonNull(writer);
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    private static String getQName(String prefix, String localName) {
+        return Strings.isNullOrEmpty(prefix) ? localName : prefix + ":" + localName;
+    }
+
+    /**
+     * Replacement text of a predefined entity or of a character reference, null for any other entity.
+     */
+    private static String getEntityReplacement(String name) throws XMLStreamException {
+        switch (name) {
+            case "lt":
+                return "<";
+            case "gt":
+                return ">";
+            case "amp":
+                return "&";
+            case "apos":
+                return "'";
+            case "quot":
+                return "\"";
+            default:
+                if (!name.startsWith("#")) {
+                    return null;
+                }
+                try {
+                    int codePoint = name.startsWith("#x") ? Integer.parseInt(name.substring(2), 16) : Integer.parseInt(name.substring(1));
+                    return new String(Character.toChars(codePoint));
+                } catch (IllegalArgumentException e) {
+                    throw new XMLStreamException("Invalid character reference: " + name, e);
+                }
+        }
+    }
+
+    private interface SaxAction {
+        void run() throws SAXException;
+    }
+
+    private static void validate(SaxAction action) {
+        try {
+            action.run();
+        } catch (SAXException e) {
+            throw new UncheckedSaxException(e);
+        }
+    }
+
+    private void endElement(Element element) throws SAXException {
+        handler.endElement(element.namespaceUri, element.localName, element.qName);
+        for (String prefix : element.prefixes) {
+            handler.endPrefixMapping(prefix);
+        }
+    }
+
+    private void flushPendingElement() {
+        if (pendingElement != null) {
+            Element element = pendingElement;
+            pendingElement = null;
+            validate(() -> {
+                for (int i = 0; i < element.prefixes.size(); i++) {
+                    handler.startPrefixMapping(element.prefixes.get(i), element.namespaceUris.get(i));
+                }
+                handler.startElement(element.namespaceUri, element.localName, element.qName, element.attributes);
+                if (element.empty) {
+                    endElement(element);
+                } else {
+                    openElements.push(element);
+                }
+            });
+        }
+    }
+
+    private void startElement(String namespaceUri, String localName, String prefix, boolean empty) {
+        flushPendingElement();
+        pendingElement = new Element(namespaceUri, localName, prefix, empty);
+    }
+
+    private void addAttribute(String namespaceUri, String localName, String prefix, String value) {
+        if (pendingElement == null) {
+            throw new IllegalStateException("No element to add attribute " + localName + " to");
+        }
+        pendingElement.attributes.addAttribute(Strings.nullToEmpty(namespaceUri), localName, getQName(prefix, localName), "CDATA", value);
+    }
+
+    private void addNamespace(String prefix, String namespaceUri) {
+        if (pendingElement == null) {
+            throw new IllegalStateException("No element to add namespace " + prefix + " to");
+        }
+        pendingElement.prefixes.add(prefix);
+        pendingElement.namespaceUris.add(namespaceUri);
+    }
+
+    private void characters(char[] text, int start, int len) {
+        flushPendingElement();
+        validate(() -> handler.characters(text, start, len));
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        writer.writeStartElement(localName);
+        startElement(XMLConstants.NULL_NS_URI, localName, null, false);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        writer.writeStartElement(namespaceURI, localName);
+        startElement(namespaceURI, localName, writer.getPrefix(namespaceURI), false);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writer.writeStartElement(prefix, localName, namespaceURI);
+        startElement(namespaceURI, localName, prefix, false);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        writer.writeEmptyElement(namespaceURI, localName);
+        startElement(namespaceURI, localName, writer.getPrefix(namespaceURI), true);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        writer.writeEmptyElement(prefix, localName, namespaceURI);
+        startElement(namespaceURI, localName, prefix, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        writer.writeEmptyElement(localName);
+        startElement(XMLConstants.NULL_NS_URI, localName, null, true);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        writer.writeEndElement();
+        flushPendingElement();
+        Element element = openElements.pop();
+        validate(() -> endElement(element));
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        writer.writeEndDocument();
+        flushPendingElement();
+        validate(() -> {
+            while (!openElements.isEmpty()) {
+                endElement(openElements.pop());
+            }
+            handler.endDocument();
+        });
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        writer.close();
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        writer.flush();
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        writer.writeAttribute(localName, value);
+        addAttribute(XMLConstants.NULL_NS_URI, localName, null, value);
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value) throws XMLStreamException {
+        writer.writeAttribute(prefix, namespaceURI, localName, value);
+        addAttribute(namespaceURI, localName, prefix, value);
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        writer.writeAttribute(namespaceURI, localName, value);
+        addAttribute(namespaceURI, localName, writer.getPrefix(namespaceURI), value);
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        writer.writeNamespace(prefix, namespaceURI);
+        addNamespace(Strings.nullToEmpty(prefix), namespaceURI);
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        writer.writeDefaultNamespace(namespaceURI);
+        addNamespace(XMLConstants.DEFAULT_NS_PREFIX, namespaceURI);
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        writer.writeComment(data);
+        flushPendingElement();
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        writer.writeProcessingInstruction(target);
+        flushPendingElement();
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        writer.writeProcessingInstruction(target, data);
+        flushPendingElement();
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        writer.writeCData(data);
+        characters(data.toCharArray(), 0, data.length());
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        writer.writeDTD(dtd);
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        String replacement = getEntityReplacement(name);
+        writer.writeEntityRef(name);
+        if (replacement != null) {
+            characters(replacement.toCharArray(), 0, replacement.length());
+        } else {
+            // replacement text is declared in the DTD, which the validator does not know about
+            flushPendingElement();
+            validate(() -> handler.skippedEntity(name));
+        }
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writer.writeStartDocument();
+        validate(handler::startDocument);
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writer.writeStartDocument(version);
+        validate(handler::startDocument);
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        writer.writeStartDocument(encoding, version);
+        validate(handler::startDocument);
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        writer.writeCharacters(text);
+        characters(text.toCharArray(), 0, text.length());
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writer.writeCharacters(text, start, len);
+        characters(text, start, len);
+    }
+
+    @Override
+    public String getPrefix(String uri) throws XMLStreamException {
+        return writer.getPrefix(uri);
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) throws XMLStreamException {
+        writer.setPrefix(prefix, uri);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) throws XMLStreamException {
+        writer.setDefaultNamespace(uri);
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+        writer.setNamespaceContext(context);
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return writer.getNamespaceContext();
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        return writer.getProperty(name);
+    }
+}
@@ -33,10 +33,11 @@ import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
 
 import static com.powsybl.iidm.xml.IidmXmlConstants.IIDM_URI;
 import static com.powsybl.iidm.xml.IidmXmlConstants.VERSION;
@@ -59,6 +60,11 @@ public class XMLImporter implements Importer {
             = new Parameter(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND, ParameterType.BOOLEAN, "Throw exception if extension not found", Boolean.FALSE)
                     .addAdditionalNames("throwExceptionIfExtensionNotFound");
 
+    public static final String PARALLEL = "iidm.import.xml.parallel";
+
+    private static final Parameter PARALLEL_PARAMETER
+            = new Parameter(PARALLEL, ParameterType.BOOLEAN, "Parse the network in parallel", Boolean.FALSE);
+
     private final ParameterDefaultValueConfig defaultValueConfig;
 
     private static final String SUFFIX_MAPPING = "_mapping";
@@ -78,7 +84,7 @@ public class XMLImporter implements Importer {
 
     @Override
     public List<Parameter> getParameters() {
-        return Collections.singletonList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER);
+        return Arrays.asList(THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER, PARALLEL_PARAMETER);
     }
 
     @Override
@@ -172,6 +178,7 @@ public class XMLImporter implements Importer {
                         + "." + Joiner.on("|").join(EXTENSIONS) + " not found");
             }
             boolean throwExceptionIfExtensionNotFound = ConversionParameters.readBooleanParameter(getFormat(), parameters, THROW_EXCEPTION_IF_EXTENSION_NOT_FOUND_PARAMETER, defaultValueConfig);
+            boolean parallel = ConversionParameters.readBooleanParameter(getFormat(), parameters, PARALLEL_PARAMETER, defaultValueConfig);
             Anonymizer anonymizer = null;
             if (dataSource.exists(SUFFIX_MAPPING, "csv")) {
                 anonymizer = new SimpleAnonymizer();
@@ -180,7 +187,12 @@ public class XMLImporter implements Importer {
                 }
             }
             try (InputStream is = dataSource.newInputStream(null, ext)) {
-                network = NetworkXml.read(is, new ImportOptions(throwExceptionIfExtensionNotFound), anonymizer);
+                ImportOptions options = new ImportOptions(throwExceptionIfExtensionNotFound);
+                if (parallel) {
+                    network = NetworkXml.read(is, options, anonymizer, ForkJoinPool.commonPool());
+                } else {
+                    network = NetworkXml.read(is, options, anonymizer);
+                }
             }
             LOGGER.debug("XIIDM import done in {} ms", System.currentTimeMillis() - startTime);
         } catch (IOException e) {
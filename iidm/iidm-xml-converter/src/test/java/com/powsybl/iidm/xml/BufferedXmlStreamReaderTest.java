@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class BufferedXmlStreamReaderTest {
+
+    private static final String XML = "<?xml version=\"1.0\"?>"
+            + "<a:root xmlns:a=\"http://a\" xmlns:b=\"http://b\">"
+            + "<b:child xmlns:a=\"http://b\" xmlns=\"http://default\">text</b:child>"
+            + "<a:other/>"
+            + "</a:root>";
+
+    private static BufferedXmlStreamReader record(String xml) throws XMLStreamException {
+        return BufferedXmlStreamReader.record(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)));
+    }
+
+    @Test
+    public void namespaceDeclarationsTest() throws XMLStreamException {
+        XMLStreamReader reader = record(XML);
+
+        // root
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.getEventType());
+        assertEquals(2, reader.getNamespaceCount());
+        assertEquals("a", reader.getNamespacePrefix(0));
+        assertEquals("http://a", reader.getNamespaceURI(0));
+        assertEquals("b", reader.getNamespacePrefix(1));
+        assertEquals("http://b", reader.getNamespaceURI(1));
+        assertEquals("http://a", reader.getNamespaceURI("a"));
+        assertNull(reader.getNamespaceURI("c"));
+
+        // child, redeclaring prefix a
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.next());
+        assertEquals(2, reader.getNamespaceCount());
+        NamespaceContext context = reader.getNamespaceContext();
+        assertEquals("http://b", context.getNamespaceURI("a"));
+        assertEquals("http://b", context.getNamespaceURI("b"));
+        assertEquals("http://default", context.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+        assertEquals(XMLConstants.NULL_NS_URI, context.getNamespaceURI("c"));
+        assertEquals(XMLConstants.XML_NS_URI, context.getNamespaceURI(XMLConstants.XML_NS_PREFIX));
+        assertEquals(ImmutableList.of("a", "b"), Lists.newArrayList(context.getPrefixes("http://b")));
+        assertNull(context.getPrefix("http://a"));
+        assertEquals("", context.getPrefix("http://default"));
+
+        // text, declarations of child still in scope
+        assertEquals(XMLStreamConstants.CHARACTERS, reader.next());
+        assertEquals("http://b", reader.getNamespaceContext().getNamespaceURI("a"));
+
+        // end of child, declarations going out of scope
+        assertEquals(XMLStreamConstants.END_ELEMENT, reader.next());
+        assertEquals(2, reader.getNamespaceCount());
+        assertEquals("http://b", reader.getNamespaceURI("a"));
+
+        // other, back to root declarations
+        assertEquals(XMLStreamConstants.START_ELEMENT, reader.next());
+        assertEquals(0, reader.getNamespaceCount());
+        context = reader.getNamespaceContext();
+        assertEquals("http://a", context.getNamespaceURI("a"));
+        assertEquals(XMLConstants.NULL_NS_URI, context.getNamespaceURI(XMLConstants.DEFAULT_NS_PREFIX));
+        assertEquals("a", context.getPrefix("http://a"));
+        assertEquals("b", context.getPrefix("http://b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullPrefixTest() throws XMLStreamException {
+        record(XML).getNamespaceContext().getNamespaceURI(null);
+    }
+}
@@ -7,13 +7,17 @@
 package com.powsybl.iidm.xml;
 
 import com.google.auto.service.AutoService;
+import com.google.common.io.ByteStreams;
 import com.powsybl.commons.AbstractConverterTest;
+import com.powsybl.commons.exceptions.UncheckedSaxException;
 import com.powsybl.commons.extensions.ExtensionXmlSerializer;
 import com.powsybl.commons.xml.XmlReaderContext;
 import com.powsybl.commons.xml.XmlWriterContext;
 import com.powsybl.iidm.export.ExportOptions;
+import com.powsybl.iidm.import_.ImportOptions;
 import com.powsybl.iidm.network.BusbarSection;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkFactory;
 import com.powsybl.iidm.network.TopologyLevel;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.iidm.network.test.BusbarSectionExt;
@@ -26,8 +30,12 @@ import javax.xml.stream.XMLStreamException;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -148,4 +156,91 @@ public class NetworkXmlTest extends AbstractConverterTest {
         assertNull(busBreakerNetwork.getBusbarSection("voltageLevel1BusbarSection1"));
     }
 
+    private static byte[] toXml(Network network) throws IOException {
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            NetworkXml.write(network, os);
+            return os.toByteArray();
+        }
+    }
+
+    private static void checkParallelRead(byte[] xml, ExecutorService executor) throws IOException {
+        Network network = NetworkXml.read(new ByteArrayInputStream(xml));
+        // one chunk per top-level element and a single chunk for the whole document
+        Network network2 = NetworkXml.read(new ByteArrayInputStream(xml), new ImportOptions(), null, executor, 1);
+        Network network3 = NetworkXml.read(new ByteArrayInputStream(xml), new ImportOptions(), null, executor);
+        byte[] expected = toXml(network);
+        assertArrayEquals(expected, toXml(network2));
+        assertArrayEquals(expected, toXml(network3));
+    }
+
+    @Test
+    public void parallelReadTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (String resource : Arrays.asList("/eurostag-tutorial-example1.xml", "/phaseShifterRoundTripRef.xml",
+                                                 "/threeWindingsTransformerRoundTripRef.xml", "/VscRoundTripRef.xml",
+                                                 "/LccRoundTripRef.xml", "/terminalRef.xiidm", "/internalConnections.xiidm")) {
+                try (InputStream is = getClass().getResourceAsStream(resource)) {
+                    checkParallelRead(ByteStreams.toByteArray(is), executor);
+                }
+            }
+
+            // with extensions
+            Network network = NetworkTest1Factory.create();
+            BusbarSection bb = network.getBusbarSection("voltageLevel1BusbarSection1");
+            bb.addExtension(BusbarSectionExt.class, new BusbarSectionExt(bb));
+            byte[] xml = toXml(network);
+            checkParallelRead(xml, executor);
+            Network network2 = NetworkXml.read(new ByteArrayInputStream(xml), new ImportOptions(), null, executor, 1);
+            assertNotNull(network2.getBusbarSection("voltageLevel1BusbarSection1").getExtension(BusbarSectionExt.class));
+
+            // network without any equipment cannot be split and is read sequentially
+            Network emptyNetwork = NetworkFactory.create("empty", "test");
+            emptyNetwork.setCaseDate(DateTime.parse("2013-01-15T18:45:00+01:00"));
+            checkParallelRead(toXml(emptyNetwork), executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void schemaValidationTest() throws IOException {
+        byte[] xml;
+        try (InputStream is = getClass().getResourceAsStream("/eurostag-tutorial-example1.xml")) {
+            xml = ByteStreams.toByteArray(is);
+        }
+        byte[] invalidXml = new String(xml, StandardCharsets.UTF_8)
+                .replace("<iidm:load id=\"LOAD\"", "<iidm:load foo=\"bar\" id=\"LOAD\"")
+                .getBytes(StandardCharsets.UTF_8);
+        ImportOptions options = new ImportOptions();
+        options.setSchemaValidation(true);
+
+        // unknown attributes are ignored by the reader but rejected by the schema
+        assertNotNull(NetworkXml.read(new ByteArrayInputStream(invalidXml)));
+        assertNotNull(NetworkXml.read(new ByteArrayInputStream(xml), options, null));
+        try {
+            NetworkXml.read(new ByteArrayInputStream(invalidXml), options, null);
+            fail();
+        } catch (UncheckedSaxException ignored) {
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertNotNull(NetworkXml.read(new ByteArrayInputStream(xml), options, null, executor, 1));
+            try {
+                NetworkXml.read(new ByteArrayInputStream(invalidXml), options, null, executor, 1);
+                fail();
+            } catch (UncheckedSaxException ignored) {
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // validation while writing
+        Network network = createEurostagTutorialExample1();
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            NetworkXml.write(network, new ExportOptions().setSchemaValidation(true), os);
+            assertArrayEquals(toXml(network), os.toByteArray());
+        }
+    }
 }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.iidm.xml;
+
+import com.powsybl.commons.exceptions.UncheckedSaxException;
+import org.junit.Before;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class ValidatingXmlStreamWriterTest {
+
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+            + "<xs:element name=\"root\">"
+            + "<xs:complexType><xs:sequence>"
+            + "<xs:element name=\"text\" type=\"xs:string\"/>"
+            + "<xs:element name=\"number\" type=\"xs:int\"/>"
+            + "</xs:sequence></xs:complexType>"
+            + "</xs:element>"
+            + "</xs:schema>";
+
+    private StringWriter output;
+
+    private XMLStreamWriter writer;
+
+    @Before
+    public void setUp() throws SAXException, XMLStreamException {
+        Schema schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(new StreamSource(new StringReader(XSD)));
+        output = new StringWriter();
+        writer = new ValidatingXmlStreamWriter(XMLOutputFactory.newInstance().createXMLStreamWriter(output), schema.newValidatorHandler());
+    }
+
+    private void writeDocument(String numberEntity) throws XMLStreamException {
+        writer.writeStartDocument();
+        writer.writeStartElement("root");
+        writer.writeStartElement("text");
+        writer.writeCharacters("a ");
+        writer.writeEntityRef("amp");
+        writer.writeCharacters(" b");
+        writer.writeEndElement();
+        writer.writeStartElement("number");
+        writer.writeCharacters("1");
+        writer.writeEntityRef(numberEntity);
+        writer.writeEndElement();
+        writer.writeEndElement();
+        writer.writeEndDocument();
+        writer.close();
+    }
+
+    @Test
+    public void writeEntityRefTest() throws XMLStreamException {
+        writeDocument("#x32");
+        assertTrue(output.toString().contains("<text>a &amp; b</text><number>1&#x32;</number>"));
+    }
+
+    @Test(expected = UncheckedSaxException.class)
+    public void writeInvalidEntityRefTest() throws XMLStreamException {
+        // "1<" is not an integer
+        writeDocument("lt");
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void writeMalformedCharacterReferenceTest() throws XMLStreamException {
+        writeDocument("#xZZ");
+    }
+}
@@ -106,9 +106,10 @@ public class XMLImporterTest {
 
     @Test
     public void getParameters() {
-        assertEquals(1, importer.getParameters().size());
+        assertEquals(2, importer.getParameters().size());
         assertEquals("iidm.import.xml.throw-exception-if-extension-not-found", importer.getParameters().get(0).getName());
         assertEquals(Arrays.asList("iidm.import.xml.throw-exception-if-extension-not-found", "throwExceptionIfExtensionNotFound"), importer.getParameters().get(0).getNames());
+        assertEquals("iidm.import.xml.parallel", importer.getParameters().get(1).getName());
     }
 
     @Test
@@ -183,5 +184,11 @@ public class XMLImporterTest {
 
         Network network2 = importer.importData(new FileDataSource(fileSystem.getPath("/"), "test7"), null);
         assertNotNull(network2.getSubstation("P1"));
+
+        // parallel read with id mapping
+        Properties params3 = new Properties();
+        params3.put("iidm.import.xml.parallel", "true");
+        Network network3 = importer.importData(new FileDataSource(fileSystem.getPath("/"), "test6"), params3);
+        assertNotNull(network3.getSubstation("X1"));
     }
 }
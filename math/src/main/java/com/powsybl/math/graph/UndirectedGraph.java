@@ -61,6 +61,15 @@ public interface UndirectedGraph<V, E> {
 
     List<E> getEdgeObjects(int v1, int v2);
 
+    int[] getEdgesConnectedToVertex(int v);
+
+    /**
+     * Depth first traversal of the graph starting from vertex {@code v}, without any allocation: {@code encountered}
+     * has to be sized to at least {@link #getMaxVertex()} and {@code stack} is a work array of at least twice this
+     * size, that can be reused from one traversal to another.
+     */
+    void traverse(int v, Traverser traverser, boolean[] encountered, int[] stack);
+
     void traverse(int v, Traverser traverser, boolean[] encountered);
 
     void traverse(int v, Traverser traverser);
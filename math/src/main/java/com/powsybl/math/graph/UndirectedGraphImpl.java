@@ -18,6 +18,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -30,8 +31,6 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     private static final int EDGES_CAPACITY = 15;
 
-    private static final int NEIGHBORS_CAPACITY = 2;
-
     private static final class Vertex<E> {
 
         private E object;
@@ -49,53 +48,39 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     }
 
-    private static final class Edge<E> {
-
-        private final int v1;
-
-        private final int v2;
-
-        private E object;
-
-        private Edge(int v1, int v2, E object) {
-            this.v1 = v1;
-            this.v2 = v2;
-            this.object = object;
-        }
-
-        public int getV1() {
-            return v1;
-        }
-
-        public int getV2() {
-            return v2;
-        }
+    /**
+     * Immutable compressed sparse row snapshot of the adjacency list: edges connected to vertex {@code v} are stored,
+     * sorted by index, from {@code edges[offsets[v]]} to {@code edges[offsets[v + 1] - 1]}.
+     * <p>
+     * It is never modified: vertex and edge modifications only drop it, and it is rebuilt once by the next reader,
+     * so that a batch of modifications costs a single rebuild.
+     */
+    private static final class Adjacency {
 
-        public E getObject() {
-            return object;
-        }
+        private final int[] offsets;
 
-        public void setObject(E object) {
-            this.object = object;
-        }
+        private final int[] edges;
 
-        @Override
-        public String toString() {
-            return object.toString();
+        private Adjacency(int[] offsets, int[] edges) {
+            this.offsets = offsets;
+            this.edges = edges;
         }
-
     }
 
     /* vertices */
     private final List<Vertex<V>> vertices = new ArrayList<>(VERTICES_CAPACITY);
 
-    /* edges */
-    private final List<Edge<E>> edges = new ArrayList<>(EDGES_CAPACITY);
+    /* edges, vertex 1 of removed edges is -1 */
+    private final TIntArrayList edgesVertex1 = new TIntArrayList(EDGES_CAPACITY);
+
+    private final TIntArrayList edgesVertex2 = new TIntArrayList(EDGES_CAPACITY);
 
-    /* cached adjacency list */
-    private TIntArrayList[] adjacencyListCache;
+    private final List<E> edgesObject = new ArrayList<>(EDGES_CAPACITY);
 
-    private final Lock adjacencyListCacheLock = new ReentrantLock();
+    /* cached adjacency list, shared without locking by readers */
+    private volatile Adjacency adjacencyCache;
+
+    private final Lock adjacencyCacheLock = new ReentrantLock();
 
     private final TIntLinkedList removedVertices = new TIntLinkedList();
 
@@ -110,7 +95,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     }
 
     private void checkEdge(int e) {
-        if (e < 0 || e >= edges.size() || edges.get(e) == null) {
+        if (e < 0 || e >= edgesVertex1.size() || edgesVertex1.getQuick(e) == -1) {
             throw new PowsyblException("Edge " + e + " not found");
         }
     }
@@ -121,10 +106,11 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         if (removedVertices.isEmpty()) {
             v = vertices.size();
             vertices.add(new Vertex<V>());
+            invalidateAdjacencyList();
         } else {
             v = removedVertices.removeAt(0);
+            vertices.set(v, new Vertex<V>());
         }
-        invalidateAdjacencyList();
         notifyListener();
         return v;
     }
@@ -132,19 +118,19 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     @Override
     public V removeVertex(int v) {
         checkVertex(v);
-        for (Edge<E> e : edges) {
-            if (e != null && (e.getV1() == v || e.getV2() == v)) {
+        for (int e = 0; e < edgesVertex1.size(); e++) {
+            if (edgesVertex1.getQuick(e) == v || edgesVertex2.getQuick(e) == v) {
                 throw new PowsyblException("An edge is connected to vertex " + v);
             }
         }
         V obj = vertices.get(v).getObject();
         if (v == vertices.size() - 1) {
             vertices.remove(v);
+            invalidateAdjacencyList();
         } else {
             vertices.set(v, null);
             removedVertices.add(v);
         }
-        invalidateAdjacencyList();
         notifyListener();
         return obj;
     }
@@ -156,7 +142,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     @Override
     public void removeAllVertices() {
-        if (!edges.isEmpty()) {
+        if (!edgesVertex1.isEmpty()) {
             throw new PowsyblException("Cannot remove all vertices because there is still some edges in the graph");
         }
         vertices.clear();
@@ -170,13 +156,16 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         checkVertex(v1);
         checkVertex(v2);
         int e;
-        Edge<E> edge = new Edge<>(v1, v2, obj);
         if (removedEdges.isEmpty()) {
-            e = edges.size();
-            edges.add(edge);
+            e = edgesVertex1.size();
+            edgesVertex1.add(v1);
+            edgesVertex2.add(v2);
+            edgesObject.add(obj);
         } else {
             e = removedEdges.removeAt(0);
-            edges.set(e, edge);
+            edgesVertex1.setQuick(e, v1);
+            edgesVertex2.setQuick(e, v2);
+            edgesObject.set(e, obj);
         }
         invalidateAdjacencyList();
         notifyListener();
@@ -186,11 +175,15 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     @Override
     public E removeEdge(int e) {
         checkEdge(e);
-        E obj = edges.get(e).getObject();
-        if (e == edges.size() - 1) {
-            edges.remove(e);
+        E obj = edgesObject.get(e);
+        if (e == edgesVertex1.size() - 1) {
+            edgesVertex1.removeAt(e);
+            edgesVertex2.removeAt(e);
+            edgesObject.remove(e);
         } else {
-            edges.set(e, null);
+            edgesVertex1.setQuick(e, -1);
+            edgesVertex2.setQuick(e, -1);
+            edgesObject.set(e, null);
             removedEdges.add(e);
         }
         invalidateAdjacencyList();
@@ -200,7 +193,9 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     @Override
     public void removeAllEdges() {
-        edges.clear();
+        edgesVertex1.clear();
+        edgesVertex2.clear();
+        edgesObject.clear();
         removedEdges.clear();
         invalidateAdjacencyList();
         notifyListener();
@@ -208,7 +203,7 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
 
     @Override
     public int getEdgeCount() {
-        return edges.size() - removedEdges.size();
+        return edgesVertex1.size() - removedEdges.size();
     }
 
     @Override
@@ -225,8 +220,8 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     @Override
     public int[] getEdges() {
         TIntArrayList t = new TIntArrayList(getEdgeCount());
-        for (int e = 0; e < edges.size(); e++) {
-            if (edges.get(e) != null) {
+        for (int e = 0; e < edgesVertex1.size(); e++) {
+            if (edgesVertex1.getQuick(e) != -1) {
                 t.add(e);
             }
         }
@@ -265,31 +260,31 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
     @Override
     public int getEdgeVertex1(int e) {
         checkEdge(e);
-        return edges.get(e).getV1();
+        return edgesVertex1.getQuick(e);
     }
 
     @Override
     public int getEdgeVertex2(int e) {
         checkEdge(e);
-        return edges.get(e).getV2();
+        return edgesVertex2.getQuick(e);
     }
 
     @Override
     public Iterable<E> getEdgesObject() {
-        return FluentIterable.from(edges)
-                             .filter(Predicates.notNull())
-                             .transform(Edge::getObject);
+        return () -> getEdgeObjectStream().iterator();
     }
 
     @Override
     public Stream<E> getEdgeObjectStream() {
-        return edges.stream().filter(Objects::nonNull).map(Edge::getObject);
+        return IntStream.range(0, edgesVertex1.size())
+                .filter(e -> edgesVertex1.getQuick(e) != -1)
+                .mapToObj(edgesObject::get);
     }
 
     @Override
     public E getEdgeObject(int e) {
         checkEdge(e);
-        return edges.get(e).getObject();
+        return edgesObject.get(e);
     }
 
     @Override
@@ -297,80 +292,126 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
         checkVertex(v1);
         checkVertex(v2);
         List<E> edgeObjects = new ArrayList<>(1);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v1];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if ((edge.getV1() == v1 && edge.getV2() == v2)
-                || (edge.getV1() == v2 && edge.getV2() == v1)) {
-                edgeObjects.add(edge.getObject());
+        Adjacency adjacency = getAdjacencyList();
+        for (int i = adjacency.offsets[v1]; i < adjacency.offsets[v1 + 1]; i++) {
+            int e = adjacency.edges[i];
+            int edgeV1 = edgesVertex1.getQuick(e);
+            int edgeV2 = edgesVertex2.getQuick(e);
+            if ((edgeV1 == v1 && edgeV2 == v2)
+                || (edgeV1 == v2 && edgeV2 == v1)) {
+                edgeObjects.add(edgesObject.get(e));
             }
         }
         return edgeObjects;
     }
 
-    private TIntArrayList[] getAdjacencyList() {
-        adjacencyListCacheLock.lock();
-        try {
-            if (adjacencyListCache == null) {
-                adjacencyListCache = new TIntArrayList[vertices.size()];
-                for (int v = 0; v < vertices.size(); v++) {
-                    Vertex<V> vertex = vertices.get(v);
-                    if (vertex != null) {
-                        adjacencyListCache[v] = new TIntArrayList(NEIGHBORS_CAPACITY);
-                    }
-                }
-                for (int e = 0; e < edges.size(); e++) {
-                    Edge<E> edge = edges.get(e);
-                    if (edge != null) {
-                        int v1 = edge.getV1();
-                        int v2 = edge.getV2();
-                        adjacencyListCache[v1].add(e);
-                        adjacencyListCache[v2].add(e);
-                    }
+    @Override
+    public int[] getEdgesConnectedToVertex(int v) {
+        checkVertex(v);
+        Adjacency adjacency = getAdjacencyList();
+        return Arrays.copyOfRange(adjacency.edges, adjacency.offsets[v], adjacency.offsets[v + 1]);
+    }
+
+    private Adjacency getAdjacencyList() {
+        Adjacency adjacency = adjacencyCache;
+        if (adjacency == null) {
+            adjacencyCacheLock.lock();
+            try {
+                adjacency = adjacencyCache;
+                if (adjacency == null) {
+                    adjacency = buildAdjacencyList();
+                    adjacencyCache = adjacency;
                 }
+            } finally {
+                adjacencyCacheLock.unlock();
             }
-            return adjacencyListCache;
-        } finally {
-            adjacencyListCacheLock.unlock();
         }
+        return adjacency;
+    }
+
+    private Adjacency buildAdjacencyList() {
+        int vertexCount = vertices.size();
+        int[] offsets = new int[vertexCount + 1];
+        for (int e = 0; e < edgesVertex1.size(); e++) {
+            int v1 = edgesVertex1.getQuick(e);
+            if (v1 != -1) {
+                offsets[v1 + 1]++;
+                offsets[edgesVertex2.getQuick(e) + 1]++;
+            }
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacentEdges = new int[offsets[vertexCount]];
+        int[] positions = Arrays.copyOf(offsets, vertexCount);
+        for (int e = 0; e < edgesVertex1.size(); e++) {
+            int v1 = edgesVertex1.getQuick(e);
+            if (v1 != -1) {
+                adjacentEdges[positions[v1]++] = e;
+                adjacentEdges[positions[edgesVertex2.getQuick(e)]++] = e;
+            }
+        }
+        return new Adjacency(offsets, adjacentEdges);
     }
 
     private void invalidateAdjacencyList() {
-        adjacencyListCache = null;
+        adjacencyCache = null;
     }
 
     @Override
-    public void traverse(int v, Traverser traverser, boolean[] encountered) {
+    public void traverse(int v, Traverser traverser, boolean[] encountered, int[] stack) {
         checkVertex(v);
         Objects.requireNonNull(traverser);
         Objects.requireNonNull(encountered);
+        Objects.requireNonNull(stack);
 
         if (encountered.length < vertices.size()) {
             throw new PowsyblException("Encountered array is too small");
         }
+        if (stack.length < 2 * vertices.size()) {
+            throw new PowsyblException("Stack array is too small");
+        }
 
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
+        // depth first traversal, the stack contains for each level the vertex and the position of the next edge to
+        // visit in its adjacency list
+        Adjacency adjacency = getAdjacencyList();
         encountered[v] = true;
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
+        int top = 0;
+        stack[0] = v;
+        stack[1] = adjacency.offsets[v];
+        while (top >= 0) {
+            int current = stack[2 * top];
+            int i = stack[2 * top + 1];
+            if (i == adjacency.offsets[current + 1]) {
+                top--;
+                continue;
+            }
+            stack[2 * top + 1] = i + 1;
+            int e = adjacency.edges[i];
+            int v1 = edgesVertex1.getQuick(e);
+            int v2 = edgesVertex2.getQuick(e);
+            int next = -1;
             if (!encountered[v1]) {
                 if (traverser.traverse(v2, e, v1) == TraverseResult.CONTINUE) {
-                    encountered[v1] = true;
-                    traverse(v1, traverser, encountered);
+                    next = v1;
                 }
             } else if (!encountered[v2] && traverser.traverse(v1, e, v2) == TraverseResult.CONTINUE) {
-                encountered[v2] = true;
-                traverse(v2, traverser, encountered);
+                next = v2;
+            }
+            if (next != -1) {
+                encountered[next] = true;
+                top++;
+                stack[2 * top] = next;
+                stack[2 * top + 1] = adjacency.offsets[next];
             }
         }
     }
 
+    @Override
+    public void traverse(int v, Traverser traverser, boolean[] encountered) {
+        traverse(v, traverser, encountered, new int[2 * vertices.size()]);
+    }
+
     @Override
     public void traverse(int v, Traverser traverser) {
         boolean[] encountered = new boolean[vertices.size()];
@@ -410,19 +451,18 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
                               TIntArrayList path, BitSet encountered, List<TIntArrayList> paths) {
         checkVertex(v);
         encountered.set(v, true);
-        TIntArrayList[] adjacencyList = getAdjacencyList();
-        TIntArrayList adjacentEdges = adjacencyList[v];
-        for (int i = 0; i < adjacentEdges.size(); i++) {
-            int e = adjacentEdges.getQuick(i);
-            Edge<E> edge = edges.get(e);
-            if (pathCanceled != null && pathCanceled.apply(edge.getObject())) {
+        Adjacency adjacency = getAdjacencyList();
+        int last = adjacency.offsets[v + 1] - 1;
+        for (int i = adjacency.offsets[v]; i <= last; i++) {
+            int e = adjacency.edges[i];
+            if (pathCanceled != null && pathCanceled.apply(edgesObject.get(e))) {
                 continue;
             }
-            int v1 = edge.getV1();
-            int v2 = edge.getV2();
+            int v1 = edgesVertex1.getQuick(e);
+            int v2 = edgesVertex2.getQuick(e);
             TIntArrayList path2;
             BitSet encountered2;
-            if (i < adjacentEdges.size() - 1) {
+            if (i < last) {
                 path2 = new TIntArrayList(path);
                 encountered2 = new BitSet(vertices.size());
                 encountered2.or(encountered);
@@ -469,13 +509,14 @@ public class UndirectedGraphImpl<V, E> implements UndirectedGraph<V, E> {
             }
         }
         out.append("Edges:").append(System.lineSeparator());
-        for (int e = 0; e < edges.size(); e++) {
-            Edge<E> edge = edges.get(e);
-            if (edge != null) {
-                String str = edgeToString == null ? Objects.toString(edge.getObject()) : edgeToString.apply(edge.getObject());
+        for (int e = 0; e < edgesVertex1.size(); e++) {
+            int v1 = edgesVertex1.getQuick(e);
+            if (v1 != -1) {
+                E edgeObject = edgesObject.get(e);
+                String str = edgeToString == null ? Objects.toString(edgeObject) : edgeToString.apply(edgeObject);
                 out.append(Integer.toString(e)).append(": ")
-                        .append(Integer.toString(edge.getV1())).append("<->")
-                        .append(Integer.toString(edge.getV2())).append(" ")
+                        .append(Integer.toString(v1)).append("<->")
+                        .append(Integer.toString(edgesVertex2.getQuick(e))).append(" ")
                         .append(str).append(System.lineSeparator());
             }
         }
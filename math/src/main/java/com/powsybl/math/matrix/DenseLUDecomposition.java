@@ -13,10 +13,13 @@ import java.util.Objects;
  */
 public class DenseLUDecomposition implements LUDecomposition {
 
-    private final Jama.LUDecomposition decomposition;
+    private final DenseMatrix matrix;
 
-    public DenseLUDecomposition(Jama.LUDecomposition decomposition) {
-        this.decomposition = Objects.requireNonNull(decomposition);
+    private Jama.LUDecomposition decomposition;
+
+    public DenseLUDecomposition(DenseMatrix matrix) {
+        this.matrix = Objects.requireNonNull(matrix);
+        decomposition = matrix.toJamaMatrix().lu();
     }
 
     @Override
@@ -31,6 +34,11 @@ public class DenseLUDecomposition implements LUDecomposition {
         b.setValues(x.getColumnPackedCopy());
     }
 
+    @Override
+    public void update() {
+        decomposition = matrix.toJamaMatrix().lu();
+    }
+
     @Override
     public void close() {
         // nothing to close
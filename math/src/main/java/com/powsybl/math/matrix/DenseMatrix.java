@@ -85,6 +85,20 @@ public class DenseMatrix extends AbstractMatrix {
         buffer.putDouble(index, buffer.getDouble(index) + value);
     }
 
+    @Override
+    public int addAndGetIndex(int i, int j, double value) {
+        setValue(i, j, value);
+        return j * m + i;
+    }
+
+    @Override
+    public void setAtIndex(int index, double value) {
+        if (index < 0 || index >= m * n) {
+            throw new IllegalArgumentException("Bad index: " + index);
+        }
+        buffer.putDouble(index * Double.BYTES, value);
+    }
+
     @Override
     public int getM() {
         return m;
@@ -121,7 +135,7 @@ public class DenseMatrix extends AbstractMatrix {
 
     @Override
     public LUDecomposition decomposeLU() {
-        return new DenseLUDecomposition(toJamaMatrix().lu());
+        return new DenseLUDecomposition(this);
     }
 
     @Override
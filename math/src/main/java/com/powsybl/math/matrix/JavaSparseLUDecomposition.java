@@ -0,0 +1,433 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pure Java sparse LU decomposition, used when the native math library is not available.
+ * <p>
+ * Columns are first permuted with a fill reducing {@link MinimumDegreeOrdering minimum degree ordering}, then the
+ * matrix is factorized column by column with a left-looking (Gilbert-Peierls) algorithm and a threshold partial
+ * pivoting which prefers the diagonal element to preserve the ordering.
+ * <p>
+ * The ordering, the pivot sequence and the structure of the factors are kept, so that {@link #update()} only
+ * redoes the numerical factorization when the values of the matrix change but not its structure.
+ * <p>
+ * Multiple right hand sides are solved by blocks of columns, directly from and to the storage of the dense matrix, so
+ * that each pass through the factors is shared by all the columns of a block. Blocks can also be solved concurrently.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class JavaSparseLUDecomposition implements LUDecomposition {
+
+    private static final double PIVOT_TOLERANCE = 0.1;
+
+    private static final int BLOCK_SIZE = 16;
+
+    private final SparseMatrix matrix;
+
+    private final int n;
+
+    // structure of the factorized matrix, to check that it has not changed on update
+    private final int[] columnStart;
+    private final int[] rowIndices;
+
+    // column permutation
+    private final int[] q;
+
+    // row permutation: pivot index of each row
+    private int[] pinv;
+
+    // L factor in compressed column format, unit diagonal stored first in each column
+    private int[] lp;
+    private int[] li;
+    private double[] lx;
+
+    // U factor in compressed column format, diagonal stored last in each column
+    private int[] up;
+    private int[] ui;
+    private double[] ux;
+
+    public JavaSparseLUDecomposition(SparseMatrix matrix) {
+        this.matrix = Objects.requireNonNull(matrix);
+        if (matrix.getM() != matrix.getN()) {
+            throw new IllegalArgumentException("matrix is not square");
+        }
+        n = matrix.getN();
+        columnStart = getColumnStart(matrix);
+        rowIndices = Arrays.copyOf(matrix.getRowIndices(), columnStart[n]);
+        q = MinimumDegreeOrdering.compute(n, columnStart, matrix.getRowIndices());
+        factorize(columnStart, matrix.getRowIndices(), matrix.getValues());
+    }
+
+    /**
+     * Get column start array of the matrix where empty columns, marked with -1, start where the next one starts.
+     */
+    private static int[] getColumnStart(SparseMatrix matrix) {
+        int[] columnStart = matrix.getColumnStart().clone();
+        for (int j = columnStart.length - 2; j >= 0; j--) {
+            if (columnStart[j] == -1) {
+                columnStart[j] = columnStart[j + 1];
+            }
+        }
+        return columnStart;
+    }
+
+    private void factorize(int[] ap, int[] ai, double[] ax) {
+        int nnz = ap[n];
+        int lnz = 0;
+        int unz = 0;
+        lp = new int[n + 1];
+        li = new int[4 * nnz + n];
+        lx = new double[li.length];
+        up = new int[n + 1];
+        ui = new int[4 * nnz + n];
+        ux = new double[ui.length];
+        pinv = new int[n];
+        Arrays.fill(pinv, -1);
+        double[] x = new double[n];
+        int[] xi = new int[2 * n];
+        int[] mark = new int[n];
+        Arrays.fill(mark, -1);
+
+        for (int k = 0; k < n; k++) {
+            lp[k] = lnz;
+            up[k] = unz;
+            if (lnz + n > li.length) {
+                li = Arrays.copyOf(li, 2 * li.length + n);
+                lx = Arrays.copyOf(lx, li.length);
+            }
+            if (unz + n > ui.length) {
+                ui = Arrays.copyOf(ui, 2 * ui.length + n);
+                ux = Arrays.copyOf(ux, ui.length);
+            }
+
+            // x = L \ A(:, col)
+            int col = q[k];
+            int top = solveLower(ap, ai, ax, col, xi, x, mark, k);
+
+            // find pivot, non pivotal rows of the column go to L, others to U
+            int ipiv = -1;
+            double a = -1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    double t = Math.abs(x[i]);
+                    if (t > a) {
+                        a = t;
+                        ipiv = i;
+                    }
+                } else {
+                    ui[unz] = pinv[i];
+                    ux[unz++] = x[i];
+                }
+            }
+            if (ipiv == -1 || a <= 0) {
+                throw new PowsyblException("Matrix is singular");
+            }
+            if (pinv[col] < 0 && Math.abs(x[col]) >= a * PIVOT_TOLERANCE) {
+                ipiv = col;
+            }
+
+            double pivot = x[ipiv];
+            ui[unz] = k;
+            ux[unz++] = pivot;
+            pinv[ipiv] = k;
+            li[lnz] = ipiv;
+            lx[lnz++] = 1;
+            for (int p = top; p < n; p++) {
+                int i = xi[p];
+                if (pinv[i] < 0) {
+                    li[lnz] = i;
+                    lx[lnz++] = x[i] / pivot;
+                }
+                x[i] = 0;
+            }
+        }
+        lp[n] = lnz;
+        up[n] = unz;
+
+        // row indices of L from original rows to pivot indexes
+        for (int p = 0; p < lnz; p++) {
+            li[p] = pinv[li[p]];
+        }
+    }
+
+    /**
+     * Sparse triangular solve of L x = A(:, col) with the k first columns of L, rows of L being still indexed by
+     * original rows. Non zero pattern of x is returned in {@code xi[top..n-1]} in topological order.
+     */
+    private int solveLower(int[] ap, int[] ai, double[] ax, int col, int[] xi, double[] x, int[] mark, int k) {
+        int top = n;
+        for (int p = ap[col]; p < ap[col + 1]; p++) {
+            int i = ai[p];
+            if (mark[i] != k) {
+                top = reach(i, top, xi, mark, k);
+            }
+        }
+        for (int p = ap[col]; p < ap[col + 1]; p++) {
+            x[ai[p]] += ax[p];
+        }
+        for (int px = top; px < n; px++) {
+            int j = xi[px];
+            int jj = pinv[j];
+            if (jj < 0) {
+                continue;
+            }
+            double xj = x[j];
+            for (int p = lp[jj] + 1; p < lp[jj + 1]; p++) {
+                x[li[p]] -= lx[p] * xj;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Non recursive depth first search in the graph of L from row {@code start}, the second half of {@code xi} being
+     * used as the stack of positions in adjacency lists.
+     */
+    private int reach(int start, int top, int[] xi, int[] mark, int k) {
+        int head = 0;
+        xi[0] = start;
+        while (head >= 0) {
+            int j = xi[head];
+            int jj = pinv[j];
+            if (mark[j] != k) {
+                mark[j] = k;
+                xi[n + head] = jj < 0 ? 0 : lp[jj] + 1;
+            }
+            boolean done = true;
+            int end = jj < 0 ? 0 : lp[jj + 1];
+            for (int p = xi[n + head]; p < end; p++) {
+                int i = li[p];
+                if (mark[i] != k) {
+                    xi[n + head] = p + 1;
+                    xi[++head] = i;
+                    done = false;
+                    break;
+                }
+            }
+            if (done) {
+                head--;
+                xi[--top] = j;
+            }
+        }
+        return top;
+    }
+
+    /**
+     * Numerical factorization reusing the ordering, the pivot sequence and the structure of the factors.
+     *
+     * @return false if a pivot is too small and a complete factorization is needed
+     */
+    private boolean refactorize(int[] ap, int[] ai, double[] ax) {
+        double[] x = new double[n];
+        for (int k = 0; k < n; k++) {
+            for (int p = up[k]; p < up[k + 1]; p++) {
+                x[ui[p]] = 0;
+            }
+            for (int p = lp[k]; p < lp[k + 1]; p++) {
+                x[li[p]] = 0;
+            }
+            int col = q[k];
+            for (int p = ap[col]; p < ap[col + 1]; p++) {
+                x[pinv[ai[p]]] += ax[p];
+            }
+            // U entries are in topological order, diagonal excluded
+            for (int p = up[k]; p < up[k + 1] - 1; p++) {
+                int j = ui[p];
+                double xj = x[j];
+                ux[p] = xj;
+                for (int pl = lp[j] + 1; pl < lp[j + 1]; pl++) {
+                    x[li[pl]] -= lx[pl] * xj;
+                }
+            }
+            double pivot = x[k];
+            double a = Math.abs(pivot);
+            for (int p = lp[k] + 1; p < lp[k + 1]; p++) {
+                a = Math.max(a, Math.abs(x[li[p]]));
+            }
+            if (pivot == 0 || Math.abs(pivot) < a * PIVOT_TOLERANCE) {
+                return false;
+            }
+            ux[up[k + 1] - 1] = pivot;
+            for (int p = lp[k] + 1; p < lp[k + 1]; p++) {
+                lx[p] = x[li[p]] / pivot;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasSameStructure(int[] newColumnStart, int[] newRowIndices) {
+        if (!Arrays.equals(newColumnStart, columnStart)) {
+            return false;
+        }
+        // row indices array may be larger than the number of non zero values
+        for (int p = 0; p < rowIndices.length; p++) {
+            if (newRowIndices[p] != rowIndices[p]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void update() {
+        int[] newColumnStart = getColumnStart(matrix);
+        int[] newRowIndices = matrix.getRowIndices();
+        if (!hasSameStructure(newColumnStart, newRowIndices)) {
+            throw new PowsyblException("Matrix structure has changed");
+        }
+        if (!refactorize(columnStart, newRowIndices, matrix.getValues())) {
+            // pivot sequence is not stable anymore with new values
+            factorize(columnStart, newRowIndices, matrix.getValues());
+        }
+    }
+
+    private void solve(double[] b, double[] x) {
+        for (int i = 0; i < n; i++) {
+            x[pinv[i]] = b[i];
+        }
+        // L x = b
+        for (int j = 0; j < n; j++) {
+            double xj = x[j];
+            for (int p = lp[j] + 1; p < lp[j + 1]; p++) {
+                x[li[p]] -= lx[p] * xj;
+            }
+        }
+        // U x = b
+        for (int j = n - 1; j >= 0; j--) {
+            x[j] /= ux[up[j + 1] - 1];
+            double xj = x[j];
+            for (int p = up[j]; p < up[j + 1] - 1; p++) {
+                x[ui[p]] -= ux[p] * xj;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            b[q[k]] = x[k];
+        }
+    }
+
+    @Override
+    public void solve(double[] b) {
+        Objects.requireNonNull(b);
+        if (b.length != n) {
+            throw new IllegalArgumentException("Incorrect vector size " + b.length + ", expected " + n);
+        }
+        solve(b, new double[n]);
+    }
+
+    /**
+     * Solve a block of columns of a dense column major matrix, values of the block being interleaved in the work
+     * array so that a value of the factors is applied to all the columns at once.
+     */
+    private void solve(DenseMatrix b, int firstColumn, int columnCount) {
+        DoubleBuffer values = b.getBuffer().asDoubleBuffer();
+        int k = columnCount;
+        double[] x = new double[n * k];
+        for (int c = 0; c < k; c++) {
+            int offset = (firstColumn + c) * n;
+            for (int i = 0; i < n; i++) {
+                x[pinv[i] * k + c] = values.get(offset + i);
+            }
+        }
+        // L x = b
+        for (int j = 0; j < n; j++) {
+            int jk = j * k;
+            for (int p = lp[j] + 1; p < lp[j + 1]; p++) {
+                int ik = li[p] * k;
+                double l = lx[p];
+                for (int c = 0; c < k; c++) {
+                    x[ik + c] -= l * x[jk + c];
+                }
+            }
+        }
+        // U x = b
+        for (int j = n - 1; j >= 0; j--) {
+            int jk = j * k;
+            double d = ux[up[j + 1] - 1];
+            for (int c = 0; c < k; c++) {
+                x[jk + c] /= d;
+            }
+            for (int p = up[j]; p < up[j + 1] - 1; p++) {
+                int ik = ui[p] * k;
+                double u = ux[p];
+                for (int c = 0; c < k; c++) {
+                    x[ik + c] -= u * x[jk + c];
+                }
+            }
+        }
+        for (int c = 0; c < k; c++) {
+            int offset = (firstColumn + c) * n;
+            for (int i = 0; i < n; i++) {
+                values.put(offset + q[i], x[i * k + c]);
+            }
+        }
+    }
+
+    private void checkRowCount(DenseMatrix b) {
+        Objects.requireNonNull(b);
+        if (b.getM() != n) {
+            throw new IllegalArgumentException("Incorrect matrix row count " + b.getM() + ", expected " + n);
+        }
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        checkRowCount(b);
+        for (int j = 0; j < b.getN(); j += BLOCK_SIZE) {
+            solve(b, j, Math.min(BLOCK_SIZE, b.getN() - j));
+        }
+    }
+
+    @SuppressWarnings("serial") // only used to solve in a fork join pool, never serialized
+    private final class SolveAction extends RecursiveAction {
+
+        private final DenseMatrix b;
+
+        private final int firstColumn;
+
+        private final int columnCount;
+
+        private SolveAction(DenseMatrix b, int firstColumn, int columnCount) {
+            this.b = b;
+            this.firstColumn = firstColumn;
+            this.columnCount = columnCount;
+        }
+
+        @Override
+        protected void compute() {
+            if (columnCount <= BLOCK_SIZE) {
+                solve(b, firstColumn, columnCount);
+            } else {
+                // split on a block boundary
+                int half = (columnCount / BLOCK_SIZE + 1) / 2 * BLOCK_SIZE;
+                invokeAll(new SolveAction(b, firstColumn, half),
+                          new SolveAction(b, firstColumn + half, columnCount - half));
+            }
+        }
+    }
+
+    @Override
+    public void solve(DenseMatrix b, ForkJoinPool pool) {
+        checkRowCount(b);
+        Objects.requireNonNull(pool);
+        pool.invoke(new SolveAction(b, 0, b.getN()));
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
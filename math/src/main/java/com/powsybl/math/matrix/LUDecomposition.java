@@ -6,6 +6,8 @@
  */
 package com.powsybl.math.matrix;
 
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
@@ -19,6 +21,21 @@ public interface LUDecomposition extends AutoCloseable {
 
     void solve(DenseMatrix b);
 
+    /**
+     * Solve A * X = B, columns of B being solved concurrently by the threads of a fork join pool if the
+     * implementation supports it.
+     */
+    default void solve(DenseMatrix b, ForkJoinPool pool) {
+        solve(b);
+    }
+
+    /**
+     * Update the decomposition after a modification of the values of the matrix which has not changed its structure
+     * (see {@link Matrix#setAtIndex(int, double)}). Implementations may reuse the symbolic analysis of the previous
+     * decomposition.
+     */
+    void update();
+
     @Override
     void close();
 }
@@ -36,6 +36,18 @@ public interface Matrix {
 
     void setValue(int i, int j, double value);
 
+    /**
+     * Set value at row i and column j and get an index that can be used later to modify the value with
+     * {@link #setAtIndex(int, double)}.
+     */
+    int addAndGetIndex(int i, int j, double value);
+
+    /**
+     * Modify a value previously set with {@link #addAndGetIndex(int, int, double)}, without changing the structure
+     * of the matrix.
+     */
+    void setAtIndex(int index, double value);
+
     LUDecomposition decomposeLU();
 
     Matrix times(Matrix other);
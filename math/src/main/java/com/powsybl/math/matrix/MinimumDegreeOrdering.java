@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.math.matrix;
+
+import java.util.Arrays;
+
+/**
+ * Fill reducing ordering of a square sparse matrix, using a minimum degree heuristic on the elimination graph of the
+ * pattern of A + A<sup>T</sup>.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class MinimumDegreeOrdering {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * Min heap of (degree, vertex) keys. Keys are not removed when a degree changes, a new key is just pushed and
+     * outdated ones are skipped when popped.
+     */
+    private static final class Heap {
+
+        private long[] keys = new long[16];
+
+        private int size = 0;
+
+        void push(int degree, int v) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            long key = ((long) degree << 32) | v;
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) / 2;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                i = parent;
+            }
+            keys[i] = key;
+        }
+
+        long pop() {
+            long top = keys[0];
+            long last = keys[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= last) {
+                    break;
+                }
+                keys[i] = keys[child];
+                i = child;
+            }
+            keys[i] = last;
+            return top;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    private MinimumDegreeOrdering() {
+    }
+
+    /**
+     * Compute the ordering of a n x n matrix given in compressed column format.
+     *
+     * @param n the matrix size
+     * @param columnStart start of each column in {@code rowIndices}, plus the non zero value count in the last element
+     * @param rowIndices row index of each non zero value
+     * @return the permutation, i.e. the index of the column eliminated at each step
+     */
+    static int[] compute(int n, int[] columnStart, int[] rowIndices) {
+        int[][] adjacency = createAdjacency(n, columnStart, rowIndices);
+
+        Heap heap = new Heap();
+        for (int v = 0; v < n; v++) {
+            heap.push(adjacency[v].length, v);
+        }
+
+        boolean[] eliminated = new boolean[n];
+        int[] permutation = new int[n];
+        int k = 0;
+        while (k < n) {
+            long key = heap.pop();
+            int v = (int) key;
+            int degree = (int) (key >>> 32);
+            if (eliminated[v] || degree != adjacency[v].length) {
+                continue; // outdated key
+            }
+            eliminated[v] = true;
+            permutation[k++] = v;
+
+            // neighbors of v become a clique
+            int[] neighbors = adjacency[v];
+            for (int u : neighbors) {
+                adjacency[u] = mergeWithoutSelf(adjacency[u], neighbors, v, u);
+                heap.push(adjacency[u].length, u);
+            }
+            adjacency[v] = EMPTY;
+        }
+        return permutation;
+    }
+
+    private static int[][] createAdjacency(int n, int[] columnStart, int[] rowIndices) {
+        int[] degrees = new int[n];
+        for (int j = 0; j < n; j++) {
+            for (int p = columnStart[j]; p < columnStart[j + 1]; p++) {
+                int i = rowIndices[p];
+                if (i != j) {
+                    degrees[i]++;
+                    degrees[j]++;
+                }
+            }
+        }
+        int[][] adjacency = new int[n][];
+        for (int v = 0; v < n; v++) {
+            adjacency[v] = new int[degrees[v]];
+        }
+        Arrays.fill(degrees, 0);
+        for (int j = 0; j < n; j++) {
+            for (int p = columnStart[j]; p < columnStart[j + 1]; p++) {
+                int i = rowIndices[p];
+                if (i != j) {
+                    adjacency[i][degrees[i]++] = j;
+                    adjacency[j][degrees[j]++] = i;
+                }
+            }
+        }
+        // sort and remove duplicates
+        for (int v = 0; v < n; v++) {
+            int[] neighbors = adjacency[v];
+            Arrays.sort(neighbors);
+            int count = 0;
+            for (int i = 0; i < neighbors.length; i++) {
+                if (i == 0 || neighbors[i] != neighbors[i - 1]) {
+                    neighbors[count++] = neighbors[i];
+                }
+            }
+            adjacency[v] = count == neighbors.length ? neighbors : Arrays.copyOf(neighbors, count);
+        }
+        return adjacency;
+    }
+
+    /**
+     * Merge two sorted neighbor lists, excluding the eliminated vertex and the vertex itself.
+     */
+    private static int[] mergeWithoutSelf(int[] a, int[] b, int eliminated, int self) {
+        int[] merged = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            int next;
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i == a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            if (next != eliminated && next != self) {
+                merged[count++] = next;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+}
@@ -7,6 +7,7 @@
 package com.powsybl.math.matrix;
 
 import java.nio.ByteBuffer;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -14,9 +15,12 @@ import java.util.UUID;
  */
 public class SparseLUDecomposition implements LUDecomposition {
 
+    private final SparseMatrix matrix;
+
     private final String id;
 
     public SparseLUDecomposition(SparseMatrix matrix) {
+        this.matrix = Objects.requireNonNull(matrix);
         if (matrix.getM() != matrix.getN()) {
             throw new IllegalArgumentException("matrix is not square");
         }
@@ -42,6 +46,13 @@ public class SparseLUDecomposition implements LUDecomposition {
         solve2(id, b.getM(), b.getN(), b.getBuffer());
     }
 
+    @Override
+    public void update() {
+        // the native library does not expose a numerical only factorization
+        release(id);
+        init(id, matrix.getColumnStart(), matrix.getRowIndices(), matrix.getValues());
+    }
+
     @Override
     public void close() {
         release(id);
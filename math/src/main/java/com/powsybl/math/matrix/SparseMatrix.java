@@ -34,7 +34,7 @@ public class SparseMatrix extends AbstractMatrix {
             System.loadLibrary("mathjni");
             nativeInit();
         } catch (UnsatisfiedLinkError e) {
-            LOGGER.warn("Cannot load native math library");
+            LOGGER.warn("Cannot load native math library, a pure Java sparse LU decomposition will be used");
             pb = true;
         }
         NATIVE_INIT = !pb;
@@ -110,10 +110,23 @@ public class SparseMatrix extends AbstractMatrix {
         columnStart[columnStart.length - 1] = values.size();
     }
 
+    @Override
+    public int addAndGetIndex(int i, int j, double value) {
+        setValue(i, j, value);
+        return values.size() - 1;
+    }
+
+    @Override
+    public void setAtIndex(int index, double value) {
+        if (index < 0 || index >= values.size()) {
+            throw new IllegalArgumentException("Bad index: " + index);
+        }
+        values.setQuick(index, value);
+    }
+
     @Override
     public LUDecomposition decomposeLU() {
-        checkNativeInit();
-        return new SparseLUDecomposition(this);
+        return NATIVE_INIT ? new SparseLUDecomposition(this) : new JavaSparseLUDecomposition(this);
     }
 
     private native SparseMatrix times(int m1, int n1, int[] ap1, int[] ai1, double[] ax1, int m2, int n2, int[] ap2, int[] ai2, double[] ax2);
@@ -12,6 +12,7 @@ import org.junit.After;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -23,7 +24,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  *
@@ -210,6 +213,18 @@ public class UndirectedGraphImplTest {
         assertEquals(1, graph.getEdgeObjects(1, 0).size());
     }
 
+    @Test
+    public void testGetEdgesConnectedToVertex() {
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        graph.addEdge(0, 1, null);
+        graph.addEdge(1, 2, null);
+        assertArrayEquals(new int[]{0}, graph.getEdgesConnectedToVertex(0));
+        assertArrayEquals(new int[]{0, 1}, graph.getEdgesConnectedToVertex(1));
+        assertArrayEquals(new int[]{1}, graph.getEdgesConnectedToVertex(2));
+    }
+
     /**
      *           0
      *           |
@@ -415,6 +430,64 @@ public class UndirectedGraphImplTest {
         graph.traverse(4, traverser);
     }
 
+    @Test
+    public void testTraverseWithStack() {
+        // a long chain would overflow the call stack with a recursive traversal
+        int vertexCount = 100000;
+        for (int i = 0; i < vertexCount; i++) {
+            graph.addVertex();
+        }
+        for (int i = 0; i < vertexCount - 1; i++) {
+            graph.addEdge(i, i + 1, null);
+        }
+        boolean[] encountered = new boolean[vertexCount];
+        int[] stack = new int[2 * vertexCount];
+        int[] count = new int[1];
+        graph.traverse(0, (v1, e, v2) -> {
+            count[0]++;
+            return v2 == vertexCount / 2 ? TraverseResult.TERMINATE : TraverseResult.CONTINUE;
+        }, encountered, stack);
+        assertEquals(vertexCount / 2, count[0]);
+        assertTrue(encountered[vertexCount / 2 - 1]);
+        assertFalse(encountered[vertexCount / 2]);
+
+        // the stack can be reused
+        Arrays.fill(encountered, false);
+        count[0] = 0;
+        graph.traverse(vertexCount - 1, (v1, e, v2) -> {
+            count[0]++;
+            return TraverseResult.CONTINUE;
+        }, encountered, stack);
+        assertEquals(vertexCount - 1, count[0]);
+    }
+
+    @Test
+    public void testAdjacencyListUpdate() {
+        for (int i = 0; i < 5; i++) {
+            graph.addVertex();
+        }
+        graph.addEdge(0, 1, "a"); // 0
+        graph.addEdge(1, 2, "b"); // 1
+        graph.addEdge(2, 3, "c"); // 2
+        assertArrayEquals(new int[] {0, 1}, graph.getEdgesConnectedToVertex(1));
+
+        // modifications after a read are applied to the cached adjacency list
+        graph.removeEdge(1);
+        assertArrayEquals(new int[] {0}, graph.getEdgesConnectedToVertex(1));
+        assertArrayEquals(new int[] {2}, graph.getEdgesConnectedToVertex(2));
+        assertEquals(1, graph.addEdge(1, 4, "d"));
+        assertArrayEquals(new int[] {0, 1}, graph.getEdgesConnectedToVertex(1));
+        assertArrayEquals(new int[] {1}, graph.getEdgesConnectedToVertex(4));
+        assertEquals(5, graph.addVertex());
+        assertEquals(3, graph.addEdge(5, 5, "loop"));
+        assertArrayEquals(new int[] {3, 3}, graph.getEdgesConnectedToVertex(5));
+        graph.removeEdge(3);
+        graph.removeVertex(5);
+        assertEquals(5, graph.getMaxVertex());
+        assertEquals(Collections.singletonList("a"), graph.getEdgeObjects(1, 0));
+        assertEquals(Arrays.asList("a", "d", "c"), graph.getEdgeObjectStream().collect(Collectors.toList()));
+    }
+
     @Test
     public void testGetVertexObjectStream() {
         graph.addVertex();
@@ -143,6 +143,33 @@ public abstract class AbstractMatrixTest {
         }
     }
 
+    @Test
+    public void testDecomposeUpdate() {
+        Matrix matrix = getMatrixFactory().create(3, 3, 7);
+        int i00 = matrix.addAndGetIndex(0, 0, 2);
+        matrix.addAndGetIndex(1, 0, 1);
+        matrix.addAndGetIndex(0, 1, 1);
+        int i11 = matrix.addAndGetIndex(1, 1, 3);
+        matrix.addAndGetIndex(2, 1, 1);
+        matrix.addAndGetIndex(1, 2, 1);
+        int i22 = matrix.addAndGetIndex(2, 2, 4);
+
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            double[] x = {4, 10, 14};
+            decomposition.solve(x);
+            assertArrayEquals(new double[] {1, 2, 3}, x, 1e-12);
+
+            // same structure, new values
+            matrix.setAtIndex(i00, 1);
+            matrix.setAtIndex(i11, 1);
+            matrix.setAtIndex(i22, 1);
+            decomposition.update();
+            double[] x2 = {3, 6, 5};
+            decomposition.solve(x2);
+            assertArrayEquals(new double[] {1, 2, 3}, x2, 1e-12);
+        }
+    }
+
     @Test
     public void testDenseEquals() {
         Matrix a1 = createA(getMatrixFactory());
@@ -6,11 +6,15 @@
  */
 package com.powsybl.math.matrix;
 
+import com.powsybl.commons.PowsyblException;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeTrue;
 
 /**
@@ -38,10 +42,114 @@ public class SparseMatrixTest extends AbstractMatrixTest {
         super.testMultiplication();
     }
 
-    @Override
-    public void testDecompose() throws Exception {
-        assumeTrue(SparseMatrix.NATIVE_INIT);
-        super.testDecompose();
+    @Test
+    public void testJavaDecompose() {
+        // tridiagonal matrix
+        int n = 100;
+        SparseMatrix matrix = new SparseMatrix(n, n, 3 * n);
+        for (int j = 0; j < n; j++) {
+            if (j > 0) {
+                matrix.setValue(j - 1, j, -1);
+            }
+            matrix.setValue(j, j, 4);
+            if (j < n - 1) {
+                matrix.setValue(j + 1, j, -1);
+            }
+        }
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = (i > 0 ? -(i - 1) : 0) + 4 * i + (i < n - 1 ? -(i + 1) : 0);
+        }
+        JavaSparseLUDecomposition decomposition = new JavaSparseLUDecomposition(matrix);
+        decomposition.solve(b);
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, b[i], 1e-10);
+        }
+    }
+
+    @Test
+    public void testJavaSolveMultipleRightHandSides() {
+        // 2D grid laplacian like matrix
+        int side = 10;
+        int n = side * side;
+        SparseMatrix matrix = new SparseMatrix(n, n, 5 * n);
+        for (int j = 0; j < n; j++) {
+            for (int i : new int[] {j - side, j - 1, j, j + 1, j + side}) {
+                if (i >= 0 && i < n && (i != j - 1 || j % side != 0) && (i != j + 1 || j % side != side - 1)) {
+                    matrix.setValue(i, j, i == j ? 5.5 : -1 - 0.1 * (i % 3));
+                }
+            }
+        }
+        JavaSparseLUDecomposition decomposition = new JavaSparseLUDecomposition(matrix);
+
+        // more columns than a block, and not a multiple of the block size
+        int rhsCount = 37;
+        DenseMatrix b = new DenseMatrix(n, rhsCount);
+        DenseMatrix b2 = new DenseMatrix(n, rhsCount);
+        double[][] expected = new double[rhsCount][n];
+        for (int j = 0; j < rhsCount; j++) {
+            for (int i = 0; i < n; i++) {
+                double value = Math.sin(i + 7.0 * j);
+                b.setValue(i, j, value);
+                b2.setValue(i, j, value);
+                expected[j][i] = value;
+            }
+            decomposition.solve(expected[j]);
+        }
+        decomposition.solve(b);
+        decomposition.solve(b2, ForkJoinPool.commonPool());
+        for (int j = 0; j < rhsCount; j++) {
+            for (int i = 0; i < n; i++) {
+                assertEquals(expected[j][i], b.getValue(i, j), 1e-12);
+                assertEquals(expected[j][i], b2.getValue(i, j), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void testJavaDecomposeUpdateWithPivotChange() {
+        SparseMatrix matrix = new SparseMatrix(2, 2, 3);
+        int i00 = matrix.addAndGetIndex(0, 0, 1);
+        matrix.setValue(1, 0, 1);
+        matrix.setValue(0, 1, 1);
+        JavaSparseLUDecomposition decomposition = new JavaSparseLUDecomposition(matrix);
+        double[] x = {3, 1};
+        decomposition.solve(x);
+        assertArrayEquals(new double[] {1, 2}, x, 1e-12);
+
+        // diagonal pivot becomes too small, the pivot sequence is recomputed
+        matrix.setAtIndex(i00, 1e-9);
+        decomposition.update();
+        double[] x2 = {2 + 1e-9, 1};
+        decomposition.solve(x2);
+        assertArrayEquals(new double[] {1, 2}, x2, 1e-12);
+    }
+
+    @Test
+    public void testJavaDecomposeUpdateWithStructureChange() {
+        int[] columnStart = {0, 2, 3};
+        SparseMatrix matrix = new SparseMatrix(2, 2, columnStart, new int[] {0, 1, 1}, new double[] {1, 1, 1});
+        JavaSparseLUDecomposition decomposition = new JavaSparseLUDecomposition(matrix);
+
+        // same number of non zero values, but one of them moved from first to second column
+        columnStart[1] = 1;
+        try {
+            decomposition.update();
+            fail();
+        } catch (PowsyblException ignored) {
+        }
+    }
+
+    @Test
+    public void testJavaDecomposeSingular() {
+        SparseMatrix matrix = new SparseMatrix(2, 2, 2);
+        matrix.setValue(0, 0, 1);
+        matrix.setValue(0, 1, 1);
+        try {
+            new JavaSparseLUDecomposition(matrix);
+            fail();
+        } catch (PowsyblException ignored) {
+        }
     }
 
     @Test
@@ -92,6 +92,14 @@ public class SecurityAnalysisRunnerTest extends AbstractProjectFileTest {
 
         @Override
         public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
+            Network network = createNetwork();
+            // the network cache only hands copies of the imported network
+            Network networkCopy = createNetwork();
+            Mockito.when(network.copy(true)).thenReturn(networkCopy);
+            return network;
+        }
+
+        private static Network createNetwork() {
             Network network = Mockito.mock(Network.class);
             VariantManager variantManager = Mockito.mock(VariantManager.class);
             Mockito.when(variantManager.getWorkingVariantId()).thenReturn("s1");
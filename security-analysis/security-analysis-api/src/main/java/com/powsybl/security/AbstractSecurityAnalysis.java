@@ -52,6 +52,11 @@ public abstract class AbstractSecurityAnalysis implements SecurityAnalysis {
     }
 
     protected SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId) {
-        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors);
+        return createResultBuilder(initialWorkingStateId, true);
+    }
+
+    protected SecurityAnalysisResultBuilder createResultBuilder(String initialWorkingStateId, boolean keepPostContingencyResults) {
+        return new SecurityAnalysisResultBuilder(violationFilter, new RunningContext(network, initialWorkingStateId), interceptors,
+                                                 keepPostContingencyResults);
     }
 }
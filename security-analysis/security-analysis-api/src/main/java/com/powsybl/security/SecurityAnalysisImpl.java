@@ -10,19 +10,29 @@ import com.powsybl.computation.ComputationManager;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
-import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.loadflow.LoadFlow;
 import com.powsybl.loadflow.LoadFlowFactory;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.security.interceptors.CurrentLimitViolationInterceptor;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
+ * Security analysis based on one load flow per contingency.
+ * <p>
+ * By default all contingencies are submitted at once, each one on a network variant cloned and removed for the
+ * occasion. When {@link SecurityAnalysisParameters#getMaxInFlightContingencies()} is strictly positive, contingencies
+ * are simulated through a window of this size: as many variants are cloned up front and each of them is overwritten
+ * by the working variant before the next contingency, so that the memory does not depend on the number of
+ * contingencies.
+ *
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  * @author Teofil Calin BANC <teofil-calin.banc at rte-france.com>
  */
@@ -79,7 +89,7 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
                 .thenComposeAsync(loadFlowResult -> {
                     network.getVariantManager().setWorkingVariant(workingStateId);
 
-                    SecurityAnalysisResultBuilder resultBuilder = createResultBuilder(workingStateId);
+                    SecurityAnalysisResultBuilder resultBuilder = createResultBuilder(workingStateId, securityAnalysisParameters.isKeepPostContingencyResults());
 
                     CompletableFuture<Void>[] futures;
 
@@ -93,37 +103,43 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
 
                         List<Contingency> contingencies = contingenciesProvider.getContingencies(network);
 
-                        futures = new CompletableFuture[contingencies.size()];
-
-                        String hash = UUID.randomUUID().toString();
-                        for (int i = 0; i < contingencies.size(); i++) {
-                            Contingency contingency = contingencies.get(i);
-
-                            String postContStateId = hash + "_" + contingency.getId();
-
-                            // run one loadflow per contingency
-                            futures[i] = CompletableFuture
-                                    .supplyAsync(() -> {
-                                        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, postContStateId);
-                                        network.getVariantManager().setWorkingVariant(postContStateId);
-
-                                        // apply the contingency on the network
-                                        contingency.toTask().modify(network, computationManager);
-
-                                        return null;
-                                    }, computationManager.getExecutor())
-                                    .thenComposeAsync(aVoid -> loadFlow.run(postContStateId, postContParameters), computationManager.getExecutor())
-                                    .handleAsync((lfResult, throwable) -> {
-                                        network.getVariantManager().setWorkingVariant(postContStateId);
-
-                                        resultBuilder.contingency(contingency)
-                                                .setComputationOk(lfResult.isOk());
-                                        violationDetector.checkAll(network, resultBuilder::addViolation);
-                                        resultBuilder.endContingency();
-                                        network.getVariantManager().removeVariant(postContStateId);
-
-                                        return null;
-                                    }, computationManager.getExecutor());
+                        int maxInFlightContingencies = securityAnalysisParameters.getMaxInFlightContingencies();
+                        if (maxInFlightContingencies > 0) {
+                            futures = new ContingencyWindow(workingStateId, contingencies, loadFlow, postContParameters, resultBuilder)
+                                    .run(maxInFlightContingencies);
+                        } else {
+                            futures = new CompletableFuture[contingencies.size()];
+
+                            String hash = UUID.randomUUID().toString();
+                            for (int i = 0; i < contingencies.size(); i++) {
+                                Contingency contingency = contingencies.get(i);
+
+                                String postContStateId = hash + "_" + contingency.getId();
+
+                                // run one loadflow per contingency
+                                futures[i] = CompletableFuture
+                                        .supplyAsync(() -> {
+                                            network.getVariantManager().cloneVariant(workingStateId, postContStateId);
+                                            network.getVariantManager().setWorkingVariant(postContStateId);
+
+                                            // apply the contingency on the network
+                                            contingency.toTask().modify(network, computationManager);
+
+                                            return null;
+                                        }, computationManager.getExecutor())
+                                        .thenComposeAsync(aVoid -> loadFlow.run(postContStateId, postContParameters), computationManager.getExecutor())
+                                        .handleAsync((lfResult, throwable) -> {
+                                            network.getVariantManager().setWorkingVariant(postContStateId);
+
+                                            resultBuilder.contingency(contingency)
+                                                    .setComputationOk(lfResult.isOk());
+                                            violationDetector.checkAll(network, resultBuilder::addViolation);
+                                            resultBuilder.endContingency();
+                                            network.getVariantManager().removeVariant(postContStateId);
+
+                                            return null;
+                                        }, computationManager.getExecutor());
+                            }
                         }
                     } else {
                         resultBuilder.preContingency()
@@ -140,4 +156,113 @@ public class SecurityAnalysisImpl extends AbstractSecurityAnalysis {
                         });
                 }, computationManager.getExecutor());
     }
+
+    /**
+     * Runs contingencies through a fixed number of reused variant slots. Each slot processes contingencies one after
+     * the other until the list is exhausted.
+     */
+    private final class ContingencyWindow {
+
+        private final String workingStateId;
+
+        private final List<Contingency> contingencies;
+
+        private final LoadFlow loadFlow;
+
+        private final LoadFlowParameters postContParameters;
+
+        private final SecurityAnalysisResultBuilder resultBuilder;
+
+        private final AtomicInteger nextContingencyNum = new AtomicInteger();
+
+        // network modifications and violations checks switch the working variant, so they are serialized; only
+        // load flows run concurrently
+        private final Object networkLock = new Object();
+
+        private ContingencyWindow(String workingStateId, List<Contingency> contingencies, LoadFlow loadFlow,
+                                  LoadFlowParameters postContParameters, SecurityAnalysisResultBuilder resultBuilder) {
+            this.workingStateId = workingStateId;
+            this.contingencies = contingencies;
+            this.loadFlow = loadFlow;
+            this.postContParameters = postContParameters;
+            this.resultBuilder = resultBuilder;
+        }
+
+        private CompletableFuture<Void>[] run(int maxInFlightContingencies) {
+            int slotCount = Math.min(maxInFlightContingencies, contingencies.size());
+            if (slotCount == 0) {
+                return new CompletableFuture[0];
+            }
+
+            String hash = UUID.randomUUID().toString();
+            List<String> slotIds = new ArrayList<>(slotCount);
+            for (int i = 0; i < slotCount; i++) {
+                slotIds.add(hash + "_" + i);
+            }
+            network.getVariantManager().cloneVariant(workingStateId, slotIds);
+
+            CompletableFuture<Void>[] futures = new CompletableFuture[slotCount];
+            for (int i = 0; i < slotCount; i++) {
+                String slotId = slotIds.get(i);
+                CompletableFuture<Void> slotFuture = new CompletableFuture<>();
+                runNext(slotId, slotFuture);
+                futures[i] = slotFuture.whenComplete((aVoid, throwable) -> {
+                    synchronized (networkLock) {
+                        network.getVariantManager().removeVariant(slotId);
+                    }
+                });
+            }
+            return futures;
+        }
+
+        private void runNext(String slotId, CompletableFuture<Void> slotFuture) {
+            // loop instead of recursing while contingencies complete synchronously, so that the stack does not grow
+            // with the number of contingencies when the executor runs tasks in the calling thread
+            while (true) {
+                int contingencyNum = nextContingencyNum.getAndIncrement();
+                if (contingencyNum >= contingencies.size()) {
+                    slotFuture.complete(null);
+                    return;
+                }
+                CompletableFuture<Void> future = runContingency(contingencies.get(contingencyNum), slotId);
+                if (!future.isDone() || future.isCompletedExceptionally()) {
+                    future.whenComplete((aVoid, throwable) -> {
+                        if (throwable != null) {
+                            slotFuture.completeExceptionally(throwable);
+                        } else {
+                            runNext(slotId, slotFuture);
+                        }
+                    });
+                    return;
+                }
+            }
+        }
+
+        private CompletableFuture<Void> runContingency(Contingency contingency, String slotId) {
+            VariantManager variantManager = network.getVariantManager();
+            return CompletableFuture
+                    .runAsync(() -> {
+                        synchronized (networkLock) {
+                            // reset the slot to the pre-contingency state
+                            variantManager.cloneVariant(workingStateId, slotId, true);
+                            variantManager.setWorkingVariant(slotId);
+
+                            // apply the contingency on the network
+                            contingency.toTask().modify(network, computationManager);
+                        }
+                    }, computationManager.getExecutor())
+                    .thenComposeAsync(aVoid -> loadFlow.run(slotId, postContParameters), computationManager.getExecutor())
+                    .handleAsync((lfResult, throwable) -> {
+                        synchronized (networkLock) {
+                            variantManager.setWorkingVariant(slotId);
+
+                            resultBuilder.contingency(contingency)
+                                    .setComputationOk(throwable == null && lfResult.isOk());
+                            violationDetector.checkAll(network, resultBuilder::addViolation);
+                            resultBuilder.endContingency();
+                        }
+                        return null;
+                    }, computationManager.getExecutor());
+        }
+    }
 }
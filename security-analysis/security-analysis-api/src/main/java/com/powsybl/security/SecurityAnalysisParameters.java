@@ -33,13 +33,21 @@ public class SecurityAnalysisParameters extends AbstractExtendable<SecurityAnaly
     public static interface ConfigLoader<E extends Extension<SecurityAnalysisParameters>> extends ExtensionConfigLoader<SecurityAnalysisParameters, E> {
     }
 
-    public static final String VERSION = "1.0";
+    public static final String VERSION = "1.1";
+
+    public static final int DEFAULT_MAX_IN_FLIGHT_CONTINGENCIES = 0;
+
+    public static final boolean DEFAULT_KEEP_POST_CONTINGENCY_RESULTS = true;
 
     private static final Supplier<ExtensionProviders<ConfigLoader>> SUPPLIER =
         Suppliers.memoize(() -> ExtensionProviders.createProvider(ConfigLoader.class, "security-analysis-parameters"));
 
     private LoadFlowParameters loadFlowParameters = new LoadFlowParameters();
 
+    private int maxInFlightContingencies = DEFAULT_MAX_IN_FLIGHT_CONTINGENCIES;
+
+    private boolean keepPostContingencyResults = DEFAULT_KEEP_POST_CONTINGENCY_RESULTS;
+
     /**
      * Load parameters from platform default config.
      */
@@ -75,4 +83,33 @@ public class SecurityAnalysisParameters extends AbstractExtendable<SecurityAnaly
         this.loadFlowParameters = Objects.requireNonNull(loadFlowParameters);
         return this;
     }
+
+    /**
+     * Maximum number of contingencies simulated at the same time, each one on its own reused network variant.
+     * Zero means no limit: all contingencies are submitted at once.
+     */
+    public int getMaxInFlightContingencies() {
+        return maxInFlightContingencies;
+    }
+
+    public SecurityAnalysisParameters setMaxInFlightContingencies(int maxInFlightContingencies) {
+        if (maxInFlightContingencies < 0) {
+            throw new IllegalArgumentException("Invalid max in flight contingencies " + maxInFlightContingencies);
+        }
+        this.maxInFlightContingencies = maxInFlightContingencies;
+        return this;
+    }
+
+    /**
+     * If false, post-contingency results are only streamed to the interceptors as they complete and are not kept
+     * in the final result.
+     */
+    public boolean isKeepPostContingencyResults() {
+        return keepPostContingencyResults;
+    }
+
+    public SecurityAnalysisParameters setKeepPostContingencyResults(boolean keepPostContingencyResults) {
+        this.keepPostContingencyResults = keepPostContingencyResults;
+        return this;
+    }
 }
@@ -28,6 +28,7 @@ public class SecurityAnalysisResultBuilder {
     private final LimitViolationFilter filter;
     private final RunningContext context;
     private final List<SecurityAnalysisInterceptor> interceptors;
+    private final boolean keepPostContingencyResults;
 
     // Below are volatile objects used for building the actual complete result
     private LimitViolationsResult preContingencyResult;
@@ -35,14 +36,25 @@ public class SecurityAnalysisResultBuilder {
 
     private ResultBuilder currentBuilder = null;
 
+    /**
+     * @param keepPostContingencyResults if false, post-contingency results are only notified to the interceptors
+     *                                   and are not kept in the built result, so that memory does not grow with
+     *                                   the number of contingencies
+     */
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, RunningContext context,
-                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+                                         Collection<SecurityAnalysisInterceptor> interceptors, boolean keepPostContingencyResults) {
         this.filter = Objects.requireNonNull(filter);
         this.context = Objects.requireNonNull(context);
         this.interceptors = ImmutableList.copyOf(interceptors);
+        this.keepPostContingencyResults = keepPostContingencyResults;
         this.postContingencyResults = new ArrayList<>();
     }
 
+    public SecurityAnalysisResultBuilder(LimitViolationFilter filter, RunningContext context,
+                                         Collection<SecurityAnalysisInterceptor> interceptors) {
+        this(filter, context, interceptors, true);
+    }
+
     public SecurityAnalysisResultBuilder(LimitViolationFilter filter, RunningContext context) {
         this(filter, context, Collections.emptyList());
     }
@@ -190,7 +202,9 @@ public class SecurityAnalysisResultBuilder {
             List<LimitViolation> filteredViolations = filter.apply(violations, context.getNetwork());
             PostContingencyResult res = new PostContingencyResult(contingency, computationOk, filteredViolations);
             interceptors.forEach(i -> i.onPostContingencyResult(context, res));
-            postContingencyResults.add(res);
+            if (keepPostContingencyResults) {
+                postContingencyResults.add(res);
+            }
         }
     }
 }
@@ -8,6 +8,7 @@ package com.powsybl.security.distributed;
 
 import com.powsybl.computation.*;
 import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.iidm.export.Exporters;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.xml.NetworkXml;
 import com.powsybl.security.SecurityAnalysis;
@@ -94,6 +95,8 @@ public class ExternalSecurityAnalysis implements SecurityAnalysis {
     protected class SecurityAnalysisExecutionHandler extends AbstractExecutionHandler<SecurityAnalysisResult> {
 
         static final String NETWORK_FILE = "network.xiidm";
+        static final String NETWORK_BASE_NAME = "network";
+        static final String DEFAULT_NETWORK_FORMAT = "XIIDM";
         static final String CONTINGENCIES_FILE = "contingencies.groovy";
         static final String PARAMETERS_FILE = "parameters.json";
         static final String OUTPUT_FILE = "result.json";
@@ -101,6 +104,7 @@ public class ExternalSecurityAnalysis implements SecurityAnalysis {
         private final String workingStateId;
         private final SecurityAnalysisParameters parameters;
         private final ContingenciesProvider contingenciesProvider;
+        private String networkFile = NETWORK_FILE;
 
         SecurityAnalysisExecutionHandler(String workingStateId, SecurityAnalysisParameters parameters, ContingenciesProvider contingenciesProvider) {
             this.workingStateId = workingStateId;
@@ -128,9 +132,16 @@ public class ExternalSecurityAnalysis implements SecurityAnalysis {
 
         private void copyInputFiles(Path workingDir) throws IOException {
             // copy input files to slave workingDir
-            Path networkDest = workingDir.resolve(NETWORK_FILE);
-            LOGGER.debug("Copying network to file {}", networkDest);
-            NetworkXml.write(network, networkDest);
+            if (DEFAULT_NETWORK_FORMAT.equals(config.getNetworkFormat())) {
+                Path networkDest = workingDir.resolve(NETWORK_FILE);
+                LOGGER.debug("Copying network to file {}", networkDest);
+                NetworkXml.write(network, networkDest);
+            } else {
+                // the name of the file depends on the exporter of the configured format
+                Path networkDest = Exporters.exportToDirectory(config.getNetworkFormat(), network, null, workingDir, NETWORK_BASE_NAME);
+                LOGGER.debug("Network copied to file {}", networkDest);
+                networkFile = networkDest.getFileName().toString();
+            }
 
             Path dslFileDest = workingDir.resolve(CONTINGENCIES_FILE);
             LOGGER.debug("Writing contingencies to file {}", dslFileDest);
@@ -149,7 +160,7 @@ public class ExternalSecurityAnalysis implements SecurityAnalysis {
                     .id(id)
                     .program(config.getItoolsCommand())
                     .arg("security-analysis")
-                    .option("case-file", NETWORK_FILE)
+                    .option("case-file", networkFile)
                     .option("contingencies-file", CONTINGENCIES_FILE)
                     .option("parameters-file", PARAMETERS_FILE);
             if (!extensions.isEmpty()) {
@@ -18,9 +18,11 @@ public class ExternalSecurityAnalysisConfig {
 
     private static final boolean DEFAULT_DEBUG = false;
     private static final String DEFAULT_COMMAND = "itools";
+    private static final String DEFAULT_NETWORK_FORMAT = "XIIDM";
 
     private final boolean debug;
     private final String itoolsCommand;
+    private final String networkFormat;
 
     public ExternalSecurityAnalysisConfig() {
         this(DEFAULT_DEBUG, DEFAULT_COMMAND);
@@ -31,12 +33,17 @@ public class ExternalSecurityAnalysisConfig {
     }
 
     public ExternalSecurityAnalysisConfig(boolean debug, String itoolsCommand) {
+        this(debug, itoolsCommand, DEFAULT_NETWORK_FORMAT);
+    }
+
+    public ExternalSecurityAnalysisConfig(boolean debug, String itoolsCommand, String networkFormat) {
         this.debug = debug;
         Objects.requireNonNull(itoolsCommand);
         if (itoolsCommand.isEmpty()) {
             throw new ConfigurationException("itools command must not be empty.");
         }
         this.itoolsCommand = itoolsCommand;
+        this.networkFormat = Objects.requireNonNull(networkFormat);
     }
 
     public boolean isDebug() {
@@ -47,6 +54,13 @@ public class ExternalSecurityAnalysisConfig {
         return itoolsCommand;
     }
 
+    /**
+     * Format used to send the network to the external process, XIIDM by default.
+     */
+    public String getNetworkFormat() {
+        return networkFormat;
+    }
+
     public static ExternalSecurityAnalysisConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -57,7 +71,8 @@ public class ExternalSecurityAnalysisConfig {
                 .map(module -> {
                     boolean debug = module.getBooleanProperty("debug", DEFAULT_DEBUG);
                     String itoolsCommand = module.getStringProperty("itools-command", DEFAULT_COMMAND);
-                    return new ExternalSecurityAnalysisConfig(debug, itoolsCommand);
+                    String networkFormat = module.getStringProperty("network-format", DEFAULT_NETWORK_FORMAT);
+                    return new ExternalSecurityAnalysisConfig(debug, itoolsCommand, networkFormat);
                 })
                 .orElseGet(() -> new ExternalSecurityAnalysisConfig(DEFAULT_DEBUG, DEFAULT_COMMAND));
 
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.Extension;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.loadflow.json.JsonLoadFlowParameters;
@@ -36,12 +37,14 @@ public class SecurityAnalysisParametersDeserializer extends StdDeserializer<Secu
     @Override
     public SecurityAnalysisParameters deserialize(JsonParser parser, DeserializationContext deserializationContext, SecurityAnalysisParameters parameters) throws IOException {
 
+        String version = null;
         List<Extension<SecurityAnalysisParameters>> extensions = Collections.emptyList();
         while (parser.nextToken() != JsonToken.END_OBJECT) {
             switch (parser.getCurrentName()) {
 
                 case "version":
                     parser.nextToken();
+                    version = parser.getValueAsString();
                     break;
 
                 case "load-flow-parameters":
@@ -49,6 +52,18 @@ public class SecurityAnalysisParametersDeserializer extends StdDeserializer<Secu
                     JsonLoadFlowParameters.deserialize(parser, deserializationContext, parameters.getLoadFlowParameters());
                     break;
 
+                case "max-in-flight-contingencies":
+                    checkVersion(parser.getCurrentName(), version, "1.1");
+                    parser.nextToken();
+                    parameters.setMaxInFlightContingencies(parser.readValueAs(Integer.class));
+                    break;
+
+                case "keep-post-contingency-results":
+                    checkVersion(parser.getCurrentName(), version, "1.1");
+                    parser.nextToken();
+                    parameters.setKeepPostContingencyResults(parser.readValueAs(Boolean.class));
+                    break;
+
                 case "extensions":
                     parser.nextToken();
                     extensions = JsonUtil.readExtensions(parser, deserializationContext, JsonSecurityAnalysisParameters.getExtensionSerializers());
@@ -64,4 +79,24 @@ public class SecurityAnalysisParametersDeserializer extends StdDeserializer<Secu
         return parameters;
     }
 
+    private static void checkVersion(String fieldName, String version, String minVersion) {
+        if (version != null && compareVersions(version, minVersion) < 0) {
+            throw new PowsyblException("Field '" + fieldName + "' is not valid for version " + version
+                    + " of security analysis parameters, version should be >= " + minVersion);
+        }
+    }
+
+    private static int compareVersions(String version1, String version2) {
+        String[] numbers1 = version1.split("\\.");
+        String[] numbers2 = version2.split("\\.");
+        for (int i = 0; i < Math.max(numbers1.length, numbers2.length); i++) {
+            int number1 = i < numbers1.length ? Integer.parseInt(numbers1[i]) : 0;
+            int number2 = i < numbers2.length ? Integer.parseInt(numbers2[i]) : 0;
+            if (number1 != number2) {
+                return Integer.compare(number1, number2);
+            }
+        }
+        return 0;
+    }
+
 }
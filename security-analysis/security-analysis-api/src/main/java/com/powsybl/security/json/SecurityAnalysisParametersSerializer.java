@@ -34,6 +34,9 @@ public class SecurityAnalysisParametersSerializer extends StdSerializer<Security
         jsonGenerator.writeFieldName("load-flow-parameters");
         JsonLoadFlowParameters.serialize(parameters.getLoadFlowParameters(), jsonGenerator, serializerProvider);
 
+        jsonGenerator.writeNumberField("max-in-flight-contingencies", parameters.getMaxInFlightContingencies());
+        jsonGenerator.writeBooleanField("keep-post-contingency-results", parameters.isKeepPostContingencyResults());
+
         JsonUtil.writeExtensions(parameters, jsonGenerator, serializerProvider, JsonSecurityAnalysisParameters.getExtensionSerializers());
 
         jsonGenerator.writeEndObject();
@@ -6,6 +6,7 @@
  */
 package com.powsybl.security;
 
+import com.google.common.collect.Sets;
 import com.google.common.jimfs.Configuration;
 import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
@@ -24,6 +25,8 @@ import com.powsybl.loadflow.mock.LoadFlowFactoryMock;
 import com.powsybl.security.extensions.ActivePowerExtension;
 import com.powsybl.security.extensions.CurrentExtension;
 import com.powsybl.security.interceptors.CurrentLimitViolationInterceptor;
+import com.powsybl.security.interceptors.DefaultSecurityAnalysisInterceptor;
+import com.powsybl.security.interceptors.RunningContext;
 import com.powsybl.security.interceptors.SecurityAnalysisInterceptorMock;
 import org.junit.After;
 import org.junit.Before;
@@ -33,7 +36,12 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -59,8 +67,7 @@ public class SecurityAnalysisTest {
         fileSystem.close();
     }
 
-    @Test
-    public void run() {
+    private static Network createNetwork() {
         Network network = EurostagTutorialExample1Factory.create();
         ((Bus) network.getIdentifiable("NHV1")).setV(380.0);
         ((Bus) network.getIdentifiable("NHV2")).setV(380.0);
@@ -75,14 +82,10 @@ public class SecurityAnalysisTest {
                 .setValue(1300.0)
             .endTemporaryLimit()
             .add();
+        return network;
+    }
 
-        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
-        Executor executor = Runnable::run;
-        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
-
-        LoadFlowFactory loadflowFactory = new LoadFlowFactoryMock();
-
-        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+    private static Contingency createContingency() {
         Contingency contingency = Mockito.mock(Contingency.class);
         Mockito.when(contingency.getId()).thenReturn("NHV1_NHV2_2_contingency");
         Mockito.when(contingency.getElements()).thenReturn(Collections.singletonList(new BranchContingency("NHV1_NHV2_2")));
@@ -94,6 +97,21 @@ public class SecurityAnalysisTest {
                 network.getLine("NHV1_NHV2_1").getTerminal2().setP(600.0);
             }
         });
+        return contingency;
+    }
+
+    @Test
+    public void run() {
+        Network network = createNetwork();
+
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Executor executor = Runnable::run;
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+
+        LoadFlowFactory loadflowFactory = new LoadFlowFactoryMock();
+
+        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+        Contingency contingency = createContingency();
         Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.singletonList(contingency));
 
         LimitViolationFilter filter = new LimitViolationFilter();
@@ -122,4 +140,106 @@ public class SecurityAnalysisTest {
         assertNotNull(extension2);
         assertEquals(1192.5631358010583, extension2.getPreContingencyValue(), 0.0);
     }
+
+    private static SecurityAnalysisResult runWindowed(Network network, Executor executor, SecurityAnalysisParameters parameters,
+                                                      int contingencyCount, AtomicInteger streamedResultCount) {
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+
+        Contingency contingency = createContingency();
+        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+        Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.nCopies(contingencyCount, contingency));
+
+        SecurityAnalysis securityAnalysis = new SecurityAnalysisImpl(network, new LimitViolationFilter(), computationManager, new LoadFlowFactoryMock());
+        securityAnalysis.addInterceptor(new SecurityAnalysisInterceptorMock());
+        securityAnalysis.addInterceptor(new DefaultSecurityAnalysisInterceptor() {
+            @Override
+            public void onPostContingencyResult(RunningContext context, PostContingencyResult postContingencyResult) {
+                streamedResultCount.incrementAndGet();
+            }
+        });
+
+        return securityAnalysis.run(VariantManagerConstants.INITIAL_VARIANT_ID, parameters, contingenciesProvider).join();
+    }
+
+    @Test
+    public void runWithMaxInFlightContingencies() {
+        Network network = createNetwork();
+        SecurityAnalysisParameters parameters = SecurityAnalysisParameters.load(platformConfig)
+                .setMaxInFlightContingencies(3);
+        AtomicInteger streamedResultCount = new AtomicInteger();
+
+        // contingencies complete in the calling thread, the slots must not recurse once per contingency
+        SecurityAnalysisResult result = runWindowed(network, Runnable::run, parameters, 1000, streamedResultCount);
+
+        assertTrue(result.getPreContingencyResult().isComputationOk());
+        assertEquals(1000, result.getPostContingencyResults().size());
+        assertEquals(1000, streamedResultCount.get());
+        for (PostContingencyResult postContingencyResult : result.getPostContingencyResults()) {
+            assertEquals(1, postContingencyResult.getLimitViolationsResult().getLimitViolations().size());
+        }
+
+        // the working variant is left untouched and the variant slots are removed
+        assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), network.getVariantManager().getVariantIds());
+        assertTrue(network.getLine("NHV1_NHV2_2").getTerminal1().isConnected());
+        assertEquals(560.0, network.getLine("NHV1_NHV2_1").getTerminal2().getP(), 0.0);
+    }
+
+    private static LimitViolation runOnVariant(Network network, String workingStateId, SecurityAnalysisParameters parameters) {
+        ComputationManager computationManager = Mockito.mock(ComputationManager.class);
+        Executor executor = Runnable::run;
+        Mockito.when(computationManager.getExecutor()).thenReturn(executor);
+
+        Contingency contingency = createContingency();
+        ContingenciesProvider contingenciesProvider = Mockito.mock(ContingenciesProvider.class);
+        Mockito.when(contingenciesProvider.getContingencies(network)).thenReturn(Collections.singletonList(contingency));
+
+        SecurityAnalysis securityAnalysis = new SecurityAnalysisImpl(network, new LimitViolationFilter(), computationManager, new LoadFlowFactoryMock());
+        SecurityAnalysisResult result = securityAnalysis.run(workingStateId, parameters, contingenciesProvider).join();
+
+        List<LimitViolation> violations = result.getPostContingencyResults().get(0).getLimitViolationsResult().getLimitViolations();
+        assertEquals(1, violations.size());
+        return violations.get(0);
+    }
+
+    @Test
+    public void runOnNonInitialVariant() {
+        Network network = createNetwork();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "working");
+        network.getVariantManager().setWorkingVariant("working");
+        network.getLine("NHV1_NHV2_1").getTerminal2().setQ(800.0);
+
+        LimitViolation violation = runOnVariant(network, "working", SecurityAnalysisParameters.load(platformConfig));
+        LimitViolation windowedViolation = runOnVariant(network, "working", SecurityAnalysisParameters.load(platformConfig)
+                .setMaxInFlightContingencies(2));
+
+        // both modes simulate the contingency from the working variant, not from the initial one
+        assertEquals(1519.34, violation.getValue(), 0.01);
+        assertEquals("NHV1_NHV2_1", windowedViolation.getSubjectId());
+        assertEquals(violation.getLimitName(), windowedViolation.getLimitName());
+        assertEquals(violation.getValue(), windowedViolation.getValue(), 0.0);
+        assertEquals(Sets.newHashSet(VariantManagerConstants.INITIAL_VARIANT_ID, "working"), network.getVariantManager().getVariantIds());
+    }
+
+    @Test
+    public void runWithoutKeepingPostContingencyResults() throws InterruptedException {
+        Network network = createNetwork();
+        SecurityAnalysisParameters parameters = SecurityAnalysisParameters.load(platformConfig)
+                .setMaxInFlightContingencies(4)
+                .setKeepPostContingencyResults(false);
+        AtomicInteger streamedResultCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SecurityAnalysisResult result = runWindowed(network, executor, parameters, 200, streamedResultCount);
+
+            assertTrue(result.getPreContingencyResult().isComputationOk());
+            assertTrue(result.getPostContingencyResults().isEmpty());
+            assertEquals(200, streamedResultCount.get());
+            assertEquals(Collections.singleton(VariantManagerConstants.INITIAL_VARIANT_ID), network.getVariantManager().getVariantIds());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
 }
@@ -143,11 +143,16 @@ public class DistributedSecurityAnalysisTest {
         ExternalSecurityAnalysisConfig config = new ExternalSecurityAnalysisConfig();
         assertFalse(config.isDebug());
         assertEquals("itools", config.getItoolsCommand());
+        assertEquals("XIIDM", config.getNetworkFormat());
 
         config = new ExternalSecurityAnalysisConfig(true, "/path/to/itools");
         assertTrue(config.isDebug());
         assertEquals("/path/to/itools", config.getItoolsCommand());
 
+        config = new ExternalSecurityAnalysisConfig(true, "/path/to/itools", "BIIDM");
+        assertEquals("BIIDM", config.getNetworkFormat());
+        assertThatNullPointerException().isThrownBy(() -> new ExternalSecurityAnalysisConfig(true, "itools", null));
+
         assertThatNullPointerException().isThrownBy(() -> new ExternalSecurityAnalysisConfig(true, null));
 
         try {
@@ -172,9 +177,11 @@ public class DistributedSecurityAnalysisTest {
             MapModuleConfig moduleConfig = platformConfig.createModuleConfig("external-security-analysis-config");
             moduleConfig.setStringProperty("debug", "true");
             moduleConfig.setStringProperty("itools-command", "/path/to/itools");
+            moduleConfig.setStringProperty("network-format", "BIIDM");
             config = ExternalSecurityAnalysisConfig.load(platformConfig);
             assertTrue(config.isDebug());
             assertEquals("/path/to/itools", config.getItoolsCommand());
+            assertEquals("BIIDM", config.getNetworkFormat());
         }
     }
 
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.google.auto.service.AutoService;
 import com.powsybl.commons.AbstractConverterTest;
+import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.extensions.AbstractExtension;
 import com.powsybl.security.SecurityAnalysisParameters;
 import org.junit.Assert;
@@ -25,14 +26,32 @@ public class JsonSecurityAnalysisParametersTest extends AbstractConverterTest {
     @Test
     public void roundTrip() throws IOException {
         SecurityAnalysisParameters parameters = new SecurityAnalysisParameters();
-        roundTripTest(parameters, JsonSecurityAnalysisParameters::write, JsonSecurityAnalysisParameters::read, "/SecurityAnalysisParameters.json");
+        roundTripTest(parameters, JsonSecurityAnalysisParameters::write, JsonSecurityAnalysisParameters::read, "/SecurityAnalysisParametersV1.1.json");
+    }
+
+    @Test
+    public void readVersion10() {
+        SecurityAnalysisParameters parameters = JsonSecurityAnalysisParameters.read(getClass().getResourceAsStream("/SecurityAnalysisParameters.json"));
+        assertEquals(SecurityAnalysisParameters.DEFAULT_MAX_IN_FLIGHT_CONTINGENCIES, parameters.getMaxInFlightContingencies());
+        assertEquals(SecurityAnalysisParameters.DEFAULT_KEEP_POST_CONTINGENCY_RESULTS, parameters.isKeepPostContingencyResults());
+    }
+
+    @Test
+    public void readInvalidVersion() {
+        try {
+            JsonSecurityAnalysisParameters.read(getClass().getResourceAsStream("/SecurityAnalysisParametersInvalidVersion.json"));
+            Assert.fail();
+        } catch (PowsyblException e) {
+            assertEquals("Field 'max-in-flight-contingencies' is not valid for version 1.0 of security analysis parameters, version should be >= 1.1",
+                    e.getMessage());
+        }
     }
 
     @Test
     public void writeExtension() throws IOException {
         SecurityAnalysisParameters parameters = new SecurityAnalysisParameters();
         parameters.addExtension(DummyExtension.class, new DummyExtension());
-        writeTest(parameters, JsonSecurityAnalysisParameters::write, AbstractConverterTest::compareTxt, "/SecurityAnalysisParametersWithExtension.json");
+        writeTest(parameters, JsonSecurityAnalysisParameters::write, AbstractConverterTest::compareTxt, "/SecurityAnalysisParametersWithExtensionV1.1.json");
     }
 
     @Test
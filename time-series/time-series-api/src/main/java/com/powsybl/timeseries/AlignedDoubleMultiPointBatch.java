@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Batch built by aligning time series data chunks on the union of their points: all the index values of an
+ * uncompressed chunk, the first index value of each step of a compressed chunk.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class AlignedDoubleMultiPointBatch implements DoubleMultiPointBatch {
+
+    private static final AlignedDoubleMultiPointBatch EMPTY = new AlignedDoubleMultiPointBatch(null, new int[0], new double[0][]);
+
+    private final TimeSeriesIndex index;
+
+    private final int[] indexes;
+
+    private final double[][] values;
+
+    private AlignedDoubleMultiPointBatch(TimeSeriesIndex index, int[] indexes, double[][] values) {
+        this.index = index;
+        this.indexes = indexes;
+        this.values = values;
+    }
+
+    /**
+     * Points of a time series which is not made of known data chunks.
+     */
+    private static final class Points {
+
+        private final TIntArrayList indexes = new TIntArrayList();
+
+        private final TDoubleArrayList values = new TDoubleArrayList();
+    }
+
+    static AlignedDoubleMultiPointBatch create(List<DoubleTimeSeries> timeSeriesList) {
+        Objects.requireNonNull(timeSeriesList);
+
+        if (timeSeriesList.isEmpty()) {
+            return EMPTY;
+        }
+
+        // check index unicity
+        long indexCount = timeSeriesList.stream().map(DoubleTimeSeries::getMetadata)
+                                                 .map(TimeSeriesMetadata::getIndex)
+                                                 .distinct()
+                                                 .count();
+        if (indexCount > 1) {
+            throw new TimeSeriesException("Time series must have the same index");
+        }
+        TimeSeriesIndex index = timeSeriesList.get(0).getMetadata().getIndex();
+
+        // first pass, collect points of all the time series
+        BitSet marks = new BitSet(index.getPointCount());
+        List<List<DoubleDataChunk>> chunksList = new ArrayList<>(timeSeriesList.size());
+        List<Points> pointsList = new ArrayList<>(timeSeriesList.size());
+        for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesList.size(); timeSeriesNum++) {
+            DoubleTimeSeries timeSeries = timeSeriesList.get(timeSeriesNum);
+            List<DoubleDataChunk> chunks = getChunks(timeSeries);
+            if (chunks != null) {
+                for (DoubleDataChunk chunk : chunks) {
+                    mark(chunk, marks);
+                }
+                chunksList.add(chunks);
+                pointsList.add(null);
+            } else {
+                Points points = new Points();
+                for (DoublePoint point : timeSeries) {
+                    marks.set(point.getIndex());
+                    points.indexes.add(point.getIndex());
+                    points.values.add(point.getValue());
+                }
+                chunksList.add(null);
+                pointsList.add(points);
+            }
+        }
+        int[] indexes = marks.stream().toArray();
+
+        // second pass, hold the value of each time series on all the points
+        double[][] values = new double[timeSeriesList.size()][];
+        for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesList.size(); timeSeriesNum++) {
+            double[] timeSeriesValues = new double[indexes.length];
+            List<DoubleDataChunk> chunks = chunksList.get(timeSeriesNum);
+            if (chunks == null) {
+                fill(pointsList.get(timeSeriesNum), indexes, timeSeriesValues);
+            } else {
+                for (DoubleDataChunk chunk : chunks) {
+                    fill(chunk, indexes, timeSeriesValues);
+                }
+            }
+            values[timeSeriesNum] = timeSeriesValues;
+        }
+
+        return new AlignedDoubleMultiPointBatch(index, indexes, values);
+    }
+
+    /**
+     * Get sorted and gap filled data chunks of a time series, or null if the time series is not only made of known
+     * data chunks.
+     */
+    private static List<DoubleDataChunk> getChunks(DoubleTimeSeries timeSeries) {
+        if (timeSeries instanceof StoredDoubleTimeSeries) {
+            List<DoubleDataChunk> chunks = ((StoredDoubleTimeSeries) timeSeries).getCheckedChunks(true);
+            if (chunks.stream().allMatch(chunk -> chunk instanceof UncompressedDoubleDataChunk || chunk instanceof CompressedDoubleDataChunk)) {
+                return chunks;
+            }
+        }
+        return null;
+    }
+
+    private static void mark(DoubleDataChunk chunk, BitSet marks) {
+        if (chunk instanceof UncompressedDoubleDataChunk) {
+            marks.set(chunk.getOffset(), chunk.getOffset() + chunk.getLength());
+        } else {
+            int i = chunk.getOffset();
+            for (int stepLength : ((CompressedDoubleDataChunk) chunk).getStepLengths()) {
+                marks.set(i);
+                i += stepLength;
+            }
+        }
+    }
+
+    private static void fill(DoubleDataChunk chunk, int[] indexes, double[] values) {
+        int point = Arrays.binarySearch(indexes, chunk.getOffset());
+        if (chunk instanceof UncompressedDoubleDataChunk) {
+            // points of an uncompressed chunk are contiguous
+            System.arraycopy(((UncompressedDoubleDataChunk) chunk).getValues(), 0, values, point, chunk.getLength());
+        } else {
+            CompressedDoubleDataChunk compressedChunk = (CompressedDoubleDataChunk) chunk;
+            double[] stepValues = compressedChunk.getStepValues();
+            int[] stepLengths = compressedChunk.getStepLengths();
+            int end = chunk.getOffset() + chunk.getLength();
+            int step = 0;
+            int stepEnd = chunk.getOffset() + stepLengths[0];
+            while (point < indexes.length && indexes[point] < end) {
+                while (indexes[point] >= stepEnd) {
+                    stepEnd += stepLengths[++step];
+                }
+                values[point++] = stepValues[step];
+            }
+        }
+    }
+
+    private static void fill(Points points, int[] indexes, double[] values) {
+        double value = Double.NaN;
+        int i = 0;
+        for (int point = 0; point < indexes.length; point++) {
+            while (i < points.indexes.size() && points.indexes.getQuick(i) <= indexes[point]) {
+                value = points.values.getQuick(i++);
+            }
+            values[point] = value;
+        }
+    }
+
+    @Override
+    public int getPointCount() {
+        return indexes.length;
+    }
+
+    @Override
+    public int getIndex(int point) {
+        return indexes[point];
+    }
+
+    @Override
+    public long getTime(int point) {
+        return index.getTimeAt(indexes[point]);
+    }
+
+    @Override
+    public double[] getValues(int timeSeriesNum) {
+        return values[timeSeriesNum];
+    }
+}
@@ -7,7 +7,6 @@
 package com.powsybl.timeseries;
 
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.timeseries.ast.*;
@@ -159,27 +158,47 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         }
     }
 
+    @Override
+    public void forEachStep(DoubleDataChunk.StepConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
+            throw new TimeSeriesException("Calculated time series has not been synchronized on a finite time index");
+        }
+        int pointCount = metadata.getIndex().getPointCount();
+        List<DoubleTimeSeries> timeSeriesList = loadData();
+        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
+        if (timeSeriesList.isEmpty()) {
+            consumer.accept(NodeCalcEvaluator.eval(resolvedNodeCalc, null), pointCount);
+        } else {
+            DoubleMultiPointBatch batch = DoubleTimeSeries.batch(timeSeriesList);
+            double[] values = NodeCalcBatchEvaluator.compile(resolvedNodeCalc).eval(batch);
+            if (values.length == 0 || batch.getIndex(0) > 0) {
+                consumer.accept(Double.NaN, values.length == 0 ? pointCount : batch.getIndex(0));
+            }
+            for (int point = 0; point < values.length; point++) {
+                int end = point + 1 < values.length ? batch.getIndex(point + 1) : pointCount;
+                consumer.accept(values[point], end - batch.getIndex(point));
+            }
+        }
+    }
+
     @Override
     public void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset) {
+        Objects.requireNonNull(buffer);
         if (metadata.getIndex() == InfiniteTimeSeriesIndex.INSTANCE) {
             throw new TimeSeriesException("Impossible to fill buffer because calculated time series has not been synchronized on a finite time index");
         }
-        Iterator<DoublePoint> it = iterator();
-        DoublePoint prevPoint = null;
-        while (it.hasNext()) {
-            DoublePoint point = it.next();
-            if (prevPoint != null) {
-                for (int i = prevPoint.getIndex(); i < point.getIndex(); i++) {
-                    buffer.put(timeSeriesOffset + i, prevPoint.getValue());
+        forEachStep(new DoubleDataChunk.StepConsumer() {
+
+            private int i = timeSeriesOffset;
+
+            @Override
+            public void accept(double value, int length) {
+                for (int j = 0; j < length; j++) {
+                    buffer.put(i++, value);
                 }
             }
-            prevPoint = point;
-        }
-        if (prevPoint != null) {
-            for (int i = prevPoint.getIndex(); i < metadata.getIndex().getPointCount(); i++) {
-                buffer.put(timeSeriesOffset + i, prevPoint.getValue());
-            }
-        }
+        });
     }
 
     @Override
@@ -201,11 +220,6 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         return index;
     }
 
-    private static DoublePoint evaluateMultiPoint(NodeCalc resolvedNodeCalc, DoubleMultiPoint multiPoint) {
-        double value = NodeCalcEvaluator.eval(resolvedNodeCalc, multiPoint);
-        return new DoublePoint(multiPoint.getIndex(), multiPoint.getTime(), value);
-    }
-
     private static DoublePoint evaluate(NodeCalc resolvedNodeCalc) {
         double value = NodeCalcEvaluator.eval(resolvedNodeCalc, null);
         return new DoublePoint(0, InfiniteTimeSeriesIndex.START_TIME, value);
@@ -218,19 +232,16 @@ public class CalculatedTimeSeries implements DoubleTimeSeries {
         if (timeSeriesList.isEmpty()) {
             return Stream.of(evaluate(resolvedNodeCalc));
         } else {
-            return DoubleTimeSeries.stream(timeSeriesList).map(multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
+            DoubleMultiPointBatch batch = DoubleTimeSeries.batch(timeSeriesList);
+            double[] values = NodeCalcBatchEvaluator.compile(resolvedNodeCalc).eval(batch);
+            return IntStream.range(0, values.length)
+                    .mapToObj(point -> new DoublePoint(batch.getIndex(point), batch.getTime(point), values[point]));
         }
     }
 
     @Override
     public Iterator<DoublePoint> iterator() {
-        List<DoubleTimeSeries> timeSeriesList = loadData();
-        NodeCalc resolvedNodeCalc = resolve(timeSeriesList);
-        if (timeSeriesList.isEmpty()) {
-            return Iterators.singletonIterator(evaluate(resolvedNodeCalc));
-        } else {
-            return Iterators.transform(DoubleTimeSeries.iterator(timeSeriesList), multiPoint -> evaluateMultiPoint(resolvedNodeCalc, multiPoint));
-        }
+        return stream().iterator();
     }
 
     @Override
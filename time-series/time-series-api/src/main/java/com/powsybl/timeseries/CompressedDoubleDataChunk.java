@@ -64,6 +64,14 @@ public class CompressedDoubleDataChunk extends AbstractCompressedDataChunk imple
         }
     }
 
+    @Override
+    public void forEachStep(StepConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        for (int i = 0; i < stepValues.length; i++) {
+            consumer.accept(stepValues[i], stepLengths[i]);
+        }
+    }
+
     @Override
     public Iterator<DoublePoint> iterator(TimeSeriesIndex index) {
         Objects.requireNonNull(index);
@@ -0,0 +1,238 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * All pairs search of the most correlated time series of a table, using the Pearson product-moment correlation
+ * coefficient.
+ * <p>
+ * The coefficient of two time series is the dot product of their normalized values. Time series are processed by
+ * pairs of blocks: normalized values of a block of time series on a range of points are copied to a small array that
+ * fits in cache and reused for all the time series of the other block. Pairs of blocks are spread across the threads
+ * of a fork join pool, and only the best coefficients of each time series are kept in a bounded heap.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+final class CorrelationSearch {
+
+    static final int SERIES_BLOCK_SIZE = 32;
+
+    static final int POINT_BLOCK_SIZE = 512;
+
+    /**
+     * Min heap of the best coefficients of a time series.
+     */
+    static final class BoundedHeap {
+
+        private final int[] timeSeriesNums;
+
+        private final double[] coefficients;
+
+        private int size = 0;
+
+        BoundedHeap(int maxSize) {
+            timeSeriesNums = new int[maxSize];
+            coefficients = new double[maxSize];
+        }
+
+        synchronized void offer(int timeSeriesNum, double coefficient) {
+            if (size < coefficients.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) / 2;
+                    if (coefficients[parent] <= coefficient) {
+                        break;
+                    }
+                    timeSeriesNums[i] = timeSeriesNums[parent];
+                    coefficients[i] = coefficients[parent];
+                    i = parent;
+                }
+                timeSeriesNums[i] = timeSeriesNum;
+                coefficients[i] = coefficient;
+            } else if (size > 0 && coefficient > coefficients[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && coefficients[child + 1] < coefficients[child]) {
+                        child++;
+                    }
+                    if (coefficients[child] >= coefficient) {
+                        break;
+                    }
+                    timeSeriesNums[i] = timeSeriesNums[child];
+                    coefficients[i] = coefficients[child];
+                    i = child;
+                }
+                timeSeriesNums[i] = timeSeriesNum;
+                coefficients[i] = coefficient;
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int getTimeSeriesNum(int i) {
+            return timeSeriesNums[i];
+        }
+
+        double getCoefficient(int i) {
+            return coefficients[i];
+        }
+    }
+
+    private final DoubleBuffer buffer;
+
+    private final int[] offsets;
+
+    private final double[] means;
+
+    private final double[] scales;
+
+    private final boolean[] constant;
+
+    private final int pointCount;
+
+    private final BoundedHeap[] heaps;
+
+    private final int blockCount;
+
+    /**
+     * @param buffer the table buffer
+     * @param offsets offset in the buffer of each time series
+     * @param means mean of each time series
+     * @param stdDevs standard deviation of each time series
+     * @param pointCount number of points of each time series
+     * @param maxSize maximum number of correlated time series to keep for each time series
+     */
+    CorrelationSearch(DoubleBuffer buffer, int[] offsets, double[] means, double[] stdDevs, int pointCount, int maxSize) {
+        this.buffer = Objects.requireNonNull(buffer);
+        this.offsets = Objects.requireNonNull(offsets);
+        this.means = Objects.requireNonNull(means);
+        this.pointCount = pointCount;
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Invalid max size " + maxSize);
+        }
+        int timeSeriesCount = offsets.length;
+        scales = new double[timeSeriesCount];
+        constant = new boolean[timeSeriesCount];
+        heaps = new BoundedHeap[timeSeriesCount];
+        for (int i = 0; i < timeSeriesCount; i++) {
+            constant[i] = stdDevs[i] == 0;
+            scales[i] = constant[i] ? 0 : 1 / (stdDevs[i] * Math.sqrt(pointCount - 1d));
+            heaps[i] = new BoundedHeap(maxSize);
+        }
+        blockCount = (timeSeriesCount + SERIES_BLOCK_SIZE - 1) / SERIES_BLOCK_SIZE;
+    }
+
+    private class BlockPairsAction extends RecursiveAction {
+
+        private final int fromPair;
+
+        private final int toPair;
+
+        BlockPairsAction(int fromPair, int toPair) {
+            this.fromPair = fromPair;
+            this.toPair = toPair;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPair - fromPair == 1) {
+                // pairs are numbered row by row in the upper triangle of the block matrix
+                int block1 = 0;
+                int pair = fromPair;
+                while (pair >= blockCount - block1) {
+                    pair -= blockCount - block1;
+                    block1++;
+                }
+                computeBlockPair(block1, block1 + pair);
+            } else {
+                int middle = (fromPair + toPair) >>> 1;
+                invokeAll(new BlockPairsAction(fromPair, middle), new BlockPairsAction(middle, toPair));
+            }
+        }
+    }
+
+    BoundedHeap[] search(ForkJoinPool pool) {
+        Objects.requireNonNull(pool);
+        int blockPairCount = blockCount * (blockCount + 1) / 2;
+        if (blockPairCount > 0) {
+            pool.invoke(new BlockPairsAction(0, blockPairCount));
+        }
+        return heaps;
+    }
+
+    private void loadBlock(double[] block, int firstTimeSeriesNum, int timeSeriesCount, int firstPoint, int length) {
+        for (int k = 0; k < timeSeriesCount; k++) {
+            int timeSeriesNum = firstTimeSeriesNum + k;
+            int offset = offsets[timeSeriesNum] + firstPoint;
+            double mean = means[timeSeriesNum];
+            double scale = scales[timeSeriesNum];
+            int row = k * POINT_BLOCK_SIZE;
+            for (int p = 0; p < length; p++) {
+                double value = buffer.get(offset + p);
+                // a missing value does not contribute to the coefficient
+                block[row + p] = Double.isNaN(value) ? 0 : (value - mean) * scale;
+            }
+        }
+    }
+
+    private void computeBlockPair(int block1, int block2) {
+        int first1 = block1 * SERIES_BLOCK_SIZE;
+        int count1 = Math.min(SERIES_BLOCK_SIZE, offsets.length - first1);
+        int first2 = block2 * SERIES_BLOCK_SIZE;
+        int count2 = Math.min(SERIES_BLOCK_SIZE, offsets.length - first2);
+
+        double[] values1 = new double[SERIES_BLOCK_SIZE * POINT_BLOCK_SIZE];
+        double[] values2 = block1 == block2 ? values1 : new double[SERIES_BLOCK_SIZE * POINT_BLOCK_SIZE];
+        double[] dots = new double[SERIES_BLOCK_SIZE * SERIES_BLOCK_SIZE];
+
+        for (int firstPoint = 0; firstPoint < pointCount; firstPoint += POINT_BLOCK_SIZE) {
+            int length = Math.min(POINT_BLOCK_SIZE, pointCount - firstPoint);
+            loadBlock(values1, first1, count1, firstPoint, length);
+            if (values2 != values1) {
+                loadBlock(values2, first2, count2, firstPoint, length);
+            }
+            for (int k1 = 0; k1 < count1; k1++) {
+                int row1 = k1 * POINT_BLOCK_SIZE;
+                for (int k2 = block1 == block2 ? k1 + 1 : 0; k2 < count2; k2++) {
+                    int row2 = k2 * POINT_BLOCK_SIZE;
+                    double dot = 0;
+                    for (int p = 0; p < length; p++) {
+                        dot += values1[row1 + p] * values2[row2 + p];
+                    }
+                    dots[k1 * SERIES_BLOCK_SIZE + k2] += dot;
+                }
+            }
+        }
+
+        for (int k1 = 0; k1 < count1; k1++) {
+            int timeSeriesNum1 = first1 + k1;
+            for (int k2 = block1 == block2 ? k1 + 1 : 0; k2 < count2; k2++) {
+                int timeSeriesNum2 = first2 + k2;
+                double coefficient;
+                if (constant[timeSeriesNum1] || constant[timeSeriesNum2]) {
+                    // constant time series are only correlated to each other
+                    coefficient = constant[timeSeriesNum1] && constant[timeSeriesNum2] ? 1 : 0;
+                } else {
+                    coefficient = Math.abs(dots[k1 * SERIES_BLOCK_SIZE + k2]);
+                }
+                heaps[timeSeriesNum1].offer(timeSeriesNum2, coefficient);
+                heaps[timeSeriesNum2].offer(timeSeriesNum1, coefficient);
+            }
+        }
+    }
+}
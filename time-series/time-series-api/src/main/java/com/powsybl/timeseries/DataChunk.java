@@ -59,6 +59,29 @@ public interface DataChunk<P extends AbstractPoint, A extends DataChunk<P, A>> {
      */
     int getLength();
 
+    /**
+     * Check if the chunk has at least one point in the range [{@code firstPoint}, {@code lastPoint}].
+     *
+     * @param firstPoint first point index of the range
+     * @param lastPoint last point index of the range
+     * @return true if the chunk overlaps the range, false otherwise
+     */
+    default boolean overlaps(int firstPoint, int lastPoint) {
+        return getOffset() <= lastPoint && getOffset() + getLength() > firstPoint;
+    }
+
+    /**
+     * Check a point range.
+     *
+     * @param firstPoint first point index of the range
+     * @param lastPoint last point index of the range
+     */
+    static void checkPointRange(int firstPoint, int lastPoint) {
+        if (firstPoint < 0 || lastPoint < firstPoint) {
+            throw new IllegalArgumentException("Bad point range [" + firstPoint + ", " + lastPoint + "]");
+        }
+    }
+
     /**
      * Get estimated size in bytes.
      *
@@ -7,11 +7,50 @@
 package com.powsybl.timeseries;
 
 import java.nio.DoubleBuffer;
+import java.util.Objects;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
  */
 public interface DoubleDataChunk extends DataChunk<DoublePoint, DoubleDataChunk> {
 
+    /**
+     * Consumer of consecutive points sharing the same value.
+     */
+    @FunctionalInterface
+    interface StepConsumer {
+
+        void accept(double value, int length);
+    }
+
     void fillBuffer(DoubleBuffer buffer, int timeSeriesOffset);
+
+    /**
+     * Visit values of the chunk, in order, as steps of identical values. The default implementation decompresses
+     * the chunk into a temporary buffer, compressed implementations should directly visit their steps.
+     *
+     * @param consumer the step consumer
+     */
+    default void forEachStep(StepConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        int length = getLength();
+        if (length == 0) {
+            return;
+        }
+        DoubleBuffer buffer = DoubleBuffer.allocate(length);
+        fillBuffer(buffer, -getOffset());
+        double stepValue = buffer.get(0);
+        int stepLength = 1;
+        for (int i = 1; i < length; i++) {
+            double value = buffer.get(i);
+            if (Double.compare(value, stepValue) == 0) {
+                stepLength++;
+            } else {
+                consumer.accept(stepValue, stepLength);
+                stepValue = value;
+                stepLength = 1;
+            }
+        }
+        consumer.accept(stepValue, stepLength);
+    }
 }
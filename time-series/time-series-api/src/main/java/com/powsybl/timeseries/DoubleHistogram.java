@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+/**
+ * Histogram of double values over bins of same width, accumulated step by step like {@link DoubleStatistics}.
+ * <p>
+ * The upper bound belongs to the last bin. NaN values are ignored, and values out of the bounds are only counted
+ * as such.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DoubleHistogram {
+
+    private final double min;
+
+    private final double max;
+
+    private final long[] counts;
+
+    private long outOfBoundsCount = 0;
+
+    public DoubleHistogram(double min, double max, int binCount) {
+        if (Double.isNaN(min) || Double.isNaN(max) || max <= min) {
+            throw new IllegalArgumentException("Invalid histogram bounds [" + min + ", " + max + "]");
+        }
+        if (binCount <= 0) {
+            throw new IllegalArgumentException("Invalid histogram bin count " + binCount);
+        }
+        this.min = min;
+        this.max = max;
+        counts = new long[binCount];
+    }
+
+    /**
+     * Add a step of identical values.
+     *
+     * @param value the value of the step
+     * @param length the number of points of the step
+     */
+    public void add(double value, int length) {
+        if (Double.isNaN(value) || length <= 0) {
+            return;
+        }
+        if (value < min || value > max) {
+            outOfBoundsCount += length;
+        } else {
+            int bin = (int) ((value - min) / (max - min) * counts.length);
+            counts[Math.min(bin, counts.length - 1)] += length;
+        }
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public int getBinCount() {
+        return counts.length;
+    }
+
+    public double getBinLowerBound(int bin) {
+        return min + (max - min) * bin / counts.length;
+    }
+
+    public long getCount(int bin) {
+        return counts[bin];
+    }
+
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    public long getOutOfBoundsCount() {
+        return outOfBoundsCount;
+    }
+}
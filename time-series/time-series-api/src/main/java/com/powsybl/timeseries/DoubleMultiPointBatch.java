@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+/**
+ * Values of several synchronized double time series, aligned column by column on the points where at least one of
+ * the time series has a new value. This is the batch counterpart of {@link DoubleMultiPoint}: a time series stored
+ * as a compressed data chunk only contributes a point per step and not a point per index value.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public interface DoubleMultiPointBatch {
+
+    /**
+     * Get the number of points of the batch.
+     */
+    int getPointCount();
+
+    /**
+     * Get the index, in the time series index, of a point of the batch.
+     */
+    int getIndex(int point);
+
+    /**
+     * Get the time of a point of the batch.
+     */
+    long getTime(int point);
+
+    /**
+     * Get the values of a time series at each point of the batch. The returned array must not be modified.
+     */
+    double[] getValues(int timeSeriesNum);
+}
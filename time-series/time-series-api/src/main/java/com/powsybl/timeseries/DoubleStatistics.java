@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+/**
+ * Count, sum, mean, min, max and standard deviation of double values, accumulated step by step so that a compressed
+ * data chunk is never decompressed: a step of n identical values costs the same as a single value.
+ * <p>
+ * NaN values are ignored. Mean and variance are updated with the weighted form of Welford's algorithm, which is
+ * numerically stable in a single pass.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DoubleStatistics {
+
+    private long count = 0;
+
+    private double sum = 0;
+
+    private double min = Double.NaN;
+
+    private double max = Double.NaN;
+
+    private double mean = 0;
+
+    private double m2 = 0;
+
+    /**
+     * Add a step of identical values.
+     *
+     * @param value the value of the step
+     * @param length the number of points of the step
+     */
+    public void add(double value, int length) {
+        if (Double.isNaN(value) || length <= 0) {
+            return;
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count += length;
+        sum += value * length;
+        double delta = value - mean;
+        mean += delta * length / count;
+        m2 += delta * (value - mean) * length;
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Get the mean, or NaN if there is no value.
+     */
+    public double getMean() {
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * Get the minimum value, or NaN if there is no value.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Get the maximum value, or NaN if there is no value.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Get the sample variance, or NaN if there is less than two values.
+     */
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : Double.NaN;
+    }
+
+    /**
+     * Get the sample standard deviation, or NaN if there is less than two values.
+     */
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleStatistics(count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + ", mean=" + getMean()
+                + ", stdDev=" + getStdDev() + ")";
+    }
+}
@@ -21,6 +21,33 @@ public interface DoubleTimeSeries extends TimeSeries<DoublePoint, DoubleTimeSeri
 
     double[] toArray();
 
+    /**
+     * Visit values of the time series on its whole index, in order, as steps of identical values. Points without
+     * value are visited as NaN.
+     *
+     * @param consumer the step consumer
+     */
+    void forEachStep(DoubleDataChunk.StepConsumer consumer);
+
+    /**
+     * Compute statistics of the time series, step by step, without building a table or decompressing its chunks.
+     */
+    default DoubleStatistics getStatistics() {
+        DoubleStatistics statistics = new DoubleStatistics();
+        forEachStep(statistics::add);
+        return statistics;
+    }
+
+    /**
+     * Compute an histogram of the time series values, step by step, without building a table or decompressing its
+     * chunks.
+     */
+    default DoubleHistogram getHistogram(double min, double max, int binCount) {
+        DoubleHistogram histogram = new DoubleHistogram(min, max, binCount);
+        forEachStep(histogram::add);
+        return histogram;
+    }
+
     static Iterator<DoubleMultiPoint> iterator(List<DoubleTimeSeries> timeSeriesList) {
         Objects.requireNonNull(timeSeriesList);
 
@@ -112,6 +139,14 @@ public interface DoubleTimeSeries extends TimeSeries<DoublePoint, DoubleTimeSeri
                 Spliterator.ORDERED | Spliterator.IMMUTABLE), false);
     }
 
+    /**
+     * Align the values of synchronized time series on the union of their points, to evaluate them column by column
+     * instead of point by point.
+     */
+    static DoubleMultiPointBatch batch(List<DoubleTimeSeries> timeSeriesList) {
+        return AlignedDoubleMultiPointBatch.create(timeSeriesList);
+    }
+
     class Builder {
 
         private final List<DoubleTimeSeries> list;
@@ -8,6 +8,7 @@ package com.powsybl.timeseries;
 
 import java.nio.DoubleBuffer;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
@@ -38,6 +39,14 @@ public class StoredDoubleTimeSeries extends AbstractTimeSeries<DoublePoint, Doub
         chunks.forEach(chunk -> chunk.fillBuffer(buffer, timeSeriesOffset));
     }
 
+    @Override
+    public void forEachStep(DoubleDataChunk.StepConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        for (DoubleDataChunk chunk : getCheckedChunks(true)) {
+            chunk.forEachStep(consumer);
+        }
+    }
+
     @Override
     public double[] toArray() {
         DoubleBuffer buffer = DoubleBuffer.allocate(metadata.getIndex().getPointCount());
@@ -24,6 +24,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -384,6 +385,11 @@ public class TimeSeriesTable {
         }
     }
 
+    private void setStatistics(int statisticsIndex, DoubleStatistics statistics) {
+        means[statisticsIndex] = statistics.getCount() > 0 ? statistics.getMean() : 0;
+        stdDevs[statisticsIndex] = statistics.getCount() > 1 ? statistics.getStdDev() : 0;
+    }
+
     private void updateStatistics(int version, int timeSeriesNum) {
 
         int statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
@@ -392,27 +398,11 @@ public class TimeSeriesTable {
         }
         int timeSeriesOffset = getTimeSeriesOffset(version, timeSeriesNum);
 
-        double sum = 0;
-        int nbPoints = 0;
-        for (int point = 0; point < tableIndex.getPointCount(); point++) {
-            double value = doubleBuffer.get(timeSeriesOffset + point);
-            if (!Double.isNaN(value)) {
-                sum += value;
-                nbPoints++;
-            }
-        }
-        double mean = nbPoints > 0 ? sum / nbPoints : 0;
-        means[statisticsIndex] = mean;
-
-        double stdDev = 0;
+        DoubleStatistics statistics = new DoubleStatistics();
         for (int point = 0; point < tableIndex.getPointCount(); point++) {
-            double value = doubleBuffer.get(timeSeriesOffset + point);
-            if (!Double.isNaN(value)) {
-                stdDev += (value - mean) * (value - mean);
-            }
+            statistics.add(doubleBuffer.get(timeSeriesOffset + point));
         }
-        stdDev = nbPoints > 1 ? Math.sqrt(stdDev / (nbPoints - 1)) : 0;
-        stdDevs[statisticsIndex] = stdDev;
+        setStatistics(statisticsIndex, statistics);
     }
 
     private void updateStatistics(int version) {
@@ -526,6 +516,65 @@ public class TimeSeriesTable {
         return r;
     }
 
+    public Map<String, List<Correlation>> findAllMostCorrelatedTimeSeries(int version, int maxSize) {
+        return findAllMostCorrelatedTimeSeries(version, maxSize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find the most correlated time series of each double time series of the table, in a single all pairs search
+     * spread across the threads of a fork join pool.
+     *
+     * @param version the version of the time series
+     * @param maxSize the maximum number of correlated time series to find for each time series
+     * @param pool the fork join pool
+     * @return the most correlated time series by time series name, by decreasing coefficient
+     */
+    public Map<String, List<Correlation>> findAllMostCorrelatedTimeSeries(int version, int maxSize, ForkJoinPool pool) {
+        checkVersionIsInRange(version);
+        Objects.requireNonNull(pool);
+
+        Stopwatch stopWatch = Stopwatch.createStarted();
+
+        int timeSeriesCount = doubleTimeSeriesNames.size();
+        int[] offsets = new int[timeSeriesCount];
+        double[] timeSeriesMeans = new double[timeSeriesCount];
+        double[] timeSeriesStdDevs = new double[timeSeriesCount];
+        statsLock.lock();
+        try {
+            updateStatistics(version);
+            for (int timeSeriesNum = 0; timeSeriesNum < timeSeriesCount; timeSeriesNum++) {
+                int statisticsIndex = getStatisticsIndex(version, timeSeriesNum);
+                offsets[timeSeriesNum] = getTimeSeriesOffset(version, timeSeriesNum);
+                timeSeriesMeans[timeSeriesNum] = means[statisticsIndex];
+                timeSeriesStdDevs[timeSeriesNum] = stdDevs[statisticsIndex];
+            }
+        } finally {
+            statsLock.unlock();
+        }
+
+        CorrelationSearch.BoundedHeap[] heaps = new CorrelationSearch(doubleBuffer, offsets, timeSeriesMeans, timeSeriesStdDevs,
+                                                                      tableIndex.getPointCount(), maxSize)
+                .search(pool);
+
+        Map<String, List<Correlation>> correlations = new LinkedHashMap<>(timeSeriesCount);
+        for (int timeSeriesNum1 = 0; timeSeriesNum1 < timeSeriesCount; timeSeriesNum1++) {
+            String timeSeriesName1 = doubleTimeSeriesNames.getName(timeSeriesNum1);
+            CorrelationSearch.BoundedHeap heap = heaps[timeSeriesNum1];
+            List<Correlation> timeSeriesCorrelations = new ArrayList<>(heap.size());
+            for (int i = 0; i < heap.size(); i++) {
+                timeSeriesCorrelations.add(new Correlation(timeSeriesName1, doubleTimeSeriesNames.getName(heap.getTimeSeriesNum(i)),
+                                                           heap.getCoefficient(i)));
+            }
+            timeSeriesCorrelations.sort(Comparator.comparingDouble(Correlation::getCoefficient).reversed());
+            correlations.put(timeSeriesName1, timeSeriesCorrelations);
+        }
+
+        LOGGER.info("Most correlated time series of {} time series found in {} ms", timeSeriesCount,
+                stopWatch.elapsed(TimeUnit.MILLISECONDS));
+
+        return correlations;
+    }
+
     private static BufferedWriter createWriter(Path file) throws IOException {
         if (file.getFileName().toString().endsWith(".gz")) {
             return new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
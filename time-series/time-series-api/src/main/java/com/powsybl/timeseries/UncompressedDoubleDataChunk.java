@@ -58,6 +58,14 @@ public class UncompressedDoubleDataChunk extends AbstractUncompressedDataChunk i
         }
     }
 
+    @Override
+    public void forEachStep(StepConsumer consumer) {
+        Objects.requireNonNull(consumer);
+        for (double value : values) {
+            consumer.accept(value, 1);
+        }
+    }
+
     @Override
     public DoubleDataChunk tryToCompress() {
         TDoubleArrayListHack stepValues = new TDoubleArrayListHack();
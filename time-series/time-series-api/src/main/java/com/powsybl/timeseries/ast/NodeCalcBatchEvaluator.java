@@ -0,0 +1,295 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries.ast;
+
+import com.powsybl.timeseries.DoubleMultiPointBatch;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Column by column evaluation of a resolved node calc tree.
+ * <p>
+ * The tree is compiled once to a plan of operators, each one computing a whole column of primitive values in a
+ * single loop. Literals are kept as scalars as long as they are not combined with a time series, and buffers of
+ * intermediate results are reused by their parent operator.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public final class NodeCalcBatchEvaluator {
+
+    /**
+     * Result of an operator: either a scalar or an array of values, one per point of the batch. Values of a
+     * temporary column can be overwritten by the next operator.
+     */
+    private static final class Column {
+
+        private final double scalar;
+
+        private final double[] values;
+
+        private final boolean temporary;
+
+        private Column(double scalar) {
+            this.scalar = scalar;
+            this.values = null;
+            this.temporary = false;
+        }
+
+        private Column(double[] values, boolean temporary) {
+            this.scalar = Double.NaN;
+            this.values = values;
+            this.temporary = temporary;
+        }
+
+        private boolean isScalar() {
+            return values == null;
+        }
+
+        private double[] expand(int pointCount) {
+            if (values != null) {
+                return values;
+            }
+            double[] expandedValues = new double[pointCount];
+            Arrays.fill(expandedValues, scalar);
+            return expandedValues;
+        }
+
+        private double[] getOutput(int pointCount) {
+            return temporary ? values : new double[pointCount];
+        }
+    }
+
+    @FunctionalInterface
+    private interface Operator {
+
+        Column eval(DoubleMultiPointBatch batch);
+    }
+
+    private static final class Compiler implements NodeCalcVisitor<Operator, Void> {
+
+        private static Operator literal(double value) {
+            Column column = new Column(value);
+            return batch -> column;
+        }
+
+        @Override
+        public Operator visit(IntegerNodeCalc nodeCalc, Void arg) {
+            return literal(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operator visit(FloatNodeCalc nodeCalc, Void arg) {
+            return literal(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operator visit(DoubleNodeCalc nodeCalc, Void arg) {
+            return literal(nodeCalc.getValue());
+        }
+
+        @Override
+        public Operator visit(BigDecimalNodeCalc nodeCalc, Void arg) {
+            return literal(nodeCalc.toDouble());
+        }
+
+        @Override
+        public Operator visit(TimeNodeCalc nodeCalc, Void arg) {
+            return batch -> {
+                double[] values = new double[batch.getPointCount()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = batch.getTime(i);
+                }
+                return new Column(values, true);
+            };
+        }
+
+        @Override
+        public Operator visit(BinaryOperation nodeCalc, Void arg) {
+            Operator left = nodeCalc.getLeft().accept(this, arg);
+            Operator right = nodeCalc.getRight().accept(this, arg);
+            BinaryOperation.Operator operator = nodeCalc.getOperator();
+            return batch -> evalBinary(operator, left.eval(batch), right.eval(batch), batch.getPointCount());
+        }
+
+        @Override
+        public Operator visit(UnaryOperation nodeCalc, Void arg) {
+            Operator child = nodeCalc.getChild().accept(this, arg);
+            UnaryOperation.Operator operator = nodeCalc.getOperator();
+            return batch -> evalUnary(operator, child.eval(batch), batch.getPointCount());
+        }
+
+        @Override
+        public Operator visit(MinNodeCalc nodeCalc, Void arg) {
+            Operator child = nodeCalc.getChild().accept(this, arg);
+            double min = nodeCalc.getMin();
+            return batch -> {
+                Column column = child.eval(batch);
+                if (column.isScalar()) {
+                    return new Column(Math.min(column.scalar, min));
+                }
+                double[] values = column.values;
+                double[] output = column.getOutput(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    output[i] = Math.min(values[i], min);
+                }
+                return new Column(output, true);
+            };
+        }
+
+        @Override
+        public Operator visit(MaxNodeCalc nodeCalc, Void arg) {
+            Operator child = nodeCalc.getChild().accept(this, arg);
+            double max = nodeCalc.getMax();
+            return batch -> {
+                Column column = child.eval(batch);
+                if (column.isScalar()) {
+                    return new Column(Math.max(column.scalar, max));
+                }
+                double[] values = column.values;
+                double[] output = column.getOutput(values.length);
+                for (int i = 0; i < values.length; i++) {
+                    output[i] = Math.max(values[i], max);
+                }
+                return new Column(output, true);
+            };
+        }
+
+        @Override
+        public Operator visit(TimeSeriesNameNodeCalc nodeCalc, Void arg) {
+            throw new AssertionError("NodeCalc should have been resolved before");
+        }
+
+        @Override
+        public Operator visit(TimeSeriesNumNodeCalc nodeCalc, Void arg) {
+            int timeSeriesNum = nodeCalc.getTimeSeriesNum();
+            return batch -> new Column(batch.getValues(timeSeriesNum), false);
+        }
+    }
+
+    private final Operator plan;
+
+    private NodeCalcBatchEvaluator(Operator plan) {
+        this.plan = plan;
+    }
+
+    public static NodeCalcBatchEvaluator compile(NodeCalc resolvedNodeCalc) {
+        Objects.requireNonNull(resolvedNodeCalc);
+        return new NodeCalcBatchEvaluator(resolvedNodeCalc.accept(new Compiler(), null));
+    }
+
+    /**
+     * Evaluate the compiled node calc tree on all the points of a batch.
+     *
+     * @param batch the values of the time series referenced by the tree
+     * @return the calculated value at each point of the batch
+     */
+    public double[] eval(DoubleMultiPointBatch batch) {
+        Objects.requireNonNull(batch);
+        Column column = plan.eval(batch);
+        if (column.isScalar()) {
+            return column.expand(batch.getPointCount());
+        }
+        return column.temporary ? column.values : column.values.clone();
+    }
+
+    private static Column evalUnary(UnaryOperation.Operator operator, Column column, int pointCount) {
+        if (column.isScalar()) {
+            return new Column(NodeCalcEvaluator.apply(operator, column.scalar));
+        }
+        double[] values = column.values;
+        double[] output = column.getOutput(pointCount);
+        switch (operator) {
+            case ABS:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = Math.abs(values[i]);
+                }
+                break;
+            case NEGATIVE:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = -values[i];
+                }
+                break;
+            case POSITIVE:
+                return column;
+            default:
+                throw new AssertionError("Unexpected operator value: " + operator);
+        }
+        return new Column(output, true);
+    }
+
+    private static Column evalBinary(BinaryOperation.Operator operator, Column left, Column right, int pointCount) {
+        if (left.isScalar() && right.isScalar()) {
+            return new Column(NodeCalcEvaluator.apply(operator, left.scalar, right.scalar));
+        }
+        double[] a = left.expand(pointCount);
+        double[] b = right.expand(pointCount);
+        double[] output;
+        if (left.temporary || left.isScalar()) {
+            output = a;
+        } else if (right.temporary || right.isScalar()) {
+            output = b;
+        } else {
+            output = new double[pointCount];
+        }
+        switch (operator) {
+            case PLUS:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] + b[i];
+                }
+                break;
+            case MINUS:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] - b[i];
+                }
+                break;
+            case MULTIPLY:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] * b[i];
+                }
+                break;
+            case DIVIDE:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] / b[i];
+                }
+                break;
+            case LESS_THAN:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] < b[i] ? 1d : 0d;
+                }
+                break;
+            case LESS_THAN_OR_EQUALS_TO:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] <= b[i] ? 1d : 0d;
+                }
+                break;
+            case GREATER_THAN:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] > b[i] ? 1d : 0d;
+                }
+                break;
+            case GREATER_THAN_OR_EQUALS_TO:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] >= b[i] ? 1d : 0d;
+                }
+                break;
+            case EQUALS:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] == b[i] ? 1d : 0d;
+                }
+                break;
+            case NOT_EQUALS:
+                for (int i = 0; i < pointCount; i++) {
+                    output[i] = a[i] != b[i] ? 1d : 0d;
+                }
+                break;
+            default:
+                throw new AssertionError("Unexpected operator value: " + operator);
+        }
+        return new Column(output, true);
+    }
+}
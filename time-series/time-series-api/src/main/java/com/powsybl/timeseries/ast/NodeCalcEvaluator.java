@@ -41,7 +41,11 @@ public class NodeCalcEvaluator implements NodeCalcVisitor<Double, DoubleMultiPoi
     public Double visit(BinaryOperation nodeCalc, DoubleMultiPoint multiPoint) {
         double leftValue = nodeCalc.getLeft().accept(this, multiPoint);
         double rightValue = nodeCalc.getRight().accept(this, multiPoint);
-        switch (nodeCalc.getOperator()) {
+        return apply(nodeCalc.getOperator(), leftValue, rightValue);
+    }
+
+    static double apply(BinaryOperation.Operator operator, double leftValue, double rightValue) {
+        switch (operator) {
             case PLUS: return leftValue + rightValue;
             case MINUS: return leftValue - rightValue;
             case MULTIPLY: return leftValue * rightValue;
@@ -52,18 +56,22 @@ public class NodeCalcEvaluator implements NodeCalcVisitor<Double, DoubleMultiPoi
             case GREATER_THAN_OR_EQUALS_TO: return leftValue >= rightValue ? 1d : 0d;
             case EQUALS: return leftValue == rightValue ? 1d : 0d;
             case NOT_EQUALS: return leftValue != rightValue ? 1d : 0d;
-            default: throw new AssertionError("Unexpected operator value: " + nodeCalc.getOperator());
+            default: throw new AssertionError("Unexpected operator value: " + operator);
         }
     }
 
     @Override
     public Double visit(UnaryOperation nodeCalc, DoubleMultiPoint multiPoint) {
         double childValue = nodeCalc.getChild().accept(this, multiPoint);
-        switch (nodeCalc.getOperator()) {
+        return apply(nodeCalc.getOperator(), childValue);
+    }
+
+    static double apply(UnaryOperation.Operator operator, double childValue) {
+        switch (operator) {
             case ABS: return Math.abs(childValue);
             case NEGATIVE: return -childValue;
             case POSITIVE: return childValue;
-            default: throw new AssertionError("Unexpected operator value: " + nodeCalc.getOperator());
+            default: throw new AssertionError("Unexpected operator value: " + operator);
         }
     }
 
@@ -111,6 +111,25 @@ public class DoubleDataChunkTest {
                      compressedChunk.stream(index).collect(Collectors.toList()));
     }
 
+    @Test
+    public void overlapsTest() {
+        UncompressedDoubleDataChunk chunk = new UncompressedDoubleDataChunk(2, new double[] {1d, 2d, 3d});
+        assertTrue(chunk.overlaps(0, 2));
+        assertTrue(chunk.overlaps(3, 3));
+        assertTrue(chunk.overlaps(4, 10));
+        assertTrue(chunk.overlaps(0, 10));
+        assertFalse(chunk.overlaps(0, 1));
+        assertFalse(chunk.overlaps(5, 10));
+        CompressedDoubleDataChunk compressedChunk = new CompressedDoubleDataChunk(2, 3, new double[] {1d}, new int[] {3});
+        assertTrue(compressedChunk.overlaps(4, 10));
+        assertFalse(compressedChunk.overlaps(5, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void badPointRangeTest() {
+        DataChunk.checkPointRange(3, 2);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void compressConstrTest() {
         new CompressedDoubleDataChunk(-3, 1, new double[] {1d}, new int[] {1});
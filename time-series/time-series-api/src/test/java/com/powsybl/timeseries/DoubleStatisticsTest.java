@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.BinaryOperation;
+import com.powsybl.timeseries.ast.IntegerNodeCalc;
+import com.powsybl.timeseries.ast.TimeSeriesNameNodeCalc;
+import org.junit.Before;
+import org.junit.Test;
+import org.threeten.extra.Interval;
+
+import java.time.Duration;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class DoubleStatisticsTest {
+
+    private static final double[] VALUES = {1d, 1d, 1d, 4d, 4d, Double.NaN, Double.NaN, 2d, 2d, 2d};
+
+    private TimeSeriesIndex index;
+
+    @Before
+    public void setUp() {
+        index = RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T02:15:00Z"), Duration.ofMinutes(15));
+    }
+
+    private static void assertStatistics(DoubleStatistics statistics) {
+        assertEquals(8, statistics.getCount());
+        assertEquals(17d, statistics.getSum(), 0d);
+        assertEquals(2.125d, statistics.getMean(), 0d);
+        assertEquals(1d, statistics.getMin(), 0d);
+        assertEquals(4d, statistics.getMax(), 0d);
+        assertEquals(1.246423454758225d, statistics.getStdDev(), 1e-15);
+    }
+
+    @Test
+    public void testStatistics() {
+        DoubleStatistics statistics = new DoubleStatistics();
+        assertEquals(0, statistics.getCount());
+        assertTrue(Double.isNaN(statistics.getMean()));
+        assertTrue(Double.isNaN(statistics.getMin()));
+        assertTrue(Double.isNaN(statistics.getStdDev()));
+        for (double value : VALUES) {
+            statistics.add(value);
+        }
+        assertStatistics(statistics);
+    }
+
+    @Test
+    public void testTimeSeriesStatistics() {
+        TimeSeriesMetadata metadata = new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index);
+        DoubleTimeSeries uncompressed = new StoredDoubleTimeSeries(metadata, new UncompressedDoubleDataChunk(0, VALUES));
+        DoubleDataChunk chunk = new UncompressedDoubleDataChunk(0, VALUES).tryToCompress();
+        assertTrue(chunk.isCompressed());
+        DoubleTimeSeries compressed = new StoredDoubleTimeSeries(metadata, chunk);
+        assertStatistics(uncompressed.getStatistics());
+        assertStatistics(compressed.getStatistics());
+
+        // missing points are skipped
+        DoubleTimeSeries withGaps = new StoredDoubleTimeSeries(metadata,
+                                                               new CompressedDoubleDataChunk(0, 3, new double[] {1d}, new int[] {3}),
+                                                               new CompressedDoubleDataChunk(3, 2, new double[] {4d}, new int[] {2}),
+                                                               new CompressedDoubleDataChunk(7, 3, new double[] {2d}, new int[] {3}));
+        assertStatistics(withGaps.getStatistics());
+    }
+
+    @Test
+    public void testCalculatedTimeSeriesStatistics() {
+        DoubleTimeSeries timeSeries = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index),
+                                                                 new UncompressedDoubleDataChunk(0, VALUES).tryToCompress());
+        ReadOnlyTimeSeriesStore store = new ReadOnlyTimeSeriesStoreCache(timeSeries);
+        CalculatedTimeSeries calculated = new CalculatedTimeSeries("calc", BinaryOperation.multiply(new TimeSeriesNameNodeCalc("ts"), new IntegerNodeCalc(2)),
+                                                                   new FromStoreTimeSeriesNameResolver(store, -1));
+        DoubleStatistics statistics = calculated.getStatistics();
+        assertEquals(8, statistics.getCount());
+        assertEquals(34d, statistics.getSum(), 0d);
+        assertEquals(8d, statistics.getMax(), 0d);
+    }
+
+    @Test
+    public void testHistogram() {
+        DoubleTimeSeries timeSeries = new StoredDoubleTimeSeries(new TimeSeriesMetadata("ts", TimeSeriesDataType.DOUBLE, index),
+                                                                 new UncompressedDoubleDataChunk(0, VALUES).tryToCompress());
+        DoubleHistogram histogram = timeSeries.getHistogram(1d, 3d, 2);
+        assertEquals(2, histogram.getBinCount());
+        assertEquals(2d, histogram.getBinLowerBound(1), 0d);
+        assertArrayEquals(new long[] {3, 3}, histogram.getCounts());
+        assertEquals(2, histogram.getOutOfBoundsCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidHistogram() {
+        new DoubleHistogram(1d, 1d, 2);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.timeseries;
+
+import com.powsybl.timeseries.ast.*;
+import org.junit.Before;
+import org.junit.Test;
+import org.threeten.extra.Interval;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class NodeCalcBatchEvaluatorTest {
+
+    private TimeSeriesIndex index;
+
+    private DoubleTimeSeries foo;
+
+    private DoubleTimeSeries bar;
+
+    private DoubleTimeSeries baz;
+
+    @Before
+    public void setUp() {
+        index = RegularTimeSeriesIndex.create(Interval.parse("2015-01-01T00:00:00Z/2015-01-01T02:45:00Z"), Duration.ofMinutes(15));
+        assertEquals(12, index.getPointCount());
+
+        // uncompressed then compressed
+        foo = new StoredDoubleTimeSeries(new TimeSeriesMetadata("foo", TimeSeriesDataType.DOUBLE, index),
+                                         new UncompressedDoubleDataChunk(0, new double[] {1d, -2d, 3d, 0d, 5d, 6d}),
+                                         new CompressedDoubleDataChunk(6, 6, new double[] {1d, 2d}, new int[] {2, 4}));
+        // compressed with a gap at the beginning and at the end
+        bar = new StoredDoubleTimeSeries(new TimeSeriesMetadata("bar", TimeSeriesDataType.DOUBLE, index),
+                                         new CompressedDoubleDataChunk(2, 8, new double[] {5d, -3d}, new int[] {3, 5}));
+        // compressed
+        baz = new StoredDoubleTimeSeries(new TimeSeriesMetadata("baz", TimeSeriesDataType.DOUBLE, index),
+                                         new CompressedDoubleDataChunk(0, 12, new double[] {4d, 8d}, new int[] {7, 5}));
+    }
+
+    private static void assertSameAsPointByPoint(NodeCalc nodeCalc, List<DoubleTimeSeries> timeSeriesList) {
+        DoubleMultiPointBatch batch = DoubleTimeSeries.batch(timeSeriesList);
+        double[] values = NodeCalcBatchEvaluator.compile(nodeCalc).eval(batch);
+        assertEquals(batch.getPointCount(), values.length);
+        Iterator<DoubleMultiPoint> it = DoubleTimeSeries.iterator(timeSeriesList);
+        int point = 0;
+        while (it.hasNext()) {
+            DoubleMultiPoint multiPoint = it.next();
+            assertEquals(multiPoint.getIndex(), batch.getIndex(point));
+            assertEquals(multiPoint.getTime(), batch.getTime(point));
+            assertEquals(NodeCalcEvaluator.eval(nodeCalc, multiPoint), values[point], 0d);
+            point++;
+        }
+        assertEquals(point, batch.getPointCount());
+    }
+
+    @Test
+    public void testSameAsPointByPoint() {
+        NodeCalc fooNum = new TimeSeriesNumNodeCalc(0);
+        NodeCalc barNum = new TimeSeriesNumNodeCalc(1);
+        NodeCalc bazNum = new TimeSeriesNumNodeCalc(2);
+        List<DoubleTimeSeries> timeSeriesList = Arrays.asList(foo, bar, baz);
+        List<NodeCalc> nodeCalcs = Arrays.asList(
+                fooNum,
+                new IntegerNodeCalc(3),
+                BinaryOperation.plus(new IntegerNodeCalc(1), new DoubleNodeCalc(2.5)),
+                BinaryOperation.plus(fooNum, barNum),
+                BinaryOperation.multiply(BinaryOperation.minus(fooNum, new IntegerNodeCalc(1)), bazNum),
+                BinaryOperation.div(new FloatNodeCalc(2f), BinaryOperation.div(fooNum, barNum)),
+                BinaryOperation.lessThan(fooNum, bazNum),
+                BinaryOperation.lessThanOrEqualsTo(fooNum, new IntegerNodeCalc(1)),
+                BinaryOperation.greaterThan(bazNum, barNum),
+                BinaryOperation.greaterThanOrEqualsTo(new IntegerNodeCalc(5), barNum),
+                BinaryOperation.equals(fooNum, fooNum),
+                BinaryOperation.notEquals(fooNum, new IntegerNodeCalc(2)),
+                UnaryOperation.abs(UnaryOperation.negative(barNum)),
+                UnaryOperation.positive(bazNum),
+                new MinNodeCalc(fooNum, 2),
+                new MaxNodeCalc(BinaryOperation.plus(fooNum, bazNum), 9),
+                BinaryOperation.greaterThan(new TimeNodeCalc(fooNum), new DoubleNodeCalc(index.getTimeAt(5))));
+        for (NodeCalc nodeCalc : nodeCalcs) {
+            assertSameAsPointByPoint(nodeCalc, timeSeriesList);
+        }
+    }
+
+    @Test
+    public void testCompressedBatch() {
+        // only step starts of compressed chunks and gaps are evaluated
+        DoubleMultiPointBatch batch = DoubleTimeSeries.batch(Arrays.asList(bar, baz));
+        assertEquals(5, batch.getPointCount());
+        assertArrayEquals(new double[] {Double.NaN, 5d, -3d, -3d, Double.NaN}, batch.getValues(0), 0d);
+        assertArrayEquals(new double[] {4d, 4d, 4d, 8d, 8d}, batch.getValues(1), 0d);
+
+        double[] values = NodeCalcBatchEvaluator.compile(BinaryOperation.plus(new TimeSeriesNumNodeCalc(1), new IntegerNodeCalc(1)))
+                .eval(batch);
+        assertArrayEquals(new double[] {5d, 5d, 5d, 9d, 9d}, values, 0d);
+
+        // input values are not modified
+        assertArrayEquals(new double[] {4d, 4d, 4d, 8d, 8d}, batch.getValues(1), 0d);
+    }
+
+    @Test
+    public void testCalculatedTimeSeries() {
+        ReadOnlyTimeSeriesStore store = new ReadOnlyTimeSeriesStoreCache(foo, bar, baz);
+        NodeCalc nodeCalc = BinaryOperation.plus(BinaryOperation.multiply(new TimeSeriesNameNodeCalc("foo"), new IntegerNodeCalc(2)),
+                                                 new TimeSeriesNameNodeCalc("baz"));
+        CalculatedTimeSeries timeSeries = new CalculatedTimeSeries("calc", nodeCalc, new FromStoreTimeSeriesNameResolver(store, -1));
+        assertArrayEquals(new double[] {6d, 0d, 10d, 4d, 14d, 16d, 6d, 10d, 12d, 12d, 12d, 12d}, timeSeries.toArray(), 0d);
+        assertEquals(9, timeSeries.stream().count());
+    }
+}
@@ -10,7 +10,11 @@ import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -77,4 +81,47 @@ public class TimeSeriesTableTest {
         String emptyCsv = new TimeSeriesTable(0, 0, InfiniteTimeSeriesIndex.INSTANCE).toCsvString(';', ZoneId.of("UTC"));
         assertEquals("Time;Version" + System.lineSeparator(), emptyCsv);
     }
+
+    @Test
+    public void testFindAllMostCorrelatedTimeSeries() {
+        // enough time series and points to have several blocks
+        int timeSeriesCount = 70;
+        int pointCount = 600;
+        TimeSeriesIndex index = new TestTimeSeriesIndex(0, pointCount);
+        Random random = new Random(0);
+        double[][] signals = new double[3][pointCount];
+        for (double[] signal : signals) {
+            for (int p = 0; p < pointCount; p++) {
+                signal[p] = random.nextDouble();
+            }
+        }
+        List<DoubleTimeSeries> timeSeriesList = new ArrayList<>();
+        for (int i = 0; i < timeSeriesCount; i++) {
+            double[] values = new double[pointCount];
+            for (int p = 0; p < pointCount; p++) {
+                // two constant time series, the other ones are a noisy signal
+                values[p] = i < 2 ? i : (i % 2 == 0 ? 1 : -1) * signals[i % 3][p] + random.nextDouble() * i / 100;
+            }
+            TimeSeriesMetadata metadata = new TimeSeriesMetadata("ts" + i, TimeSeriesDataType.DOUBLE, index);
+            timeSeriesList.add(new StoredDoubleTimeSeries(metadata, new UncompressedDoubleDataChunk(0, values)));
+        }
+        TimeSeriesTable table = TimeSeriesTable.createMem(1, 1, index);
+        table.load(1, timeSeriesList);
+
+        for (ForkJoinPool pool : new ForkJoinPool[] {ForkJoinPool.commonPool(), new ForkJoinPool(1)}) {
+            Map<String, List<TimeSeriesTable.Correlation>> correlations = table.findAllMostCorrelatedTimeSeries(1, 5, pool);
+            assertEquals(timeSeriesCount, correlations.size());
+            for (int i = 0; i < timeSeriesCount; i++) {
+                // same coefficients as the one time series search
+                List<TimeSeriesTable.Correlation> expected = table.findMostCorrelatedTimeSeries("ts" + i, 1, 5);
+                List<TimeSeriesTable.Correlation> actual = correlations.get("ts" + i);
+                assertEquals(expected.size(), actual.size());
+                for (int k = 0; k < expected.size(); k++) {
+                    assertEquals("ts" + i, actual.get(k).getTimeSeriesName1());
+                    assertEquals(expected.get(k).getCoefficient(), actual.get(k).getCoefficient(), 1e-12);
+                }
+            }
+        }
+        assertEquals("ts1", table.findAllMostCorrelatedTimeSeries(1, 1).get("ts0").get(0).getTimeSeriesName2());
+    }
 }
@@ -28,8 +28,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +53,12 @@ public class UcteImporter implements Importer {
 
     private static final String ELEMENT_NAME_PROPERTY_KEY = "elementName";
 
+    /**
+     * Readers are kept from one import to the next one, so that their bounded string pool is shared by all the files
+     * imported by a thread.
+     */
+    private final ThreadLocal<UcteReader> readers = ThreadLocal.withInitial(UcteReader::new);
+
     @Override
     public String getFormat() {
         return "UCTE";
@@ -915,34 +925,45 @@ public class UcteImporter implements Importer {
         }
     }
 
+    private UcteNetwork read(ReadOnlyDataSource dataSource, String ext) throws IOException {
+        UcteReader reader = readers.get();
+        Optional<Path> file = dataSource.getUncompressedFile(null, ext);
+        if (file.isPresent() && file.get().getFileSystem() == FileSystems.getDefault()) {
+            // memory mapping is only supported by the default file system
+            return reader.read(file.get());
+        }
+        // data source is compressed, so file is fully read in memory and parsed from bytes
+        try (InputStream is = dataSource.newInputStream(null, ext)) {
+            return reader.read(ByteBuffer.wrap(ByteStreams.toByteArray(is)));
+        }
+    }
+
     @Override
     public Network importData(ReadOnlyDataSource dataSource, Properties parameters) {
         try {
             String ext = findExtension(dataSource, true);
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(null, ext)))) {
 
-                Stopwatch stopwatch = Stopwatch.createStarted();
+            Stopwatch stopwatch = Stopwatch.createStarted();
 
-                UcteNetworkExt ucteNetwork = new UcteNetworkExt(new UcteReader().read(reader), LINE_MIN_Z);
-                String fileName = dataSource.getBaseName();
+            UcteNetworkExt ucteNetwork = new UcteNetworkExt(read(dataSource, ext), LINE_MIN_Z);
+            String fileName = dataSource.getBaseName();
 
-                EntsoeFileName ucteFileName = EntsoeFileName.parse(fileName);
+            EntsoeFileName ucteFileName = EntsoeFileName.parse(fileName);
 
-                Network network = NetworkFactory.create(fileName, "UCTE");
-                network.setCaseDate(ucteFileName.getDate());
-                network.setForecastDistance(ucteFileName.getForecastDistance());
+            Network network = NetworkFactory.create(fileName, "UCTE");
+            network.setCaseDate(ucteFileName.getDate());
+            network.setForecastDistance(ucteFileName.getForecastDistance());
 
-                createBuses(ucteNetwork, network);
-                createLines(ucteNetwork, network);
-                createTransformers(ucteNetwork, network, ucteFileName);
+            createBuses(ucteNetwork, network);
+            createLines(ucteNetwork, network);
+            createTransformers(ucteNetwork, network, ucteFileName);
 
-                mergeXnodeDanglingLines(network);
+            mergeXnodeDanglingLines(network);
 
-                stopwatch.stop();
-                LOGGER.debug("UCTE import done in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            stopwatch.stop();
+            LOGGER.debug("UCTE import done in {} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
 
-                return network;
-            }
+            return network;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -6,6 +6,7 @@
  */
 package com.powsybl.ucte.converter;
 
+import com.powsybl.commons.datasource.FileDataSource;
 import com.powsybl.commons.datasource.ReadOnlyDataSource;
 import com.powsybl.commons.datasource.ResourceDataSource;
 import com.powsybl.commons.datasource.ResourceSet;
@@ -16,7 +17,15 @@ import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Line;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TieLine;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import static org.junit.Assert.*;
 
@@ -25,6 +34,9 @@ import static org.junit.Assert.*;
  */
 public class UcteImporterTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void trimIssueTest() {
         // Import network that could fail because of id conflicts due to trim mechanism
@@ -136,5 +148,20 @@ public class UcteImporterTest {
         assertEquals(1, network.getTwoWindingsTransformerCount());
         assertEquals(1, network.getSwitchStream().count());
     }
+
+    @Test
+    public void importFromFile() throws IOException {
+        // uncompressed file of the default file system is memory mapped
+        Path file = temporaryFolder.newFile("countryIssue.uct").toPath();
+        try (InputStream is = getClass().getResourceAsStream("/countryIssue.uct")) {
+            Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        UcteImporter importer = new UcteImporter();
+        for (int i = 0; i < 2; i++) {
+            Network network = importer.importData(new FileDataSource(file.getParent(), "countryIssue"), null);
+            assertEquals(Country.ES, network.getSubstation("EHORTA").getCountry());
+            assertEquals(Country.BE, network.getSubstation("BHORTA").getCountry());
+        }
+    }
 }
 
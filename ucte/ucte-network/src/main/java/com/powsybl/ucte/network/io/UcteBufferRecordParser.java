@@ -0,0 +1,291 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Objects;
+
+/**
+ * Record parser working directly on the bytes of a (possibly memory mapped) buffer.
+ * <p>
+ * Numeric fields of ASCII lines are parsed from the bytes, and strings are taken from a {@link UcteStringPool}, so
+ * that no line or field string is allocated. Lines with non ASCII characters are decoded with the given charset,
+ * which has to be ASCII compatible, and parsed as strings.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class UcteBufferRecordParser extends AbstractUcteRecordParser {
+
+    private static final UcteRecordType[] RECORD_TYPES = UcteRecordType.values();
+
+    /**
+     * Float values with at most this number of digits are exactly represented by a float, and so are powers of ten
+     * up to {@code 10^MAX_FLOAT_DIGITS}, a single float division is then correctly rounded, as {@link Float#valueOf}.
+     */
+    private static final int MAX_FLOAT_DIGITS = 7;
+
+    private static final float[] POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f};
+
+    private static final int MAX_INT_DIGITS = 9;
+
+    private final ByteBuffer buffer;
+
+    private final Charset charset;
+
+    private final UcteStringPool stringPool;
+
+    private int position;
+
+    /**
+     * Absolute index of the beginning of the current line, -1 at the end of the buffer.
+     */
+    private int lineBegin = -1;
+
+    private int lineEnd;
+
+    private boolean ascii;
+
+    /**
+     * Current line decoded on demand.
+     */
+    private String line;
+
+    UcteBufferRecordParser(ByteBuffer buffer, Charset charset, UcteStringPool stringPool) {
+        this.buffer = Objects.requireNonNull(buffer);
+        this.charset = Objects.requireNonNull(charset);
+        this.stringPool = Objects.requireNonNull(stringPool);
+        position = buffer.position();
+        nextLine();
+    }
+
+    @Override
+    String getLine() {
+        if (line == null && lineBegin != -1) {
+            ByteBuffer lineBuffer = buffer.duplicate();
+            lineBuffer.limit(lineEnd);
+            lineBuffer.position(lineBegin);
+            line = charset.decode(lineBuffer).toString();
+        }
+        return line;
+    }
+
+    @Override
+    boolean nextLine() {
+        do {
+            if (!readLine()) {
+                return false;
+            }
+        } while (isBlankLine()); // skip empty lines
+        return true;
+    }
+
+    /**
+     * Same line splitting as {@link java.io.BufferedReader#readLine}.
+     */
+    private boolean readLine() {
+        line = null;
+        int limit = buffer.limit();
+        if (position >= limit) {
+            lineBegin = -1;
+            return false;
+        }
+        lineBegin = position;
+        ascii = true;
+        int i = position;
+        byte b = 0;
+        while (i < limit) {
+            b = buffer.get(i);
+            if (b == '\n' || b == '\r') {
+                break;
+            }
+            if (b < 0) {
+                ascii = false;
+            }
+            i++;
+        }
+        lineEnd = i;
+        if (i < limit) {
+            i++;
+            if (b == '\r' && i < limit && buffer.get(i) == '\n') {
+                i++;
+            }
+        }
+        position = i;
+        return true;
+    }
+
+    private boolean isBlankLine() {
+        for (int i = lineBegin; i < lineEnd; i++) {
+            if ((buffer.get(i) & 0xff) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAsciiLine() {
+        return lineBegin != -1 && ascii;
+    }
+
+    private int getLineLength() {
+        return lineEnd - lineBegin;
+    }
+
+    private int trimBegin(int beginIndex, int endIndex) {
+        int i = beginIndex;
+        while (i < endIndex && buffer.get(i) <= ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private int trimEnd(int beginIndex, int endIndex) {
+        int i = endIndex;
+        while (i > beginIndex && buffer.get(i - 1) <= ' ') {
+            i--;
+        }
+        return i;
+    }
+
+    @Override
+    UcteRecordType scanRecordType() {
+        if (!isAsciiLine()) {
+            return super.scanRecordType();
+        }
+        if (getLineLength() >= 3 && buffer.get(lineBegin) == '#' && buffer.get(lineBegin + 1) == '#') {
+            for (UcteRecordType recordType : RECORD_TYPES) {
+                if (startsWith(2, recordType.name())) {
+                    getParsedRecordTypes().add(recordType);
+                    return recordType;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean startsWith(int offset, String prefix) {
+        if (getLineLength() < offset + prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer.get(lineBegin + offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    String parseString(int beginIndex, int endIndex, boolean trim) {
+        if (!isAsciiLine()) {
+            return super.parseString(beginIndex, endIndex, trim);
+        }
+        if (endIndex > getLineLength()) {
+            return null;
+        }
+        int begin = lineBegin + beginIndex;
+        int end = lineBegin + endIndex;
+        if (trim) {
+            begin = trimBegin(begin, end);
+            end = trimEnd(begin, end);
+        }
+        return stringPool.get(buffer, begin, end);
+    }
+
+    @Override
+    Character parseChar(int index) {
+        // an index just after the end of the line is handled (rejected) the same way as a string line
+        if (!isAsciiLine() || index == getLineLength()) {
+            return super.parseChar(index);
+        }
+        return index > getLineLength() ? null : (char) buffer.get(lineBegin + index);
+    }
+
+    @Override
+    Integer parseInt(int beginIndex, int endIndex) {
+        if (!isAsciiLine()) {
+            return super.parseInt(beginIndex, endIndex);
+        }
+        if (endIndex > getLineLength()) {
+            return null;
+        }
+        int begin = trimBegin(lineBegin + beginIndex, lineBegin + endIndex);
+        int end = trimEnd(begin, lineBegin + endIndex);
+        if (begin == end) {
+            return null;
+        }
+        boolean negative = false;
+        int i = begin;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+        if (i == end || end - i > MAX_INT_DIGITS) {
+            // let Integer.valueOf handle (or reject) it
+            return super.parseInt(beginIndex, endIndex);
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return super.parseInt(beginIndex, endIndex);
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    @Override
+    float parseFloat(int beginIndex, int endIndex) {
+        if (!isAsciiLine()) {
+            return super.parseFloat(beginIndex, endIndex);
+        }
+        if (endIndex > getLineLength()) {
+            return Float.NaN;
+        }
+        int begin = trimBegin(lineBegin + beginIndex, lineBegin + endIndex);
+        int end = trimEnd(begin, lineBegin + endIndex);
+        if (begin == end) {
+            return Float.NaN;
+        }
+        boolean negative = false;
+        int i = begin;
+        byte b = buffer.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+        int mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (++digits > MAX_FLOAT_DIGITS) {
+                    break;
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (point) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end || digits == 0) {
+            // exponent, too many digits, invalid number...: let Float.valueOf handle (or reject) it
+            return super.parseFloat(beginIndex, endIndex);
+        }
+        float value = (float) mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+}
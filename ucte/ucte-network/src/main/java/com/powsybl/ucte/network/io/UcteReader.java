@@ -27,6 +27,11 @@ import com.powsybl.ucte.network.UcteRegulation;
 import com.powsybl.ucte.network.UcteVoltageLevelCode;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,9 +43,11 @@ public class UcteReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UcteReader.class);
 
+    private final UcteStringPool stringPool = new UcteStringPool();
+
     private boolean firstCommendBlockRead = false;
 
-    private void readCommentBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readCommentBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading comment block");
         if (!firstCommendBlockRead && parser.getParsedRecordTypes().size() > 1) {
             throw new UcteIoException("First block must be a comment block");
@@ -64,7 +71,7 @@ public class UcteReader {
         }
     }
 
-    private static UcteNodeCode parseNodeCode(UcteRecordParser parser, int beginIndex) {
+    private static UcteNodeCode parseNodeCode(AbstractUcteRecordParser parser, int beginIndex) {
         UcteCountryCode ucteCountryCode = UcteCountryCode.fromUcteCode(parser.parseChar(beginIndex));
         String geographicalSpot = parser.parseString(beginIndex + 1, beginIndex + 6, false);
         UcteVoltageLevelCode voltageLevelCode = parser.parseEnumOrdinal(beginIndex + 6, UcteVoltageLevelCode.class);
@@ -72,7 +79,7 @@ public class UcteReader {
         return new UcteNodeCode(ucteCountryCode, geographicalSpot, voltageLevelCode, busbar);
     }
 
-    private void parseNode(UcteRecordParser parser, UcteNetwork network) {
+    private void parseNode(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteNodeCode id = parseNodeCode(parser, 0);
         String geographicalName = parser.parseString(9, 21).trim();
         UcteNodeStatus status = parser.parseEnumOrdinal(22, UcteNodeStatus.class);
@@ -101,7 +108,7 @@ public class UcteReader {
         network.addNode(node);
     }
 
-    private void readNodeBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readNodeBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading node block");
         String countryIsoCode = null;
         while (parser.nextLine()) {
@@ -121,14 +128,14 @@ public class UcteReader {
         }
     }
 
-    private static UcteElementId parseElementId(UcteRecordParser parser) {
+    private static UcteElementId parseElementId(AbstractUcteRecordParser parser) {
         UcteNodeCode nodeId1 = parseNodeCode(parser, 0);
         UcteNodeCode nodeId2 = parseNodeCode(parser, 9);
         char orderCode = parser.parseChar(18);
         return new UcteElementId(nodeId1, nodeId2, orderCode);
     }
 
-    private void parseLine(UcteRecordParser parser, UcteNetwork network) {
+    private void parseLine(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         float resistance = parser.parseFloat(22, 28);
@@ -141,7 +148,7 @@ public class UcteReader {
         network.addLine(l);
     }
 
-    private void readLineBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readLineBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading line block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -152,7 +159,7 @@ public class UcteReader {
         }
     }
 
-    private void parseTransformer(UcteRecordParser parser, UcteNetwork network) {
+    private void parseTransformer(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         float ratedVoltage1 = parser.parseFloat(22, 27);
@@ -170,7 +177,7 @@ public class UcteReader {
         network.addTransformer(transfo);
     }
 
-    private void readTransformerBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readTransformerBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading transformer block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -181,7 +188,7 @@ public class UcteReader {
         }
     }
 
-    private UctePhaseRegulation parsePhaseRegulation(UcteRecordParser parser) {
+    private UctePhaseRegulation parsePhaseRegulation(AbstractUcteRecordParser parser) {
         float du = parser.parseFloat(20, 25);
         Integer n = parser.parseInt(26, 28);
         Integer np = parser.parseInt(29, 32);
@@ -192,7 +199,7 @@ public class UcteReader {
         return null;
     }
 
-    private UcteAngleRegulation parseAngleRegulation(UcteRecordParser parser) {
+    private UcteAngleRegulation parseAngleRegulation(AbstractUcteRecordParser parser) {
         float du = parser.parseFloat(39, 44);
         float theta = parser.parseFloat(45, 50);
         Integer n = parser.parseInt(51, 53);
@@ -205,7 +212,7 @@ public class UcteReader {
         return null;
     }
 
-    private void parseRegulation(UcteRecordParser parser, UcteNetwork network) {
+    private void parseRegulation(AbstractUcteRecordParser parser, UcteNetwork network) {
         UcteElementId transfoId = parseElementId(parser);
         UctePhaseRegulation phaseRegulation = parsePhaseRegulation(parser);
         UcteAngleRegulation angleRegulation = parseAngleRegulation(parser);
@@ -213,7 +220,7 @@ public class UcteReader {
         network.addRegulation(regulation);
     }
 
-    private void readRegulationBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readRegulationBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.trace("Reading regulation block");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -224,7 +231,7 @@ public class UcteReader {
         }
     }
 
-    private void readTtBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readTtBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.warn("TT block not supported");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -236,7 +243,7 @@ public class UcteReader {
     }
 
 
-    private void readExchangeBlock(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void readExchangeBlock(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         LOGGER.warn("E block not supported");
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
@@ -247,7 +254,7 @@ public class UcteReader {
         }
     }
 
-    private void parseRecords(UcteRecordParser parser, UcteNetwork network) throws IOException {
+    private void parseRecords(AbstractUcteRecordParser parser, UcteNetwork network) throws IOException {
         do {
             UcteRecordType recordType = parser.scanRecordType();
             if (recordType != null) {
@@ -282,16 +289,49 @@ public class UcteReader {
         } while (parser.nextLine());
     }
 
-    public UcteNetwork read(BufferedReader reader) throws IOException {
+    private UcteNetwork read(AbstractUcteRecordParser parser) throws IOException {
         long start = System.currentTimeMillis();
+        firstCommendBlockRead = false;
         UcteNetwork network = new UcteNetworkImpl();
-        UcteRecordParser parser = new UcteRecordParser(reader);
         parseRecords(parser, network);
         LOGGER.debug("UCTE file read in {} ms", System.currentTimeMillis() - start);
         network.fix();
         return network;
     }
 
+    public UcteNetwork read(BufferedReader reader) throws IOException {
+        return read(new UcteRecordParser(reader));
+    }
+
+    /**
+     * Read a UCTE network from the remaining bytes of a buffer, the buffer position is not modified.
+     * <p>
+     * Numeric fields are parsed directly from the bytes and strings are shared by all the networks read by this
+     * reader, so reusing the same reader to read many files limits allocations.
+     *
+     * @param charset the charset of lines with non ASCII characters, it has to be ASCII compatible
+     */
+    public UcteNetwork read(ByteBuffer buffer, Charset charset) throws IOException {
+        return read(new UcteBufferRecordParser(buffer, charset, stringPool));
+    }
+
+    public UcteNetwork read(ByteBuffer buffer) throws IOException {
+        return read(buffer, Charset.defaultCharset());
+    }
+
+    /**
+     * Read a UCTE file through a memory mapped buffer.
+     */
+    public UcteNetwork read(Path file, Charset charset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), charset);
+        }
+    }
+
+    public UcteNetwork read(Path file) throws IOException {
+        return read(file, Charset.defaultCharset());
+    }
+
     public boolean checkHeader(BufferedReader reader) throws IOException {
         // just check the first record if this file is in UCT format
         UcteRecordParser parser = new UcteRecordParser(reader);
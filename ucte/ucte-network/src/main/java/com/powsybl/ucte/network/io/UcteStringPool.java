@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Pool of the strings read from ASCII bytes, so that a string already read (geographical spot, element name...) is
+ * reused without any allocation.
+ * <p>
+ * Strings are stored in an open addressing table indexed by their hash code, which for ASCII characters can be
+ * computed from the bytes. Once the table has reached its maximum capacity, it is cleared instead of growing, so that
+ * a pool shared by the reads of many files has a bounded memory footprint.
+ *
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+class UcteStringPool {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int DEFAULT_MAX_CAPACITY = 1 << 16;
+
+    private final int maxCapacity;
+
+    private String[] strings = new String[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    UcteStringPool() {
+        this(DEFAULT_MAX_CAPACITY);
+    }
+
+    UcteStringPool(int maxCapacity) {
+        if (maxCapacity < INITIAL_CAPACITY) {
+            throw new IllegalArgumentException("Maximum capacity has to be greater than " + INITIAL_CAPACITY);
+        }
+        this.maxCapacity = maxCapacity;
+    }
+
+    private static int index(int hash, int mask) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * Get the string of ASCII bytes between absolute indexes {@code beginIndex} (inclusive) and {@code endIndex}
+     * (exclusive) of a buffer.
+     */
+    String get(ByteBuffer buffer, int beginIndex, int endIndex) {
+        int hash = 0;
+        for (int i = beginIndex; i < endIndex; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        int mask = strings.length - 1;
+        int i = index(hash, mask);
+        String str;
+        while ((str = strings[i]) != null) {
+            if (str.hashCode() == hash && equals(str, buffer, beginIndex, endIndex)) {
+                return str;
+            }
+            i = (i + 1) & mask;
+        }
+        str = create(buffer, beginIndex, endIndex);
+        strings[i] = str;
+        if (++size > strings.length * 3 / 4) {
+            if (strings.length * 2 <= maxCapacity) {
+                resize();
+            } else {
+                clear();
+            }
+        }
+        return str;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static boolean equals(String str, ByteBuffer buffer, int beginIndex, int endIndex) {
+        if (str.length() != endIndex - beginIndex) {
+            return false;
+        }
+        for (int i = beginIndex; i < endIndex; i++) {
+            if (str.charAt(i - beginIndex) != buffer.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String create(ByteBuffer buffer, int beginIndex, int endIndex) {
+        char[] chars = new char[endIndex - beginIndex];
+        for (int i = beginIndex; i < endIndex; i++) {
+            chars[i - beginIndex] = (char) buffer.get(i);
+        }
+        return new String(chars);
+    }
+
+    private void clear() {
+        Arrays.fill(strings, null);
+        size = 0;
+    }
+
+    private void resize() {
+        String[] newStrings = new String[strings.length * 2];
+        int mask = newStrings.length - 1;
+        for (String str : strings) {
+            if (str != null) {
+                int i = index(str.hashCode(), mask);
+                while (newStrings[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                newStrings[i] = str;
+            }
+        }
+        strings = newStrings;
+    }
+}
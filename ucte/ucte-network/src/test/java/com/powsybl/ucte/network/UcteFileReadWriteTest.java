@@ -6,15 +6,22 @@
  */
 package com.powsybl.ucte.network;
 
+import com.google.common.io.ByteStreams;
 import com.powsybl.commons.AbstractConverterTest;
 import com.powsybl.ucte.network.io.UcteReader;
 import com.powsybl.ucte.network.io.UcteWriter;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * @author Christian Biasuzzi <christian.biasuzzi@techrain.it>
  * @author Mathieu Bague <mathieu.bague at rte-france.com>
@@ -23,6 +30,9 @@ public class UcteFileReadWriteTest extends AbstractConverterTest {
 
     private static final String REFERENCE = "/20170322_1844_SN3_FR2.uct";
 
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     private static UcteNetwork create() {
         try (BufferedReader br = new BufferedReader(new InputStreamReader(UcteFileReadWriteTest.class.getResourceAsStream(REFERENCE)))) {
             return new UcteReader().read(br);
@@ -47,9 +57,58 @@ public class UcteFileReadWriteTest extends AbstractConverterTest {
         }
     }
 
+    private static UcteNetwork readBuffer(Path file) {
+        try {
+            return new UcteReader().read(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toString(UcteNetwork network) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(writer)) {
+            new UcteWriter(network).write(bw);
+        }
+        return writer.toString();
+    }
+
     @Test
     public void roundTripTest() throws IOException {
         roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::read, REFERENCE);
     }
 
+    @Test
+    public void bufferRoundTripTest() throws IOException {
+        roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::readBuffer, REFERENCE);
+    }
+
+    @Test
+    public void bufferReadTest() throws IOException {
+        String reference = new String(ByteStreams.toByteArray(getClass().getResourceAsStream(REFERENCE)), StandardCharsets.UTF_8);
+
+        // windows line endings, empty lines and a non ASCII geographical name
+        String content = reference.replace("FNGEN__ GEN-", "G\u00e9n\u00e9ration  ")
+                .replace("##L\n", "\n   \n##L\n")
+                .replace("\n", "\r\n");
+        UcteNetwork expected;
+        try (BufferedReader reader = new BufferedReader(new StringReader(content))) {
+            expected = new UcteReader().read(reader);
+        }
+        assertEquals("G\u00e9n\u00e9ration", expected.getNode(new UcteNodeCode(UcteCountryCode.FR, "FNGEN", UcteVoltageLevelCode.VL_27, '1')).getGeographicalName());
+
+        Path file = folder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        UcteReader reader = new UcteReader();
+        UcteNetwork network = reader.read(ByteBuffer.wrap(Files.readAllBytes(file)), StandardCharsets.UTF_8);
+        assertEquals(toString(expected), toString(network));
+        assertEquals(expected.getComments(), network.getComments());
+
+        // same reader, memory mapped file, strings already read are reused
+        UcteNetwork network2 = reader.read(file, StandardCharsets.UTF_8);
+        assertEquals(toString(expected), toString(network2));
+        assertEquals(expected.getVersion(), network2.getVersion());
+        assertEquals(expected.getComments(), network2.getComments());
+    }
+
 }
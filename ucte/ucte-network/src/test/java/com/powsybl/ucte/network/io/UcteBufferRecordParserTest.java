@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2018, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.ucte.network.io;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Geoffroy Jamgotchian <geoffroy.jamgotchian at rte-france.com>
+ */
+public class UcteBufferRecordParserTest {
+
+    private static UcteBufferRecordParser createParser(String content, UcteStringPool stringPool) {
+        return new UcteBufferRecordParser(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, stringPool);
+    }
+
+    private static void assertSameFields(String line) throws IOException {
+        UcteRecordParser expected = new UcteRecordParser(new BufferedReader(new StringReader(line)));
+        UcteBufferRecordParser actual = createParser(line, new UcteStringPool());
+        assertEquals(expected.getLine(), actual.getLine());
+        assertEquals(expected.scanRecordType(), actual.scanRecordType());
+        for (int i = 0; i < 8; i++) {
+            int beginIndex = i * 8;
+            int endIndex = beginIndex + 8;
+            assertEquals(expected.parseString(beginIndex, endIndex), actual.parseString(beginIndex, endIndex));
+            assertEquals(expected.parseString(beginIndex, endIndex, false), actual.parseString(beginIndex, endIndex, false));
+            assertEquals(result(() -> expected.parseChar(beginIndex)), result(() -> actual.parseChar(beginIndex)));
+            assertEquals(result(() -> expected.parseInt(beginIndex, endIndex)), result(() -> actual.parseInt(beginIndex, endIndex)));
+            assertEquals(result(() -> expected.parseFloat(beginIndex, endIndex)), result(() -> actual.parseFloat(beginIndex, endIndex)));
+        }
+    }
+
+    /**
+     * Parsed value, with floats compared bit to bit, or exception class.
+     */
+    private static Object result(Supplier<Object> parsing) {
+        try {
+            Object value = parsing.get();
+            return value instanceof Float ? Float.floatToIntBits((Float) value) : value;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return e.getClass();
+        }
+    }
+
+    @Test
+    public void test() throws IOException {
+        assertSameFields("##TT    ");
+        assertSameFields("##T     ");
+        assertSameFields(" 1.5     -0      +12     .5      5.      1E3     12345678  0.00001");
+        assertSameFields(" 999.99  -1234.5 0.0000001 1519  -9999.0 385.9970 3.0035   NaN  ");
+        assertSameFields("  -      .       0.1234567-3.402823 0       ");
+        assertSameFields("Général  42      1.5     ");
+
+        // all short decimals are parsed to the same float as Float.valueOf
+        Random random = new Random(0);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            line.setLength(0);
+            for (int j = 0; j < 8; j++) {
+                int digits = 1 + random.nextInt(7);
+                int point = random.nextInt(digits + 1);
+                StringBuilder field = new StringBuilder(random.nextBoolean() ? "-" : "");
+                for (int k = 0; k < digits; k++) {
+                    if (k == point) {
+                        field.append('.');
+                    }
+                    field.append((char) ('0' + random.nextInt(10)));
+                }
+                line.append(String.format("%-8.8s", field));
+            }
+            assertSameFields(line.toString());
+        }
+    }
+
+    @Test
+    public void testLines() {
+        UcteBufferRecordParser parser = createParser("\n  \r\n##C 2007.05.01\r\rcomment\n\n##N", new UcteStringPool());
+        assertEquals("##C 2007.05.01", parser.getLine());
+        assertEquals(UcteRecordType.C, parser.scanRecordType());
+        assertEquals("2007.05.01", parser.parseString(4, 14));
+        assertTrue(parser.nextLine());
+        assertEquals("comment", parser.getLine());
+        assertNull(parser.scanRecordType());
+        assertNull(parser.parseString(4, 14));
+        assertNull(parser.parseChar(8));
+        assertNull(parser.parseInt(4, 14));
+        assertTrue(Float.isNaN(parser.parseFloat(4, 14)));
+        assertTrue(parser.nextLine());
+        assertEquals(UcteRecordType.N, parser.scanRecordType());
+        assertFalse(parser.nextLine());
+        assertNull(parser.getLine());
+        assertNull(parser.scanRecordType());
+        assertNull(parser.parseString(0, 1));
+    }
+
+    @Test
+    public void testStringPool() {
+        UcteStringPool stringPool = new UcteStringPool();
+        UcteBufferRecordParser parser = createParser("ABC ABC\nABC", stringPool);
+        String str = parser.parseString(0, 3);
+        assertSame(str, parser.parseString(4, 7));
+        assertTrue(parser.nextLine());
+        assertSame(str, parser.parseString(0, 3));
+        assertEquals("", parser.parseString(3, 3));
+        assertEquals(2, stringPool.size());
+
+        // pool grows
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append(String.format("%08d", i)).append('\n');
+        }
+        parser = createParser(content.toString(), stringPool);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(String.format("%08d", i), parser.parseString(0, 8));
+            parser.nextLine();
+        }
+        assertEquals(5002, stringPool.size());
+        assertSame(str, createParser("ABC", stringPool).parseString(0, 3));
+    }
+
+    @Test
+    public void testBoundedStringPool() {
+        UcteStringPool stringPool = new UcteStringPool(2048);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            content.append(String.format("%08d", i)).append('\n');
+        }
+        UcteBufferRecordParser parser = createParser(content.toString(), stringPool);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(String.format("%08d", i), parser.parseString(0, 8));
+            assertTrue(stringPool.size() <= 2048 * 3 / 4);
+            parser.nextLine();
+        }
+    }
+}